@@ -0,0 +1,36 @@
+package edu.smith.cs.csc212.p6.bench;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks with the GC profiler turned on, so each result also has
+ * an allocation rate, and writes everything to a JSON file that can be compared
+ * between releases.
+ * 
+ * Any normal JMH command-line option works, e.g.
+ * {@code java -jar target/benchmarks.jar ChunkyLinkedList -p size=1000}.
+ */
+public class BenchmarkMain {
+	/**
+	 * Where the results go unless -rff says otherwise.
+	 */
+	public static final String DEFAULT_RESULT_FILE = "p6-benchmarks.json";
+
+	public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+		CommandLineOptions cmd = new CommandLineOptions(args);
+		Options opts = new OptionsBuilder()
+				.parent(cmd)
+				.resultFormat(cmd.getResultFormat().orElse(ResultFormatType.JSON))
+				.result(cmd.getResult().orElse(DEFAULT_RESULT_FILE))
+				.addProfiler(GCProfiler.class)
+				.build();
+		new Runner(opts).run();
+	}
+}
@@ -0,0 +1,20 @@
+package edu.smith.cs.csc212.p6.bench;
+
+import org.openjdk.jmh.annotations.Param;
+
+import edu.smith.cs.csc212.p6.ChunkyLinkedList;
+import edu.smith.cs.csc212.p6.P6List;
+
+/**
+ * Runs every operation in {@link ListOperationsBenchmark} against
+ * {@link ChunkyLinkedList}, for a few different chunk sizes.
+ */
+public class ChunkyLinkedListBenchmark extends ListOperationsBenchmark {
+	@Param({ "16", "64", "256", "1024" })
+	public int chunkSize;
+
+	@Override
+	protected P6List<Integer> newList(int capacity) {
+		return new ChunkyLinkedList<>(chunkSize);
+	}
+}
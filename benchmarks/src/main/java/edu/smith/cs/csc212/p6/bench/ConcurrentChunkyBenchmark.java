@@ -0,0 +1,99 @@
+package edu.smith.cs.csc212.p6.bench;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import edu.smith.cs.csc212.p6.ChunkyLinkedList;
+import edu.smith.cs.csc212.p6.ConcurrentChunkyLinkedList;
+import edu.smith.cs.csc212.p6.P6List;
+import edu.smith.cs.csc212.p6.errors.BadIndexError;
+import edu.smith.cs.csc212.p6.errors.EmptyListError;
+
+/**
+ * Random getIndex readers and addIndex/removeIndex writers sharing one list:
+ * {@link ChunkyLinkedList} behind one lock, against
+ * {@link ConcurrentChunkyLinkedList}, which locks each chunk on its own. Run it
+ * with different {@code -tg} values (e.g. {@code -tg 1,1}, {@code -tg 6,2}) to
+ * see how each scales with threads.
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = { "-Xms2g", "-Xmx2g" })
+public class ConcurrentChunkyBenchmark {
+	@Param({ "SynchronizedChunkyLinkedList", "ConcurrentChunkyLinkedList" })
+	public String impl;
+
+	@Param({ "100000" })
+	public int size;
+
+	private P6List<Integer> list;
+	/**
+	 * What to lock on, or null for the concurrent list.
+	 */
+	private Object lock;
+
+	@Setup
+	public void setup() {
+		if (impl.equals("ConcurrentChunkyLinkedList")) {
+			list = new ConcurrentChunkyLinkedList<>(64);
+			lock = null;
+		} else {
+			list = new ChunkyLinkedList<>(64);
+			lock = list;
+		}
+		for (int i = 0; i < size; i++) {
+			list.addBack(i);
+		}
+	}
+
+	@Benchmark
+	@Group("mixed")
+	@GroupThreads(3)
+	public Integer read() {
+		int index = ThreadLocalRandom.current().nextInt(size / 2);
+		if (lock == null) {
+			return list.getIndex(index);
+		}
+		synchronized (lock) {
+			return list.getIndex(index);
+		}
+	}
+
+	@Benchmark
+	@Group("mixed")
+	@GroupThreads(1)
+	public Integer write() {
+		ThreadLocalRandom rand = ThreadLocalRandom.current();
+		int index = rand.nextInt(size / 2);
+		try {
+			// add then remove, so the size stays about the same.
+			if (lock == null) {
+				list.addIndex(index, index);
+				return list.removeIndex(rand.nextInt(size / 2));
+			}
+			synchronized (lock) {
+				list.addIndex(index, index);
+				return list.removeIndex(rand.nextInt(size / 2));
+			}
+		} catch (BadIndexError | EmptyListError tooShort) {
+			return null;
+		}
+	}
+}
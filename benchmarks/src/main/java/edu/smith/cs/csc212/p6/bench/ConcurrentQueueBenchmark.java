@@ -0,0 +1,85 @@
+package edu.smith.cs.csc212.p6.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import edu.smith.cs.csc212.p6.ConcurrentSinglyLinkedList;
+import edu.smith.cs.csc212.p6.P6List;
+import edu.smith.cs.csc212.p6.SinglyLinkedList;
+import edu.smith.cs.csc212.p6.errors.EmptyListError;
+
+/**
+ * Queue throughput with producer and consumer threads sharing one list:
+ * {@link SinglyLinkedList} behind one lock, against the lock-free
+ * {@link ConcurrentSinglyLinkedList}. Run it with different {@code -tg} values
+ * (e.g. {@code -tg 1,1}, {@code -tg 4,4}) to see how each scales with threads.
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = { "-Xms2g", "-Xmx2g" })
+public class ConcurrentQueueBenchmark {
+	@Param({ "SynchronizedSinglyLinkedList", "ConcurrentSinglyLinkedList" })
+	public String impl;
+
+	private P6List<Integer> queue;
+	/**
+	 * What to lock on, or null for the lock-free list.
+	 */
+	private Object lock;
+
+	@Setup
+	public void setup() {
+		if (impl.equals("ConcurrentSinglyLinkedList")) {
+			queue = new ConcurrentSinglyLinkedList<>();
+			lock = null;
+		} else {
+			queue = new SinglyLinkedList<>();
+			lock = queue;
+		}
+	}
+
+	@Benchmark
+	@Group("queue")
+	@GroupThreads(2)
+	public void produce() {
+		if (lock == null) {
+			queue.addBack(1);
+		} else {
+			synchronized (lock) {
+				queue.addBack(1);
+			}
+		}
+	}
+
+	@Benchmark
+	@Group("queue")
+	@GroupThreads(2)
+	public Integer consume() {
+		try {
+			if (lock == null) {
+				return queue.removeFront();
+			}
+			synchronized (lock) {
+				return queue.removeFront();
+			}
+		} catch (EmptyListError empty) {
+			return null;
+		}
+	}
+}
@@ -0,0 +1,75 @@
+package edu.smith.cs.csc212.p6.bench;
+
+import edu.smith.cs.csc212.p6.ChunkyLinkedList;
+import edu.smith.cs.csc212.p6.DoublyLinkedList;
+import edu.smith.cs.csc212.p6.FixedSizeList;
+import edu.smith.cs.csc212.p6.GapBufferList;
+import edu.smith.cs.csc212.p6.GrowableList;
+import edu.smith.cs.csc212.p6.IndexableSkipList;
+import edu.smith.cs.csc212.p6.InstrumentedP6List;
+import edu.smith.cs.csc212.p6.P6List;
+import edu.smith.cs.csc212.p6.SinglyLinkedList;
+import edu.smith.cs.csc212.p6.TieredList;
+import edu.smith.cs.csc212.p6.TreapList;
+
+/**
+ * Builds the lists that the benchmarks measure.
+ */
+public class ListFactory {
+	/**
+	 * Make an empty list from the simple name of its class.
+	 * 
+	 * @param impl     - e.g. "GrowableList".
+	 * @param capacity - only used by FixedSizeList.
+	 * @return a new, empty list.
+	 */
+	public static P6List<Integer> create(String impl, int capacity) {
+		switch (impl) {
+		case "GrowableList":
+			return new GrowableList<>();
+		case "SinglyLinkedList":
+			return new SinglyLinkedList<>();
+		case "DoublyLinkedList":
+			return new DoublyLinkedList<>();
+		case "FixedSizeList":
+			return new FixedSizeList<>(capacity);
+		case "ChunkyLinkedList":
+			return new ChunkyLinkedList<>(64);
+		case "GapBufferList":
+			return new GapBufferList<>();
+		case "TreapList":
+			return new TreapList<>();
+		case "TieredList":
+			return new TieredList<>();
+		case "IndexableSkipList":
+			return new IndexableSkipList<>();
+		case "InstrumentedGrowableList":
+			// compare against GrowableList to see what the counting costs.
+			return new InstrumentedP6List<>(new GrowableList<>());
+		default:
+			throw new IllegalArgumentException("Unknown P6List: " + impl);
+		}
+	}
+
+	/**
+	 * Put the numbers 0 to size-1 into a list, in order.
+	 * 
+	 * The linked lists are filled from the front because that is the end they
+	 * can always add to in O(1); the array lists are filled from the back for the
+	 * same reason.
+	 * 
+	 * @param list - an empty list.
+	 * @param size - how many items to add.
+	 */
+	public static void fill(P6List<Integer> list, int size) {
+		if (list instanceof SinglyLinkedList || list instanceof DoublyLinkedList) {
+			for (int i = size - 1; i >= 0; i--) {
+				list.addFront(i);
+			}
+		} else {
+			for (int i = 0; i < size; i++) {
+				list.addBack(i);
+			}
+		}
+	}
+}
@@ -0,0 +1,142 @@
+package edu.smith.cs.csc212.p6.bench;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import edu.smith.cs.csc212.p6.P6List;
+
+/**
+ * Every {@link P6List} operation, measured against a list that already holds
+ * {@code size} items. Subclasses decide which implementation is under test.
+ * 
+ * The add/remove benchmarks come in pairs so the list stays the same size for
+ * the whole run; otherwise a 10-item list would be a 10-million-item list by
+ * the end of the measurement.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = { "-Xms4g", "-Xmx4g" })
+public abstract class ListOperationsBenchmark {
+	/**
+	 * How many random indices we cycle through for getIndexRandom.
+	 */
+	private static final int NUM_RANDOM = 1024;
+
+	@Param({ "10", "1000", "100000", "10000000" })
+	public int size;
+
+	/**
+	 * The list being measured; it has {@code size} items between benchmark calls.
+	 */
+	protected P6List<Integer> list;
+	private int[] randomIndices;
+	private int nextRandom;
+
+	/**
+	 * Make an empty list of the kind under test.
+	 * 
+	 * @param capacity - the most items this benchmark will ever hold at once.
+	 * @return a new, empty list.
+	 */
+	protected abstract P6List<Integer> newList(int capacity);
+
+	@Setup
+	public void fill() {
+		// +1 so that the add-then-remove pairs fit in a FixedSizeList.
+		list = newList(size + 1);
+		ListFactory.fill(list, size);
+
+		Random rand = new Random(42);
+		randomIndices = new int[NUM_RANDOM];
+		for (int i = 0; i < NUM_RANDOM; i++) {
+			randomIndices[i] = rand.nextInt(size);
+		}
+		nextRandom = 0;
+	}
+
+	@Benchmark
+	public Integer addFrontRemoveFront() {
+		list.addFront(-1);
+		return list.removeFront();
+	}
+
+	@Benchmark
+	public Integer addBackRemoveBack() {
+		list.addBack(-1);
+		return list.removeBack();
+	}
+
+	@Benchmark
+	public Integer addIndexRemoveIndex() {
+		int middle = size / 2;
+		list.addIndex(-1, middle);
+		return list.removeIndex(middle);
+	}
+
+	/**
+	 * The work-queue pattern: take from the front, put it on the back.
+	 */
+	@Benchmark
+	public Integer removeFrontAddBack() {
+		Integer item = list.removeFront();
+		list.addBack(item);
+		return item;
+	}
+
+	/**
+	 * The deque pattern: take from the back, put it on the front.
+	 */
+	@Benchmark
+	public Integer removeBackAddFront() {
+		Integer item = list.removeBack();
+		list.addFront(item);
+		return item;
+	}
+
+	@Benchmark
+	public Integer getFront() {
+		return list.getFront();
+	}
+
+	@Benchmark
+	public Integer getBack() {
+		return list.getBack();
+	}
+
+	@Benchmark
+	public Integer getIndexMiddle() {
+		return list.getIndex(size / 2);
+	}
+
+	@Benchmark
+	public Integer getIndexRandom() {
+		int index = randomIndices[nextRandom];
+		nextRandom = (nextRandom + 1) % NUM_RANDOM;
+		return list.getIndex(index);
+	}
+
+	@Benchmark
+	public int size() {
+		return list.size();
+	}
+
+	@Benchmark
+	public boolean isEmpty() {
+		return list.isEmpty();
+	}
+}
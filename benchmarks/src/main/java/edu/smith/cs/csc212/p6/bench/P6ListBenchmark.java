@@ -0,0 +1,19 @@
+package edu.smith.cs.csc212.p6.bench;
+
+import org.openjdk.jmh.annotations.Param;
+
+import edu.smith.cs.csc212.p6.P6List;
+
+/**
+ * Runs every operation in {@link ListOperationsBenchmark} against each of the
+ * un-chunked list implementations.
+ */
+public class P6ListBenchmark extends ListOperationsBenchmark {
+	@Param({ "GrowableList", "SinglyLinkedList", "DoublyLinkedList", "FixedSizeList", "GapBufferList", "TreapList", "TieredList", "IndexableSkipList", "InstrumentedGrowableList" })
+	public String impl;
+
+	@Override
+	protected P6List<Integer> newList(int capacity) {
+		return ListFactory.create(impl, capacity);
+	}
+}
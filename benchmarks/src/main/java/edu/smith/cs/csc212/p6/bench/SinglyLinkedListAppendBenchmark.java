@@ -0,0 +1,42 @@
+package edu.smith.cs.csc212.p6.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import edu.smith.cs.csc212.p6.SinglyLinkedList;
+
+/**
+ * Regression check for {@link SinglyLinkedList#addBack}: building a list of n
+ * items should take time proportional to n. Each step of {@code n} is 10x the
+ * last, so the score should also go up about 10x per step; 100x per step means
+ * addBack is walking the list again.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = { "-Xms2g", "-Xmx2g" })
+public class SinglyLinkedListAppendBenchmark {
+	@Param({ "1000", "10000", "100000", "1000000" })
+	public int n;
+
+	@Benchmark
+	public SinglyLinkedList<Integer> appendN() {
+		SinglyLinkedList<Integer> list = new SinglyLinkedList<>();
+		for (int i = 0; i < n; i++) {
+			list.addBack(i);
+		}
+		return list;
+	}
+}
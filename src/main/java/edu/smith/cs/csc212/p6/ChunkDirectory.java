@@ -0,0 +1,304 @@
+package edu.smith.cs.csc212.p6;
+
+import java.util.Arrays;
+
+import edu.smith.cs.csc212.p6.WorkCounters.Counter;
+
+/**
+ * The list of chunks inside a {@link ChunkyLinkedList}, plus a Fenwick tree
+ * (a.k.a. binary indexed tree) over how many items each chunk holds.
+ *
+ * The Fenwick tree lets us answer "which chunk holds item #index?" and "how
+ * many items come before chunk #pos?" in O(log chunks), instead of adding up
+ * every chunk's size from the front each time.
+ *
+ * @param <C> - the type of chunk stored.
+ */
+class ChunkDirectory<C> {
+	private static final int START_CHUNKS = 8;
+	/**
+	 * The chunks, in order. Only the first {@code count} are used.
+	 */
+	private Object[] chunks;
+	/**
+	 * How many items are in each chunk; {@code sizes[pos]} goes with
+	 * {@code chunks[pos]}.
+	 */
+	private int[] sizes;
+	/**
+	 * The Fenwick tree over {@code sizes}. It is 1-based: {@code tree[i]} holds
+	 * the sum of {@code sizes} over the {@code i & -i} positions ending at i-1.
+	 */
+	private int[] tree;
+	/**
+	 * How many chunks we have.
+	 */
+	private int count;
+	/**
+	 * How many items are in all chunks together.
+	 */
+	private int total;
+
+	public ChunkDirectory() {
+		this.chunks = new Object[START_CHUNKS];
+		this.sizes = new int[START_CHUNKS];
+		this.tree = new int[START_CHUNKS + 1];
+		this.count = 0;
+		this.total = 0;
+	}
+
+	/**
+	 * O(1)
+	 * @return how many chunks there are.
+	 */
+	public int chunkCount() {
+		return count;
+	}
+
+	/**
+	 * O(1)
+	 * @return how many items there are in all the chunks together.
+	 */
+	public int total() {
+		return total;
+	}
+
+	/**
+	 * O(1)
+	 * @param pos - which chunk, from 0 to chunkCount() (excluding chunkCount()).
+	 * @return the chunk at that position.
+	 */
+	@SuppressWarnings("unchecked")
+	public C get(int pos) {
+		return (C) chunks[pos];
+	}
+
+	/**
+	 * O(1)
+	 * @return the first chunk, or null if there are none.
+	 */
+	public C first() {
+		return count == 0 ? null : get(0);
+	}
+
+	/**
+	 * O(1)
+	 * @return the last chunk, or null if there are none.
+	 */
+	public C last() {
+		return count == 0 ? null : get(count - 1);
+	}
+
+	/**
+	 * O(1)
+	 * @param pos - which chunk.
+	 * @return how many items we have recorded for that chunk.
+	 */
+	public int sizeOf(int pos) {
+		return sizes[pos];
+	}
+
+	/**
+	 * O(log chunks) - Record that the chunk at pos gained (or lost, if negative)
+	 * some items. This is O(1) for the last chunk, since no other slot of the
+	 * Fenwick tree covers it.
+	 *
+	 * @param pos   - which chunk changed.
+	 * @param delta - how many items were added to it.
+	 */
+	public void sizeChanged(int pos, int delta) {
+		sizes[pos] += delta;
+		total += delta;
+		for (int i = pos + 1; i <= count; i += i & -i) {
+			tree[i] += delta;
+		}
+	}
+
+	/**
+	 * O(log chunks)
+	 * @param pos - a chunk position, from 0 to chunkCount() (including chunkCount()).
+	 * @return how many items are in the chunks before pos.
+	 */
+	public int prefix(int pos) {
+		if (WorkCounters.ENABLED) {
+			// one step per 1 bit of pos.
+			WorkCounters.add(Counter.CHUNKS_SCANNED, Integer.bitCount(pos));
+		}
+		int sum = 0;
+		for (int i = pos; i > 0; i -= i & -i) {
+			sum += tree[i];
+		}
+		return sum;
+	}
+
+	/**
+	 * O(log chunks) - Walk down the Fenwick tree to find the chunk that holds an
+	 * item. Empty chunks are never returned.
+	 *
+	 * @param index - which item, from 0 to total() (excluding total()).
+	 * @return the position of the chunk holding item #index.
+	 */
+	public int find(int index) {
+		int pos = 0;
+		int remaining = index;
+		if (WorkCounters.ENABLED) {
+			// one step per bit of count.
+			WorkCounters.add(Counter.CHUNKS_SCANNED, 32 - Integer.numberOfLeadingZeros(count));
+		}
+		for (int step = Integer.highestOneBit(count); step > 0; step >>= 1) {
+			int next = pos + step;
+			if (next <= count && tree[next] <= remaining) {
+				pos = next;
+				remaining -= tree[next];
+			}
+		}
+		return pos;
+	}
+
+	/**
+	 * O(chunks) - Put a new chunk into the directory. Everything after it moves
+	 * down one place, so the Fenwick tree is rebuilt.
+	 *
+	 * @param pos   - where the new chunk goes, from 0 to chunkCount().
+	 * @param chunk - the new chunk.
+	 * @param size  - how many items are already in it.
+	 */
+	public void insert(int pos, C chunk, int size) {
+		ensureRoom();
+		System.arraycopy(chunks, pos, chunks, pos + 1, count - pos);
+		System.arraycopy(sizes, pos, sizes, pos + 1, count - pos);
+		chunks[pos] = chunk;
+		sizes[pos] = size;
+		count++;
+		total += size;
+		rebuild();
+	}
+
+	/**
+	 * O(1) amortized - Put a new chunk after all the others. Only the last slot
+	 * of the Fenwick tree has to be filled in.
+	 *
+	 * @param chunk - the new chunk.
+	 * @param size  - how many items are already in it.
+	 */
+	public void addLast(C chunk, int size) {
+		ensureRoom();
+		chunks[count] = chunk;
+		sizes[count] = size;
+		count++;
+		total += size;
+		// tree[count] covers the (count & -count) sizes ending at this one.
+		int lowest = count - (count & -count);
+		tree[count] = total - prefix(lowest);
+	}
+
+	/**
+	 * O(chunks) - Take a chunk out of the directory, along with the items it
+	 * holds. This is O(1) for the last chunk: nothing moves, and its Fenwick slot
+	 * is the only one that counted it.
+	 *
+	 * @param pos - which chunk to drop.
+	 * @return the chunk that was removed.
+	 */
+	public C remove(int pos) {
+		C removed = get(pos);
+		total -= sizes[pos];
+		count--;
+		if (pos == count) {
+			chunks[count] = null;
+			sizes[count] = 0;
+			tree[count + 1] = 0;
+			return removed;
+		}
+		System.arraycopy(chunks, pos + 1, chunks, pos, count - pos);
+		System.arraycopy(sizes, pos + 1, sizes, pos, count - pos);
+		chunks[count] = null;
+		sizes[count] = 0;
+		rebuild();
+		return removed;
+	}
+
+	/**
+	 * O(chunks) - Put every chunk of another directory into this one, in order.
+	 * Everything moves (and the Fenwick tree is rebuilt) once, instead of once
+	 * per chunk.
+	 *
+	 * @param pos   - where the first new chunk goes, from 0 to chunkCount().
+	 * @param added - the chunks to put in; don't use it afterwards.
+	 */
+	public void insertAll(int pos, ChunkDirectory<C> added) {
+		int k = added.count;
+		if (k == 0) {
+			return;
+		}
+		ensureRoom(k);
+		System.arraycopy(chunks, pos, chunks, pos + k, count - pos);
+		System.arraycopy(sizes, pos, sizes, pos + k, count - pos);
+		System.arraycopy(added.chunks, 0, chunks, pos, k);
+		System.arraycopy(added.sizes, 0, sizes, pos, k);
+		count += k;
+		total += added.total;
+		rebuild();
+	}
+
+	/**
+	 * O(chunks) - Take some chunks out of the directory, along with the items
+	 * they hold. Everything after them moves up once, however many we drop.
+	 *
+	 * @param from - the first chunk to drop.
+	 * @param to   - the chunk after the last one to drop.
+	 */
+	public void removeAll(int from, int to) {
+		int k = to - from;
+		if (k == 0) {
+			return;
+		}
+		for (int pos = from; pos < to; pos++) {
+			total -= sizes[pos];
+		}
+		System.arraycopy(chunks, to, chunks, from, count - to);
+		System.arraycopy(sizes, to, sizes, from, count - to);
+		Arrays.fill(chunks, count - k, count, null);
+		Arrays.fill(sizes, count - k, count, 0);
+		count -= k;
+		rebuild();
+	}
+
+	/**
+	 * Make sure there is space for one more chunk.
+	 */
+	private void ensureRoom() {
+		ensureRoom(1);
+	}
+
+	/**
+	 * Make sure there is space for some more chunks.
+	 * @param extra - how many chunks we are about to add.
+	 */
+	private void ensureRoom(int extra) {
+		if (count + extra > chunks.length) {
+			if (WorkCounters.ENABLED) {
+				WorkCounters.add(Counter.RESIZES, 1);
+			}
+			int newSize = Math.max(count + extra, chunks.length * 2);
+			chunks = Arrays.copyOf(chunks, newSize);
+			sizes = Arrays.copyOf(sizes, newSize);
+			tree = Arrays.copyOf(tree, newSize + 1);
+		}
+	}
+
+	/**
+	 * O(chunks) - Rebuild the Fenwick tree from {@code sizes}, by pushing each
+	 * slot's sum up to its parent.
+	 */
+	private void rebuild() {
+		Arrays.fill(tree, 0);
+		for (int i = 1; i <= count; i++) {
+			tree[i] += sizes[i - 1];
+			int parent = i + (i & -i);
+			if (parent <= count) {
+				tree[parent] += tree[i];
+			}
+		}
+	}
+}
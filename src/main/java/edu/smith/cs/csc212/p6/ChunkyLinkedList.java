@@ -1,182 +1,649 @@
 package edu.smith.cs.csc212.p6;
 
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+import edu.smith.cs.csc212.p6.WorkCounters.Counter;
 import edu.smith.cs.csc212.p6.errors.BadIndexError;
 import edu.smith.cs.csc212.p6.errors.EmptyListError;
-import edu.smith.cs.csc212.p6.errors.P6NotImplemented;
 
 /**
  * This is a data structure that has an array inside each node of a Linked List.
  * Therefore, we only make new nodes when they are full. Some remove operations
  * may be easier if you allow "chunks" to be partially filled.
  * 
+ * This is an "unrolled linked list": inserting into a full chunk splits it in
+ * half, and a chunk that drops below half full after a remove is merged into a
+ * neighbor when they fit together. Empty chunks are never kept around.
+ * 
  * @author jfoley
  * @param <T> - the type of item stored in the list.
  */
 public class ChunkyLinkedList<T> implements P6List<T> {
 	private int chunkSize;
-	private SinglyLinkedList<FixedSizeList<T>> chunks;
+	/**
+	 * The chunks, in order, along with a running count of how many items each
+	 * one holds, so we can jump straight to the chunk for an index.
+	 */
+	private ChunkDirectory<FixedSizeList<T>> chunks;
+	/**
+	 * How many times this list has been changed. Iterators check it to notice
+	 * when the list is changed out from under them.
+	 */
+	private int modCount;
 
 	public ChunkyLinkedList(int chunkSize) {
 		this.chunkSize = chunkSize;
-		// We use chunks before creating it:
-		chunks = new SinglyLinkedList<>();
-		chunks.addBack(new FixedSizeList<>(chunkSize));
+		this.chunks = new ChunkDirectory<>();
 	}
 
 	/**
-	 * O(n) - It is easy to find the first fixed size list in our chunky list, 
-	 * but it is not easy to shift all of the values within that fixed size list to remove the front
+	 * O(chunkSize) - The first chunk is always at the start of the directory, 
+	 * but then all of the values within that fixed size list have to shift to remove the front.
+	 * Dropping the chunk once it is empty is O(chunks), but only once every chunkSize removes.
 	 */
 	@Override
 	public T removeFront() {
-		return chunks.getFront().removeFront();
+		checkNotEmpty();
+		modCount++;
+		T removed = chunks.first().removeFront();
+		chunks.sizeChanged(0, -1);
+		mergeIfSmall(0);
+		return removed;
 	}
 
 	/**
-	 * O(n) - It is not easy, since  we must loop through all of the 
-	 * fixed size lists first to find the back list. Then, actually removing from that is easy.
+	 * O(1) amortized, O(chunkSize) worst case - The last chunk is always at the end of
+	 * the directory, and it is never empty. Then, actually removing from that is easy.
+	 * Once it gets small enough, mergeIfSmall copies it into the chunk before it, which
+	 * is O(chunkSize), but only happens about once every chunkSize/2 removes.
 	 */
 	@Override
 	public T removeBack() {
-		return chunks.getBack().removeBack();
+		checkNotEmpty();
+		modCount++;
+		int last = chunks.chunkCount() - 1;
+		T removed = chunks.last().removeBack();
+		chunks.sizeChanged(last, -1);
+		mergeIfSmall(last);
+		return removed;
 	}
 
 	/**
-	 * O(n)? - Not easy, since we must loop through all of the fixed size lists to find 
-	 * the one containing the index. Then, must loop through all of the nodes within
-	 * the list to remove.
+	 * O(log chunks + chunkSize) - The directory finds the chunk containing the index
+	 * without looping through all of them. Then, the items after it in that chunk shift over.
+	 * If that leaves the chunk empty, or small enough to share with a neighbor, 
+	 * we drop a chunk, which is O(chunks).
 	 */
 	@Override
 	public T removeIndex(int index) {
-		T removed = null;
-		
-		if (this.isEmpty()) {
-			throw new EmptyListError();
-		}
-		int start = 0;
-		for (FixedSizeList<T> chunk : this.chunks) {
-			// calculate bounds of this chunk.
-			int end = start + chunk.size();
-			
-			// Check whether the index should be in this chunk:
-			if (start <= index && index < end) {
-				removed = chunk.getIndex( index - start );
-				chunk.removeIndex( index - start );
-				//return chunk.addIndex(item, (index - start) );
-			}
-			
-			// update bounds of next chunk.
-			start = end;
-		}
-		if ( removed != null ) {
-			return removed;
-		} else {
-			throw new BadIndexError();
-		}
+		checkNotEmpty();
+		checkIndex(index);
+		modCount++;
+		int pos = chunks.find(index);
+		T removed = chunks.get(pos).removeIndex(index - chunks.prefix(pos));
+		chunks.sizeChanged(pos, -1);
+		mergeIfSmall(pos);
+		return removed;
 	}
 
 	/**
-	 * Sorry I failed to implement this, but I know how it should work in theory:
-	 * 
-	 * O(n) - If the first fixed size list is not full, you will still have to shift all 
-	 * of the inside items over by one. If the first fixed size list IS full, you will have
-	 * to shift the items of that fixed size list and all following ones. If the every 
-	 * fixed size list is full, you will have to make a new fixed size list and shift all 
-	 * of the values over.
+	 * O(log chunks + chunkSize) - Same as addIndex at 0: if the first chunk is full
+	 * it gets split in half, so at most half a chunk of items ever shifts.
 	 */
 	@Override
 	public void addFront(T item) {
-		throw new P6NotImplemented();
+		addIndex(item, 0);
 	}
 
 	/**
-	 * O(n) - We must first find the last fixed size list, which requires looping through
-	 * every fixed size list. Once the last one is found, it is easier to add a node.
+	 * O(1) - The last chunk is always at the end of the directory.
 	 * If the last one is full, make a new one and add the node. If not full, just add to back.
+	 * Making a new chunk costs O(log chunks), but only once every chunkSize adds.
 	 */
 	@Override
 	public void addBack(T item) {
-		if ( ( chunks.getBack().size() + 1 ) > chunkSize ) {
-			chunks.addBack(new FixedSizeList<>(chunkSize));
-			
-			chunks.getBack().addFront(item);
-		} else {
-			chunks.getBack().addBack(item);
+		modCount++;
+		int last = chunks.chunkCount() - 1;
+		if (last < 0 || chunks.sizeOf(last) >= chunkSize) {
+			chunks.addLast(newChunk(), 0);
+			last++;
 		}
+		chunks.last().addBack(item);
+		chunks.sizeChanged(last, 1);
 	}
 
 	/**
-	 * Again, could not implement.
-	 * 
-	 * O(n) - First, loop through every fixed size list to see which one contains the index.
-	 * After that one is found, shift every following node down one across fixed size lists. 
-	 * Once there is space, add the new item.
+	 * O(log chunks + chunkSize) - The directory finds the chunk containing the index,
+	 * and only the items after it in that chunk shift down. If that chunk is full, 
+	 * we split it in half first, which is O(chunks) for making room in the directory.
 	 */
 	@Override
 	public void addIndex(T item, int index) {
-		throw new P6NotImplemented();
+		if (index < 0 || index > this.size()) {
+			throw new BadIndexError();
+		}
+		modCount++;
+		if (index == this.size()) {
+			addBack(item);
+			return;
+		}
+		int pos = chunks.find(index);
+		int offset = index - chunks.prefix(pos);
+		if (offset == 0 && pos > 0 && chunks.sizeOf(pos - 1) < chunkSize) {
+			// Just after the end of a chunk with room in it; no shifting at all.
+			chunks.get(pos - 1).addBack(item);
+			chunks.sizeChanged(pos - 1, 1);
+			return;
+		}
+		if (chunks.sizeOf(pos) >= chunkSize) {
+			int kept = split(pos);
+			if (offset > kept) {
+				pos++;
+				offset -= kept;
+			}
+		}
+		chunks.get(pos).addIndex(item, offset);
+		chunks.sizeChanged(pos, 1);
 	}
 	
 	/**
-	 * O(1) - We have been keeping track of the start of the chunky list, and it is easy
+	 * O(1) - The first chunk is at the start of the directory and is never empty, and it is easy
 	 * to index the fixed size lists inside
 	 */
 	@Override
 	public T getFront() {
-		return this.chunks.getFront().getFront();
+		checkNotEmpty();
+		return chunks.first().getFront();
 	}
 
 	/**
-	 * O(n) - We have to loop through all fixed size lists to find the last one, but then 
+	 * O(1) - The last chunk is at the end of the directory and is never empty, and then 
 	 * it is easy to get the back of the fixed size list within
 	 */
 	@Override
 	public T getBack() {
-		return this.chunks.getBack().getBack();
+		checkNotEmpty();
+		return chunks.last().getBack();
 	}
 
 	/**
-	 * O(n) - We have to loop through all fixed size lists to find the one with the index, 
-	 * but then it is easy to get the item from within the fixed size list
+	 * O(log chunks) - The directory finds the chunk with the index by walking down its tree, 
+	 * and then it is easy to get the item from within the fixed size list
 	 */
 	@Override
 	public T getIndex(int index) {
-		if (this.isEmpty()) {
-			throw new EmptyListError();
+		checkNotEmpty();
+		checkIndex(index);
+		int pos = chunks.find(index);
+		return chunks.get(pos).getIndex(index - chunks.prefix(pos));
+	}
+
+	/**
+	 * O(1) - The directory keeps a running total of every chunk's size
+	 */
+	@Override
+	public int size() {
+		return chunks.total();
+	}
+
+	/**
+	 * O(1) - Easy, since the list is empty when the running total is zero.
+	 */
+	@Override
+	public boolean isEmpty() {
+		return chunks.total() == 0;
+	}
+
+	/**
+	 * O(k) - Top up the last chunk, then make whole new chunks straight from the array,
+	 * instead of checking the last chunk once per item
+	 */
+	@Override
+	public void addAllBack(T[] items) {
+		modCount++;
+		pack(chunks, items, 0, items.length);
+	}
+
+	/**
+	 * O(k + chunkSize + chunks) - The directory finds the chunk for the index. The part of
+	 * that chunk after the index is cut off, the new items are packed into whole chunks, 
+	 * and they all go into the directory after it in one go, with the cut-off part last.
+	 */
+	@Override
+	public void addAllAt(int index, T[] items) {
+		if (index < 0 || index > this.size()) {
+			throw new BadIndexError();
 		}
-		int start = 0;
-		for (FixedSizeList<T> chunk : this.chunks) {
-			// calculate bounds of this chunk.
-			int end = start + chunk.size();
-			
-			// Check whether the index should be in this chunk:
-			if (start <= index && index < end) {
-				return chunk.getIndex(index - start);
-			}
-			
-			// update bounds of next chunk.
-			start = end;
+		modCount++;
+		if (index == this.size()) {
+			addAllBack(items);
+			return;
+		}
+		int pos = chunks.find(index);
+		int offset = index - chunks.prefix(pos);
+		ChunkDirectory<FixedSizeList<T>> added = new ChunkDirectory<>();
+		if (offset == 0) {
+			// right at a chunk boundary; nothing needs cutting.
+			pack(added, items, 0, items.length);
+			chunks.insertAll(pos, added);
+			return;
 		}
-		throw new BadIndexError();
+		FixedSizeList<T> chunk = chunks.get(pos);
+		Object[] tail = new Object[chunk.size() - offset];
+		chunk.copyRange(offset, chunk.size(), tail, 0);
+		chunk.removeRange(offset, chunk.size());
+		chunks.sizeChanged(pos, -tail.length);
+		// the first few new items fill up the front part of the chunk we cut.
+		int room = Math.min(chunkSize - offset, items.length);
+		chunk.addAllBack(items, 0, room);
+		chunks.sizeChanged(pos, room);
+		pack(added, items, room, items.length - room);
+		pack(added, tail, 0, tail.length);
+		chunks.insertAll(pos + 1, added);
 	}
 
 	/**
-	 * O(n) - Must loop through every fixed size list and add up the contents of each
+	 * O(log chunks + chunkSize + chunks) - Only the two chunks at the ends of the range
+	 * have items shifted. Every chunk in between is dropped whole, all at once.
 	 */
 	@Override
-	public int size() {
-		int total = 0;
-		for (FixedSizeList<T> chunk : this.chunks) {
-			total += chunk.size();
+	public void removeRange(int from, int to) {
+		checkRange(from, to);
+		modCount++;
+		if (from == to) {
+			return;
+		}
+		int first = chunks.find(from);
+		int last = chunks.find(to - 1);
+		int firstStart = chunks.prefix(first);
+		int lastStart = chunks.prefix(last);
+		if (first == last) {
+			chunks.get(first).removeRange(from - firstStart, to - firstStart);
+			chunks.sizeChanged(first, from - to);
+			mergeIfSmall(first);
+			return;
+		}
+		// cut the back off the first chunk, and the front off the last one...
+		FixedSizeList<T> front = chunks.get(first);
+		int cut = front.size() - (from - firstStart);
+		front.removeRange(from - firstStart, front.size());
+		chunks.sizeChanged(first, -cut);
+		chunks.get(last).removeRange(0, to - lastStart);
+		chunks.sizeChanged(last, lastStart - to);
+		// ...then drop everything in between, plus either of those if it is empty now.
+		int dropFrom = chunks.sizeOf(first) == 0 ? first : first + 1;
+		int dropTo = chunks.sizeOf(last) == 0 ? last + 1 : last;
+		chunks.removeAll(dropFrom, dropTo);
+		// the chunks on either side of the gap may be small enough to merge now.
+		if (dropFrom < chunks.chunkCount()) {
+			mergeIfSmall(dropFrom);
+		}
+		if (dropFrom > 0) {
+			mergeIfSmall(dropFrom - 1);
 		}
-		return total;
 	}
 
 	/**
-	 * O(n) - Easy, since if there is no start to the list, the list must be empty.
+	 * O(log chunks + k) - The directory finds the first chunk, then we copy a whole
+	 * chunk at a time until we have enough
 	 */
 	@Override
-	public boolean isEmpty() {
-		return this.chunks.isEmpty();
+	public void copyRange(int from, int to, T[] dest) {
+		checkRange(from, to);
+		if (from == to) {
+			return;
+		}
+		int pos = chunks.find(from);
+		int offset = from - chunks.prefix(pos);
+		for (int done = 0; done < to - from; pos++) {
+			if (WorkCounters.ENABLED) {
+				WorkCounters.add(Counter.CHUNKS_SCANNED, 1);
+			}
+			FixedSizeList<T> chunk = chunks.get(pos);
+			int run = Math.min(chunk.size() - offset, to - from - done);
+			chunk.copyRange(offset, offset + run, dest, done);
+			done += run;
+			offset = 0;
+		}
+	}
+
+	/**
+	 * O(log chunks) - Find the first chunk, then walk through each chunk's array in turn,
+	 * without asking the directory to find every index. Changing the list while doing this (except with the 
+	 * iterator's remove) makes next() throw a ConcurrentModificationException.
+	 */
+	@Override
+	public Iterator<T> iterator() {
+		return new Iter(true);
+	}
+
+	/**
+	 * O(log chunks) - Walk through the chunks from back to front, the same way.
+	 * @return an iterator over every item, from back to front.
+	 */
+	public Iterator<T> reverseIterator() {
+		return new Iter(false);
+	}
+
+	/**
+	 * O(1) - The spliterator splits between chunks, so each piece of work is a run
+	 * of whole chunks and nothing gets copied. Only a single chunk is split inside.
+	 */
+	@Override
+	public Spliterator<T> spliterator() {
+		return new ChunkSpliterator<>(chunks, 0, chunks.chunkCount());
+	}
+
+	/**
+	 * O(length) - Add part of an array to the end of a directory: top up its last chunk,
+	 * then make as many full chunks as it takes.
+	 * 
+	 * @param into   - the directory to add chunks to.
+	 * @param items  - where the items come from.
+	 * @param offset - the position in items of the first one.
+	 * @param length - how many to add.
+	 */
+	private void pack(ChunkDirectory<FixedSizeList<T>> into, Object[] items, int offset, int length) {
+		int last = into.chunkCount() - 1;
+		if (last >= 0 && length > 0) {
+			int room = Math.min(chunkSize - into.sizeOf(last), length);
+			into.last().addAllBack(items, offset, room);
+			into.sizeChanged(last, room);
+			offset += room;
+			length -= room;
+		}
+		while (length > 0) {
+			int run = Math.min(chunkSize, length);
+			FixedSizeList<T> chunk = newChunk();
+			chunk.addAllBack(items, offset, run);
+			into.addLast(chunk, run);
+			offset += run;
+			length -= run;
+		}
+	}
+
+	/**
+	 * O(1) - Helper method to make an empty chunk.
+	 */
+	private FixedSizeList<T> newChunk() {
+		if (WorkCounters.ENABLED) {
+			WorkCounters.add(Counter.CHUNK_ALLOCATIONS, 1);
+		}
+		return new FixedSizeList<>(chunkSize);
+	}
+
+	/**
+	 * O(chunkSize + chunks) - Move the back half of a full chunk into a brand new
+	 * chunk right after it.
+	 * 
+	 * @param pos - which chunk to split.
+	 * @return how many items stayed in the original chunk.
+	 */
+	private int split(int pos) {
+		FixedSizeList<T> chunk = chunks.get(pos);
+		int kept = chunk.size() / 2;
+		FixedSizeList<T> back = newChunk();
+		for (int i = kept; i < chunk.size(); i++) {
+			back.addBack(chunk.getIndex(i));
+		}
+		while (chunk.size() > kept) {
+			chunk.removeBack();
+		}
+		chunks.sizeChanged(pos, -back.size());
+		chunks.insert(pos + 1, back, back.size());
+		return kept;
+	}
+
+	/**
+	 * O(chunkSize + chunks) - After a remove, throw away a chunk that is now empty,
+	 * or merge a chunk that is less than half full into a neighbor that has room for it.
+	 * Otherwise we could end up with a long chain of nearly empty chunks.
+	 * 
+	 * @param pos - the chunk that just got smaller.
+	 */
+	private void mergeIfSmall(int pos) {
+		int size = chunks.sizeOf(pos);
+		if (size == 0) {
+			chunks.remove(pos);
+		} else if (size < chunkSize / 2) {
+			if (pos + 1 < chunks.chunkCount() && size + chunks.sizeOf(pos + 1) <= chunkSize) {
+				moveAll(pos + 1, pos);
+				chunks.remove(pos + 1);
+			} else if (pos > 0 && size + chunks.sizeOf(pos - 1) <= chunkSize) {
+				moveAll(pos, pos - 1);
+				chunks.remove(pos);
+			}
+		}
+	}
+
+	/**
+	 * O(chunkSize) - Copy every item of a chunk onto the back of the chunk before it.
+	 * The caller is responsible for removing the chunk we copied from.
+	 * 
+	 * @param from - the chunk whose items we copy.
+	 * @param to   - the chunk right before it; it must have room.
+	 */
+	private void moveAll(int from, int to) {
+		FixedSizeList<T> source = chunks.get(from);
+		FixedSizeList<T> target = chunks.get(to);
+		for (int i = 0; i < source.size(); i++) {
+			target.addBack(source.getIndex(i));
+		}
+		chunks.sizeChanged(to, source.size());
+	}
+
+	/**
+	 * Helper method to throw the right error for an empty state.
+	 */
+	private void checkNotEmpty() {
+		if (this.isEmpty()) {
+			throw new EmptyListError();
+		}
+	}
+
+	/**
+	 * Helper method to throw the right error for an index that isn't in the list.
+	 */
+	private void checkIndex(int index) {
+		if (index < 0 || index >= this.size()) {
+			throw new BadIndexError();
+		}
+	}
+
+	/**
+	 * Helper method to throw the right error for a range that isn't in the list.
+	 */
+	private void checkRange(int from, int to) {
+		if (from < 0 || to > this.size() || from > to) {
+			throw new BadIndexError();
+		}
+	}
+
+	/**
+	 * Walks through the chunks, one way or the other, keeping track of which chunk
+	 * it is in and where, so each step is just an array lookup.
+	 */
+	private class Iter implements Iterator<T> {
+		/**
+		 * True to walk front to back, false to walk back to front.
+		 */
+		private final boolean forward;
+		/**
+		 * The index next() gives back.
+		 */
+		private int cursor;
+		/**
+		 * The chunk that the cursor is in, and where in that chunk.
+		 */
+		private int pos;
+		private int offset;
+		/**
+		 * The index next() gave back last time, or -1 if remove() can't be called.
+		 */
+		private int lastReturned;
+		private int expectedModCount;
+
+		public Iter(boolean forward) {
+			this.forward = forward;
+			this.lastReturned = -1;
+			this.expectedModCount = modCount;
+			seek(forward ? 0 : size() - 1);
+		}
+
+		@Override
+		public boolean hasNext() {
+			return cursor >= 0 && cursor < size();
+		}
+
+		@Override
+		public T next() {
+			if (modCount != expectedModCount) {
+				throw new ConcurrentModificationException();
+			}
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			T found = chunks.get(pos).getIndex(offset);
+			lastReturned = cursor;
+			if (forward) {
+				cursor++;
+				if (++offset >= chunks.sizeOf(pos)) {
+					pos++;
+					offset = 0;
+				}
+			} else {
+				cursor--;
+				if (--offset < 0 && --pos >= 0) {
+					offset = chunks.sizeOf(pos) - 1;
+				}
+			}
+			return found;
+		}
+
+		/**
+		 * O(log chunks + chunkSize) - Same as removeIndex. A merge may have moved
+		 * things between chunks, so we ask the directory where the cursor is now.
+		 */
+		@Override
+		public void remove() {
+			if (lastReturned < 0) {
+				throw new IllegalStateException();
+			}
+			if (modCount != expectedModCount) {
+				throw new ConcurrentModificationException();
+			}
+			removeIndex(lastReturned);
+			seek(forward ? lastReturned : lastReturned - 1);
+			lastReturned = -1;
+			expectedModCount = modCount;
+		}
+
+		/**
+		 * O(log chunks) - Move the cursor to an index, and find its chunk.
+		 */
+		private void seek(int index) {
+			cursor = index;
+			if (index >= 0 && index < size()) {
+				pos = chunks.find(index);
+				offset = index - chunks.prefix(pos);
+			}
+		}
+	}
+
+	/**
+	 * A {@link Spliterator} over a run of chunks. It splits the run in half at a
+	 * chunk boundary; once it is down to one chunk, that chunk's own (array)
+	 * spliterator does the splitting. The directory knows how many items are in
+	 * any run of chunks, so the sizes are always exact.
+	 *
+	 * @param <T> the type of item in the list.
+	 */
+	private static class ChunkSpliterator<T> implements Spliterator<T> {
+		private final ChunkDirectory<FixedSizeList<T>> chunks;
+		/**
+		 * The chunk we are part way through, or null. It comes before {@code pos}.
+		 */
+		private Spliterator<T> current;
+		/**
+		 * The next chunk we haven't started yet.
+		 */
+		private int pos;
+		/**
+		 * The chunk after the last one we cover.
+		 */
+		private final int end;
+
+		public ChunkSpliterator(ChunkDirectory<FixedSizeList<T>> chunks, int pos, int end) {
+			this.chunks = chunks;
+			this.current = null;
+			this.pos = pos;
+			this.end = end;
+		}
+
+		@Override
+		public boolean tryAdvance(Consumer<? super T> action) {
+			while (current == null || !current.tryAdvance(action)) {
+				if (pos >= end) {
+					return false;
+				}
+				current = chunks.get(pos++).spliterator();
+			}
+			return true;
+		}
+
+		@Override
+		public void forEachRemaining(Consumer<? super T> action) {
+			if (current != null) {
+				current.forEachRemaining(action);
+				current = null;
+			}
+			for (; pos < end; pos++) {
+				chunks.get(pos).spliterator().forEachRemaining(action);
+			}
+		}
+
+		@Override
+		public Spliterator<T> trySplit() {
+			if (end - pos >= 2) {
+				// give away the front half of the chunks (and the one we're in).
+				int mid = (pos + end) >>> 1;
+				ChunkSpliterator<T> front = new ChunkSpliterator<>(chunks, pos, mid);
+				front.current = this.current;
+				this.current = null;
+				this.pos = mid;
+				return front;
+			}
+			if (end - pos == 1 && current != null) {
+				// give away what's left of the chunk we're in; keep the last one.
+				Spliterator<T> front = current;
+				current = null;
+				return front;
+			}
+			if (end - pos == 1) {
+				current = chunks.get(pos++).spliterator();
+			}
+			return current == null ? null : current.trySplit();
+		}
+
+		/**
+		 * O(log chunks) - The directory adds up the sizes of our chunks.
+		 */
+		@Override
+		public long estimateSize() {
+			long size = chunks.prefix(end) - chunks.prefix(pos);
+			if (current != null) {
+				size += current.estimateSize();
+			}
+			return size;
+		}
+
+		@Override
+		public int characteristics() {
+			return ORDERED | SIZED | SUBSIZED;
+		}
 	}
 }
@@ -0,0 +1,245 @@
+package edu.smith.cs.csc212.p6;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * A {@link ChunkDirectory} for {@link ConcurrentChunkyLinkedList}, where many
+ * threads change the sizes of different chunks at the same time.
+ *
+ * The sizes and the Fenwick tree over them are {@link AtomicIntegerArray}s, so
+ * sizeChanged can be called from any thread without a lock. Everything that
+ * adds or removes chunks must only be called by a thread that has the list to
+ * itself (that is, holds its structure write lock).
+ *
+ * While sizes are changing, prefix and find can see some of a change but not
+ * the rest of it, so their answers are only a (very good) guess; callers lock
+ * the chunk they find and check it.
+ *
+ * @param <C> - the type of chunk stored.
+ */
+class ConcurrentChunkDirectory<C> {
+	private static final int START_CHUNKS = 8;
+	/**
+	 * The chunks, in order. Only the first {@code count} are used.
+	 */
+	private Object[] chunks;
+	/**
+	 * How many items are in each chunk; {@code sizes[pos]} goes with
+	 * {@code chunks[pos]}.
+	 */
+	private AtomicIntegerArray sizes;
+	/**
+	 * The Fenwick tree over {@code sizes}, 1-based, like in ChunkDirectory.
+	 */
+	private AtomicIntegerArray tree;
+	/**
+	 * How many chunks we have.
+	 */
+	private int count;
+
+	public ConcurrentChunkDirectory() {
+		this.chunks = new Object[START_CHUNKS];
+		this.sizes = new AtomicIntegerArray(START_CHUNKS);
+		this.tree = new AtomicIntegerArray(START_CHUNKS + 1);
+		this.count = 0;
+	}
+
+	/**
+	 * O(1)
+	 * @return how many chunks there are.
+	 */
+	public int chunkCount() {
+		return count;
+	}
+
+	/**
+	 * O(log chunks) - Add up the whole tree; there's no separate total, so that
+	 * every change doesn't have to fight over one more counter.
+	 * @return how many items there are in all the chunks together.
+	 */
+	public int total() {
+		return prefix(count);
+	}
+
+	/**
+	 * O(1)
+	 * @param pos - which chunk, from 0 to chunkCount() (excluding chunkCount()).
+	 * @return the chunk at that position.
+	 */
+	@SuppressWarnings("unchecked")
+	public C get(int pos) {
+		return (C) chunks[pos];
+	}
+
+	/**
+	 * O(1)
+	 * @param pos - which chunk.
+	 * @return how many items we have recorded for that chunk.
+	 */
+	public int sizeOf(int pos) {
+		return sizes.get(pos);
+	}
+
+	/**
+	 * O(log chunks) - Record that the chunk at pos gained (or lost, if negative)
+	 * some items. Safe to call from many threads at once.
+	 *
+	 * @param pos   - which chunk changed.
+	 * @param delta - how many items were added to it.
+	 */
+	public void sizeChanged(int pos, int delta) {
+		sizes.addAndGet(pos, delta);
+		for (int i = pos + 1; i <= count; i += i & -i) {
+			tree.addAndGet(i, delta);
+		}
+	}
+
+	/**
+	 * O(log chunks)
+	 * @param pos - a chunk position, from 0 to chunkCount() (including chunkCount()).
+	 * @return how many items are in the chunks before pos.
+	 */
+	public int prefix(int pos) {
+		int sum = 0;
+		for (int i = pos; i > 0; i -= i & -i) {
+			sum += tree.get(i);
+		}
+		return sum;
+	}
+
+	/**
+	 * O(log chunks) - Walk down the Fenwick tree to find the chunk that holds an
+	 * item.
+	 *
+	 * @param index - which item, from 0 to total() (excluding total()).
+	 * @return the position of the chunk holding item #index; chunkCount() if
+	 *         there weren't that many items after all.
+	 */
+	public int find(int index) {
+		int pos = 0;
+		int remaining = index;
+		for (int step = Integer.highestOneBit(count); step > 0; step >>= 1) {
+			int next = pos + step;
+			if (next <= count) {
+				int here = tree.get(next);
+				if (here <= remaining) {
+					pos = next;
+					remaining -= here;
+				}
+			}
+		}
+		return pos;
+	}
+
+	/**
+	 * O(chunks) - Put a new chunk into the directory. Only call this while
+	 * holding the list to yourself.
+	 *
+	 * @param pos   - where the new chunk goes, from 0 to chunkCount().
+	 * @param chunk - the new chunk.
+	 * @param size  - how many items are already in it.
+	 */
+	public void insert(int pos, C chunk, int size) {
+		if (count >= chunks.length) {
+			chunks = Arrays.copyOf(chunks, chunks.length * 2);
+		}
+		// the sizes and tree always have room for as many chunks as chunks does.
+		int[] plain = plainSizes(chunks.length);
+		System.arraycopy(plain, pos, plain, pos + 1, count - pos);
+		plain[pos] = size;
+		System.arraycopy(chunks, pos, chunks, pos + 1, count - pos);
+		chunks[pos] = chunk;
+		count++;
+		rebuild(plain);
+	}
+
+	/**
+	 * O(1) amortized - Put a new chunk after all the others. Only the last slot
+	 * of the Fenwick tree has to be filled in. Only call this while holding the
+	 * list to yourself.
+	 *
+	 * @param chunk - the new chunk.
+	 * @param size  - how many items are already in it.
+	 */
+	public void addLast(C chunk, int size) {
+		if (count >= chunks.length) {
+			chunks = Arrays.copyOf(chunks, chunks.length * 2);
+			rebuild(plainSizes(chunks.length));
+		}
+		chunks[count] = chunk;
+		sizes.set(count, size);
+		count++;
+		// tree[count] covers the (count & -count) sizes ending at this one.
+		int lowest = count - (count & -count);
+		tree.set(count, prefix(count - 1) - prefix(lowest) + size);
+	}
+
+	/**
+	 * O(chunks) - Take a chunk out of the directory, along with the items it
+	 * holds. This is O(1) for the last chunk, since its Fenwick slot is the only
+	 * one that counted it. Only call this while holding the list to yourself.
+	 *
+	 * @param pos - which chunk to drop.
+	 * @return the chunk that was removed.
+	 */
+	public C remove(int pos) {
+		C removed = get(pos);
+		if (pos == count - 1) {
+			count--;
+			chunks[count] = null;
+			sizes.set(count, 0);
+			tree.set(count + 1, 0);
+			return removed;
+		}
+		int[] plain = plainSizes(chunks.length);
+		System.arraycopy(plain, pos + 1, plain, pos, count - pos - 1);
+		System.arraycopy(chunks, pos + 1, chunks, pos, count - pos - 1);
+		count--;
+		chunks[count] = null;
+		plain[count] = 0;
+		rebuild(plain);
+		return removed;
+	}
+
+	/**
+	 * O(1) - Put a different chunk at a position. The size recorded for it stays
+	 * the same; use sizeChanged if the new chunk holds a different number of
+	 * items. Only call this while holding the list to yourself.
+	 *
+	 * @param pos   - which chunk to replace.
+	 * @param chunk - the chunk to put there instead.
+	 */
+	public void replace(int pos, C chunk) {
+		chunks[pos] = chunk;
+	}
+
+	/**
+	 * O(chunks) - Helper method to copy the sizes out into a plain array.
+	 * @param room - how many chunks the array needs room for.
+	 */
+	private int[] plainSizes(int room) {
+		int[] plain = new int[room];
+		for (int pos = 0; pos < count; pos++) {
+			plain[pos] = sizes.get(pos);
+		}
+		return plain;
+	}
+
+	/**
+	 * O(chunks) - Helper method to replace the sizes and rebuild the Fenwick tree
+	 * from them, by pushing each slot's sum up to its parent.
+	 */
+	private void rebuild(int[] plain) {
+		int[] sums = new int[plain.length + 1];
+		for (int i = 1; i <= count; i++) {
+			sums[i] += plain[i - 1];
+			int parent = i + (i & -i);
+			if (parent <= count) {
+				sums[parent] += sums[i];
+			}
+		}
+		this.sizes = new AtomicIntegerArray(plain);
+		this.tree = new AtomicIntegerArray(sums);
+	}
+}
@@ -0,0 +1,888 @@
+package edu.smith.cs.csc212.p6;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Supplier;
+
+import edu.smith.cs.csc212.p6.errors.BadIndexError;
+import edu.smith.cs.csc212.p6.errors.EmptyListError;
+
+/**
+ * A {@link ChunkyLinkedList} that many threads can use at once. Instead of one
+ * lock for the whole list, every chunk has its own lock, so threads working in
+ * different chunks don't wait for each other.
+ *
+ * There are two kinds of locks:
+ * <ul>
+ * <li>The structure lock, a {@link StampedLock} over which chunks there are.
+ * Adds and removes hold its read side, which any number of threads can hold at
+ * once. Splitting, merging, adding or dropping a chunk needs the write side,
+ * which has the list all to itself; that only happens about once every
+ * chunkSize/2 adds or removes. getIndex, size, getFront, getBack and iterators
+ * don't lock it at all if they can help it: they read optimistically and check
+ * that nobody took the write side meanwhile, so a reader never writes to memory
+ * that other threads share.</li>
+ * <li>A {@link StampedLock} per chunk. Adds and removes lock their chunk for
+ * writing. getIndex doesn't lock at all if it can help it: it reads the item
+ * "optimistically" and then checks that nobody wrote to the chunk meanwhile.</li>
+ * </ul>
+ *
+ * Which item an index means depends on the sizes of all the chunks before it,
+ * and other threads may be changing those while we look. So, like
+ * {@link ConcurrentSinglyLinkedList}, the operations that use an index (and
+ * size()) are only "weakly consistent": the item we find was at that index at
+ * some point during the call.
+ *
+ * Iterators don't use indexes at all: they copy one chunk at a time and then
+ * move on to the chunk after it. Splitting and merging are done so that no item
+ * ever moves past the end of a chunk an iterator has already copied (see
+ * {@link #split(int)} and {@link #mergeIfSmall(int)}), so every item that is in
+ * the list the whole time is seen exactly once, in order. Items added or
+ * removed while we walk may or may not be seen. Iterators never throw a
+ * ConcurrentModificationException.
+ *
+ * @param <T> - the type of item stored in the list.
+ */
+public class ConcurrentChunkyLinkedList<T> implements P6List<T> {
+	/**
+	 * What the helper methods give back when there is no such item.
+	 */
+	private static final Object MISSING = new Object();
+	/**
+	 * What the helper methods give back when something changed while they looked.
+	 */
+	private static final Object RETRY = new Object();
+
+	private final int chunkSize;
+	/**
+	 * Read-locked to change items in the chunks, write-locked to change which
+	 * chunks there are; readers use an optimistic stamp instead.
+	 */
+	private final StampedLock structure;
+	/**
+	 * The chunks, in order, along with a running count of how many items each
+	 * one holds, which any thread may update.
+	 */
+	private final ConcurrentChunkDirectory<Chunk<T>> chunks;
+
+	public ConcurrentChunkyLinkedList(int chunkSize) {
+		this.chunkSize = chunkSize;
+		this.structure = new StampedLock();
+		this.chunks = new ConcurrentChunkDirectory<>();
+	}
+
+	/**
+	 * O(chunkSize) usually - Lock the first chunk, and remove from the front of
+	 * it. If that leaves it small, merging it takes the whole list, which is
+	 * O(chunkSize + chunks), but only about once every chunkSize/2 removes.
+	 */
+	@Override
+	public T removeFront() {
+		return removeEnd(true);
+	}
+
+	/**
+	 * O(1) amortized, O(chunkSize + chunks) worst case - Lock the last chunk, and
+	 * remove from the back of it. If that leaves it small, merging it takes the
+	 * whole list, but only about once every chunkSize/2 removes.
+	 */
+	@Override
+	public T removeBack() {
+		return removeEnd(false);
+	}
+
+	/**
+	 * O(log chunks + chunkSize) - The directory finds the chunk containing the
+	 * index, and only that chunk is locked while items in it shift over.
+	 */
+	@Override
+	public T removeIndex(int index) {
+		if (index < 0) {
+			throw new BadIndexError();
+		}
+		T removed;
+		Chunk<T> small = null;
+		int smallPos = 0;
+		long structureStamp = structure.readLock();
+		try {
+			while (true) {
+				if (index >= chunks.total()) {
+					throw outOfRange();
+				}
+				int pos = chunks.find(index);
+				if (pos >= chunks.chunkCount()) {
+					continue;
+				}
+				Chunk<T> chunk = chunks.get(pos);
+				long stamp = chunk.lock.writeLock();
+				try {
+					int offset = index - chunks.prefix(pos);
+					if (offset >= 0 && offset < chunk.items.size()) {
+						removed = chunk.items.removeIndex(offset);
+						chunks.sizeChanged(pos, -1);
+						if (needsMerge(pos)) {
+							small = chunk;
+							smallPos = pos;
+						}
+						break;
+					}
+					// the index moved to another chunk while we looked; find it again.
+				} finally {
+					chunk.lock.unlockWrite(stamp);
+				}
+			}
+		} finally {
+			structure.unlockRead(structureStamp);
+		}
+		if (small != null) {
+			merge(small, smallPos);
+		}
+		return removed;
+	}
+
+	/**
+	 * O(log chunks + chunkSize) - Same as addIndex at 0.
+	 */
+	@Override
+	public void addFront(T item) {
+		addIndex(item, 0);
+	}
+
+	/**
+	 * O(1) - Lock the last chunk and add to it. If it is full, we have to take
+	 * the whole list for a moment to make a new chunk.
+	 */
+	@Override
+	public void addBack(T item) {
+		long structureStamp = structure.readLock();
+		try {
+			int last = chunks.chunkCount() - 1;
+			if (last >= 0) {
+				Chunk<T> chunk = chunks.get(last);
+				long stamp = chunk.lock.writeLock();
+				try {
+					if (chunk.items.size() < chunkSize) {
+						chunk.items.addBack(item);
+						chunks.sizeChanged(last, 1);
+						return;
+					}
+				} finally {
+					chunk.lock.unlockWrite(stamp);
+				}
+			}
+		} finally {
+			structure.unlockRead(structureStamp);
+		}
+		structureStamp = structure.writeLock();
+		try {
+			lockedAddBack(item);
+		} finally {
+			structure.unlockWrite(structureStamp);
+		}
+	}
+
+	/**
+	 * O(log chunks + chunkSize) - The directory finds the chunk for the index,
+	 * and only that chunk is locked while items in it shift down. If that chunk is
+	 * full, we take the whole list for a moment to split it.
+	 */
+	@Override
+	public void addIndex(T item, int index) {
+		if (index < 0) {
+			throw new BadIndexError();
+		}
+		long structureStamp = structure.readLock();
+		try {
+			while (true) {
+				int total = chunks.total();
+				if (index >= total) {
+					// past the end (or an error); let the slow path sort it out.
+					break;
+				}
+				int pos = chunks.find(index);
+				if (pos >= chunks.chunkCount()) {
+					continue;
+				}
+				Chunk<T> chunk = chunks.get(pos);
+				long stamp = chunk.lock.writeLock();
+				try {
+					int offset = index - chunks.prefix(pos);
+					if (offset >= 0 && offset <= chunk.items.size()) {
+						if (chunk.items.size() >= chunkSize) {
+							// full; it needs splitting.
+							break;
+						}
+						chunk.items.addIndex(item, offset);
+						chunks.sizeChanged(pos, 1);
+						return;
+					}
+				} finally {
+					chunk.lock.unlockWrite(stamp);
+				}
+			}
+		} finally {
+			structure.unlockRead(structureStamp);
+		}
+		structureStamp = structure.writeLock();
+		try {
+			lockedAddIndex(item, index);
+		} finally {
+			structure.unlockWrite(structureStamp);
+		}
+	}
+
+	/**
+	 * O(1) - Look in the first chunk.
+	 */
+	@Override
+	public T getFront() {
+		return getEnd(true);
+	}
+
+	/**
+	 * O(1) - Look in the last chunk.
+	 */
+	@Override
+	public T getBack() {
+		return getEnd(false);
+	}
+
+	/**
+	 * O(log chunks) - The directory finds the chunk with the index, and we read
+	 * it without locking anything. If someone split or merged chunks, or wrote to
+	 * that chunk, while we were reading, we read it again with real (shared)
+	 * locks.
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public T getIndex(int index) {
+		if (index < 0) {
+			throw new BadIndexError();
+		}
+		Object found = optimistically(() -> peekIndex(index));
+		if (found == RETRY) {
+			found = whileLocked(() -> lockedGetIndex(index));
+		}
+		if (found == MISSING) {
+			throw outOfRange();
+		}
+		return (T) found;
+	}
+
+	/**
+	 * O(log chunks) - The directory adds up every chunk's size. While other
+	 * threads are adding and removing, this is only a rough idea of the size.
+	 */
+	@Override
+	public int size() {
+		Object total = optimistically(chunks::total);
+		if (total == RETRY) {
+			total = whileLocked(chunks::total);
+		}
+		return (Integer) total;
+	}
+
+	/**
+	 * O(log chunks) - The list is empty when the running total is zero.
+	 */
+	@Override
+	public boolean isEmpty() {
+		return size() == 0;
+	}
+
+	/**
+	 * O(1) - The iterator copies one chunk at a time, so each step is O(1) on
+	 * average. It never throws a ConcurrentModificationException; it may or may
+	 * not see changes that other threads make while it walks. Its remove() isn't
+	 * supported, since the item it gave back may have moved by then.
+	 */
+	@Override
+	public Iterator<T> iterator() {
+		return new Iter();
+	}
+
+	/**
+	 * O(1) - Other threads may change the size while we walk, so this doesn't
+	 * promise a size; it walks the iterator and splits by copying batches of
+	 * items into arrays.
+	 */
+	@Override
+	public Spliterator<T> spliterator() {
+		return Spliterators.spliteratorUnknownSize(iterator(), Spliterator.ORDERED | Spliterator.CONCURRENT);
+	}
+
+	/**
+	 * O(1) - Helper method to read the first or last item. A chunk at the end can
+	 * be empty for a moment before it is dropped, so we skip over those.
+	 * @param front - true for the first item, false for the last.
+	 */
+	@SuppressWarnings("unchecked")
+	private T getEnd(boolean front) {
+		Object found = optimistically(() -> peekEnd(front));
+		if (found == RETRY) {
+			found = whileLocked(() -> lockedGetEnd(front));
+		}
+		if (found == MISSING) {
+			throw new EmptyListError();
+		}
+		return (T) found;
+	}
+
+	/**
+	 * O(log chunks) - Helper method to read an item without locking anything.
+	 * @return the item, MISSING if there are not that many items, or RETRY if
+	 *         anything changed while we looked.
+	 */
+	private Object peekIndex(int index) {
+		if (index >= chunks.total()) {
+			return MISSING;
+		}
+		int pos = chunks.find(index);
+		if (pos >= chunks.chunkCount()) {
+			return RETRY;
+		}
+		Chunk<T> chunk = chunks.get(pos);
+		long stamp = chunk.lock.tryOptimisticRead();
+		int offset = index - chunks.prefix(pos);
+		boolean inChunk = offset >= 0 && offset < chunk.items.size();
+		T found = chunk.items.peek(offset);
+		if (!chunk.lock.validate(stamp) || !inChunk) {
+			return RETRY;
+		}
+		return found;
+	}
+
+	/**
+	 * O(log chunks) - Helper method to read an item, locking the chunk it is in.
+	 * Only call this with the structure read lock held.
+	 * @return the item, or MISSING if there are not that many items.
+	 */
+	private Object lockedGetIndex(int index) {
+		while (true) {
+			if (index >= chunks.total()) {
+				return MISSING;
+			}
+			int pos = chunks.find(index);
+			if (pos >= chunks.chunkCount()) {
+				continue;
+			}
+			Chunk<T> chunk = chunks.get(pos);
+			long stamp = chunk.lock.readLock();
+			try {
+				int offset = index - chunks.prefix(pos);
+				if (offset >= 0 && offset < chunk.items.size()) {
+					return chunk.items.getIndex(offset);
+				}
+				// the index moved to another chunk while we looked; find it again.
+			} finally {
+				chunk.lock.unlockRead(stamp);
+			}
+		}
+	}
+
+	/**
+	 * O(1) - Helper method to read the first or last item without locking
+	 * anything.
+	 * @return the item, MISSING if there are none, or RETRY if a chunk changed
+	 *         while we looked.
+	 */
+	private Object peekEnd(boolean front) {
+		int count = chunks.chunkCount();
+		for (int i = 0; i < count; i++) {
+			Chunk<T> chunk = chunks.get(front ? i : count - 1 - i);
+			long stamp = chunk.lock.tryOptimisticRead();
+			int size = chunk.items.size();
+			T found = chunk.items.peek(front ? 0 : size - 1);
+			if (!chunk.lock.validate(stamp)) {
+				return RETRY;
+			}
+			if (size > 0) {
+				return found;
+			}
+		}
+		return MISSING;
+	}
+
+	/**
+	 * O(1) - Helper method to read the first or last item, locking the chunk it
+	 * is in. Only call this with the structure read lock held.
+	 * @return the item, or MISSING if there are none.
+	 */
+	private Object lockedGetEnd(boolean front) {
+		int count = chunks.chunkCount();
+		for (int i = 0; i < count; i++) {
+			Chunk<T> chunk = chunks.get(front ? i : count - 1 - i);
+			long stamp = chunk.lock.readLock();
+			try {
+				if (!chunk.items.isEmpty()) {
+					return front ? chunk.items.getFront() : chunk.items.getBack();
+				}
+			} finally {
+				chunk.lock.unlockRead(stamp);
+			}
+		}
+		return MISSING;
+	}
+
+	/**
+	 * O(whatever read takes) - Helper method to run a read with no structure lock
+	 * at all. If a split or merge happened meanwhile, what we read may be
+	 * nonsense (it may even have thrown), so we throw it away.
+	 * @param read - something that only reads the chunks.
+	 * @return what read gave back, or RETRY if the chunks changed under it.
+	 */
+	private Object optimistically(Supplier<Object> read) {
+		long stamp = structure.tryOptimisticRead();
+		if (stamp == 0L) {
+			return RETRY;
+		}
+		Object result;
+		try {
+			result = read.get();
+		} catch (RuntimeException halfChanged) {
+			if (structure.validate(stamp)) {
+				// nothing changed, so this is a real bug.
+				throw halfChanged;
+			}
+			return RETRY;
+		}
+		return structure.validate(stamp) ? result : RETRY;
+	}
+
+	/**
+	 * O(whatever read takes) - Helper method to run a read with the structure
+	 * read lock held, for when optimistically() didn't work out.
+	 * @param read - something that only reads the chunks.
+	 * @return what read gave back.
+	 */
+	private Object whileLocked(Supplier<Object> read) {
+		long stamp = structure.readLock();
+		try {
+			return read.get();
+		} finally {
+			structure.unlockRead(stamp);
+		}
+	}
+
+	/**
+	 * O(chunkSize) - Helper method to remove the first or last item, with only
+	 * the chunk it is in locked.
+	 * @param front - true for the first item, false for the last.
+	 */
+	private T removeEnd(boolean front) {
+		T removed;
+		Chunk<T> small = null;
+		int smallPos = 0;
+		long structureStamp = structure.readLock();
+		try {
+			int count = chunks.chunkCount();
+			for (int i = 0; ; i++) {
+				if (i >= count) {
+					throw new EmptyListError();
+				}
+				int pos = front ? i : count - 1 - i;
+				Chunk<T> chunk = chunks.get(pos);
+				long stamp = chunk.lock.writeLock();
+				try {
+					if (!chunk.items.isEmpty()) {
+						removed = front ? chunk.items.removeFront() : chunk.items.removeBack();
+						chunks.sizeChanged(pos, -1);
+						if (needsMerge(pos)) {
+							small = chunk;
+							smallPos = pos;
+						}
+						break;
+					}
+				} finally {
+					chunk.lock.unlockWrite(stamp);
+				}
+			}
+		} finally {
+			structure.unlockRead(structureStamp);
+		}
+		if (small != null) {
+			merge(small, smallPos);
+		}
+		return removed;
+	}
+
+	/**
+	 * O(1) - Helper method to check, after a remove, whether a chunk is now empty
+	 * or small enough to merge with a neighbor. The neighbors may be changing, so
+	 * merge() checks again once it has the whole list.
+	 * @param pos - the chunk that just got smaller.
+	 */
+	private boolean needsMerge(int pos) {
+		int size = chunks.sizeOf(pos);
+		if (size == 0) {
+			return true;
+		}
+		if (size >= chunkSize / 2) {
+			return false;
+		}
+		return (pos + 1 < chunks.chunkCount() && size + chunks.sizeOf(pos + 1) <= chunkSize)
+				|| (pos > 0 && size + chunks.sizeOf(pos - 1) <= chunkSize);
+	}
+
+	/**
+	 * O(chunkSize + chunks) - Helper method to take the whole list and merge a
+	 * small chunk. Other threads may have moved it by the time we get the lock,
+	 * so we look for it first.
+	 * @param chunk - the chunk that got small.
+	 * @param pos - where it was.
+	 */
+	private void merge(Chunk<T> chunk, int pos) {
+		long structureStamp = structure.writeLock();
+		try {
+			if (pos >= chunks.chunkCount() || chunks.get(pos) != chunk) {
+				pos = 0;
+				while (pos < chunks.chunkCount() && chunks.get(pos) != chunk) {
+					pos++;
+				}
+				if (pos == chunks.chunkCount()) {
+					// someone else merged it already.
+					return;
+				}
+			}
+			mergeIfSmall(pos);
+		} finally {
+			structure.unlockWrite(structureStamp);
+		}
+	}
+
+	/**
+	 * O(1) - Same as ChunkyLinkedList's addBack. Only call this with the structure
+	 * write lock held.
+	 */
+	private void lockedAddBack(T item) {
+		int last = chunks.chunkCount() - 1;
+		if (last < 0 || chunks.sizeOf(last) >= chunkSize) {
+			chunks.addLast(new Chunk<T>(chunkSize), 0);
+			last++;
+		}
+		chunks.get(last).add(item, chunks.sizeOf(last));
+		chunks.sizeChanged(last, 1);
+	}
+
+	/**
+	 * O(log chunks + chunkSize) - Same as ChunkyLinkedList's addIndex. Only call
+	 * this with the structure write lock held.
+	 */
+	private void lockedAddIndex(T item, int index) {
+		int total = chunks.total();
+		if (index > total) {
+			throw new BadIndexError();
+		}
+		if (index == total) {
+			lockedAddBack(item);
+			return;
+		}
+		int pos = chunks.find(index);
+		int offset = index - chunks.prefix(pos);
+		if (offset == 0 && pos > 0 && chunks.sizeOf(pos - 1) < chunkSize) {
+			// Just after the end of a chunk with room in it; no shifting at all.
+			chunks.get(pos - 1).add(item, chunks.sizeOf(pos - 1));
+			chunks.sizeChanged(pos - 1, 1);
+			return;
+		}
+		if (chunks.sizeOf(pos) >= chunkSize) {
+			int moved = split(pos);
+			if (offset > moved) {
+				pos++;
+				offset -= moved;
+			}
+		}
+		chunks.get(pos).add(item, offset);
+		chunks.sizeChanged(pos, 1);
+	}
+
+	/**
+	 * O(chunkSize + chunks) - Move the front half of a full chunk into a brand new
+	 * chunk right before it. Only call this with the structure write lock held.
+	 *
+	 * It's the front half that moves (not the back half, like in
+	 * ChunkyLinkedList) so that nothing moves past the end of this chunk: an
+	 * iterator that has already copied it would see the back half twice.
+	 *
+	 * @param pos - which chunk to split.
+	 * @return how many items moved into the new chunk, which is now at pos.
+	 */
+	private int split(int pos) {
+		Chunk<T> chunk = chunks.get(pos);
+		Chunk<T> front = new Chunk<T>(chunkSize);
+		int moved;
+		long stamp = chunk.lock.writeLock();
+		try {
+			moved = chunk.items.size() / 2;
+			for (int i = 0; i < moved; i++) {
+				front.items.addBack(chunk.items.getIndex(i));
+			}
+			chunk.items.removeRange(0, moved);
+		} finally {
+			chunk.lock.unlockWrite(stamp);
+		}
+		chunks.sizeChanged(pos, -moved);
+		chunks.insert(pos, front, moved);
+		return moved;
+	}
+
+	/**
+	 * O(chunkSize + chunks) - Same as ChunkyLinkedList's mergeIfSmall, except the
+	 * two chunks are copied into a brand new one instead of one into the other.
+	 * Only call this with the structure write lock held.
+	 *
+	 * Moving items from one chunk into the other would move them past the end of
+	 * the first one, where an iterator that had already copied it would miss them
+	 * (or see them twice). Instead both old chunks are retired: they never change
+	 * again, and they remember which chunk came after them, so an iterator that
+	 * is in the middle of one can finish it and carry on.
+	 *
+	 * @param pos - the chunk that got smaller.
+	 */
+	private void mergeIfSmall(int pos) {
+		int size = chunks.sizeOf(pos);
+		if (size == 0) {
+			Chunk<T> empty = chunks.remove(pos);
+			empty.retire(null, pos > 0 ? chunks.get(pos - 1) : null);
+		} else if (size < chunkSize / 2) {
+			if (pos + 1 < chunks.chunkCount() && size + chunks.sizeOf(pos + 1) <= chunkSize) {
+				mergeWithNext(pos);
+			} else if (pos > 0 && size + chunks.sizeOf(pos - 1) <= chunkSize) {
+				mergeWithNext(pos - 1);
+			}
+		}
+	}
+
+	/**
+	 * O(chunkSize + chunks) - Replace a chunk and the one after it with a new
+	 * chunk holding the items of both, and retire the old two.
+	 *
+	 * @param pos - the first of the two chunks; the second one must fit in it.
+	 */
+	private void mergeWithNext(int pos) {
+		Chunk<T> first = chunks.get(pos);
+		Chunk<T> second = chunks.get(pos + 1);
+		Chunk<T> merged = new Chunk<T>(chunkSize);
+		for (int i = 0; i < first.items.size(); i++) {
+			merged.items.addBack(first.items.getIndex(i));
+		}
+		for (int i = 0; i < second.items.size(); i++) {
+			merged.items.addBack(second.items.getIndex(i));
+		}
+		chunks.remove(pos + 1);
+		chunks.replace(pos, merged);
+		chunks.sizeChanged(pos, second.items.size());
+		second.retire(null, merged);
+		first.retire(second, null);
+	}
+
+	/**
+	 * Helper method to pick the right error when there is no item at an index.
+	 */
+	private RuntimeException outOfRange() {
+		if (chunks.total() == 0) {
+			return new EmptyListError();
+		}
+		return new BadIndexError();
+	}
+
+	/**
+	 * One chunk of the list, and the lock that goes with it.
+	 *
+	 * @param <T> - the type of item stored.
+	 */
+	private static class Chunk<T> {
+		final FixedSizeList<T> items;
+		final StampedLock lock;
+		/**
+		 * Once retired by a merge as the first of two chunks: the second one, which
+		 * an iterator that finished this one reads next.
+		 */
+		Chunk<T> thenRead;
+		/**
+		 * Once retired (when thenRead is null): a chunk that ended where this one
+		 * did, or null for the very start of the list.
+		 */
+		Chunk<T> endsWith;
+		/**
+		 * True once this chunk has been taken out of the directory. After that its
+		 * items never change.
+		 */
+		volatile boolean retired;
+
+		public Chunk(int chunkSize) {
+			this.items = new FixedSizeList<>(chunkSize);
+			this.lock = new StampedLock();
+			this.thenRead = null;
+			this.endsWith = null;
+			this.retired = false;
+		}
+
+		/**
+		 * O(chunkSize) - Add an item while holding this chunk's write lock, for the
+		 * slow paths that already hold the structure write lock. Iterators only hold
+		 * the chunk's lock while they copy it, so they need us to take it too.
+		 */
+		void add(T item, int offset) {
+			long stamp = lock.writeLock();
+			try {
+				items.addIndex(item, offset);
+			} finally {
+				lock.unlockWrite(stamp);
+			}
+		}
+
+		/**
+		 * O(1) - Mark this chunk as no longer in the list.
+		 * @param thenRead - the retired chunk to read after this one, or null.
+		 * @param endsWith - the chunk that ends where this one did, or null.
+		 */
+		void retire(Chunk<T> thenRead, Chunk<T> endsWith) {
+			this.thenRead = thenRead;
+			this.endsWith = endsWith;
+			this.retired = true;
+		}
+
+		/**
+		 * O(chunkSize) - Copy the items under the read lock.
+		 */
+		Object[] copy() {
+			long stamp = lock.readLock();
+			try {
+				Object[] output = new Object[items.size()];
+				for (int i = 0; i < output.length; i++) {
+					output[i] = items.getIndex(i);
+				}
+				return output;
+			} finally {
+				lock.unlockRead(stamp);
+			}
+		}
+	}
+
+	/**
+	 * Walks the chunks in order, copying each one under its read lock, and then
+	 * gives back the copied items. It looks for the next item in hasNext(), so a
+	 * hasNext() that said true always means next() has something to give back.
+	 *
+	 * Where we are is always "just after the end of current", because the end of
+	 * a chunk never moves while it is in the list: splits move the front half
+	 * out. When current gets retired, it says where its end went.
+	 */
+	private class Iter implements Iterator<T> {
+		/**
+		 * The chunk we copied last, or null if we haven't started.
+		 */
+		private Chunk<T> current;
+		/**
+		 * Where current was in the directory when we last looked; just a guess.
+		 */
+		private int hint;
+		/**
+		 * The items of current, copied.
+		 */
+		private Object[] buffer;
+		/**
+		 * Where copyChunkAfter() puts its copy; only used once we know it's good.
+		 */
+		private Object[] copied;
+		/**
+		 * The position in buffer next() gives back.
+		 */
+		private int cursor;
+		/**
+		 * True once there are no more chunks.
+		 */
+		private boolean done;
+
+		public Iter() {
+			this.current = null;
+			this.hint = 0;
+			this.buffer = new Object[0];
+			this.copied = null;
+			this.cursor = 0;
+			this.done = false;
+		}
+
+		@Override
+		public boolean hasNext() {
+			while (cursor >= buffer.length && !done) {
+				copyNextChunk();
+			}
+			return cursor < buffer.length;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public T next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			return (T) buffer[cursor++];
+		}
+
+		/**
+		 * O(chunkSize), or O(chunks) if the chunks changed since last time - Find
+		 * the chunk after current and copy it. Choosing and copying happen under
+		 * one structure stamp (optimistic if we can), so the chunk can't be split
+		 * in between.
+		 */
+		@SuppressWarnings("unchecked")
+		private void copyNextChunk() {
+			Object next = optimistically(this::copyChunkAfter);
+			if (next == RETRY) {
+				next = whileLocked(this::copyChunkAfter);
+			}
+			if (next == MISSING) {
+				done = true;
+				return;
+			}
+			current = (Chunk<T>) next;
+			buffer = copied;
+			cursor = 0;
+		}
+
+		/**
+		 * O(chunkSize), or O(chunks) if current moved - Helper method to find the
+		 * chunk after current and copy its items into copied.
+		 * @return that chunk, or MISSING if current was the last one.
+		 */
+		private Object copyChunkAfter() {
+			Chunk<T> after = current;
+			while (after != null && after.retired) {
+				if (after.thenRead != null) {
+					// retired chunks never change, so any copy of one is good.
+					copied = after.thenRead.copy();
+					return after.thenRead;
+				}
+				after = after.endsWith;
+			}
+			int pos = (after == null) ? -1 : positionOf(after);
+			if (pos + 1 >= chunks.chunkCount()) {
+				return MISSING;
+			}
+			hint = pos + 1;
+			Chunk<T> next = chunks.get(hint);
+			copied = next.copy();
+			return next;
+		}
+
+		/**
+		 * O(1) if it hasn't moved, O(chunks) if it has - Find a chunk that is in
+		 * the directory. Only call this from copyChunkAfter().
+		 */
+		private int positionOf(Chunk<T> chunk) {
+			if (hint >= 0 && hint < chunks.chunkCount() && chunks.get(hint) == chunk) {
+				return hint;
+			}
+			int pos = 0;
+			while (chunks.get(pos) != chunk) {
+				pos++;
+			}
+			return pos;
+		}
+	}
+}
@@ -0,0 +1,420 @@
+package edu.smith.cs.csc212.p6;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.atomic.AtomicMarkableReference;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+import edu.smith.cs.csc212.p6.errors.BadIndexError;
+import edu.smith.cs.csc212.p6.errors.EmptyListError;
+
+/**
+ * A {@link SinglyLinkedList} that many threads can use at once, without any
+ * locks. It is meant to be a queue: addBack and removeFront are the fast
+ * operations, and producers and consumers never wait for each other.
+ *
+ * Every change is one compare-and-set (CAS) on a node's next pointer, in the
+ * style of the Michael-Scott queue. If another thread got there first, the CAS
+ * fails and we just try again. To remove a node, we first mark its next pointer
+ * (so nobody can add after it any more), and then point the node before it past
+ * it. A node is in the list exactly when its next pointer isn't marked. Anyone
+ * walking the list who finds a marked node helps unlink it, so no thread is
+ * ever stuck waiting on one that stopped half way.
+ *
+ * The operations that use an index are "weakly consistent": the list may
+ * change while we walk to the index, so the item we find was at that index at
+ * some point during the call, not necessarily at the end of it. The same goes
+ * for size() and for iterators, which never throw a
+ * ConcurrentModificationException.
+ *
+ * @param <T> the type of item stored in the list.
+ */
+public class ConcurrentSinglyLinkedList<T> implements P6List<T> {
+	/**
+	 * A node that holds no item and is never removed; the front of the list is
+	 * whatever comes after it.
+	 */
+	private final Node<T> head;
+	/**
+	 * Some node near the end of the list. addBack starts looking for the end
+	 * here, so it doesn't walk the whole list. It can fall behind, and it can
+	 * even be a node that was removed; it is only a hint.
+	 */
+	private final AtomicReference<Node<T>> tail;
+	/**
+	 * How many items are in this list. A LongAdder, rather than a single
+	 * counter, so that threads don't all fight over one memory location.
+	 */
+	private final LongAdder count;
+
+	public ConcurrentSinglyLinkedList() {
+		this.head = new Node<T>(null, null);
+		this.tail = new AtomicReference<>(head);
+		this.count = new LongAdder();
+	}
+
+	/**
+	 * O(1) - Mark the first node, then point head past it. If another thread
+	 * changes the front first, we try again.
+	 */
+	@Override
+	public T removeFront() {
+		return removeIndex(0);
+	}
+
+	/**
+	 * O(n) - We walk to the end, then mark the last node. That only works if
+	 * nothing was added after it in the meantime; otherwise we walk again.
+	 */
+	@Override
+	public T removeBack() {
+		boolean[] marked = new boolean[1];
+		retry:
+		while (true) {
+			Node<T> pred = head;
+			Node<T> curr = pred.next.getReference();
+			if (curr == null) {
+				throw new EmptyListError();
+			}
+			while (true) {
+				Node<T> succ = curr.next.get(marked);
+				if (marked[0]) {
+					// help unlink a removed node, then keep going from pred.
+					if (!pred.next.compareAndSet(curr, succ, false, false)) {
+						continue retry;
+					}
+					if (succ == null) {
+						// that was the last one, so pred is the end now.
+						continue retry;
+					}
+					curr = succ;
+				} else if (succ != null) {
+					pred = curr;
+					curr = succ;
+				} else if (curr.next.compareAndSet(null, null, false, true)) {
+					pred.next.compareAndSet(curr, null, false, false);
+					count.decrement();
+					return curr.value;
+				} else {
+					continue retry;
+				}
+			}
+		}
+	}
+
+	/**
+	 * O(n) - Walk to the node before the index, then mark the one after it and
+	 * point the one before past it.
+	 */
+	@Override
+	public T removeIndex(int index) {
+		if (index < 0) {
+			throw new BadIndexError();
+		}
+		boolean[] marked = new boolean[1];
+		while (true) {
+			Node<T> pred = nodeBefore(index, false);
+			Node<T> curr = (pred == null) ? null : pred.next.getReference();
+			if (curr == null) {
+				throw outOfRange();
+			}
+			Node<T> succ = curr.next.get(marked);
+			if (marked[0]) {
+				// someone else is removing it; help, then look again.
+				pred.next.compareAndSet(curr, succ, false, false);
+				continue;
+			}
+			if (curr.next.compareAndSet(succ, succ, false, true)) {
+				// it is ours now. If this unlink fails, the next walk past it will do it.
+				pred.next.compareAndSet(curr, succ, false, false);
+				count.decrement();
+				return curr.value;
+			}
+		}
+	}
+
+	/**
+	 * O(1) - Point head at a new node, with a CAS so we don't lose a node that
+	 * another thread is adding at the same time.
+	 */
+	@Override
+	public void addFront(T item) {
+		addIndex(item, 0);
+	}
+
+	/**
+	 * O(1) - Start from the tail hint, go to the real end (usually no steps at all),
+	 * and CAS the new node onto it. The tail hint moves up after.
+	 */
+	@Override
+	public void addBack(T item) {
+		Node<T> added = new Node<T>(item, null);
+		while (true) {
+			Node<T> hint = tail.get();
+			Node<T> last = hint;
+			for (Node<T> next = last.next.getReference(); next != null; next = last.next.getReference()) {
+				last = next;
+			}
+			if (last.next.compareAndSet(null, added, false, false)) {
+				tail.compareAndSet(hint, added);
+				count.increment();
+				return;
+			}
+			if (last.next.isMarked()) {
+				// the end is being removed, so we can't add after it.
+				// Walk from the front, unlinking it as we go, to find the real end.
+				tail.compareAndSet(hint, nodeBefore(Integer.MAX_VALUE, true));
+			}
+		}
+	}
+
+	/**
+	 * O(n) - Walk to the node before the index, and CAS the new node in after it.
+	 * If that node gets removed first, the CAS fails and we walk again.
+	 */
+	@Override
+	public void addIndex(T item, int index) {
+		if (index < 0) {
+			throw new BadIndexError();
+		}
+		boolean[] marked = new boolean[1];
+		Node<T> added = new Node<T>(item, null);
+		while (true) {
+			Node<T> pred = nodeBefore(index, false);
+			if (pred == null) {
+				throw new BadIndexError();
+			}
+			Node<T> succ = pred.next.get(marked);
+			if (marked[0]) {
+				continue;
+			}
+			added.next.set(succ, false);
+			if (pred.next.compareAndSet(succ, added, false, false)) {
+				count.increment();
+				return;
+			}
+		}
+	}
+
+	/**
+	 * O(1) - Skip any removed nodes right after head, and the first one left is the front
+	 */
+	@Override
+	public T getFront() {
+		Node<T> first = firstLive(head.next.getReference());
+		if (first == null) {
+			throw new EmptyListError();
+		}
+		return first.value;
+	}
+
+	/**
+	 * O(n) - We have to walk to the end, since the tail is only a hint
+	 */
+	@Override
+	public T getBack() {
+		Node<T> last = null;
+		for (Node<T> at = firstLive(head.next.getReference()); at != null; at = firstLive(at.next.getReference())) {
+			last = at;
+		}
+		if (last == null) {
+			throw new EmptyListError();
+		}
+		return last.value;
+	}
+
+	/**
+	 * O(n) - We have to walk from the front, skipping removed nodes
+	 */
+	@Override
+	public T getIndex(int index) {
+		if (index < 0) {
+			throw new BadIndexError();
+		}
+		Node<T> at = firstLive(head.next.getReference());
+		for (int i = 0; i < index && at != null; i++) {
+			at = firstLive(at.next.getReference());
+		}
+		if (at == null) {
+			throw outOfRange();
+		}
+		return at.value;
+	}
+
+	/**
+	 * O(threads) - Add up the counter. While other threads are adding and
+	 * removing, this is only a rough idea of the size.
+	 */
+	@Override
+	public int size() {
+		return (int) Math.max(0, count.sum());
+	}
+
+	/**
+	 * O(1) - The list is empty if there is nothing left after head, other than
+	 * removed nodes
+	 */
+	@Override
+	public boolean isEmpty() {
+		return firstLive(head.next.getReference()) == null;
+	}
+
+	/**
+	 * O(1) - The iterator walks the nodes that are in the list as it reaches them.
+	 * It never throws a ConcurrentModificationException; it may or may not see
+	 * changes that other threads make while it walks.
+	 */
+	@Override
+	public Iterator<T> iterator() {
+		return new Iter();
+	}
+
+	/**
+	 * O(1) - Other threads may change the size while we walk, so this doesn't
+	 * promise a size; it splits by copying batches of items into arrays.
+	 */
+	@Override
+	public Spliterator<T> spliterator() {
+		return Spliterators.spliteratorUnknownSize(iterator(), Spliterator.ORDERED | Spliterator.CONCURRENT);
+	}
+
+	/**
+	 * O(n) - Helper method to walk to the node right before position index,
+	 * unlinking any removed nodes that we pass.
+	 * @param index - how many items come before the node we want.
+	 * @param stopAtEnd - what to do if there are fewer items than that: true to
+	 * give back the last node, false to give back null.
+	 * @return the node, which may be head.
+	 */
+	private Node<T> nodeBefore(int index, boolean stopAtEnd) {
+		boolean[] marked = new boolean[1];
+		retry:
+		while (true) {
+			Node<T> pred = head;
+			Node<T> curr = pred.next.getReference();
+			for (int at = 0; at < index; ) {
+				if (curr == null) {
+					return stopAtEnd ? pred : null;
+				}
+				Node<T> succ = curr.next.get(marked);
+				if (marked[0]) {
+					if (!pred.next.compareAndSet(curr, succ, false, false)) {
+						// pred changed (or was removed) under us.
+						continue retry;
+					}
+					curr = succ;
+				} else {
+					pred = curr;
+					curr = succ;
+					at++;
+				}
+			}
+			return pred;
+		}
+	}
+
+	/**
+	 * O(1) usually - Helper method to skip over nodes that are being removed.
+	 * @param node - where to start; may be null.
+	 * @return the first node from there on that is still in the list, or null.
+	 */
+	private Node<T> firstLive(Node<T> node) {
+		while (node != null && node.next.isMarked()) {
+			node = node.next.getReference();
+		}
+		return node;
+	}
+
+	/**
+	 * Helper method to pick the right error when we ran off the end looking for an index.
+	 */
+	private RuntimeException outOfRange() {
+		if (this.isEmpty()) {
+			return new EmptyListError();
+		}
+		return new BadIndexError();
+	}
+
+	/**
+	 * The node on any linked list should not be exposed. Static means we don't need
+	 * a "this" of ConcurrentSinglyLinkedList to make a node.
+	 *
+	 * @param <T> the type of the values stored.
+	 */
+	private static class Node<T> {
+		/**
+		 * What value is stored in this node? It never changes.
+		 */
+		final T value;
+		/**
+		 * What node comes after me? The mark on it means "I have been removed".
+		 */
+		final AtomicMarkableReference<Node<T>> next;
+
+		public Node(T value, Node<T> next) {
+			this.value = value;
+			this.next = new AtomicMarkableReference<>(next, false);
+		}
+	}
+
+	/**
+	 * Walks through the nodes that are still in the list. remove() marks the node
+	 * we just gave back, the same way removeIndex does.
+	 */
+	private class Iter implements Iterator<T> {
+		/**
+		 * The node whose value next() gives back, or null at the end.
+		 */
+		private Node<T> current;
+		/**
+		 * The node next() gave back last time, or null if remove() can't be called.
+		 */
+		private Node<T> lastReturned;
+
+		public Iter() {
+			this.current = firstLive(head.next.getReference());
+			this.lastReturned = null;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return current != null;
+		}
+
+		@Override
+		public T next() {
+			if (current == null) {
+				throw new NoSuchElementException();
+			}
+			lastReturned = current;
+			current = firstLive(current.next.getReference());
+			return lastReturned.value;
+		}
+
+		/**
+		 * O(1) - Mark the node; whoever walks past it next unlinks it.
+		 */
+		@Override
+		public void remove() {
+			if (lastReturned == null) {
+				throw new IllegalStateException();
+			}
+			boolean[] marked = new boolean[1];
+			while (true) {
+				Node<T> succ = lastReturned.next.get(marked);
+				if (marked[0]) {
+					// another thread removed it first; that's fine.
+					break;
+				}
+				if (lastReturned.next.compareAndSet(succ, succ, false, true)) {
+					count.decrement();
+					break;
+				}
+			}
+			lastReturned = null;
+		}
+	}
+}
@@ -0,0 +1,343 @@
+package edu.smith.cs.csc212.p6;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+
+import edu.smith.cs.csc212.p6.errors.BadIndexError;
+import edu.smith.cs.csc212.p6.errors.EmptyListError;
+
+/**
+ * A list for many threads that read it all the time and hardly ever change it
+ * (like {@link java.util.concurrent.CopyOnWriteArrayList}).
+ *
+ * The items live in an array that is never changed once other threads can see
+ * it. Readers just grab the current array and look in it: no locks, no
+ * compare-and-set, nothing that writes to memory at all. Every change makes a
+ * new array with the change in it, and then swaps it in with one volatile write;
+ * readers that already have the old array keep using it, and they still see a
+ * list that makes sense, just not the newest one.
+ *
+ * That makes every change O(n), so if you have many of them to do at once, use
+ * {@link #batch(Consumer)}: all of them together only copy the array once.
+ * Writers take turns with a lock, so no change gets lost.
+ *
+ * @param <T> - the type of item stored in the list.
+ */
+public class CopyOnWriteGrowableList<T> implements P6List<T> {
+	private static final Object[] EMPTY = new Object[0];
+	/**
+	 * The items, with exactly as many slots as there are items. The array is
+	 * never changed after it is stored here; only replaced.
+	 */
+	private volatile Object[] array;
+	/**
+	 * Writers hold this while they copy and swap, so two of them don't both copy
+	 * the same array and lose one of the changes.
+	 */
+	private final Object writeLock;
+
+	public CopyOnWriteGrowableList() {
+		this.array = EMPTY;
+		this.writeLock = new Object();
+	}
+
+	/**
+	 * O(n) - Copy everything but the first item into a new array.
+	 */
+	@Override
+	public T removeFront() {
+		return removeIndex(0);
+	}
+
+	/**
+	 * O(n) - Copy everything but the last item into a new array.
+	 */
+	@Override
+	public T removeBack() {
+		synchronized (writeLock) {
+			Object[] current = array;
+			if (current.length == 0) {
+				throw new EmptyListError();
+			}
+			T removed = itemAt(current, current.length - 1);
+			array = Arrays.copyOf(current, current.length - 1);
+			return removed;
+		}
+	}
+
+	/**
+	 * O(n) - Copy the items before and after the index into a new array.
+	 */
+	@Override
+	public T removeIndex(int index) {
+		synchronized (writeLock) {
+			Object[] current = array;
+			if (current.length == 0) {
+				throw new EmptyListError();
+			}
+			T removed = itemAt(current, index);
+			Object[] next = new Object[current.length - 1];
+			System.arraycopy(current, 0, next, 0, index);
+			System.arraycopy(current, index + 1, next, index, next.length - index);
+			array = next;
+			return removed;
+		}
+	}
+
+	/**
+	 * O(n) - Copy everything into a new array, one place over.
+	 */
+	@Override
+	public void addFront(T item) {
+		addIndex(item, 0);
+	}
+
+	/**
+	 * O(n) - Copy everything into a new array with one more slot.
+	 */
+	@Override
+	public void addBack(T item) {
+		synchronized (writeLock) {
+			Object[] current = array;
+			Object[] next = Arrays.copyOf(current, current.length + 1);
+			next[current.length] = item;
+			array = next;
+		}
+	}
+
+	/**
+	 * O(n) - Copy the items before and after the index into a new array, with a
+	 * gap for the new one.
+	 */
+	@Override
+	public void addIndex(T item, int index) {
+		synchronized (writeLock) {
+			Object[] current = array;
+			if (index < 0 || index > current.length) {
+				throw new BadIndexError();
+			}
+			Object[] next = new Object[current.length + 1];
+			System.arraycopy(current, 0, next, 0, index);
+			next[index] = item;
+			System.arraycopy(current, index, next, index + 1, current.length - index);
+			array = next;
+		}
+	}
+
+	/**
+	 * O(1) - Look in the current array.
+	 */
+	@Override
+	public T getFront() {
+		Object[] current = array;
+		if (current.length == 0) {
+			throw new EmptyListError();
+		}
+		return itemAt(current, 0);
+	}
+
+	/**
+	 * O(1) - Look in the current array.
+	 */
+	@Override
+	public T getBack() {
+		Object[] current = array;
+		if (current.length == 0) {
+			throw new EmptyListError();
+		}
+		return itemAt(current, current.length - 1);
+	}
+
+	/**
+	 * O(1) - Look in the current array; no locking at all.
+	 */
+	@Override
+	public T getIndex(int index) {
+		return itemAt(array, index);
+	}
+
+	/**
+	 * O(1) - The array is always exactly full.
+	 */
+	@Override
+	public int size() {
+		return array.length;
+	}
+
+	/**
+	 * O(1) - The array is always exactly full.
+	 */
+	@Override
+	public boolean isEmpty() {
+		return array.length == 0;
+	}
+
+	/**
+	 * O(n + k) - One new array, no matter how many items are added.
+	 */
+	@Override
+	public void addAllBack(T[] items) {
+		synchronized (writeLock) {
+			// the end has to be read under the lock, or another writer could move it.
+			Object[] current = array;
+			array = withAllAt(current, current.length, items);
+		}
+	}
+
+	/**
+	 * O(n + k) - One new array, no matter how many items are added.
+	 */
+	@Override
+	public void addAllAt(int index, T[] items) {
+		synchronized (writeLock) {
+			Object[] current = array;
+			if (index < 0 || index > current.length) {
+				throw new BadIndexError();
+			}
+			array = withAllAt(current, index, items);
+		}
+	}
+
+	/**
+	 * O(n) - One new array, no matter how many items are removed.
+	 */
+	@Override
+	public void removeRange(int from, int to) {
+		synchronized (writeLock) {
+			Object[] current = array;
+			if (from < 0 || to > current.length || from > to) {
+				throw new BadIndexError();
+			}
+			Object[] next = new Object[current.length - (to - from)];
+			System.arraycopy(current, 0, next, 0, from);
+			System.arraycopy(current, to, next, from, current.length - to);
+			array = next;
+		}
+	}
+
+	/**
+	 * O(k) - One bulk copy out of the current array.
+	 */
+	@Override
+	public void copyRange(int from, int to, T[] dest) {
+		Object[] current = array;
+		if (from < 0 || to > current.length || from > to) {
+			throw new BadIndexError();
+		}
+		System.arraycopy(current, from, dest, 0, to - from);
+	}
+
+	/**
+	 * O(n + k) - Make many changes for the price of one copy. The changes are made
+	 * to a private {@link GrowableList} copy of this list, and then the result is
+	 * swapped in all at once; readers see either none of the changes or all of
+	 * them. Other writers wait until the batch is done.
+	 *
+	 * Don't keep the list you are given after changes returns, and don't use this
+	 * list from inside changes (reading it would only show the old items).
+	 *
+	 * @param changes - what to do to the list.
+	 */
+	@SuppressWarnings("unchecked")
+	public void batch(Consumer<? super P6List<T>> changes) {
+		synchronized (writeLock) {
+			Object[] current = array;
+			GrowableList<T> scratch = new GrowableList<>(Math.max(GrowableList.START_SIZE, current.length));
+			scratch.addAllBack((T[]) current);
+			changes.accept(scratch);
+			Object[] next = new Object[scratch.size()];
+			scratch.copyRange(0, next.length, (T[]) next);
+			array = next;
+		}
+	}
+
+	/**
+	 * O(n) - Copy the items as they are right now, for a caller that wants to
+	 * read several of them and have them all agree with each other.
+	 * @return a new array holding every item.
+	 */
+	public Object[] toArray() {
+		Object[] current = array;
+		return Arrays.copyOf(current, current.length);
+	}
+
+	/**
+	 * O(1) - The iterator walks the array as it was when it was made, so it never
+	 * sees later changes, and never throws a ConcurrentModificationException.
+	 * It can't remove items.
+	 */
+	@Override
+	public Iterator<T> iterator() {
+		return new Iter(array);
+	}
+
+	/**
+	 * O(1) - Java already knows how to split an array, and ours never changes.
+	 */
+	@SuppressWarnings("unchecked")
+	@Override
+	public Spliterator<T> spliterator() {
+		return (Spliterator<T>) Spliterators.spliterator(array, Spliterator.ORDERED | Spliterator.IMMUTABLE);
+	}
+
+	/**
+	 * O(1) - Helper method to read an item out of one particular array.
+	 */
+	@SuppressWarnings("unchecked")
+	private static <T> T itemAt(Object[] items, int index) {
+		if (index < 0 || index >= items.length) {
+			if (items.length == 0) {
+				throw new EmptyListError();
+			}
+			throw new BadIndexError();
+		}
+		return (T) items[index];
+	}
+
+	/**
+	 * O(n + k) - Helper method to copy an array with some items put in. Only call
+	 * this while holding writeLock.
+	 * @param current - the array to copy.
+	 * @param index - where the items go, from 0 to current.length.
+	 * @param items - what to put in.
+	 * @return the new array.
+	 */
+	private static Object[] withAllAt(Object[] current, int index, Object[] items) {
+		Object[] next = new Object[current.length + items.length];
+		System.arraycopy(current, 0, next, 0, index);
+		System.arraycopy(items, 0, next, index, items.length);
+		System.arraycopy(current, index, next, index + items.length, current.length - index);
+		return next;
+	}
+
+	/**
+	 * Walks one array from front to back; the list may have moved on to a newer
+	 * array since.
+	 */
+	private class Iter implements Iterator<T> {
+		private final Object[] snapshot;
+		private int cursor;
+
+		public Iter(Object[] snapshot) {
+			this.snapshot = snapshot;
+			this.cursor = 0;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return cursor < snapshot.length;
+		}
+
+		@Override
+		public T next() {
+			if (cursor >= snapshot.length) {
+				throw new NoSuchElementException();
+			}
+			return itemAt(snapshot, cursor++);
+		}
+	}
+}
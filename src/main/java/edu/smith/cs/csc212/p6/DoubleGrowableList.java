@@ -0,0 +1,379 @@
+// Generated from src/main/templates/PrimitiveGrowableList.java.template by
+// PrimitiveListGenerator (in src/test). Don't edit it here: change the
+// template and run the generator again.
+package edu.smith.cs.csc212.p6;
+
+import edu.smith.cs.csc212.p6.errors.BadIndexError;
+import edu.smith.cs.csc212.p6.errors.EmptyListError;
+
+/**
+ * A {@link GrowableList} of {@code double}s. The values live in a plain
+ * {@code double[]}, so nothing is boxed and reading one is a single array load.
+ * It works just like GrowableList: a ring buffer that grows by
+ * {@code growthFactor} and shrinks by half when it is less than a quarter full.
+ * 
+ * The methods ending in Double (like {@code getDouble}) are the fast ones. The
+ * {@code Double} methods from {@link P6List} still work, but they box and unbox
+ * on the way in and out, and can't store null.
+ */
+public class DoubleGrowableList implements P6List<Double> {
+	private double[] array;
+	/**
+	 * Where in the array the front of the list is.
+	 */
+	private int head;
+	private int fill;
+	/**
+	 * How much bigger the array gets each time it fills up.
+	 */
+	private final double growthFactor;
+	/**
+	 * The capacity we were created with.
+	 */
+	private final int initialCapacity;
+	/**
+	 * We never automatically shrink below this: the capacity we were created
+	 * with, or more if ensureCapacity asked for more.
+	 */
+	private int minimumCapacity;
+	
+	public DoubleGrowableList() {
+		this(GrowableList.START_SIZE);
+	}
+	
+	/**
+	 * Make a list that can hold some items before it has to grow.
+	 * @param initialCapacity - how many items fit before the first resize.
+	 */
+	public DoubleGrowableList(int initialCapacity) {
+		this(initialCapacity, GrowableList.DEFAULT_GROWTH_FACTOR);
+	}
+	
+	/**
+	 * Make a list that can hold some items before it has to grow.
+	 * @param initialCapacity - how many items fit before the first resize.
+	 * @param growthFactor - how much bigger the array gets when it is full; more than 1.
+	 */
+	public DoubleGrowableList(int initialCapacity, double growthFactor) {
+		if (initialCapacity < 0) {
+			throw new IllegalArgumentException("initialCapacity: " + initialCapacity);
+		}
+		if (!(growthFactor > 1.0)) {
+			throw new IllegalArgumentException("growthFactor: " + growthFactor);
+		}
+		this.array = new double[initialCapacity];
+		this.head = 0;
+		this.fill = 0;
+		this.growthFactor = growthFactor;
+		this.initialCapacity = initialCapacity;
+		this.minimumCapacity = initialCapacity;
+	}
+
+	/**
+	 * O(1) - The front just moves forward one slot in the ring
+	 * @return the value that was removed.
+	 */
+	public double removeFrontDouble() {
+		checkNotEmpty();
+		double value = this.array[head];
+		head = slot(1);
+		fill--;
+		shrinkIfSparse();
+		return value;
+	}
+
+	/**
+	 * O(1) - Nothing has to be moved to remove from the back
+	 * @return the value that was removed.
+	 */
+	public double removeBackDouble() {
+		checkNotEmpty();
+		double value = this.array[slot(fill-1)];
+		fill--;
+		shrinkIfSparse();
+		return value;
+	}
+
+	/**
+	 * O(n) - Everything on one side of the indexed item has to be shifted over,
+	 * but we pick whichever side is shorter, so it's at most n/2 items
+	 * @param index - a number from 0 to size (excluding size).
+	 * @return the value that was removed.
+	 */
+	public double removeIndexDouble(int index) {
+		checkNotEmpty();
+		double removed = this.getDouble(index);
+		if (index < fill / 2) {
+			// shift the items before it forward, towards the back.
+			shift(0, 1, index);
+			head = slot(1);
+		} else {
+			// shift the items after it back, towards the front.
+			shift(index+1, index, fill-1-index);
+		}
+		fill--;
+		shrinkIfSparse();
+		return removed;
+	}
+
+	/**
+	 * O(1) - The front just moves back one slot in the ring
+	 * O(n) - If the list is full and we need a bigger list, everything will need to be copied
+	 * @param item - the value to add.
+	 */
+	public void addFrontDouble(double item) {
+		growIfFull();
+		head = slot(array.length - 1);
+		this.array[head] = item;
+		fill++;
+	}
+
+	/**
+	 * O(1) - When the list isn't full, it is easy to just add something to the back
+	 * O(n) - If the list is full and we need a bigger list, everything will need to be copied
+	 * @param item - the value to add.
+	 */
+	public void addBackDouble(double item) {
+		growIfFull();
+		this.array[slot(fill)] = item;
+		fill++;
+	}
+
+	/**
+	 * O(n) - Everything on one side of the index will have to be shifted over to make room,
+	 * but we pick whichever side is shorter, so it's at most n/2 items
+	 * @param item - the value to add.
+	 * @param index - where to add it, from 0 to size (including size).
+	 */
+	public void addIndexDouble(double item, int index) {
+		if (index < 0 || index > fill) {
+			throw new BadIndexError();
+		}
+		growIfFull();
+		if (index < fill / 2) {
+			// make a new front slot, then shift the items before index into it.
+			head = slot(array.length - 1);
+			shift(1, 0, index);
+		} else {
+			// shift the items after index to the right.
+			shift(index, index+1, fill-index);
+		}
+		this.array[slot(index)] = item;
+		fill++;
+	}
+
+	/** 
+	 * O(1) - Indexing is easy, so finding the front is also easy
+	 * @return the first value.
+	 */
+	public double getFrontDouble() {
+		checkNotEmpty();
+		return this.array[head];
+	}
+
+	/** 
+	 * O(1) - Indexing is easy, so finding the back is also easy
+	 * @return the last value.
+	 */
+	public double getBackDouble() {
+		checkNotEmpty();
+		return this.array[slot(fill-1)];
+	}
+
+	/** 
+	 * O(1) - Indexing is easy here, we just count from head instead of 0
+	 * @param index - a number from 0 to size (excluding size).
+	 * @return the value at that index.
+	 */
+	public double getDouble(int index) {
+		if (index < 0 || index >= fill) {
+			throw new BadIndexError();
+		}
+		return this.array[slot(index)];
+	}
+
+	/**
+	 * O(1) - We've been keeping track of fill the whole time so it's easy to grab
+	 */
+	@Override
+	public int size() {
+		return fill;
+	}
+
+	/**
+	 * O(1) - Again, we've been keeping track of fill the whole time so 
+	 * it's easy to see when it's zero
+	 */
+	@Override
+	public boolean isEmpty() {
+		return fill == 0;
+	}
+
+	@Override
+	public Double removeFront() {
+		return removeFrontDouble();
+	}
+
+	@Override
+	public Double removeBack() {
+		return removeBackDouble();
+	}
+
+	@Override
+	public Double removeIndex(int index) {
+		return removeIndexDouble(index);
+	}
+
+	@Override
+	public void addFront(Double item) {
+		addFrontDouble(item);
+	}
+
+	@Override
+	public void addBack(Double item) {
+		addBackDouble(item);
+	}
+
+	@Override
+	public void addIndex(Double item, int index) {
+		addIndexDouble(item, index);
+	}
+
+	@Override
+	public Double getFront() {
+		return getFrontDouble();
+	}
+
+	@Override
+	public Double getBack() {
+		return getBackDouble();
+	}
+
+	@Override
+	public Double getIndex(int index) {
+		return getDouble(index);
+	}
+	
+	/**
+	 * O(1)
+	 * @return how many items fit in the array before it has to grow.
+	 */
+	public int capacity() {
+		return array.length;
+	}
+	
+	/**
+	 * O(n) - Make sure the array can hold at least this many items, so that 
+	 * adding that many never has to resize part way through. Removing items
+	 * won't shrink it below this again, either.
+	 * @param minCapacity - how many items we want room for.
+	 */
+	public void ensureCapacity(int minCapacity) {
+		minimumCapacity = Math.max(minimumCapacity, minCapacity);
+		if (minCapacity > array.length) {
+			resize(minCapacity);
+		}
+	}
+	
+	/**
+	 * O(n) - Shrink the array to exactly fit the items in the list. This also
+	 * forgets any capacity asked for by ensureCapacity, so removing items can
+	 * shrink it again, down to the capacity we were created with.
+	 */
+	public void trimToSize() {
+		minimumCapacity = initialCapacity;
+		if (fill < array.length) {
+			resize(fill);
+		}
+	}
+	
+	/**
+	 * O(1) - Helper method to find where an index lives in the ring.
+	 * @param index - a position counted from the front of the list; 
+	 * anything from 0 to the array length (excluding the length) is fine.
+	 * @return the position in the array.
+	 */
+	private int slot(int index) {
+		int where = head + index;
+		if (where >= array.length) {
+			where -= array.length;
+		}
+		return where;
+	}
+	
+	/**
+	 * O(n) - Helper method to move {@code length} items that start at index
+	 * {@code from} so they start at index {@code to} instead. The ring may wrap in
+	 * the middle of either range, so we copy it in pieces that don't wrap.
+	 * @param from - the index of the first item to move.
+	 * @param to - where that item should end up.
+	 * @param length - how many items to move.
+	 */
+	private void shift(int from, int to, int length) {
+		if (from > to) {
+			// moving towards the front: copy the front pieces first.
+			for (int done = 0; done < length; ) {
+				int src = slot(from + done);
+				int dst = slot(to + done);
+				int run = Math.min(length - done, Math.min(array.length - src, array.length - dst));
+				System.arraycopy(array, src, array, dst, run);
+				done += run;
+			}
+		} else {
+			// moving towards the back: copy the back pieces first.
+			for (int done = 0; done < length; ) {
+				int src = slot(from + length - done - 1);
+				int dst = slot(to + length - done - 1);
+				int run = Math.min(length - done, Math.min(src + 1, dst + 1));
+				System.arraycopy(array, src - run + 1, array, dst - run + 1, run);
+				done += run;
+			}
+		}
+	}
+	
+	/**
+	 * O(n) - Helper method to grow the array by the growth factor when it is full.
+	 */
+	private void growIfFull() {
+		if (fill >= this.array.length) { 
+			resize(Math.max(fill + 1, (int) Math.min(Integer.MAX_VALUE - 8, fill * growthFactor)));
+		}
+	}
+	
+	/**
+	 * O(n) - Helper method to halve the array once it is mostly empty. If it
+	 * needs halving more than once, we still only copy once.
+	 */
+	private void shrinkIfSparse() {
+		int newSize = array.length;
+		while (newSize > minimumCapacity && fill < newSize / GrowableList.SHRINK_RATIO) {
+			newSize = Math.max(minimumCapacity, newSize / 2);
+		}
+		if (newSize != array.length) {
+			resize(newSize);
+		}
+	}
+	
+	/**
+	 * O(n) - Helper method to move everything into a new array. The ring gets
+	 * unwrapped on the way, so the front ends up at 0 again.
+	 * @param newSize - the new capacity; at least fill.
+	 */
+	private void resize(int newSize) {
+		double[] newArray = new double[newSize];
+		int firstPart = Math.min(fill, array.length - head);
+		System.arraycopy(array, head, newArray, 0, firstPart);
+		System.arraycopy(array, 0, newArray, firstPart, fill - firstPart);
+		this.array = newArray;
+		this.head = 0;
+	}
+	
+	/**
+	 * Helper method to throw the right error for an empty state.
+	 */
+	private void checkNotEmpty() {
+		if (this.isEmpty()) {
+			throw new EmptyListError();
+		}
+	}
+}
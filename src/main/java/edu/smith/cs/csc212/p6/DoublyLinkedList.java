@@ -1,13 +1,39 @@
 package edu.smith.cs.csc212.p6;
 
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+
+import edu.smith.cs.csc212.p6.WorkCounters.Counter;
+import edu.smith.cs.csc212.p6.errors.BadIndexError;
 import edu.smith.cs.csc212.p6.errors.EmptyListError;
-import edu.smith.cs.csc212.p6.errors.P6NotImplemented;
 
 
 
 public class DoublyLinkedList<T> implements P6List<T> {
 	private Node<T> start;
 	private Node<T> end;
+	/**
+	 * How many items are in this list; every add and remove keeps it up to date.
+	 */
+	private int count;
+	/**
+	 * How many times this list has been changed. Iterators check it to notice
+	 * when the list is changed out from under them.
+	 */
+	private int modCount;
+	/**
+	 * The last node we found by index (or null), so that a loop like
+	 * {@code for (i = 0; i < size; i++) list.getIndex(i)} only walks one step
+	 * per call instead of starting over each time.
+	 */
+	private Node<T> finger;
+	/**
+	 * The index of the finger node; every add and remove keeps it up to date.
+	 */
+	private int fingerIndex;
 	
 	/**
 	 * A doubly-linked list starts empty.
@@ -15,6 +41,9 @@ public class DoublyLinkedList<T> implements P6List<T> {
 	public DoublyLinkedList() {
 		this.start = null;
 		this.end = null;
+		this.count = 0;
+		this.finger = null;
+		this.fingerIndex = 0;
 	}
 	
 	/**
@@ -23,20 +52,7 @@ public class DoublyLinkedList<T> implements P6List<T> {
 	@Override
 	public T removeFront() {
 		checkNotEmpty();
-		T front = this.start.value;
-		
-		if ( this.start.after != null ) {
-			this.start.after.before = null;
-			this.start = this.start.after;
-			
-		}
-		else { 
-			this.start = null;
-			this.end = null;
-		}
-		
-		return front;
-		
+		return unlink(this.start, 0);
 	}
 
 	/**
@@ -45,54 +61,19 @@ public class DoublyLinkedList<T> implements P6List<T> {
 	@Override
 	public T removeBack() {
 		checkNotEmpty();
-		T back = this.end.value;
-		
-		if ( this.end.before != null ) {
-			this.end.before.after = null;
-			this.end = this.end.before;
-			
-		}
-		else { 
-			this.start = null;
-			this.end = null;
-		}
-		
-		return back;
-
+		return unlink(this.end, count - 1);
 	}
 
 	/**
-	 * O(n) - Not easy, since we have to loop to find where the index is to update all pointers
+	 * O(n) - Not easy, since we have to loop to find where the index is to update all pointers.
+	 * We loop from whichever end (or the last index we visited) is closer, 
+	 * so removing near the last index we used is O(1).
 	 */
 	@Override
 	public T removeIndex(int index) {
 		checkNotEmpty();
-		T removed = null;
-		int at = 0;
-		if ( index == 0 ) {
-			removed = this.start.value;
-			this.removeFront();
-		}
-		else {
-			for (Node<T> current = start; current != null; current = current.after) {
-				if ( at + 1 == index ) {
-					removed = current.after.value;
-
-					if ( current.after.after != null ) {
-						current.after = current.after.after;
-						current.after.before = current;
-					} else {
-						current.after = null;
-						this.end = current;
-					}
-					break;
-				}	
-				else { 
-					at++;
-				}
-			}
-		}
-		return removed;
+		checkIndex(index, count - 1);
+		return unlink(nodeAt(index), index);
 	}
 
 	/**
@@ -100,14 +81,18 @@ public class DoublyLinkedList<T> implements P6List<T> {
 	 */
 	@Override
 	public void addFront(T item) {
+		Node<T> added = new Node<T>( item );
 		if ( this.start == null ) {
-			this.start = new Node<T>( item );
+			this.end = added;
 		}
 		else {
-			this.start.before = new Node<T>( item );
-			this.start.before.after = this.start;
-			this.start = this.start.before;
+			added.after = this.start;
+			this.start.before = added;
 		}
+		this.start = added;
+		count++;
+		modCount++;
+		fingerIndex++;
 	}
 
 	/**
@@ -115,43 +100,45 @@ public class DoublyLinkedList<T> implements P6List<T> {
 	 */
 	@Override
 	public void addBack(T item) {
-		if ( this.start == null ) {
-			this.start = new Node<T>( item );
+		Node<T> added = new Node<T>( item );
+		if ( this.end == null ) {
+			this.start = added;
 		}
 		else {
-			for (Node<T> current = start; current != null; current = current.after) {
-				if ( current.after == null ) {
-					current.after = new Node<T>( item );
-					current.after.before = current;
-					this.end = current.after;
-					break;
-				}
-			}
+			added.before = this.end;
+			this.end.after = added;
 		}
+		this.end = added;
+		count++;
+		modCount++;
 	}
 
 	/**
 	 * O(n) - Go through items of the list until the index is found 
-	 * and fix pointers of surrounding nodes
+	 * and fix pointers of surrounding nodes. We loop from whichever end (or the last 
+	 * index we visited) is closer, so adding near the last index we used is O(1).
 	 */
 	@Override
 	public void addIndex(T item, int index) {
-		int at = 0;
-		checkNotEmpty();
-		Node<T> newNode = new Node<T>( item );
-		for (Node<T> current = start; current != null; current = current.after) {
-			if ( at + 1 == index ) {
-				newNode.before = current;
-				newNode.after = current.after;
-				if ( current.after != null ) {
-					current.after.before = newNode;
-				}
-				current.after = newNode;
-				break;
-			}
-			else {
-				at ++;
-			}
+		checkIndex(index, count);
+		if ( index == 0 ) {
+			addFront( item );
+		}
+		else if ( index == count ) {
+			addBack( item );
+		}
+		else {
+			Node<T> after = nodeAt(index);
+			Node<T> newNode = new Node<T>( item );
+			newNode.before = after.before;
+			newNode.after = after;
+			after.before.after = newNode;
+			after.before = newNode;
+			count++;
+			modCount++;
+			// the next add is probably right around here.
+			finger = newNode;
+			fingerIndex = index;
 		}
 	}
 
@@ -160,6 +147,7 @@ public class DoublyLinkedList<T> implements P6List<T> {
 	 */
 	@Override
 	public T getFront() {
+		checkNotEmpty();
 		return start.value;
 	}
 
@@ -168,38 +156,28 @@ public class DoublyLinkedList<T> implements P6List<T> {
 	 */
 	@Override
 	public T getBack() {
+		checkNotEmpty();
 		return end.value;
 	}
 		
 	/**
-	 * O(n) - Must go through everything in the list until the index is found
+	 * O(n) - Must go through the list until the index is found, 
+	 * but we start from whichever end (or the last index we visited) is closer.
+	 * Looping over every index in order is O(1) per call.
 	 */
 	@Override
 	public T getIndex(int index) {
-		int at = 0;
-		T value = null;
 		checkNotEmpty();
-		for (Node<T> current = start; current != null; current = current.after) {
-			if ( at == index ) {
-				value = current.value;
-				break;
-			} else {
-				at++;
-			}
-		}
-		return value;
+		checkIndex(index, count - 1);
+		return nodeAt(index).value;
 	}
 
 	/**
-	 * O(n) - Must go through the whole list to count up items 
+	 * O(1) - We've been keeping track of the count the whole time 
 	 */
 	@Override
 	public int size() {
-		int at = 0;
-		for (Node<T> current = start; current != null; current = current.after) {
-			at ++;
-		}
-		return at;
+		return count;
 	}
 
 	/**
@@ -210,12 +188,229 @@ public class DoublyLinkedList<T> implements P6List<T> {
 		return ( this.start == null );
 	}
 	
+	/**
+	 * O(k) - The new items are linked into a chain of their own first, 
+	 * then the whole chain is hooked onto the end in one step
+	 */
+	@Override
+	public void addAllBack(T[] items) {
+		addAllAt(count, items);
+	}
+
+	/**
+	 * O(n + k) - We find the node at the index once (from whichever end, or the finger, 
+	 * is closer), then splice the whole chain of new nodes in before it
+	 */
+	@Override
+	public void addAllAt(int index, T[] items) {
+		checkIndex(index, count);
+		if ( items.length == 0 ) {
+			return;
+		}
+		Node<T> first = new Node<T>( items[0] );
+		Node<T> last = first;
+		for (int i = 1; i < items.length; i++) {
+			Node<T> added = new Node<T>( items[i] );
+			added.before = last;
+			last.after = added;
+			last = added;
+		}
+		Node<T> after = ( index == count ) ? null : nodeAt(index);
+		Node<T> before = ( after == null ) ? this.end : after.before;
+		first.before = before;
+		last.after = after;
+		if ( before != null ) {
+			before.after = first;
+		} else {
+			this.start = first;
+		}
+		if ( after != null ) {
+			after.before = last;
+		} else {
+			this.end = last;
+		}
+		count += items.length;
+		modCount++;
+		if ( finger != null && fingerIndex >= index ) {
+			fingerIndex += items.length;
+		}
+	}
+
+	/**
+	 * O(n) - We find the first node of the range once, walk past the range,
+	 * and then the nodes on either side get pointed at each other
+	 */
+	@Override
+	public void removeRange(int from, int to) {
+		checkIndex(from, count);
+		checkIndex(to, count);
+		if ( from > to ) {
+			throw new BadIndexError();
+		}
+		if ( from == to ) {
+			return;
+		}
+		Node<T> first = nodeAt(from);
+		Node<T> before = first.before;
+		Node<T> after = first;
+		if (WorkCounters.ENABLED) {
+			WorkCounters.add(Counter.NODE_HOPS, to - from);
+		}
+		for (int i = from; i < to; i++) {
+			after = after.after;
+		}
+		if ( before != null ) {
+			before.after = after;
+		} else {
+			this.start = after;
+		}
+		if ( after != null ) {
+			after.before = before;
+		} else {
+			this.end = before;
+		}
+		count -= to - from;
+		modCount++;
+		// the finger was on a removed node; move it to the node after the range.
+		finger = after;
+		fingerIndex = from;
+	}
+
+	/**
+	 * O(n) - We find the first node once (from whichever end, or the finger, is closer),
+	 * then keep walking as we copy
+	 */
+	@Override
+	public void copyRange(int from, int to, T[] dest) {
+		checkIndex(from, count);
+		checkIndex(to, count);
+		if ( from > to ) {
+			throw new BadIndexError();
+		}
+		if ( from == to ) {
+			return;
+		}
+		Node<T> current = nodeAt(from);
+		if (WorkCounters.ENABLED) {
+			WorkCounters.add(Counter.NODE_HOPS, to - from);
+		}
+		for (int i = 0; i < to - from; i++) {
+			dest[i] = current.value;
+			current = current.after;
+		}
+	}
+	
+	/**
+	 * O(1) - A linked list can't jump to its middle, so this splits by walking
+	 * from the start and copying a batch of items into an array for each piece.
+	 * We do know the size, so Java can still plan the work.
+	 */
+	@Override
+	public Spliterator<T> spliterator() {
+		return Spliterators.spliterator(iterator(), count, Spliterator.ORDERED);
+	}
+	
+	/**
+	 * O(1) - Walk the nodes from start to end. Removing with the iterator is O(1), 
+	 * and changing the list any other way during the loop makes next() throw a 
+	 * ConcurrentModificationException.
+	 */
+	@Override
+	public Iterator<T> iterator() {
+		return new Iter(true);
+	}
+	
+	/**
+	 * O(1) - Walk the nodes from end to start, the same way.
+	 * @return an iterator over every item, from back to front.
+	 */
+	public Iterator<T> reverseIterator() {
+		return new Iter(false);
+	}
+	
 	private void checkNotEmpty() {
 		if (this.isEmpty()) {
 			throw new EmptyListError();
 		}
 	}
 	
+	/**
+	 * Helper method to throw the right error for an index that isn't in the list.
+	 * @param index - the index to check.
+	 * @param max - the largest index that is allowed.
+	 */
+	private void checkIndex(int index, int max) {
+		if (index < 0 || index > max) {
+			throw new BadIndexError();
+		}
+	}
+	
+	/**
+	 * O(n) - Helper method to find a node. We walk from start, from end, or from the
+	 * finger, whichever is fewest steps away, and then leave the finger on the node we found.
+	 * @param index - which node, from 0 to size (excluding size).
+	 * @return the node at that index.
+	 */
+	private Node<T> nodeAt(int index) {
+		Node<T> current = start;
+		int at = 0;
+		int distance = index;
+		if ( count - 1 - index < distance ) {
+			current = end;
+			at = count - 1;
+			distance = count - 1 - index;
+		}
+		if ( finger != null && Math.abs(index - fingerIndex) < distance ) {
+			current = finger;
+			at = fingerIndex;
+		}
+		if (WorkCounters.ENABLED) {
+			WorkCounters.add(Counter.NODE_HOPS, Math.abs(index - at));
+		}
+		for (; at < index; at++) {
+			current = current.after;
+		}
+		for (; at > index; at--) {
+			current = current.before;
+		}
+		finger = current;
+		fingerIndex = index;
+		return current;
+	}
+	
+	/**
+	 * O(1) - Helper method to take a node out of the list by pointing its neighbors
+	 * (or start and end) at each other. If the finger was on this node it moves to a neighbor.
+	 * @param node - a node that is in this list.
+	 * @param index - the index of that node.
+	 * @return the value that was in the node.
+	 */
+	private T unlink(Node<T> node, int index) {
+		if ( finger == node ) {
+			if ( node.after != null ) {
+				finger = node.after;
+			} else {
+				finger = node.before;
+				fingerIndex--;
+			}
+		} else if ( finger != null && fingerIndex > index ) {
+			fingerIndex--;
+		}
+		if ( node.before != null ) {
+			node.before.after = node.after;
+		} else {
+			this.start = node.after;
+		}
+		if ( node.after != null ) {
+			node.after.before = node.before;
+		} else {
+			this.end = node.before;
+		}
+		count--;
+		modCount++;
+		return node.value;
+	}
+	
 	/**
 	 * The node on any linked list should not be exposed.
 	 * Static means we don't need a "this" of DoublyLinkedList to make a node.
@@ -244,4 +439,81 @@ public class DoublyLinkedList<T> implements P6List<T> {
 			this.after = null;
 		}
 	}
+	
+	/**
+	 * Walks through the nodes, one way or the other, by following their pointers.
+	 */
+	private class Iter implements Iterator<T> {
+		/**
+		 * True to walk start to end, false to walk end to start.
+		 */
+		private final boolean forward;
+		/**
+		 * The node whose value next() gives back.
+		 */
+		private Node<T> current;
+		/**
+		 * The index of current.
+		 */
+		private int currentIndex;
+		/**
+		 * The node next() gave back last time, or null if remove() can't be called.
+		 */
+		private Node<T> lastReturned;
+		private int expectedModCount;
+		
+		public Iter(boolean forward) {
+			this.forward = forward;
+			this.current = forward ? start : end;
+			this.currentIndex = forward ? 0 : count - 1;
+			this.lastReturned = null;
+			this.expectedModCount = modCount;
+		}
+		
+		@Override
+		public boolean hasNext() {
+			return current != null;
+		}
+		
+		@Override
+		public T next() {
+			if ( modCount != expectedModCount ) {
+				throw new ConcurrentModificationException();
+			}
+			if ( current == null ) {
+				throw new NoSuchElementException();
+			}
+			lastReturned = current;
+			if ( forward ) {
+				current = current.after;
+				currentIndex++;
+			} else {
+				current = current.before;
+				currentIndex--;
+			}
+			return lastReturned.value;
+		}
+		
+		/**
+		 * O(1) - The node we're removing knows its neighbors, so unlink does it all.
+		 */
+		@Override
+		public void remove() {
+			if ( lastReturned == null ) {
+				throw new IllegalStateException();
+			}
+			if ( modCount != expectedModCount ) {
+				throw new ConcurrentModificationException();
+			}
+			if ( forward ) {
+				// everything after it moves back one index, including current.
+				currentIndex--;
+				unlink(lastReturned, currentIndex);
+			} else {
+				unlink(lastReturned, currentIndex + 1);
+			}
+			lastReturned = null;
+			expectedModCount = modCount;
+		}
+	}
 }
@@ -1,5 +1,13 @@
 package edu.smith.cs.csc212.p6;
 
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+
+import edu.smith.cs.csc212.p6.WorkCounters.Counter;
 import edu.smith.cs.csc212.p6.errors.BadIndexError;
 import edu.smith.cs.csc212.p6.errors.EmptyListError;
 import edu.smith.cs.csc212.p6.errors.RanOutOfSpaceError;
@@ -7,6 +15,11 @@ import edu.smith.cs.csc212.p6.errors.RanOutOfSpaceError;
 public class FixedSizeList<T> implements P6List<T> {
 	private Object[] array;
 	private int fill;
+	/**
+	 * How many times this list has been changed. Iterators check it to notice
+	 * when the list is changed out from under them.
+	 */
+	private int modCount;
 	
 	public FixedSizeList(int maximumSize) {
 		this.array = new Object[maximumSize];
@@ -34,6 +47,7 @@ public class FixedSizeList<T> implements P6List<T> {
 		T value = this.getIndex(fill-1);
 		this.array[fill-1] = null;
 		fill--;
+		modCount++;
 		
 		return value;
 	}
@@ -49,9 +63,11 @@ public class FixedSizeList<T> implements P6List<T> {
 		}
 		T removed = this.getIndex(index);
 		fill--;
-		for (int i=index; i<fill; i++) {
-			this.array[i] = this.array[i+1];
+		modCount++;
+		if (WorkCounters.ENABLED) {
+			WorkCounters.add(Counter.ELEMENT_SHIFTS, fill-index);
 		}
+		System.arraycopy(array, index+1, array, index, fill-index);
 		this.array[fill] = null;
 		return removed;
 	}
@@ -71,6 +87,7 @@ public class FixedSizeList<T> implements P6List<T> {
 	public void addBack(T item) {
 		if (fill < array.length) {
 			array[fill++] = item;
+			modCount++;
 		} else {
 			throw new RanOutOfSpaceError();
 		}
@@ -85,12 +102,17 @@ public class FixedSizeList<T> implements P6List<T> {
 		if (fill >= array.length) {
 			throw new RanOutOfSpaceError();
 		}
-		// loop backwards, shifting items to the right.
-		for (int j=fill; j>index; j--) {
-			array[j] = array[j-1];
+		if (index < 0 || index > fill) {
+			throw new BadIndexError();
+		}
+		// shift items to the right in one bulk copy.
+		if (WorkCounters.ENABLED) {
+			WorkCounters.add(Counter.ELEMENT_SHIFTS, fill-index);
 		}
+		System.arraycopy(array, index, array, index+1, fill-index);
 		array[index] = item;
-		fill++;		
+		fill++;
+		modCount++;
 	}
 
 	/**
@@ -143,4 +165,203 @@ public class FixedSizeList<T> implements P6List<T> {
 		}
 		return this.getIndex(this.size()-1);
 	}
+	
+	/**
+	 * O(k) - The new items are copied onto the end of the array all at once
+	 */
+	@Override
+	public void addAllBack(T[] items) {
+		addAllBack(items, 0, items.length);
+	}
+	
+	/**
+	 * O(n + k) - Everything after the index shifts down k places in one bulk copy,
+	 * then the new items are copied into the gap
+	 */
+	@Override
+	public void addAllAt(int index, T[] items) {
+		if (fill + items.length > array.length) {
+			throw new RanOutOfSpaceError();
+		}
+		if (index < 0 || index > fill) {
+			throw new BadIndexError();
+		}
+		if (WorkCounters.ENABLED) {
+			WorkCounters.add(Counter.ELEMENT_SHIFTS, fill - index);
+		}
+		System.arraycopy(array, index, array, index + items.length, fill - index);
+		System.arraycopy(items, 0, array, index, items.length);
+		fill += items.length;
+		modCount++;
+	}
+	
+	/**
+	 * O(n) - Everything after the range shifts back in one bulk copy,
+	 * instead of once per removed item
+	 */
+	@Override
+	public void removeRange(int from, int to) {
+		checkRange(from, to);
+		if (WorkCounters.ENABLED) {
+			WorkCounters.add(Counter.ELEMENT_SHIFTS, fill - to);
+		}
+		System.arraycopy(array, to, array, from, fill - to);
+		int newFill = fill - (to - from);
+		Arrays.fill(array, newFill, fill, null);
+		fill = newFill;
+		modCount++;
+	}
+	
+	/**
+	 * O(k) - One bulk copy out of the array
+	 */
+	@Override
+	public void copyRange(int from, int to, T[] dest) {
+		copyRange(from, to, dest, 0);
+	}
+	
+	/**
+	 * O(1) - Walk the array from front to back. Changing the list while doing this
+	 * (except with the iterator's remove) makes next() throw a ConcurrentModificationException.
+	 */
+	@Override
+	public Iterator<T> iterator() {
+		return new Iter(1, 0);
+	}
+	
+	/**
+	 * O(1) - Walk the array from back to front, the same way.
+	 * @return an iterator over every item, from back to front.
+	 */
+	public Iterator<T> reverseIterator() {
+		return new Iter(-1, fill - 1);
+	}
+	
+	/**
+	 * O(1) - Java already knows how to split a range of an array
+	 */
+	@SuppressWarnings("unchecked")
+	@Override
+	public Spliterator<T> spliterator() {
+		return (Spliterator<T>) Spliterators.spliterator(array, 0, fill, Spliterator.ORDERED);
+	}
+	
+	/**
+	 * O(k) - Add part of an array to the back. {@link ChunkyLinkedList} uses
+	 * this to fill a chunk without making a smaller array first.
+	 * @param items - where the new items are.
+	 * @param offset - the position of the first one to add.
+	 * @param length - how many to add.
+	 */
+	void addAllBack(Object[] items, int offset, int length) {
+		if (fill + length > array.length) {
+			throw new RanOutOfSpaceError();
+		}
+		System.arraycopy(items, offset, array, fill, length);
+		fill += length;
+		modCount++;
+	}
+	
+	/**
+	 * O(k) - Copy a range into any part of an array.
+	 * @param from - the index of the first item to copy.
+	 * @param to - the index after the last item to copy.
+	 * @param dest - where to put them.
+	 * @param destPos - where in dest the first one goes.
+	 */
+	void copyRange(int from, int to, Object[] dest, int destPos) {
+		checkRange(from, to);
+		System.arraycopy(array, from, dest, destPos, to - from);
+	}
+	
+	/**
+	 * O(1) - Read a slot of the array without checking fill, so it never throws.
+	 * {@link ConcurrentChunkyLinkedList} uses this for optimistic reads, where it
+	 * checks afterwards whether what it read was any good.
+	 * @param index - which slot.
+	 * @return what is in that slot, or null if there is no such slot.
+	 */
+	@SuppressWarnings("unchecked")
+	T peek(int index) {
+		if (index < 0 || index >= array.length) {
+			return null;
+		}
+		return (T) array[index];
+	}
+	
+	/**
+	 * Helper method to throw the right error for a range that isn't in the list.
+	 */
+	private void checkRange(int from, int to) {
+		if (from < 0 || to > fill || from > to) {
+			throw new BadIndexError();
+		}
+	}
+
+	/**
+	 * Walks through the array, one way or the other. It checks modCount on every
+	 * step, so changing the list some other way while we walk it is an error
+	 * instead of a mystery.
+	 */
+	private class Iter implements Iterator<T> {
+		/**
+		 * +1 to walk front to back, -1 to walk back to front.
+		 */
+		private final int step;
+		/**
+		 * The index next() gives back.
+		 */
+		private int cursor;
+		/**
+		 * The index next() gave back last time, or -1 if remove() can't be called.
+		 */
+		private int lastReturned;
+		private int expectedModCount;
+		
+		public Iter(int step, int cursor) {
+			this.step = step;
+			this.cursor = cursor;
+			this.lastReturned = -1;
+			this.expectedModCount = modCount;
+		}
+		
+		@Override
+		public boolean hasNext() {
+			return cursor >= 0 && cursor < fill;
+		}
+		
+		@SuppressWarnings("unchecked")
+		@Override
+		public T next() {
+			if (modCount != expectedModCount) {
+				throw new ConcurrentModificationException();
+			}
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			lastReturned = cursor;
+			cursor += step;
+			return (T) array[lastReturned];
+		}
+		
+		/**
+		 * O(n) - Same as removeIndex: everything after it shifts back one place.
+		 */
+		@Override
+		public void remove() {
+			if (lastReturned < 0) {
+				throw new IllegalStateException();
+			}
+			if (modCount != expectedModCount) {
+				throw new ConcurrentModificationException();
+			}
+			removeIndex(lastReturned);
+			if (step > 0) {
+				// everything after it moved back one, including the next item.
+				cursor = lastReturned;
+			}
+			lastReturned = -1;
+			expectedModCount = modCount;
+		}
+	}
 }
@@ -0,0 +1,410 @@
+package edu.smith.cs.csc212.p6;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import edu.smith.cs.csc212.p6.errors.BadIndexError;
+import edu.smith.cs.csc212.p6.errors.EmptyListError;
+
+/**
+ * A list backed by an array with a "gap" of empty slots somewhere in the
+ * middle, like the text in most text editors.
+ *
+ * The items before the gap are at the start of the array, and the items after
+ * it are at the end. Adding or removing right at the gap doesn't shift
+ * anything: adding fills in the first slot of the gap, and removing makes the
+ * gap one bigger. To add or remove somewhere else, the gap moves there first,
+ * which shifts only the items between where it was and where it goes, and then
+ * it stays there. So a run of edits near the same index is O(1) each, instead
+ * of shifting everything after the index every time like {@link GrowableList}.
+ *
+ * When the gap is used up, the array grows by {@code growthFactor} and the new
+ * space all goes into the gap.
+ */
+public class GapBufferList<T> implements P6List<T> {
+	private Object[] array;
+	/**
+	 * The first slot of the gap; also, how many items are before the gap.
+	 */
+	private int gapStart;
+	/**
+	 * The first slot after the gap.
+	 */
+	private int gapEnd;
+	/**
+	 * How many times this list has been changed. Iterators check it to notice
+	 * when the list is changed out from under them.
+	 */
+	private int modCount;
+	/**
+	 * How much bigger the array gets each time the gap is used up.
+	 */
+	private final double growthFactor;
+
+	public GapBufferList() {
+		this(GrowableList.START_SIZE);
+	}
+
+	/**
+	 * Make a list that can hold some items before it has to grow.
+	 * @param initialCapacity - how many items fit before the first resize.
+	 */
+	public GapBufferList(int initialCapacity) {
+		this(initialCapacity, GrowableList.DEFAULT_GROWTH_FACTOR);
+	}
+
+	/**
+	 * Make a list that can hold some items before it has to grow.
+	 * @param initialCapacity - how many items fit before the first resize.
+	 * @param growthFactor - how much bigger the array gets when it is full; more than 1.
+	 */
+	public GapBufferList(int initialCapacity, double growthFactor) {
+		if (initialCapacity < 0) {
+			throw new IllegalArgumentException("initialCapacity: " + initialCapacity);
+		}
+		if (!(growthFactor > 1.0)) {
+			throw new IllegalArgumentException("growthFactor: " + growthFactor);
+		}
+		this.array = new Object[initialCapacity];
+		this.gapStart = 0;
+		this.gapEnd = initialCapacity;
+		this.growthFactor = growthFactor;
+	}
+
+	/**
+	 * O(d) - Move the gap to the front (d is how far away it was), then grow it by one
+	 */
+	@Override
+	public T removeFront() {
+		checkNotEmpty();
+		return removeIndex(0);
+	}
+
+	/**
+	 * O(d) - Move the gap to the back (d is how far away it was), then grow it by one
+	 */
+	@Override
+	public T removeBack() {
+		checkNotEmpty();
+		return removeIndex(size()-1);
+	}
+
+	/**
+	 * O(1) - Right after the gap, the gap just grows over the item
+	 * O(d) - Anywhere else, the gap has to move there first, shifting the d items in between
+	 */
+	@Override
+	public T removeIndex(int index) {
+		checkNotEmpty();
+		T removed = this.getIndex(index);
+		moveGap(index);
+		array[gapEnd] = null;
+		gapEnd++;
+		modCount++;
+		return removed;
+	}
+
+	/**
+	 * O(d) - Same as addIndex at 0
+	 */
+	@Override
+	public void addFront(T item) {
+		addIndex(item, 0);
+	}
+
+	/**
+	 * O(d) - Same as addIndex at the end
+	 */
+	@Override
+	public void addBack(T item) {
+		addIndex(item, size());
+	}
+
+	/**
+	 * O(1) - Right at the gap, the item goes in the gap's first slot
+	 * O(d) - Anywhere else, the gap has to move there first, shifting the d items in between
+	 * O(n) - If the gap is used up, everything is copied into a bigger array
+	 */
+	@Override
+	public void addIndex(T item, int index) {
+		if (index < 0 || index > size()) {
+			throw new BadIndexError();
+		}
+		growToFit(1);
+		moveGap(index);
+		array[gapStart] = item;
+		gapStart++;
+		modCount++;
+	}
+
+	/**
+	 * O(1) - Indexing is easy, so finding the front is also easy
+	 */
+	@Override
+	public T getFront() {
+		checkNotEmpty();
+		return this.getIndex(0);
+	}
+
+	/**
+	 * O(1) - Indexing is easy, so finding the back is also easy
+	 */
+	@Override
+	public T getBack() {
+		checkNotEmpty();
+		return this.getIndex(size()-1);
+	}
+
+	/**
+	 * O(1) - Items after the gap are just shifted over by the size of the gap
+	 */
+	@SuppressWarnings("unchecked")
+	@Override
+	public T getIndex(int index) {
+		if (index < 0 || index >= size()) {
+			throw new BadIndexError();
+		}
+		return (T) this.array[slot(index)];
+	}
+
+	/**
+	 * O(1) - Everything in the array that isn't gap is an item
+	 */
+	@Override
+	public int size() {
+		return array.length - (gapEnd - gapStart);
+	}
+
+	/**
+	 * O(1) - The list is empty when the gap is the whole array
+	 */
+	@Override
+	public boolean isEmpty() {
+		return size() == 0;
+	}
+
+	/**
+	 * O(d + k) - Move the gap to the index, grow it at most once, and copy the new
+	 * items into it all at once
+	 */
+	@Override
+	public void addAllAt(int index, T[] items) {
+		if (index < 0 || index > size()) {
+			throw new BadIndexError();
+		}
+		growToFit(items.length);
+		moveGap(index);
+		System.arraycopy(items, 0, array, gapStart, items.length);
+		gapStart += items.length;
+		modCount++;
+	}
+
+	/**
+	 * O(d + k) - Same as addAllAt the end
+	 */
+	@Override
+	public void addAllBack(T[] items) {
+		addAllAt(size(), items);
+	}
+
+	/**
+	 * O(d + k) - Move the gap to the range, and then grow it over the whole range
+	 */
+	@Override
+	public void removeRange(int from, int to) {
+		checkRange(from, to);
+		moveGap(from);
+		int newGapEnd = gapEnd + (to - from);
+		Arrays.fill(array, gapEnd, newGapEnd, null);
+		gapEnd = newGapEnd;
+		modCount++;
+	}
+
+	/**
+	 * O(k) - At most two bulk copies, one on each side of the gap
+	 */
+	@Override
+	public void copyRange(int from, int to, T[] dest) {
+		checkRange(from, to);
+		int before = Math.max(0, Math.min(to, gapStart) - from);
+		System.arraycopy(array, from, dest, 0, before);
+		System.arraycopy(array, slot(from + before), dest, before, to - from - before);
+	}
+
+	/**
+	 * O(1) - Walk the items from front to back, skipping the gap. Changing the
+	 * list while doing this (except with the iterator's remove) makes next() throw
+	 * a ConcurrentModificationException.
+	 */
+	@Override
+	public Iterator<T> iterator() {
+		return new Iter();
+	}
+
+	/**
+	 * O(1)
+	 * @return how many items fit in the array before it has to grow.
+	 */
+	public int capacity() {
+		return array.length;
+	}
+
+	/**
+	 * O(1)
+	 * @return the index where the gap is right now; adding or removing there is O(1).
+	 */
+	public int gapPosition() {
+		return gapStart;
+	}
+
+	/**
+	 * O(n) - Shrink the array to exactly fit the items in the list.
+	 */
+	public void trimToSize() {
+		if (gapEnd > gapStart) {
+			resize(size());
+		}
+	}
+
+	/**
+	 * O(1) - Helper method to find where an index lives in the array.
+	 * @param index - a position in the list, from 0 to size() (excluding size()).
+	 * @return the position in the array.
+	 */
+	private int slot(int index) {
+		if (index < gapStart) {
+			return index;
+		}
+		return index + (gapEnd - gapStart);
+	}
+
+	/**
+	 * O(d) - Helper method to move the gap so that it starts at index. Only the
+	 * items between where the gap was and where it goes are moved, across it.
+	 * @param index - where the gap should be, from 0 to size() (including size()).
+	 */
+	private void moveGap(int index) {
+		int gap = gapEnd - gapStart;
+		if (index < gapStart) {
+			// the items from index up to the gap move to just before its end.
+			int length = gapStart - index;
+			System.arraycopy(array, index, array, index + gap, length);
+			Arrays.fill(array, index, Math.min(gapStart, index + gap), null);
+		} else if (index > gapStart) {
+			// the items just after the gap move to its start.
+			int length = index - gapStart;
+			System.arraycopy(array, gapEnd, array, gapStart, length);
+			Arrays.fill(array, Math.max(gapEnd, index), gapEnd + length, null);
+		}
+		gapStart = index;
+		gapEnd = index + gap;
+	}
+
+	/**
+	 * O(n) - Helper method to grow the array by the growth factor when the gap
+	 * doesn't have room for some more items (or straight to the size we need, if
+	 * that is bigger).
+	 * @param extra - how many items we are about to add.
+	 */
+	private void growToFit(int extra) {
+		if (gapEnd - gapStart < extra) {
+			int fill = size();
+			resize(Math.max(fill + extra, (int) Math.min(Integer.MAX_VALUE - 8, fill * growthFactor)));
+		}
+	}
+
+	/**
+	 * O(n) - Helper method to move everything into a new array. The items before
+	 * the gap stay at the start, the items after it go to the end of the new
+	 * array, and all of the new room goes into the gap.
+	 * @param newSize - the new capacity; at least size().
+	 */
+	private void resize(int newSize) {
+		Object[] newArray = new Object[newSize];
+		int after = array.length - gapEnd;
+		System.arraycopy(array, 0, newArray, 0, gapStart);
+		System.arraycopy(array, gapEnd, newArray, newSize - after, after);
+		this.array = newArray;
+		this.gapEnd = newSize - after;
+	}
+
+	/**
+	 * Helper method to throw the right error for a range that isn't in the list.
+	 */
+	private void checkRange(int from, int to) {
+		if (from < 0 || to > size() || from > to) {
+			throw new BadIndexError();
+		}
+	}
+
+	/**
+	 * Helper method to throw the right error for an empty state.
+	 */
+	private void checkNotEmpty() {
+		if (this.isEmpty()) {
+			throw new EmptyListError();
+		}
+	}
+
+	/**
+	 * Walks through the items from front to back. It checks modCount on every
+	 * step, so changing the list some other way while we walk it is an error
+	 * instead of a mystery.
+	 */
+	private class Iter implements Iterator<T> {
+		/**
+		 * The index next() gives back.
+		 */
+		private int cursor;
+		/**
+		 * The index next() gave back last time, or -1 if remove() can't be called.
+		 */
+		private int lastReturned;
+		private int expectedModCount;
+
+		public Iter() {
+			this.cursor = 0;
+			this.lastReturned = -1;
+			this.expectedModCount = modCount;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return cursor < size();
+		}
+
+		@SuppressWarnings("unchecked")
+		@Override
+		public T next() {
+			if (modCount != expectedModCount) {
+				throw new ConcurrentModificationException();
+			}
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			lastReturned = cursor;
+			cursor++;
+			return (T) array[slot(lastReturned)];
+		}
+
+		/**
+		 * O(1) - The gap follows the iterator along, so each remove only moves the
+		 * items that were passed since the last one.
+		 */
+		@Override
+		public void remove() {
+			if (lastReturned < 0) {
+				throw new IllegalStateException();
+			}
+			if (modCount != expectedModCount) {
+				throw new ConcurrentModificationException();
+			}
+			removeIndex(lastReturned);
+			cursor = lastReturned;
+			lastReturned = -1;
+			expectedModCount = modCount;
+		}
+	}
+}
@@ -1,24 +1,106 @@
 package edu.smith.cs.csc212.p6;
 
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+import edu.smith.cs.csc212.p6.WorkCounters.Counter;
+import edu.smith.cs.csc212.p6.errors.BadIndexError;
 import edu.smith.cs.csc212.p6.errors.EmptyListError;
-import edu.smith.cs.csc212.p6.errors.P6NotImplemented;
 
+/**
+ * A list backed by an array that doubles in size when it fills up.
+ * 
+ * The array is used as a ring (like {@link java.util.ArrayDeque}): the front of
+ * the list is at {@code head} rather than always at 0, and the list wraps
+ * around from the end of the array to its start. That way adding or removing
+ * at either end never has to shift anything.
+ * 
+ * When the array fills up, it grows by {@code growthFactor}. When removes leave
+ * it less than a quarter full, it shrinks by half (but never below the size we
+ * started with). The gap between those two thresholds means a list that hovers
+ * around one size doesn't keep resizing back and forth.
+ */
 public class GrowableList<T> implements P6List<T> {
 	public static final int START_SIZE = 32;
+	public static final double DEFAULT_GROWTH_FACTOR = 2.0;
+	/**
+	 * We shrink when less than 1/SHRINK_RATIO of the array is in use.
+	 */
+	public static final int SHRINK_RATIO = 4;
 	private Object[] array;
+	/**
+	 * Where in the array the front of the list is.
+	 */
+	private int head;
 	private int fill;
+	/**
+	 * How many times this list has been changed. Iterators check it to notice
+	 * when the list is changed out from under them.
+	 */
+	private int modCount;
+	/**
+	 * How much bigger the array gets each time it fills up.
+	 */
+	private final double growthFactor;
+	/**
+	 * The capacity we were created with.
+	 */
+	private final int initialCapacity;
+	/**
+	 * We never automatically shrink below this: the capacity we were created
+	 * with, or more if ensureCapacity asked for more.
+	 */
+	private int minimumCapacity;
 	
 	public GrowableList() {
-		this.array = new Object[START_SIZE];
+		this(START_SIZE);
+	}
+	
+	/**
+	 * Make a list that can hold some items before it has to grow.
+	 * @param initialCapacity - how many items fit before the first resize.
+	 */
+	public GrowableList(int initialCapacity) {
+		this(initialCapacity, DEFAULT_GROWTH_FACTOR);
+	}
+	
+	/**
+	 * Make a list that can hold some items before it has to grow.
+	 * @param initialCapacity - how many items fit before the first resize.
+	 * @param growthFactor - how much bigger the array gets when it is full; more than 1.
+	 */
+	public GrowableList(int initialCapacity, double growthFactor) {
+		if (initialCapacity < 0) {
+			throw new IllegalArgumentException("initialCapacity: " + initialCapacity);
+		}
+		if (!(growthFactor > 1.0)) {
+			throw new IllegalArgumentException("growthFactor: " + growthFactor);
+		}
+		this.array = new Object[initialCapacity];
+		this.head = 0;
 		this.fill = 0;
+		this.growthFactor = growthFactor;
+		this.initialCapacity = initialCapacity;
+		this.minimumCapacity = initialCapacity;
 	}
 
 	/**
-	 * O(n) - Everything in the list after the front has to be shifted back
+	 * O(1) - The front just moves forward one slot in the ring
 	 */
 	@Override
 	public T removeFront() {
-		return removeIndex(0);
+		checkNotEmpty();
+		T value = this.getIndex(0);
+		this.array[head] = null;
+		head = slot(1);
+		fill--;
+		modCount++;
+		shrinkIfSparse();
+		return value;
 	}
 
 	/**
@@ -26,40 +108,50 @@ public class GrowableList<T> implements P6List<T> {
 	 */
 	@Override
 	public T removeBack() {
-		if (this.size() == 0) {
-			throw new EmptyListError();
-		}
-		
+		checkNotEmpty();
 		T value = this.getIndex(fill-1);
-		this.array[fill-1] = null;
+		this.array[slot(fill-1)] = null;
 		fill--;
-		
+		modCount++;
+		shrinkIfSparse();
 		return value;
 	}
 
 	/**
-	 * O(n) - Everything in the list after the indexed item has to be shifted back
+	 * O(n) - Everything on one side of the indexed item has to be shifted over,
+	 * but we pick whichever side is shorter, so it's at most n/2 items
 	 */
 	@Override
 	public T removeIndex(int index) {
-		if (this.size() == 0) {
-			throw new EmptyListError();
-		}
+		checkNotEmpty();
 		T removed = this.getIndex(index);
-		fill--;
-		for (int i=index; i<fill; i++) {
-			this.array[i] = this.array[i+1];
+		if (index < fill / 2) {
+			// shift the items before it forward, towards the back.
+			shift(0, 1, index);
+			this.array[head] = null;
+			head = slot(1);
+		} else {
+			// shift the items after it back, towards the front.
+			shift(index+1, index, fill-1-index);
+			this.array[slot(fill-1)] = null;
 		}
-		this.array[fill] = null;
+		fill--;
+		modCount++;
+		shrinkIfSparse();
 		return removed;
 	}
 
 	/**
-	 * O(n) - Everything has to be shifted down one in order to give room for the new front
+	 * O(1) - The front just moves back one slot in the ring
+	 * O(n) - If the list is full and we need a bigger list, everything will need to be copied
 	 */
 	@Override
 	public void addFront(T item) {
-		addIndex(item, 0);
+		growToFit(1);
+		head = slot(array.length - 1);
+		this.array[head] = item;
+		fill++;
+		modCount++;
 	}
 
 	/**
@@ -68,31 +160,33 @@ public class GrowableList<T> implements P6List<T> {
 	 */
 	@Override
 	public void addBack(T item) {
-		// I've implemented part of this for you.
-		if (fill >= this.array.length) { 
-			int newSize = fill * 2;
-			Object[] newArray = new Object[newSize];
-			for ( int i = 0; i < array.length; i++ ) {
-				newArray[i] = array[i];
-			}
-			this.array = newArray;
-		}
-		
-		this.array[fill] = item;
+		growToFit(1);
+		this.array[slot(fill)] = item;
 		fill++;
+		modCount++;
 	}
 
 	/**
-	 * O(n) - Everything after the index will have to be shifted down to make room
+	 * O(n) - Everything on one side of the index will have to be shifted over to make room,
+	 * but we pick whichever side is shorter, so it's at most n/2 items
 	 */
 	@Override
 	public void addIndex(T item, int index) {
-		// loop backwards, shifting items to the right.
-		for (int j=fill; j>index; j--) {
-			array[j] = array[j-1];
+		if (index < 0 || index > fill) {
+			throw new BadIndexError();
+		}
+		growToFit(1);
+		if (index < fill / 2) {
+			// make a new front slot, then shift the items before index into it.
+			head = slot(array.length - 1);
+			shift(1, 0, index);
+		} else {
+			// shift the items after index to the right.
+			shift(index, index+1, fill-index);
 		}
-		array[index] = item;
-		fill++;		
+		this.array[slot(index)] = item;
+		fill++;
+		modCount++;
 	}
 	
 	/** 
@@ -100,6 +194,7 @@ public class GrowableList<T> implements P6List<T> {
 	 */
 	@Override
 	public T getFront() {
+		checkNotEmpty();
 		return this.getIndex(0);
 	}
 
@@ -108,15 +203,20 @@ public class GrowableList<T> implements P6List<T> {
 	 */
 	@Override
 	public T getBack() {
+		checkNotEmpty();
 		return this.getIndex(this.fill-1);
 	}
 
 	/** 
-	 * O(1) - Indexing is easy here 
+	 * O(1) - Indexing is easy here, we just count from head instead of 0
 	 */
+	@SuppressWarnings("unchecked")
 	@Override
 	public T getIndex(int index) {
-		return (T) this.array[index];
+		if (index < 0 || index >= fill) {
+			throw new BadIndexError();
+		}
+		return (T) this.array[slot(index)];
 	}
 
 	/**
@@ -136,7 +236,439 @@ public class GrowableList<T> implements P6List<T> {
 		return fill == 0;
 	}
 	
+	/**
+	 * O(k) - Grow at most once, then copy the new items into the ring all at once
+	 */
+	@Override
+	public void addAllBack(T[] items) {
+		growToFit(items.length);
+		copyIn(items, 0, fill, items.length);
+		fill += items.length;
+		modCount++;
+	}
 	
+	/**
+	 * O(n + k) - Like addIndex, whichever side of the index is shorter shifts over,
+	 * but it shifts k places in one go instead of one place k times
+	 */
+	@Override
+	public void addAllAt(int index, T[] items) {
+		if (index < 0 || index > fill) {
+			throw new BadIndexError();
+		}
+		int k = items.length;
+		if (k == 0) {
+			return;
+		}
+		growToFit(k);
+		if (index < fill / 2) {
+			// make k new front slots, then shift the items before index into them.
+			head = slot(array.length - k);
+			shift(k, 0, index);
+		} else {
+			// shift the items after index k places to the right.
+			shift(index, index+k, fill-index);
+		}
+		copyIn(items, 0, index, k);
+		fill += k;
+		modCount++;
+	}
+	
+	/**
+	 * O(n) - Whichever side of the range is shorter shifts over to close the gap,
+	 * in one go instead of once per removed item
+	 */
+	@Override
+	public void removeRange(int from, int to) {
+		checkRange(from, to);
+		int k = to - from;
+		if (k == 0) {
+			return;
+		}
+		if (from < fill - to) {
+			// shift the items before the range towards the back.
+			shift(0, k, from);
+			clear(0, k);
+			head = slot(k);
+		} else {
+			// shift the items after the range towards the front.
+			shift(to, from, fill-to);
+			clear(fill-k, k);
+		}
+		fill -= k;
+		modCount++;
+		shrinkIfSparse();
+	}
+	
+	/**
+	 * O(k) - At most two bulk copies, since the range can only wrap around the ring once
+	 */
+	@Override
+	public void copyRange(int from, int to, T[] dest) {
+		checkRange(from, to);
+		copyOut(from, dest, 0, to - from);
+	}
+	
+	/**
+	 * O(1) - Walk the array from front to back. Changing the list while doing this
+	 * (except with the iterator's remove) makes next() throw a ConcurrentModificationException.
+	 */
+	@Override
+	public Iterator<T> iterator() {
+		return new Iter(1, 0);
+	}
+	
+	/**
+	 * O(1) - Walk the array from back to front, the same way.
+	 * @return an iterator over every item, from back to front.
+	 */
+	public Iterator<T> reverseIterator() {
+		return new Iter(-1, fill - 1);
+	}
+	
+	/**
+	 * O(1) - The spliterator splits ranges of the ring in half, like an array
+	 */
+	@Override
+	public Spliterator<T> spliterator() {
+		return new RingSpliterator<>(array, head, 0, fill);
+	}
+	
+	/**
+	 * O(1)
+	 * @return how many items fit in the array before it has to grow.
+	 */
+	public int capacity() {
+		return array.length;
+	}
+	
+	/**
+	 * O(n) - Make sure the array can hold at least this many items, so that 
+	 * adding that many never has to resize part way through. Removing items
+	 * won't shrink it below this again, either.
+	 * @param minCapacity - how many items we want room for.
+	 */
+	public void ensureCapacity(int minCapacity) {
+		minimumCapacity = Math.max(minimumCapacity, minCapacity);
+		if (minCapacity > array.length) {
+			resize(minCapacity);
+		}
+	}
+	
+	/**
+	 * O(n) - Shrink the array to exactly fit the items in the list. This also
+	 * forgets any capacity asked for by ensureCapacity, so removing items can
+	 * shrink it again, down to the capacity we were created with.
+	 */
+	public void trimToSize() {
+		minimumCapacity = initialCapacity;
+		if (fill < array.length) {
+			resize(fill);
+		}
+	}
+	
+	/**
+	 * O(1) - Helper method to find where an index lives in the ring.
+	 * @param index - a position counted from the front of the list; 
+	 * anything from 0 to the array length (excluding the length) is fine.
+	 * @return the position in the array.
+	 */
+	private int slot(int index) {
+		int where = head + index;
+		if (where >= array.length) {
+			where -= array.length;
+		}
+		return where;
+	}
+	
+	/**
+	 * O(n) - Helper method to move {@code length} items that start at index
+	 * {@code from} so they start at index {@code to} instead. The ring may wrap in
+	 * the middle of either range, so we copy it in pieces that don't wrap.
+	 * @param from - the index of the first item to move.
+	 * @param to - where that item should end up.
+	 * @param length - how many items to move.
+	 */
+	private void shift(int from, int to, int length) {
+		if (WorkCounters.ENABLED) {
+			WorkCounters.add(Counter.ELEMENT_SHIFTS, length);
+		}
+		if (from > to) {
+			// moving towards the front: copy the front pieces first.
+			for (int done = 0; done < length; ) {
+				int src = slot(from + done);
+				int dst = slot(to + done);
+				int run = Math.min(length - done, Math.min(array.length - src, array.length - dst));
+				System.arraycopy(array, src, array, dst, run);
+				done += run;
+			}
+		} else {
+			// moving towards the back: copy the back pieces first.
+			for (int done = 0; done < length; ) {
+				int src = slot(from + length - done - 1);
+				int dst = slot(to + length - done - 1);
+				int run = Math.min(length - done, Math.min(src + 1, dst + 1));
+				System.arraycopy(array, src - run + 1, array, dst - run + 1, run);
+				done += run;
+			}
+		}
+	}
+	
+	/**
+	 * O(n) - Helper method to grow the array by the growth factor when it doesn't 
+	 * have room for some more items (or straight to the size we need, if that is bigger).
+	 * @param extra - how many items we are about to add.
+	 */
+	private void growToFit(int extra) {
+		if (fill + extra > this.array.length) { 
+			resize(Math.max(fill + extra, (int) Math.min(Integer.MAX_VALUE - 8, fill * growthFactor)));
+		}
+	}
+	
+	/**
+	 * O(n) - Helper method to halve the array once it is mostly empty. After a
+	 * removeRange it might need halving more than once, but we only copy once.
+	 */
+	private void shrinkIfSparse() {
+		int newSize = array.length;
+		while (newSize > minimumCapacity && fill < newSize / SHRINK_RATIO) {
+			newSize = Math.max(minimumCapacity, newSize / 2);
+		}
+		if (newSize != array.length) {
+			resize(newSize);
+		}
+	}
+	
+	/**
+	 * O(k) - Helper method to copy items from an array into the ring, in pieces
+	 * that don't wrap.
+	 * @param items - where the items come from.
+	 * @param offset - the position in items of the first one.
+	 * @param index - the index in the list where the first one goes.
+	 * @param length - how many to copy.
+	 */
+	private void copyIn(Object[] items, int offset, int index, int length) {
+		for (int done = 0; done < length; ) {
+			int dst = slot(index + done);
+			int run = Math.min(length - done, array.length - dst);
+			System.arraycopy(items, offset + done, array, dst, run);
+			done += run;
+		}
+	}
+	
+	/**
+	 * O(k) - Helper method to copy items from the ring out to an array, in pieces
+	 * that don't wrap.
+	 * @param index - the index in the list of the first item.
+	 * @param dest - where the items go.
+	 * @param destPos - the position in dest for the first one.
+	 * @param length - how many to copy.
+	 */
+	private void copyOut(int index, Object[] dest, int destPos, int length) {
+		for (int done = 0; done < length; ) {
+			int src = slot(index + done);
+			int run = Math.min(length - done, array.length - src);
+			System.arraycopy(array, src, dest, destPos + done, run);
+			done += run;
+		}
+	}
+	
+	/**
+	 * O(k) - Helper method to null out some slots of the ring, so that removed
+	 * items can be garbage collected.
+	 * @param index - the index in the list of the first slot.
+	 * @param length - how many slots to clear.
+	 */
+	private void clear(int index, int length) {
+		for (int done = 0; done < length; ) {
+			int at = slot(index + done);
+			int run = Math.min(length - done, array.length - at);
+			Arrays.fill(array, at, at + run, null);
+			done += run;
+		}
+	}
+	
+	/**
+	 * Helper method to throw the right error for a range that isn't in the list.
+	 */
+	private void checkRange(int from, int to) {
+		if (from < 0 || to > fill || from > to) {
+			throw new BadIndexError();
+		}
+	}
+	
+	/**
+	 * O(n) - Helper method to move everything into a new array. The ring gets
+	 * unwrapped on the way, so the front ends up at 0 again.
+	 * @param newSize - the new capacity; at least fill.
+	 */
+	private void resize(int newSize) {
+		if (WorkCounters.ENABLED) {
+			WorkCounters.add(Counter.RESIZES, 1);
+		}
+		Object[] newArray = new Object[newSize];
+		int firstPart = Math.min(fill, array.length - head);
+		System.arraycopy(array, head, newArray, 0, firstPart);
+		System.arraycopy(array, 0, newArray, firstPart, fill - firstPart);
+		this.array = newArray;
+		this.head = 0;
+	}
+	
+	/**
+	 * Helper method to throw the right error for an empty state.
+	 */
+	private void checkNotEmpty() {
+		if (this.isEmpty()) {
+			throw new EmptyListError();
+		}
+	}
+	
+	/**
+	 * A {@link Spliterator} over a range of the ring. Splitting cuts the range in
+	 * half, and walking it is at most two plain loops over the array (one on each
+	 * side of where the ring wraps around).
+	 * 
+	 * @param <T> the type of item in the list.
+	 */
+	private static class RingSpliterator<T> implements Spliterator<T> {
+		private final Object[] array;
+		private final int head;
+		/**
+		 * The next index (counted from head) we will visit.
+		 */
+		private int index;
+		/**
+		 * The index after the last one we visit.
+		 */
+		private final int end;
+		
+		public RingSpliterator(Object[] array, int head, int index, int end) {
+			this.array = array;
+			this.head = head;
+			this.index = index;
+			this.end = end;
+		}
+		
+		/**
+		 * Same as {@link GrowableList#slot(int)}.
+		 */
+		private int slot(int i) {
+			int where = head + i;
+			if (where >= array.length) {
+				where -= array.length;
+			}
+			return where;
+		}
+		
+		@SuppressWarnings("unchecked")
+		@Override
+		public boolean tryAdvance(Consumer<? super T> action) {
+			if (index >= end) {
+				return false;
+			}
+			action.accept((T) array[slot(index++)]);
+			return true;
+		}
+		
+		@SuppressWarnings("unchecked")
+		@Override
+		public void forEachRemaining(Consumer<? super T> action) {
+			while (index < end) {
+				int from = slot(index);
+				int run = Math.min(end - index, array.length - from);
+				for (int i = from; i < from + run; i++) {
+					action.accept((T) array[i]);
+				}
+				index += run;
+			}
+		}
+		
+		@Override
+		public Spliterator<T> trySplit() {
+			int mid = (index + end) >>> 1;
+			if (mid <= index) {
+				return null;
+			}
+			Spliterator<T> front = new RingSpliterator<>(array, head, index, mid);
+			this.index = mid;
+			return front;
+		}
+		
+		@Override
+		public long estimateSize() {
+			return end - index;
+		}
+		
+		@Override
+		public int characteristics() {
+			return ORDERED | SIZED | SUBSIZED;
+		}
+	}
 
-
+	/**
+	 * Walks through the array, one way or the other. It checks modCount on every
+	 * step, so changing the list some other way while we walk it is an error
+	 * instead of a mystery.
+	 */
+	private class Iter implements Iterator<T> {
+		/**
+		 * +1 to walk front to back, -1 to walk back to front.
+		 */
+		private final int step;
+		/**
+		 * The index next() gives back.
+		 */
+		private int cursor;
+		/**
+		 * The index next() gave back last time, or -1 if remove() can't be called.
+		 */
+		private int lastReturned;
+		private int expectedModCount;
+		
+		public Iter(int step, int cursor) {
+			this.step = step;
+			this.cursor = cursor;
+			this.lastReturned = -1;
+			this.expectedModCount = modCount;
+		}
+		
+		@Override
+		public boolean hasNext() {
+			return cursor >= 0 && cursor < fill;
+		}
+		
+		@SuppressWarnings("unchecked")
+		@Override
+		public T next() {
+			if (modCount != expectedModCount) {
+				throw new ConcurrentModificationException();
+			}
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			lastReturned = cursor;
+			cursor += step;
+			return (T) array[slot(lastReturned)];
+		}
+		
+		/**
+		 * O(n) - Same as removeIndex: the shorter side shifts over one place.
+		 */
+		@Override
+		public void remove() {
+			if (lastReturned < 0) {
+				throw new IllegalStateException();
+			}
+			if (modCount != expectedModCount) {
+				throw new ConcurrentModificationException();
+			}
+			removeIndex(lastReturned);
+			if (step > 0) {
+				// everything after it moved back one, including the next item.
+				cursor = lastReturned;
+			}
+			lastReturned = -1;
+			expectedModCount = modCount;
+		}
+	}
 }
@@ -0,0 +1,78 @@
+package edu.smith.cs.csc212.p6;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * An {@link Iterator} for any list where getIndex is fast. It just counts up
+ * through the indexes.
+ *
+ * This is what {@link P6List#iterator()} gives you unless a list has something
+ * better. It can't see inside the list, so the only change it notices is the
+ * size being different from what it expects; the lists with their own
+ * iterators notice every change.
+ *
+ * @param <T> the type of item in the list.
+ */
+class IndexIterator<T> implements Iterator<T> {
+	private final P6List<T> list;
+	/**
+	 * The index next() gives back.
+	 */
+	private int cursor;
+	/**
+	 * The index next() gave back last time, or -1 if remove() can't be called.
+	 */
+	private int lastReturned;
+	/**
+	 * How big we think the list is.
+	 */
+	private int expectedSize;
+
+	public IndexIterator(P6List<T> list) {
+		this.list = list;
+		this.cursor = 0;
+		this.lastReturned = -1;
+		this.expectedSize = list.size();
+	}
+
+	@Override
+	public boolean hasNext() {
+		return cursor < expectedSize;
+	}
+
+	@Override
+	public T next() {
+		checkForChanges();
+		if (cursor >= expectedSize) {
+			throw new NoSuchElementException();
+		}
+		lastReturned = cursor++;
+		return list.getIndex(lastReturned);
+	}
+
+	/**
+	 * Same cost as removeIndex on the list.
+	 */
+	@Override
+	public void remove() {
+		if (lastReturned < 0) {
+			throw new IllegalStateException();
+		}
+		checkForChanges();
+		list.removeIndex(lastReturned);
+		cursor = lastReturned;
+		lastReturned = -1;
+		expectedSize--;
+	}
+
+	/**
+	 * Helper method to throw the right error if the list changed without us.
+	 */
+	private void checkForChanges() {
+		if (list.size() != expectedSize) {
+			throw new ConcurrentModificationException();
+		}
+	}
+}
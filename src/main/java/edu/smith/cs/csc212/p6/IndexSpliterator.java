@@ -0,0 +1,77 @@
+package edu.smith.cs.csc212.p6;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * A {@link Spliterator} for any list where getIndex is fast. It covers a range
+ * of indexes, and splitting just cuts the range in half, so the sizes are
+ * always exact.
+ *
+ * This is what {@link P6List#spliterator()} gives you unless a list has
+ * something better.
+ *
+ * @param <T> the type of item in the list.
+ */
+class IndexSpliterator<T> implements Spliterator<T> {
+	private final P6List<T> list;
+	/**
+	 * The next index we will visit.
+	 */
+	private int index;
+	/**
+	 * The index after the last one we visit.
+	 */
+	private final int end;
+
+	/**
+	 * @param list  - the list to walk over.
+	 * @param index - the first index to visit.
+	 * @param end   - the index after the last one to visit.
+	 */
+	public IndexSpliterator(P6List<T> list, int index, int end) {
+		this.list = list;
+		this.index = index;
+		this.end = end;
+	}
+
+	@Override
+	public boolean tryAdvance(Consumer<? super T> action) {
+		if (index >= end) {
+			return false;
+		}
+		action.accept(list.getIndex(index++));
+		return true;
+	}
+
+	@Override
+	public void forEachRemaining(Consumer<? super T> action) {
+		for (; index < end; index++) {
+			action.accept(list.getIndex(index));
+		}
+	}
+
+	/**
+	 * O(1) - Give away the front half of our range.
+	 */
+	@Override
+	public Spliterator<T> trySplit() {
+		int mid = (index + end) >>> 1;
+		if (mid <= index) {
+			return null;
+		}
+		Spliterator<T> front = new IndexSpliterator<>(list, index, mid);
+		this.index = mid;
+		return front;
+	}
+
+	@Override
+	public long estimateSize() {
+		return end - index;
+	}
+
+	@Override
+	public int characteristics() {
+		return ORDERED | SIZED | SUBSIZED;
+	}
+}
@@ -0,0 +1,587 @@
+package edu.smith.cs.csc212.p6;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.SplittableRandom;
+import java.util.Spliterator;
+import java.util.Spliterators;
+
+import edu.smith.cs.csc212.p6.errors.BadIndexError;
+import edu.smith.cs.csc212.p6.errors.EmptyListError;
+
+/**
+ * A {@link DoublyLinkedList} with "express lanes" on top, so that finding an
+ * index takes O(log n) steps on average instead of O(n). This is a skip list,
+ * except that it is ordered by position instead of by key.
+ *
+ * Level 0 is an ordinary doubly-linked chain of every node. Each node is also
+ * in levels 1, 2, 3, ... with probability 1/2, 1/4, 1/8, ..., and every level
+ * is its own doubly-linked chain of the nodes in it. So level 1 skips about
+ * every other node, level 2 skips about three out of four, and so on. Each link
+ * remembers its "width": how many places forward it goes. To find index i we
+ * start at the top level and go forward as long as the widths don't take us
+ * past i, then drop down a level and do the same, like express and local
+ * trains.
+ *
+ * The ends stay cheap. getFront and getBack are O(1), and add or remove at
+ * either end only touches the levels the new (or removed) node is in, which is
+ * 2 on average. The links out of the start, and the gaps after the last node
+ * in each level, would change on every such add, so we don't store those
+ * directly; they are stored relative to a count of adds and removes at that
+ * end, so that changing the count updates all of them at once.
+ */
+public class IndexableSkipList<T> implements P6List<T> {
+	/**
+	 * The most levels a node can be in.
+	 */
+	public static final int MAX_LEVEL = 32;
+	/**
+	 * A node with no value that is in every level; the first real node is after it.
+	 */
+	private final Node<T> head;
+	/**
+	 * tail[l] is the last node in level l (or head, if level l is empty).
+	 */
+	private final Node<T>[] tail;
+	/**
+	 * How many nodes come after tail[l] in the whole list, minus backShift.
+	 * Only used when tail[l] isn't head.
+	 */
+	private final int[] afterTail;
+	/**
+	 * Added to every head.width[l] to get the real width. addFront and
+	 * removeFront change it, which moves the first node of every level at once.
+	 */
+	private int frontShift;
+	/**
+	 * Added to every afterTail[l] to get the real count. addBack and removeBack
+	 * change it.
+	 */
+	private int backShift;
+	/**
+	 * How many levels have any nodes in them (at least 1).
+	 */
+	private int levels;
+	private int count;
+	/**
+	 * How many times this list has been changed. Iterators check it to notice
+	 * when the list is changed out from under them.
+	 */
+	private int modCount;
+	/**
+	 * Where the node heights come from.
+	 */
+	private final SplittableRandom coins;
+	/**
+	 * Filled in by findBefore: update[l] is the last node in level l before the
+	 * index we looked for, and updatePos[l] is its index (-1 for head).
+	 */
+	private final Node<T>[] update;
+	private final int[] updatePos;
+
+	@SuppressWarnings("unchecked")
+	public IndexableSkipList() {
+		this.head = new Node<T>(null, MAX_LEVEL);
+		this.tail = (Node<T>[]) new Node<?>[MAX_LEVEL];
+		this.afterTail = new int[MAX_LEVEL];
+		for (int l = 0; l < MAX_LEVEL; l++) {
+			tail[l] = head;
+		}
+		this.levels = 1;
+		this.count = 0;
+		this.coins = new SplittableRandom();
+		this.update = (Node<T>[]) new Node<?>[MAX_LEVEL];
+		this.updatePos = new int[MAX_LEVEL];
+	}
+
+	/**
+	 * O(1) on average - Unlink the first node from each level it is in, and move
+	 * every other level's first link back by one, all at once with frontShift
+	 */
+	@Override
+	public T removeFront() {
+		checkNotEmpty();
+		Node<T> node = head.next[0];
+		int h = node.height();
+		for (int l = 0; l < h; l++) {
+			Node<T> next = node.next[l];
+			head.next[l] = next;
+			if (next != null) {
+				next.prev[l] = head;
+			} else {
+				tail[l] = head;
+			}
+		}
+		frontShift--;
+		for (int l = 0; l < h; l++) {
+			if (node.next[l] != null) {
+				// head -> node was 1; node -> next was width, and next moved back 1.
+				setWidth(head, l, node.width[l]);
+			}
+		}
+		count--;
+		modCount++;
+		dropEmptyLevels();
+		return node.value;
+	}
+
+	/**
+	 * O(1) on average - Unlink the last node from each level it is in; the node
+	 * before it in each of those levels is the new tail there
+	 */
+	@Override
+	public T removeBack() {
+		checkNotEmpty();
+		Node<T> node = tail[0];
+		int h = node.height();
+		for (int l = 0; l < h; l++) {
+			Node<T> prev = node.prev[l];
+			prev.next[l] = null;
+			tail[l] = prev;
+		}
+		backShift--;
+		for (int l = 0; l < h; l++) {
+			Node<T> prev = tail[l];
+			if (prev != head) {
+				// everything that was between prev and node is after prev now.
+				setAfter(l, width(prev, l) - 1);
+			}
+		}
+		count--;
+		modCount++;
+		dropEmptyLevels();
+		return node.value;
+	}
+
+	/**
+	 * O(log n) on average - Find the node before it in every level, and link
+	 * around it; links that went over it get one shorter
+	 */
+	@Override
+	public T removeIndex(int index) {
+		checkNotEmpty();
+		checkIndex(index);
+		if (index == 0) {
+			return removeFront();
+		}
+		if (index == count - 1) {
+			return removeBack();
+		}
+		findBefore(index);
+		Node<T> node = update[0].next[0];
+		int h = node.height();
+		for (int l = 0; l < levels; l++) {
+			Node<T> pred = update[l];
+			if (l < h) {
+				Node<T> next = node.next[l];
+				pred.next[l] = next;
+				if (next != null) {
+					setWidth(pred, l, width(pred, l) + node.width[l] - 1);
+					next.prev[l] = pred;
+				} else {
+					int nodeAfter = after(l);
+					tail[l] = pred;
+					if (pred != head) {
+						setAfter(l, (index - updatePos[l] - 1) + nodeAfter);
+					}
+				}
+			} else if (pred.next[l] != null) {
+				setWidth(pred, l, width(pred, l) - 1);
+			} else if (tail[l] != head) {
+				setAfter(l, after(l) - 1);
+			}
+		}
+		count--;
+		modCount++;
+		dropEmptyLevels();
+		return node.value;
+	}
+
+	/**
+	 * O(1) on average - Link the new node in after head in each of its levels,
+	 * and move every other level's first link forward by one, all at once with
+	 * frontShift
+	 */
+	@Override
+	public void addFront(T item) {
+		Node<T> node = new Node<T>(item, randomHeight());
+		int h = node.height();
+		for (int l = 0; l < h; l++) {
+			Node<T> next = head.next[l];
+			if (next != null) {
+				node.width[l] = width(head, l);
+				next.prev[l] = node;
+			} else {
+				// everything else is after the new node.
+				tail[l] = node;
+				setAfter(l, count);
+			}
+			node.next[l] = next;
+			node.prev[l] = head;
+			head.next[l] = node;
+		}
+		frontShift++;
+		for (int l = 0; l < h; l++) {
+			setWidth(head, l, 1);
+		}
+		levels = Math.max(levels, h);
+		count++;
+		modCount++;
+	}
+
+	/**
+	 * O(1) on average - Link the new node in after the tail of each of its
+	 * levels, and add one to every other level's gap after its tail, all at once
+	 * with backShift
+	 */
+	@Override
+	public void addBack(T item) {
+		Node<T> node = new Node<T>(item, randomHeight());
+		int h = node.height();
+		for (int l = 0; l < h; l++) {
+			Node<T> last = tail[l];
+			setWidth(last, l, after(l) + 1);
+			last.next[l] = node;
+			node.prev[l] = last;
+		}
+		backShift++;
+		for (int l = 0; l < h; l++) {
+			tail[l] = node;
+			setAfter(l, 0);
+		}
+		levels = Math.max(levels, h);
+		count++;
+		modCount++;
+	}
+
+	/**
+	 * O(log n) on average - Find the node before the index in every level; link
+	 * the new node in after it in the new node's levels, and make the links that
+	 * go over it one longer in the others
+	 */
+	@Override
+	public void addIndex(T item, int index) {
+		if (index < 0 || index > count) {
+			throw new BadIndexError();
+		}
+		if (index == 0) {
+			addFront(item);
+			return;
+		}
+		if (index == count) {
+			addBack(item);
+			return;
+		}
+		Node<T> node = new Node<T>(item, randomHeight());
+		int h = node.height();
+		findBefore(index);
+		for (int l = levels; l < h; l++) {
+			update[l] = head;
+			updatePos[l] = -1;
+		}
+		levels = Math.max(levels, h);
+		for (int l = 0; l < levels; l++) {
+			Node<T> pred = update[l];
+			int predPos = updatePos[l];
+			if (l < h) {
+				Node<T> next = pred.next[l];
+				if (next != null) {
+					int nextPos = predPos + width(pred, l);
+					node.width[l] = nextPos + 1 - index;
+					next.prev[l] = node;
+				} else {
+					// the old items from index on are all after the new node.
+					tail[l] = node;
+					setAfter(l, count - index);
+				}
+				node.next[l] = next;
+				node.prev[l] = pred;
+				pred.next[l] = node;
+				setWidth(pred, l, index - predPos);
+			} else if (pred.next[l] != null) {
+				setWidth(pred, l, width(pred, l) + 1);
+			} else if (tail[l] != head) {
+				setAfter(l, after(l) + 1);
+			}
+		}
+		count++;
+		modCount++;
+	}
+
+	/**
+	 * O(1) - The first node is right after head
+	 */
+	@Override
+	public T getFront() {
+		checkNotEmpty();
+		return head.next[0].value;
+	}
+
+	/**
+	 * O(1) - The last node is the tail of level 0
+	 */
+	@Override
+	public T getBack() {
+		checkNotEmpty();
+		return tail[0].value;
+	}
+
+	/**
+	 * O(log n) on average - Ride the express lanes as far as they go without
+	 * passing the index, then drop down a level
+	 */
+	@Override
+	public T getIndex(int index) {
+		checkIndex(index);
+		if (index == count - 1) {
+			return tail[0].value;
+		}
+		findBefore(index);
+		return update[0].next[0].value;
+	}
+
+	/**
+	 * O(1) - We've been keeping track of count the whole time
+	 */
+	@Override
+	public int size() {
+		return count;
+	}
+
+	/**
+	 * O(1) - Again, it is super easy to see the value of count
+	 */
+	@Override
+	public boolean isEmpty() {
+		return count == 0;
+	}
+
+	/**
+	 * O(1) - Splits by copying batches of items into arrays; we know the size.
+	 */
+	@Override
+	public Spliterator<T> spliterator() {
+		return Spliterators.spliterator(iterator(), count, Spliterator.ORDERED);
+	}
+
+	/**
+	 * O(1) - Walk level 0 from front to back. Changing the list while doing this
+	 * (except with the iterator's remove) makes next() throw a ConcurrentModificationException.
+	 */
+	@Override
+	public Iterator<T> iterator() {
+		return new Iter(true);
+	}
+
+	/**
+	 * O(1) - Walk level 0 from back to front, the same way.
+	 * @return an iterator over every item, from back to front.
+	 */
+	public Iterator<T> reverseIterator() {
+		return new Iter(false);
+	}
+
+	/**
+	 * O(log n) on average - Helper method to fill in update and updatePos with
+	 * the last node before index in every level.
+	 * @param index - from 0 to size (including size).
+	 */
+	private void findBefore(int index) {
+		Node<T> at = head;
+		int pos = -1;
+		for (int l = levels - 1; l >= 0; l--) {
+			while (at.next[l] != null && pos + width(at, l) < index) {
+				pos += width(at, l);
+				at = at.next[l];
+			}
+			update[l] = at;
+			updatePos[l] = pos;
+		}
+	}
+
+	/**
+	 * O(1) - Helper method for how far forward a node's link in a level goes.
+	 * Only meaningful if node.next[level] isn't null.
+	 */
+	private int width(Node<T> node, int level) {
+		if (node == head) {
+			return node.width[level] + frontShift;
+		}
+		return node.width[level];
+	}
+
+	/**
+	 * O(1) - Helper method to set how far forward a node's link in a level goes.
+	 */
+	private void setWidth(Node<T> node, int level, int width) {
+		if (node == head) {
+			node.width[level] = width - frontShift;
+		} else {
+			node.width[level] = width;
+		}
+	}
+
+	/**
+	 * O(1) - Helper method for how many nodes come after tail[level].
+	 */
+	private int after(int level) {
+		if (tail[level] == head) {
+			return count;
+		}
+		return afterTail[level] + backShift;
+	}
+
+	/**
+	 * O(1) - Helper method to set how many nodes come after tail[level].
+	 */
+	private void setAfter(int level, int after) {
+		afterTail[level] = after - backShift;
+	}
+
+	/**
+	 * O(levels) - Helper method to forget about empty levels at the top.
+	 */
+	private void dropEmptyLevels() {
+		while (levels > 1 && head.next[levels - 1] == null) {
+			levels--;
+		}
+	}
+
+	/**
+	 * O(1) on average - Flip coins until one comes up tails.
+	 * @return how many levels a new node is in; 1 half the time, 2 a quarter of the time...
+	 */
+	private int randomHeight() {
+		return Integer.numberOfTrailingZeros(coins.nextInt() | (1 << (MAX_LEVEL - 1))) + 1;
+	}
+
+	/**
+	 * Helper method to throw the right error for an index that isn't in the list.
+	 */
+	private void checkIndex(int index) {
+		if (index < 0 || index >= count) {
+			throw new BadIndexError();
+		}
+	}
+
+	/**
+	 * Helper method to throw the right error for an empty state.
+	 */
+	private void checkNotEmpty() {
+		if (this.isEmpty()) {
+			throw new EmptyListError();
+		}
+	}
+
+	/**
+	 * A node, with one forward link, one backward link and one width for each
+	 * level it is in.
+	 * @param <T> the type of the values stored.
+	 */
+	private static class Node<T> {
+		final T value;
+		final Node<T>[] next;
+		final Node<T>[] prev;
+		/**
+		 * width[l] is how many places forward next[l] is.
+		 */
+		final int[] width;
+
+		@SuppressWarnings("unchecked")
+		public Node(T value, int height) {
+			this.value = value;
+			this.next = (Node<T>[]) new Node<?>[height];
+			this.prev = (Node<T>[]) new Node<?>[height];
+			this.width = new int[height];
+		}
+
+		/**
+		 * O(1)
+		 * @return how many levels this node is in.
+		 */
+		int height() {
+			return next.length;
+		}
+	}
+
+	/**
+	 * Walks level 0, one way or the other, by following the links.
+	 */
+	private class Iter implements Iterator<T> {
+		/**
+		 * True to walk front to back, false to walk back to front.
+		 */
+		private final boolean forward;
+		/**
+		 * The node whose value next() gives back, or null at the end.
+		 */
+		private Node<T> current;
+		/**
+		 * The index of current.
+		 */
+		private int currentIndex;
+		/**
+		 * The index next() gave back last time, or -1 if remove() can't be called.
+		 */
+		private int lastReturned;
+		private int expectedModCount;
+
+		public Iter(boolean forward) {
+			this.forward = forward;
+			this.current = forward ? head.next[0] : (count == 0 ? null : tail[0]);
+			this.currentIndex = forward ? 0 : count - 1;
+			this.lastReturned = -1;
+			this.expectedModCount = modCount;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return current != null;
+		}
+
+		@Override
+		public T next() {
+			if (modCount != expectedModCount) {
+				throw new ConcurrentModificationException();
+			}
+			if (current == null) {
+				throw new NoSuchElementException();
+			}
+			T value = current.value;
+			lastReturned = currentIndex;
+			if (forward) {
+				current = current.next[0];
+				currentIndex++;
+			} else {
+				current = current.prev[0];
+				if (current == head) {
+					current = null;
+				}
+				currentIndex--;
+			}
+			return value;
+		}
+
+		/**
+		 * O(log n) on average - Same as removeIndex, since the links above level 0
+		 * that go over the node have to be found too.
+		 */
+		@Override
+		public void remove() {
+			if (lastReturned < 0) {
+				throw new IllegalStateException();
+			}
+			if (modCount != expectedModCount) {
+				throw new ConcurrentModificationException();
+			}
+			removeIndex(lastReturned);
+			if (forward) {
+				// everything after it moves back one index, including current.
+				currentIndex--;
+			}
+			lastReturned = -1;
+			expectedModCount = modCount;
+		}
+	}
+}
@@ -0,0 +1,671 @@
+package edu.smith.cs.csc212.p6;
+
+import java.lang.management.ManagementFactory;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.TreeMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToLongFunction;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+import edu.smith.cs.csc212.p6.errors.BadIndexError;
+import edu.smith.cs.csc212.p6.errors.EmptyListError;
+import edu.smith.cs.csc212.p6.errors.RanOutOfSpaceError;
+
+/**
+ * Wraps any other {@link P6List} and keeps track of how it gets used: how many
+ * times each method is called, how long the calls take (in a
+ * {@link LatencyHistogram}), and how many of them throw a BadIndexError,
+ * EmptyListError or RanOutOfSpaceError. Everything else is passed straight to
+ * the wrapped list, so the answers are exactly the same.
+ *
+ * You can look at the numbers with {@link #snapshot(Operation)} from code, or
+ * call {@link #registerMBean(String)} and look at them with JConsole.
+ *
+ * Counting a call is one {@link LongAdder} increment, which doesn't slow down
+ * even with many threads. Timing a call costs two System.nanoTime() calls
+ * (about 20-50ns together) plus a few more atomic adds, which is a lot next to
+ * something like size(). So for the hottest methods, use
+ * {@link #setSampleEvery(Operation, int)} to only time some of the calls; they
+ * are all still counted.
+ *
+ * The iterator and spliterator come straight from the wrapped list, so walking
+ * the list (and stream(), and for loops) is not counted or slowed down.
+ *
+ * @param <T> - the type of item stored in the list.
+ */
+public class InstrumentedP6List<T> implements P6List<T> {
+	/**
+	 * Where {@link #registerMBean(String)} puts things in JMX.
+	 */
+	public static final String JMX_DOMAIN = "edu.smith.cs.csc212.p6";
+	/**
+	 * The start time of a call that isn't being timed.
+	 */
+	private static final long NOT_TIMED = Long.MIN_VALUE;
+
+	/**
+	 * Every list method we keep track of.
+	 */
+	public enum Operation {
+		REMOVE_FRONT("removeFront"),
+		REMOVE_BACK("removeBack"),
+		REMOVE_INDEX("removeIndex"),
+		ADD_FRONT("addFront"),
+		ADD_BACK("addBack"),
+		ADD_INDEX("addIndex"),
+		GET_FRONT("getFront"),
+		GET_BACK("getBack"),
+		GET_INDEX("getIndex"),
+		SIZE("size"),
+		IS_EMPTY("isEmpty"),
+		ADD_ALL_BACK("addAllBack"),
+		ADD_ALL_AT("addAllAt"),
+		REMOVE_RANGE("removeRange"),
+		COPY_RANGE("copyRange");
+
+		private final String methodName;
+
+		Operation(String methodName) {
+			this.methodName = methodName;
+		}
+
+		/**
+		 * @return the name of the list method, like "getIndex".
+		 */
+		public String methodName() {
+			return methodName;
+		}
+	}
+
+	/**
+	 * The list that does the real work.
+	 */
+	private final P6List<T> inner;
+	/**
+	 * The counters for each Operation, by ordinal.
+	 */
+	private final Stats[] stats;
+	/**
+	 * Where this is in JMX, or null if it isn't.
+	 */
+	private ObjectName registeredAs;
+
+	public InstrumentedP6List(P6List<T> inner) {
+		if (inner == null) {
+			throw new NullPointerException("inner");
+		}
+		this.inner = inner;
+		Operation[] ops = Operation.values();
+		this.stats = new Stats[ops.length];
+		for (int i = 0; i < ops.length; i++) {
+			this.stats[i] = new Stats();
+		}
+		this.registeredAs = null;
+	}
+
+	/**
+	 * O(1)
+	 * @return the list this one passes every call to.
+	 */
+	public P6List<T> unwrap() {
+		return inner;
+	}
+
+	/**
+	 * Same as the wrapped list, plus counting.
+	 */
+	@Override
+	public T removeFront() {
+		Stats s = stats[Operation.REMOVE_FRONT.ordinal()];
+		long start = s.start();
+		try {
+			return inner.removeFront();
+		} catch (RuntimeException e) {
+			s.failed(e);
+			throw e;
+		} finally {
+			s.finish(start);
+		}
+	}
+
+	/**
+	 * Same as the wrapped list, plus counting.
+	 */
+	@Override
+	public T removeBack() {
+		Stats s = stats[Operation.REMOVE_BACK.ordinal()];
+		long start = s.start();
+		try {
+			return inner.removeBack();
+		} catch (RuntimeException e) {
+			s.failed(e);
+			throw e;
+		} finally {
+			s.finish(start);
+		}
+	}
+
+	/**
+	 * Same as the wrapped list, plus counting.
+	 */
+	@Override
+	public T removeIndex(int index) {
+		Stats s = stats[Operation.REMOVE_INDEX.ordinal()];
+		long start = s.start();
+		try {
+			return inner.removeIndex(index);
+		} catch (RuntimeException e) {
+			s.failed(e);
+			throw e;
+		} finally {
+			s.finish(start);
+		}
+	}
+
+	/**
+	 * Same as the wrapped list, plus counting.
+	 */
+	@Override
+	public void addFront(T item) {
+		Stats s = stats[Operation.ADD_FRONT.ordinal()];
+		long start = s.start();
+		try {
+			inner.addFront(item);
+		} catch (RuntimeException e) {
+			s.failed(e);
+			throw e;
+		} finally {
+			s.finish(start);
+		}
+	}
+
+	/**
+	 * Same as the wrapped list, plus counting.
+	 */
+	@Override
+	public void addBack(T item) {
+		Stats s = stats[Operation.ADD_BACK.ordinal()];
+		long start = s.start();
+		try {
+			inner.addBack(item);
+		} catch (RuntimeException e) {
+			s.failed(e);
+			throw e;
+		} finally {
+			s.finish(start);
+		}
+	}
+
+	/**
+	 * Same as the wrapped list, plus counting.
+	 */
+	@Override
+	public void addIndex(T item, int index) {
+		Stats s = stats[Operation.ADD_INDEX.ordinal()];
+		long start = s.start();
+		try {
+			inner.addIndex(item, index);
+		} catch (RuntimeException e) {
+			s.failed(e);
+			throw e;
+		} finally {
+			s.finish(start);
+		}
+	}
+
+	/**
+	 * Same as the wrapped list, plus counting.
+	 */
+	@Override
+	public T getFront() {
+		Stats s = stats[Operation.GET_FRONT.ordinal()];
+		long start = s.start();
+		try {
+			return inner.getFront();
+		} catch (RuntimeException e) {
+			s.failed(e);
+			throw e;
+		} finally {
+			s.finish(start);
+		}
+	}
+
+	/**
+	 * Same as the wrapped list, plus counting.
+	 */
+	@Override
+	public T getBack() {
+		Stats s = stats[Operation.GET_BACK.ordinal()];
+		long start = s.start();
+		try {
+			return inner.getBack();
+		} catch (RuntimeException e) {
+			s.failed(e);
+			throw e;
+		} finally {
+			s.finish(start);
+		}
+	}
+
+	/**
+	 * Same as the wrapped list, plus counting.
+	 */
+	@Override
+	public T getIndex(int index) {
+		Stats s = stats[Operation.GET_INDEX.ordinal()];
+		long start = s.start();
+		try {
+			return inner.getIndex(index);
+		} catch (RuntimeException e) {
+			s.failed(e);
+			throw e;
+		} finally {
+			s.finish(start);
+		}
+	}
+
+	/**
+	 * Same as the wrapped list, plus counting.
+	 */
+	@Override
+	public int size() {
+		Stats s = stats[Operation.SIZE.ordinal()];
+		long start = s.start();
+		try {
+			return inner.size();
+		} catch (RuntimeException e) {
+			s.failed(e);
+			throw e;
+		} finally {
+			s.finish(start);
+		}
+	}
+
+	/**
+	 * Same as the wrapped list, plus counting.
+	 */
+	@Override
+	public boolean isEmpty() {
+		Stats s = stats[Operation.IS_EMPTY.ordinal()];
+		long start = s.start();
+		try {
+			return inner.isEmpty();
+		} catch (RuntimeException e) {
+			s.failed(e);
+			throw e;
+		} finally {
+			s.finish(start);
+		}
+	}
+
+	/**
+	 * Same as the wrapped list, plus counting. The calls the wrapped list makes to
+	 * itself (like addBack, if it uses the default) aren't counted separately.
+	 */
+	@Override
+	public void addAllBack(T[] items) {
+		Stats s = stats[Operation.ADD_ALL_BACK.ordinal()];
+		long start = s.start();
+		try {
+			inner.addAllBack(items);
+		} catch (RuntimeException e) {
+			s.failed(e);
+			throw e;
+		} finally {
+			s.finish(start);
+		}
+	}
+
+	/**
+	 * Same as the wrapped list, plus counting.
+	 */
+	@Override
+	public void addAllAt(int index, T[] items) {
+		Stats s = stats[Operation.ADD_ALL_AT.ordinal()];
+		long start = s.start();
+		try {
+			inner.addAllAt(index, items);
+		} catch (RuntimeException e) {
+			s.failed(e);
+			throw e;
+		} finally {
+			s.finish(start);
+		}
+	}
+
+	/**
+	 * Same as the wrapped list, plus counting.
+	 */
+	@Override
+	public void removeRange(int from, int to) {
+		Stats s = stats[Operation.REMOVE_RANGE.ordinal()];
+		long start = s.start();
+		try {
+			inner.removeRange(from, to);
+		} catch (RuntimeException e) {
+			s.failed(e);
+			throw e;
+		} finally {
+			s.finish(start);
+		}
+	}
+
+	/**
+	 * Same as the wrapped list, plus counting.
+	 */
+	@Override
+	public void copyRange(int from, int to, T[] dest) {
+		Stats s = stats[Operation.COPY_RANGE.ordinal()];
+		long start = s.start();
+		try {
+			inner.copyRange(from, to, dest);
+		} catch (RuntimeException e) {
+			s.failed(e);
+			throw e;
+		} finally {
+			s.finish(start);
+		}
+	}
+
+	/**
+	 * The wrapped list's own iterator; not counted.
+	 */
+	@Override
+	public Iterator<T> iterator() {
+		return inner.iterator();
+	}
+
+	/**
+	 * The wrapped list's own spliterator; not counted.
+	 */
+	@Override
+	public Spliterator<T> spliterator() {
+		return inner.spliterator();
+	}
+
+	/**
+	 * Only time about one in every ``every`` calls to a method. Every call is
+	 * still counted, so {@link OperationSnapshot#calls()} stays exact, but the
+	 * histogram only has the ones that were picked. Which calls get picked is
+	 * random, so a pattern in the calls can't fool it.
+	 *
+	 * @param op    - which method.
+	 * @param every - 1 to time every call (the default), 1000 to time about one
+	 *              in a thousand.
+	 */
+	public void setSampleEvery(Operation op, int every) {
+		if (every < 1) {
+			throw new IllegalArgumentException("every: " + every);
+		}
+		stats[op.ordinal()].sampleEvery = every;
+	}
+
+	/**
+	 * O(1)
+	 * @return how many calls to a method are timed; 1 means all of them.
+	 */
+	public int getSampleEvery(Operation op) {
+		return stats[op.ordinal()].sampleEvery;
+	}
+
+	/**
+	 * O(LatencyHistogram.BUCKETS) - Copy the numbers for one method.
+	 * @param op - which method.
+	 * @return its counts, which won't change after this.
+	 */
+	public OperationSnapshot snapshot(Operation op) {
+		Stats s = stats[op.ordinal()];
+		return new OperationSnapshot(op, s.calls.sum(), s.badIndex.sum(), s.emptyList.sum(),
+				s.ranOutOfSpace.sum(), s.latency.snapshot());
+	}
+
+	/**
+	 * O(LatencyHistogram.BUCKETS) - Copy the numbers for every method.
+	 * @return their counts, in Operation order.
+	 */
+	public Map<Operation, OperationSnapshot> snapshot() {
+		Map<Operation, OperationSnapshot> output = new EnumMap<>(Operation.class);
+		for (Operation op : Operation.values()) {
+			output.put(op, snapshot(op));
+		}
+		return Collections.unmodifiableMap(output);
+	}
+
+	/**
+	 * Start counting again from zero. Calls happening on other threads at the
+	 * same time may or may not be forgotten.
+	 */
+	public void reset() {
+		for (Stats s : stats) {
+			s.calls.reset();
+			s.badIndex.reset();
+			s.emptyList.reset();
+			s.ranOutOfSpace.reset();
+			s.latency.reset();
+		}
+	}
+
+	/**
+	 * Show these numbers in JMX, as
+	 * {@code edu.smith.cs.csc212.p6:type=InstrumentedP6List,name=<name>}. See
+	 * {@link P6ListStatsMXBean} for what is there.
+	 *
+	 * @param name - what to call this list; it has to be different from every
+	 *             other list that's registered.
+	 * @return where it is in JMX.
+	 * @throws JMException if the name is taken or isn't allowed.
+	 */
+	public synchronized ObjectName registerMBean(String name) throws JMException {
+		if (registeredAs != null) {
+			throw new IllegalStateException("already registered as " + registeredAs);
+		}
+		ObjectName objectName = new ObjectName(JMX_DOMAIN + ":type=InstrumentedP6List,name=" + name);
+		ManagementFactory.getPlatformMBeanServer().registerMBean(new MBean(), objectName);
+		this.registeredAs = objectName;
+		return objectName;
+	}
+
+	/**
+	 * Take these numbers back out of JMX. It's fine to call this if they were
+	 * never put there.
+	 *
+	 * @throws JMException if JMX won't let go of them.
+	 */
+	public synchronized void unregisterMBean() throws JMException {
+		if (registeredAs == null) {
+			return;
+		}
+		ManagementFactory.getPlatformMBeanServer().unregisterMBean(registeredAs);
+		this.registeredAs = null;
+	}
+
+	/**
+	 * The counters for one method. All of them can be added to by many threads at
+	 * once.
+	 */
+	private static final class Stats {
+		private final LongAdder calls;
+		private final LongAdder badIndex;
+		private final LongAdder emptyList;
+		private final LongAdder ranOutOfSpace;
+		private final LatencyHistogram latency;
+		private volatile int sampleEvery;
+
+		Stats() {
+			this.calls = new LongAdder();
+			this.badIndex = new LongAdder();
+			this.emptyList = new LongAdder();
+			this.ranOutOfSpace = new LongAdder();
+			this.latency = new LatencyHistogram();
+			this.sampleEvery = 1;
+		}
+
+		/**
+		 * Count a call, and decide whether to time it.
+		 * @return the time it started, or NOT_TIMED.
+		 */
+		long start() {
+			calls.increment();
+			int every = sampleEvery;
+			if (every == 1 || ThreadLocalRandom.current().nextInt(every) == 0) {
+				return System.nanoTime();
+			}
+			return NOT_TIMED;
+		}
+
+		/**
+		 * Record how long a call took, if it was being timed.
+		 */
+		void finish(long start) {
+			if (start != NOT_TIMED) {
+				latency.record(System.nanoTime() - start);
+			}
+		}
+
+		/**
+		 * Count an error, if it's one of ours.
+		 */
+		void failed(RuntimeException e) {
+			if (e instanceof BadIndexError) {
+				badIndex.increment();
+			} else if (e instanceof EmptyListError) {
+				emptyList.increment();
+			} else if (e instanceof RanOutOfSpaceError) {
+				ranOutOfSpace.increment();
+			}
+		}
+	}
+
+	/**
+	 * The numbers for one method at one moment. It never changes.
+	 */
+	public static final class OperationSnapshot {
+		private final Operation operation;
+		private final long calls;
+		private final long badIndexErrors;
+		private final long emptyListErrors;
+		private final long ranOutOfSpaceErrors;
+		private final LatencyHistogram.Snapshot latency;
+
+		OperationSnapshot(Operation operation, long calls, long badIndexErrors, long emptyListErrors,
+				long ranOutOfSpaceErrors, LatencyHistogram.Snapshot latency) {
+			this.operation = operation;
+			this.calls = calls;
+			this.badIndexErrors = badIndexErrors;
+			this.emptyListErrors = emptyListErrors;
+			this.ranOutOfSpaceErrors = ranOutOfSpaceErrors;
+			this.latency = latency;
+		}
+
+		public Operation operation() {
+			return operation;
+		}
+
+		/**
+		 * @return how many times it was called, including ones that threw.
+		 */
+		public long calls() {
+			return calls;
+		}
+
+		public long badIndexErrors() {
+			return badIndexErrors;
+		}
+
+		public long emptyListErrors() {
+			return emptyListErrors;
+		}
+
+		public long ranOutOfSpaceErrors() {
+			return ranOutOfSpaceErrors;
+		}
+
+		/**
+		 * @return the times of the calls that were timed, in nanoseconds. With
+		 *         sampling, this has fewer values than calls().
+		 */
+		public LatencyHistogram.Snapshot latency() {
+			return latency;
+		}
+	}
+
+	/**
+	 * What JMX sees: it just turns snapshots into maps of names to numbers.
+	 */
+	private class MBean implements P6ListStatsMXBean {
+		@Override
+		public Map<String, Long> getCalls() {
+			return collect(OperationSnapshot::calls);
+		}
+
+		@Override
+		public Map<String, Long> getErrors() {
+			Map<String, Long> output = new TreeMap<>();
+			for (OperationSnapshot s : snapshot().values()) {
+				String name = s.operation().methodName();
+				if (s.badIndexErrors() > 0) {
+					output.put(name + ".BadIndexError", s.badIndexErrors());
+				}
+				if (s.emptyListErrors() > 0) {
+					output.put(name + ".EmptyListError", s.emptyListErrors());
+				}
+				if (s.ranOutOfSpaceErrors() > 0) {
+					output.put(name + ".RanOutOfSpaceError", s.ranOutOfSpaceErrors());
+				}
+			}
+			return output;
+		}
+
+		@Override
+		public Map<String, Long> getP50Nanos() {
+			return collect(s -> s.latency().percentile(0.5));
+		}
+
+		@Override
+		public Map<String, Long> getP99Nanos() {
+			return collect(s -> s.latency().percentile(0.99));
+		}
+
+		@Override
+		public Map<String, Long> getMaxNanos() {
+			return collect(s -> s.latency().max());
+		}
+
+		@Override
+		public Map<String, Double> getMeanNanos() {
+			Map<String, Double> output = new TreeMap<>();
+			for (OperationSnapshot s : snapshot().values()) {
+				if (s.calls() > 0) {
+					output.put(s.operation().methodName(), s.latency().mean());
+				}
+			}
+			return output;
+		}
+
+		@Override
+		public void reset() {
+			InstrumentedP6List.this.reset();
+		}
+
+		/**
+		 * Helper method to pull one number out of the snapshot of every method that
+		 * has been called.
+		 */
+		private Map<String, Long> collect(ToLongFunction<OperationSnapshot> number) {
+			Map<String, Long> output = new TreeMap<>();
+			for (OperationSnapshot s : snapshot().values()) {
+				if (s.calls() > 0) {
+					output.put(s.operation().methodName(), number.applyAsLong(s));
+				}
+			}
+			return output;
+		}
+	}
+}
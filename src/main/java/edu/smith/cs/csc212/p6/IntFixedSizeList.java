@@ -0,0 +1,196 @@
+// Generated from src/main/templates/PrimitiveFixedSizeList.java.template by
+// PrimitiveListGenerator (in src/test). Don't edit it here: change the
+// template and run the generator again.
+package edu.smith.cs.csc212.p6;
+
+import edu.smith.cs.csc212.p6.errors.BadIndexError;
+import edu.smith.cs.csc212.p6.errors.EmptyListError;
+import edu.smith.cs.csc212.p6.errors.RanOutOfSpaceError;
+
+/**
+ * A {@link FixedSizeList} of {@code int}s. The values live in a plain
+ * {@code int[]}, so nothing is boxed and reading one is a single array load.
+ * 
+ * The methods ending in Int (like {@code getInt}) are the fast ones. The {@code Integer} methods
+ * from {@link P6List} still work, but they box and unbox on the way in and out,
+ * and can't store null.
+ */
+public class IntFixedSizeList implements P6List<Integer> {
+	private int[] array;
+	private int fill;
+	
+	public IntFixedSizeList(int maximumSize) {
+		this.array = new int[maximumSize];
+		this.fill = 0;
+	}
+	
+	/**
+	 * O(n) - After removing the first item, everything has to move back 1 place
+	 * @return the value that was removed.
+	 */
+	public int removeFrontInt() {
+		return removeIndexInt(0);
+	}
+
+	/**
+	 * O(1) - You can just pick off the end without moving anything else
+	 * @return the value that was removed.
+	 */
+	public int removeBackInt() {
+		checkNotEmpty();
+		fill--;
+		return this.array[fill];
+	}
+
+	/**
+	 * O(n) - After removing the indexed item, everything after has to move back 1 place
+	 * @param index - a number from 0 to size (excluding size).
+	 * @return the value that was removed.
+	 */
+	public int removeIndexInt(int index) {
+		checkNotEmpty();
+		int removed = this.getInt(index);
+		fill--;
+		System.arraycopy(array, index+1, array, index, fill-index);
+		return removed;
+	}
+
+	/**
+	 * O(n) - In order to add to the front, everything after has to shift down one place.
+	 * @param item - the value to add.
+	 */
+	public void addFrontInt(int item) {
+		addIndexInt(item, 0);
+	}
+
+	/**
+	 * O(1) - Nothing has to move to add to the back
+	 * @param item - the value to add.
+	 */
+	public void addBackInt(int item) {
+		if (fill < array.length) {
+			array[fill++] = item;
+		} else {
+			throw new RanOutOfSpaceError();
+		}
+	}
+
+	/**
+	 * O(n) - Everything after the desired index has to shift down one place to give 
+	 * room for the new value
+	 * @param item - the value to add.
+	 * @param index - where to add it, from 0 to size (including size).
+	 */
+	public void addIndexInt(int item, int index) {
+		if (fill >= array.length) {
+			throw new RanOutOfSpaceError();
+		}
+		if (index < 0 || index > fill) {
+			throw new BadIndexError();
+		}
+		System.arraycopy(array, index, array, index+1, fill-index);
+		array[index] = item;
+		fill++;
+	}
+
+	/**
+	 * O(1) - Indexing the array is quick since the array gives each value an index anyway
+	 * @return the first value.
+	 */
+	public int getFrontInt() {
+		checkNotEmpty();
+		return this.array[0];
+	}
+
+	/**
+	 * O(1) - Indexing the array is quick since the array gives each value an index anyway
+	 * @return the last value.
+	 */
+	public int getBackInt() {
+		checkNotEmpty();
+		return this.array[fill-1];
+	}
+
+	/**
+	 * O(1) - Indexing the array is quick since the array gives each value an index anyway
+	 * @param index - a number from 0 to size (excluding size).
+	 * @return the value at that index.
+	 */
+	public int getInt(int index) {
+		if (index < 0 || index >= fill) {
+			throw new BadIndexError();
+		}
+		return this.array[index];
+	}
+
+	/**
+	 * O(1) - We've been keeping track of the value of fill the whole time 
+	 * so it's easy to retrieve
+	 */
+	@Override
+	public int size() {
+		return this.fill;
+	}
+
+	/**
+	 * O(1) - Again, it is super easy to see the value of fill 
+	 */
+	@Override
+	public boolean isEmpty() {
+		return this.fill == 0;
+	}
+
+	@Override
+	public Integer removeFront() {
+		return removeFrontInt();
+	}
+
+	@Override
+	public Integer removeBack() {
+		return removeBackInt();
+	}
+
+	@Override
+	public Integer removeIndex(int index) {
+		return removeIndexInt(index);
+	}
+
+	@Override
+	public void addFront(Integer item) {
+		addFrontInt(item);
+	}
+
+	@Override
+	public void addBack(Integer item) {
+		addBackInt(item);
+	}
+
+	@Override
+	public void addIndex(Integer item, int index) {
+		addIndexInt(item, index);
+	}
+
+	@Override
+	public Integer getFront() {
+		return getFrontInt();
+	}
+
+	@Override
+	public Integer getBack() {
+		return getBackInt();
+	}
+
+	@Override
+	public Integer getIndex(int index) {
+		return getInt(index);
+	}
+
+	/**
+	 * Helper method to throw the right error for an empty state.
+	 */
+	private void checkNotEmpty() {
+		if (this.isEmpty()) {
+			throw new EmptyListError();
+		}
+	}
+}
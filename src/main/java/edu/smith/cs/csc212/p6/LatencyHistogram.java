@@ -0,0 +1,172 @@
+package edu.smith.cs.csc212.p6;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts how long things took, in the style of an HdrHistogram: the buckets
+ * get wider as the values get bigger, so that every value is recorded to
+ * within about 12%, from 1 nanosecond up to centuries, in a fixed 4KB of
+ * counters.
+ *
+ * Values under 8 get a bucket each. After that, every power of two (8 to 15,
+ * 16 to 31, 32 to 63, ...) is cut into 8 equal buckets, so finding the bucket
+ * is just a couple of bit operations. Recording is a few atomic adds with no
+ * locks, so any number of threads can record at once.
+ */
+public class LatencyHistogram {
+	/**
+	 * Each power of two is cut into 2^SUB_BITS buckets.
+	 */
+	static final int SUB_BITS = 3;
+	static final int SUB_BUCKETS = 1 << SUB_BITS;
+	/**
+	 * Enough buckets for every non-negative long.
+	 */
+	static final int BUCKETS = (64 - SUB_BITS) * SUB_BUCKETS;
+
+	private final AtomicLongArray counts;
+	private final LongAdder sum;
+	private final LongAccumulator max;
+
+	public LatencyHistogram() {
+		this.counts = new AtomicLongArray(BUCKETS);
+		this.sum = new LongAdder();
+		this.max = new LongAccumulator(Math::max, 0);
+	}
+
+	/**
+	 * O(1) - Count one more value.
+	 * @param nanos - how long it took; negative values count as 0.
+	 */
+	public void record(long nanos) {
+		long value = Math.max(0, nanos);
+		counts.incrementAndGet(bucketOf(value));
+		sum.add(value);
+		max.accumulate(value);
+	}
+
+	/**
+	 * O(BUCKETS) - Forget everything recorded so far. Values recorded by other
+	 * threads at the same time may or may not be forgotten.
+	 */
+	public void reset() {
+		for (int i = 0; i < BUCKETS; i++) {
+			counts.set(i, 0);
+		}
+		sum.reset();
+		max.reset();
+	}
+
+	/**
+	 * O(BUCKETS) - Copy the counts, so they can be looked at without changing
+	 * under us.
+	 * @return a copy of everything recorded so far.
+	 */
+	public Snapshot snapshot() {
+		long[] copy = new long[BUCKETS];
+		for (int i = 0; i < BUCKETS; i++) {
+			copy[i] = counts.get(i);
+		}
+		return new Snapshot(copy, sum.sum(), max.get());
+	}
+
+	/**
+	 * O(1) - Which bucket a value goes in.
+	 * @param value - at least 0.
+	 */
+	static int bucketOf(long value) {
+		if (value < SUB_BUCKETS) {
+			return (int) value;
+		}
+		int power = 63 - Long.numberOfLeadingZeros(value);
+		int sub = (int) (value >>> (power - SUB_BITS)) & (SUB_BUCKETS - 1);
+		return (power - SUB_BITS + 1) * SUB_BUCKETS + sub;
+	}
+
+	/**
+	 * O(1) - The biggest value that goes in a bucket.
+	 * @param bucket - from 0 to BUCKETS (excluding BUCKETS).
+	 */
+	static long highestIn(int bucket) {
+		if (bucket < SUB_BUCKETS) {
+			return bucket;
+		}
+		int power = bucket / SUB_BUCKETS + SUB_BITS - 1;
+		int sub = bucket % SUB_BUCKETS;
+		long lowest = (long) (SUB_BUCKETS + sub) << (power - SUB_BITS);
+		return lowest + (1L << (power - SUB_BITS)) - 1;
+	}
+
+	/**
+	 * The counts of a histogram at one moment. It never changes.
+	 */
+	public static final class Snapshot {
+		private final long[] counts;
+		private final long count;
+		private final long sum;
+		private final long max;
+
+		Snapshot(long[] counts, long sum, long max) {
+			this.counts = counts;
+			long count = 0;
+			for (long c : counts) {
+				count += c;
+			}
+			this.count = count;
+			this.sum = sum;
+			this.max = max;
+		}
+
+		/**
+		 * O(1)
+		 * @return how many values were recorded.
+		 */
+		public long count() {
+			return count;
+		}
+
+		/**
+		 * O(1)
+		 * @return the biggest value recorded, or 0 if there weren't any.
+		 */
+		public long max() {
+			return max;
+		}
+
+		/**
+		 * O(1)
+		 * @return the average of the values recorded, or 0 if there weren't any.
+		 */
+		public double mean() {
+			return count == 0 ? 0 : (double) sum / count;
+		}
+
+		/**
+		 * O(BUCKETS) - Walk the buckets until we've passed the right fraction of
+		 * the values. The answer is the top of that bucket (but never more than
+		 * max), so it is at most about 12% too big.
+		 *
+		 * @param quantile - from 0 to 1; e.g. 0.99 for the 99th percentile.
+		 * @return a value that at least that fraction of values were at or below.
+		 */
+		public long percentile(double quantile) {
+			if (quantile < 0 || quantile > 1) {
+				throw new IllegalArgumentException("quantile: " + quantile);
+			}
+			if (count == 0) {
+				return 0;
+			}
+			long wanted = Math.max(1, (long) Math.ceil(quantile * count));
+			long seen = 0;
+			for (int i = 0; i < counts.length; i++) {
+				seen += counts[i];
+				if (seen >= wanted) {
+					return Math.min(highestIn(i), max);
+				}
+			}
+			return max;
+		}
+	}
+}
@@ -0,0 +1,295 @@
+// Generated from src/main/templates/PrimitiveChunkyLinkedList.java.template by
+// PrimitiveListGenerator (in src/test). Don't edit it here: change the
+// template and run the generator again.
+package edu.smith.cs.csc212.p6;
+
+import edu.smith.cs.csc212.p6.errors.BadIndexError;
+import edu.smith.cs.csc212.p6.errors.EmptyListError;
+
+/**
+ * A {@link ChunkyLinkedList} of {@code long}s, made of
+ * {@link LongFixedSizeList} chunks so nothing is boxed. It splits and merges
+ * chunks exactly like ChunkyLinkedList does.
+ * 
+ * The methods ending in Long (like {@code getLong}) are the fast ones. The
+ * {@code Long} methods from {@link P6List} still work, but they box and unbox
+ * on the way in and out, and can't store null.
+ */
+public class LongChunkyLinkedList implements P6List<Long> {
+	private int chunkSize;
+	/**
+	 * The chunks, in order, along with a running count of how many items each
+	 * one holds, so we can jump straight to the chunk for an index.
+	 */
+	private ChunkDirectory<LongFixedSizeList> chunks;
+
+	public LongChunkyLinkedList(int chunkSize) {
+		this.chunkSize = chunkSize;
+		this.chunks = new ChunkDirectory<>();
+	}
+
+	/**
+	 * O(chunkSize) - The first chunk is always at the start of the directory, 
+	 * but then all of the values within that fixed size list have to shift to remove the front.
+	 * Dropping the chunk once it is empty is O(chunks), but only once every chunkSize removes.
+	 */
+	public long removeFrontLong() {
+		checkNotEmpty();
+		long removed = chunks.first().removeFrontLong();
+		chunks.sizeChanged(0, -1);
+		mergeIfSmall(0);
+		return removed;
+	}
+
+	/**
+	 * O(1) - The last chunk is always at the end of the directory, and it is never empty.
+	 * Then, actually removing from that is easy.
+	 */
+	public long removeBackLong() {
+		checkNotEmpty();
+		int last = chunks.chunkCount() - 1;
+		long removed = chunks.last().removeBackLong();
+		chunks.sizeChanged(last, -1);
+		mergeIfSmall(last);
+		return removed;
+	}
+
+	/**
+	 * O(log chunks + chunkSize) - The directory finds the chunk containing the index
+	 * without looping through all of them. Then, the items after it in that chunk shift over.
+	 * If that leaves the chunk empty, or small enough to share with a neighbor, 
+	 * we drop a chunk, which is O(chunks).
+	 */
+	public long removeIndexLong(int index) {
+		checkNotEmpty();
+		checkIndex(index);
+		int pos = chunks.find(index);
+		long removed = chunks.get(pos).removeIndexLong(index - chunks.prefix(pos));
+		chunks.sizeChanged(pos, -1);
+		mergeIfSmall(pos);
+		return removed;
+	}
+
+	/**
+	 * O(log chunks + chunkSize) - Same as addIndex at 0: if the first chunk is full
+	 * it gets split in half, so at most half a chunk of items ever shifts.
+	 */
+	public void addFrontLong(long item) {
+		addIndexLong(item, 0);
+	}
+
+	/**
+	 * O(1) - The last chunk is always at the end of the directory.
+	 * If the last one is full, make a new one and add the node. If not full, just add to back.
+	 * Making a new chunk costs O(log chunks), but only once every chunkSize adds.
+	 */
+	public void addBackLong(long item) {
+		int last = chunks.chunkCount() - 1;
+		if (last < 0 || chunks.sizeOf(last) >= chunkSize) {
+			chunks.addLast(new LongFixedSizeList(chunkSize), 0);
+			last++;
+		}
+		chunks.last().addBackLong(item);
+		chunks.sizeChanged(last, 1);
+	}
+
+	/**
+	 * O(log chunks + chunkSize) - The directory finds the chunk containing the index,
+	 * and only the items after it in that chunk shift down. If that chunk is full, 
+	 * we split it in half first, which is O(chunks) for making room in the directory.
+	 */
+	public void addIndexLong(long item, int index) {
+		if (index < 0 || index > this.size()) {
+			throw new BadIndexError();
+		}
+		if (index == this.size()) {
+			addBackLong(item);
+			return;
+		}
+		int pos = chunks.find(index);
+		int offset = index - chunks.prefix(pos);
+		if (offset == 0 && pos > 0 && chunks.sizeOf(pos - 1) < chunkSize) {
+			// Just after the end of a chunk with room in it; no shifting at all.
+			chunks.get(pos - 1).addBackLong(item);
+			chunks.sizeChanged(pos - 1, 1);
+			return;
+		}
+		if (chunks.sizeOf(pos) >= chunkSize) {
+			int kept = split(pos);
+			if (offset > kept) {
+				pos++;
+				offset -= kept;
+			}
+		}
+		chunks.get(pos).addIndexLong(item, offset);
+		chunks.sizeChanged(pos, 1);
+	}
+	
+	/**
+	 * O(1) - The first chunk is at the start of the directory and is never empty, and it is easy
+	 * to index the fixed size lists inside
+	 */
+	public long getFrontLong() {
+		checkNotEmpty();
+		return chunks.first().getFrontLong();
+	}
+
+	/**
+	 * O(1) - The last chunk is at the end of the directory and is never empty, and then 
+	 * it is easy to get the back of the fixed size list within
+	 */
+	public long getBackLong() {
+		checkNotEmpty();
+		return chunks.last().getBackLong();
+	}
+
+	/**
+	 * O(log chunks) - The directory finds the chunk with the index by walking down its tree, 
+	 * and then it is easy to get the item from within the fixed size list
+	 */
+	public long getLong(int index) {
+		checkNotEmpty();
+		checkIndex(index);
+		int pos = chunks.find(index);
+		return chunks.get(pos).getLong(index - chunks.prefix(pos));
+	}
+
+	/**
+	 * O(1) - The directory keeps a running total of every chunk's size
+	 */
+	@Override
+	public int size() {
+		return chunks.total();
+	}
+
+	/**
+	 * O(1) - Easy, since the list is empty when the running total is zero.
+	 */
+	@Override
+	public boolean isEmpty() {
+		return chunks.total() == 0;
+	}
+
+	@Override
+	public Long removeFront() {
+		return removeFrontLong();
+	}
+
+	@Override
+	public Long removeBack() {
+		return removeBackLong();
+	}
+
+	@Override
+	public Long removeIndex(int index) {
+		return removeIndexLong(index);
+	}
+
+	@Override
+	public void addFront(Long item) {
+		addFrontLong(item);
+	}
+
+	@Override
+	public void addBack(Long item) {
+		addBackLong(item);
+	}
+
+	@Override
+	public void addIndex(Long item, int index) {
+		addIndexLong(item, index);
+	}
+
+	@Override
+	public Long getFront() {
+		return getFrontLong();
+	}
+
+	@Override
+	public Long getBack() {
+		return getBackLong();
+	}
+
+	@Override
+	public Long getIndex(int index) {
+		return getLong(index);
+	}
+
+	/**
+	 * O(chunkSize + chunks) - Move the back half of a full chunk into a brand new
+	 * chunk right after it.
+	 * 
+	 * @param pos - which chunk to split.
+	 * @return how many items stayed in the original chunk.
+	 */
+	private int split(int pos) {
+		LongFixedSizeList chunk = chunks.get(pos);
+		int kept = chunk.size() / 2;
+		LongFixedSizeList back = new LongFixedSizeList(chunkSize);
+		for (int i = kept; i < chunk.size(); i++) {
+			back.addBackLong(chunk.getLong(i));
+		}
+		while (chunk.size() > kept) {
+			chunk.removeBackLong();
+		}
+		chunks.sizeChanged(pos, -back.size());
+		chunks.insert(pos + 1, back, back.size());
+		return kept;
+	}
+
+	/**
+	 * O(chunkSize + chunks) - After a remove, throw away a chunk that is now empty,
+	 * or merge a chunk that is less than half full into a neighbor that has room for it.
+	 * Otherwise we could end up with a long chain of nearly empty chunks.
+	 * 
+	 * @param pos - the chunk that just got smaller.
+	 */
+	private void mergeIfSmall(int pos) {
+		int size = chunks.sizeOf(pos);
+		if (size == 0) {
+			chunks.remove(pos);
+		} else if (size < chunkSize / 2) {
+			if (pos + 1 < chunks.chunkCount() && size + chunks.sizeOf(pos + 1) <= chunkSize) {
+				moveAll(pos + 1, pos);
+				chunks.remove(pos + 1);
+			} else if (pos > 0 && size + chunks.sizeOf(pos - 1) <= chunkSize) {
+				moveAll(pos, pos - 1);
+				chunks.remove(pos);
+			}
+		}
+	}
+
+	/**
+	 * O(chunkSize) - Copy every item of a chunk onto the back of the chunk before it.
+	 * The caller is responsible for removing the chunk we copied from.
+	 * 
+	 * @param from - the chunk whose items we copy.
+	 * @param to   - the chunk right before it; it must have room.
+	 */
+	private void moveAll(int from, int to) {
+		LongFixedSizeList source = chunks.get(from);
+		LongFixedSizeList target = chunks.get(to);
+		for (int i = 0; i < source.size(); i++) {
+			target.addBackLong(source.getLong(i));
+		}
+		chunks.sizeChanged(to, source.size());
+	}
+
+	/**
+	 * Helper method to throw the right error for an empty state.
+	 */
+	private void checkNotEmpty() {
+		if (this.isEmpty()) {
+			throw new EmptyListError();
+		}
+	}
+
+	/**
+	 * Helper method to throw the right error for an index that isn't in the list.
+	 */
+	private void checkIndex(int index) {
+		if (index < 0 || index >= this.size()) {
+			throw new BadIndexError();
+		}
+	}
+}
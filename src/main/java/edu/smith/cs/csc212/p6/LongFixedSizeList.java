@@ -0,0 +1,196 @@
+// Generated from src/main/templates/PrimitiveFixedSizeList.java.template by
+// PrimitiveListGenerator (in src/test). Don't edit it here: change the
+// template and run the generator again.
+package edu.smith.cs.csc212.p6;
+
+import edu.smith.cs.csc212.p6.errors.BadIndexError;
+import edu.smith.cs.csc212.p6.errors.EmptyListError;
+import edu.smith.cs.csc212.p6.errors.RanOutOfSpaceError;
+
+/**
+ * A {@link FixedSizeList} of {@code long}s. The values live in a plain
+ * {@code long[]}, so nothing is boxed and reading one is a single array load.
+ * 
+ * The methods ending in Long (like {@code getLong}) are the fast ones. The {@code Long} methods
+ * from {@link P6List} still work, but they box and unbox on the way in and out,
+ * and can't store null.
+ */
+public class LongFixedSizeList implements P6List<Long> {
+	private long[] array;
+	private int fill;
+	
+	public LongFixedSizeList(int maximumSize) {
+		this.array = new long[maximumSize];
+		this.fill = 0;
+	}
+	
+	/**
+	 * O(n) - After removing the first item, everything has to move back 1 place
+	 * @return the value that was removed.
+	 */
+	public long removeFrontLong() {
+		return removeIndexLong(0);
+	}
+
+	/**
+	 * O(1) - You can just pick off the end without moving anything else
+	 * @return the value that was removed.
+	 */
+	public long removeBackLong() {
+		checkNotEmpty();
+		fill--;
+		return this.array[fill];
+	}
+
+	/**
+	 * O(n) - After removing the indexed item, everything after has to move back 1 place
+	 * @param index - a number from 0 to size (excluding size).
+	 * @return the value that was removed.
+	 */
+	public long removeIndexLong(int index) {
+		checkNotEmpty();
+		long removed = this.getLong(index);
+		fill--;
+		System.arraycopy(array, index+1, array, index, fill-index);
+		return removed;
+	}
+
+	/**
+	 * O(n) - In order to add to the front, everything after has to shift down one place.
+	 * @param item - the value to add.
+	 */
+	public void addFrontLong(long item) {
+		addIndexLong(item, 0);
+	}
+
+	/**
+	 * O(1) - Nothing has to move to add to the back
+	 * @param item - the value to add.
+	 */
+	public void addBackLong(long item) {
+		if (fill < array.length) {
+			array[fill++] = item;
+		} else {
+			throw new RanOutOfSpaceError();
+		}
+	}
+
+	/**
+	 * O(n) - Everything after the desired index has to shift down one place to give 
+	 * room for the new value
+	 * @param item - the value to add.
+	 * @param index - where to add it, from 0 to size (including size).
+	 */
+	public void addIndexLong(long item, int index) {
+		if (fill >= array.length) {
+			throw new RanOutOfSpaceError();
+		}
+		if (index < 0 || index > fill) {
+			throw new BadIndexError();
+		}
+		System.arraycopy(array, index, array, index+1, fill-index);
+		array[index] = item;
+		fill++;
+	}
+
+	/**
+	 * O(1) - Indexing the array is quick since the array gives each value an index anyway
+	 * @return the first value.
+	 */
+	public long getFrontLong() {
+		checkNotEmpty();
+		return this.array[0];
+	}
+
+	/**
+	 * O(1) - Indexing the array is quick since the array gives each value an index anyway
+	 * @return the last value.
+	 */
+	public long getBackLong() {
+		checkNotEmpty();
+		return this.array[fill-1];
+	}
+
+	/**
+	 * O(1) - Indexing the array is quick since the array gives each value an index anyway
+	 * @param index - a number from 0 to size (excluding size).
+	 * @return the value at that index.
+	 */
+	public long getLong(int index) {
+		if (index < 0 || index >= fill) {
+			throw new BadIndexError();
+		}
+		return this.array[index];
+	}
+
+	/**
+	 * O(1) - We've been keeping track of the value of fill the whole time 
+	 * so it's easy to retrieve
+	 */
+	@Override
+	public int size() {
+		return this.fill;
+	}
+
+	/**
+	 * O(1) - Again, it is super easy to see the value of fill 
+	 */
+	@Override
+	public boolean isEmpty() {
+		return this.fill == 0;
+	}
+
+	@Override
+	public Long removeFront() {
+		return removeFrontLong();
+	}
+
+	@Override
+	public Long removeBack() {
+		return removeBackLong();
+	}
+
+	@Override
+	public Long removeIndex(int index) {
+		return removeIndexLong(index);
+	}
+
+	@Override
+	public void addFront(Long item) {
+		addFrontLong(item);
+	}
+
+	@Override
+	public void addBack(Long item) {
+		addBackLong(item);
+	}
+
+	@Override
+	public void addIndex(Long item, int index) {
+		addIndexLong(item, index);
+	}
+
+	@Override
+	public Long getFront() {
+		return getFrontLong();
+	}
+
+	@Override
+	public Long getBack() {
+		return getBackLong();
+	}
+
+	@Override
+	public Long getIndex(int index) {
+		return getLong(index);
+	}
+
+	/**
+	 * Helper method to throw the right error for an empty state.
+	 */
+	private void checkNotEmpty() {
+		if (this.isEmpty()) {
+			throw new EmptyListError();
+		}
+	}
+}
@@ -0,0 +1,293 @@
+package edu.smith.cs.csc212.p6;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import edu.smith.cs.csc212.p6.errors.BadIndexError;
+import edu.smith.cs.csc212.p6.errors.EmptyListError;
+
+/**
+ * A {@link GrowableList} whose items live in a memory-mapped file, as
+ * fixed-width records written by a {@link RecordCodec}.
+ *
+ * Opening a file that already holds a list gives it right back: the size is
+ * kept in a small header, and the records are read straight out of the mapping
+ * when you ask for them, so there is no loading step and the operating system's
+ * page cache does all of the I/O. When the file fills up, it is made bigger
+ * (by {@link GrowableList#DEFAULT_GROWTH_FACTOR}) and mapped again.
+ *
+ * Call {@link #close()} when you are done to make sure everything is on disk.
+ * A single mapping is limited to 2GB, so that's the biggest this list gets.
+ *
+ * @param <T> the type of item stored in the list.
+ */
+public class MappedGrowableList<T> implements P6List<T>, Closeable {
+	/**
+	 * The first 4 bytes of every file we write, so we don't open something else.
+	 */
+	public static final int MAGIC = 0x50364c31;
+	/**
+	 * The header is: magic, record size, item count, 4 unused bytes.
+	 */
+	public static final int HEADER_SIZE = 16;
+	private static final int MAGIC_AT = 0;
+	private static final int RECORD_SIZE_AT = 4;
+	private static final int FILL_AT = 8;
+
+	private final RecordCodec<T> codec;
+	private final int recordSize;
+	private final FileChannel channel;
+	private MappedByteBuffer buffer;
+	/**
+	 * How many records the current mapping has room for.
+	 */
+	private int capacity;
+	private int fill;
+	/**
+	 * Scratch space for shifting records, since ByteBuffer has no memmove.
+	 */
+	private final byte[] scratch;
+
+	/**
+	 * Open the list stored in a file, or start a new one if the file is missing
+	 * or empty.
+	 * @param file - where the list lives.
+	 * @param codec - how to turn an item into bytes and back; it must be the same
+	 * one that wrote the file.
+	 * @throws IOException if the file can't be opened, or holds something else.
+	 * @throws IllegalArgumentException if the codec's records aren't at least 1 byte.
+	 */
+	public MappedGrowableList(Path file, RecordCodec<T> codec) throws IOException {
+		if (codec.recordSize() <= 0) {
+			throw new IllegalArgumentException("recordSize: " + codec.recordSize());
+		}
+		this.codec = codec;
+		this.recordSize = codec.recordSize();
+		this.scratch = new byte[RecordBuffers.COPY_BLOCK];
+		this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+		boolean opened = false;
+		try {
+			if (channel.size() < HEADER_SIZE) {
+				map(GrowableList.START_SIZE);
+				buffer.putInt(MAGIC_AT, MAGIC);
+				buffer.putInt(RECORD_SIZE_AT, recordSize);
+				setFill(0);
+			} else {
+				map((int) ((channel.size() - HEADER_SIZE) / recordSize));
+				if (buffer.getInt(MAGIC_AT) != MAGIC || buffer.getInt(RECORD_SIZE_AT) != recordSize) {
+					throw new IOException(file + " does not hold a list of " + recordSize + "-byte records.");
+				}
+				int stored = buffer.getInt(FILL_AT);
+				if (stored < 0 || stored > capacity) {
+					throw new IOException(file + " says it holds " + stored + " records, but it only has room for " + capacity + ".");
+				}
+				this.fill = stored;
+			}
+			opened = true;
+		} finally {
+			if (!opened) {
+				// don't leak the file if we are throwing anything at all.
+				channel.close();
+			}
+		}
+	}
+
+	/**
+	 * O(n) - After removing the first record, everything has to move back 1 place
+	 */
+	@Override
+	public T removeFront() {
+		return removeIndex(0);
+	}
+
+	/**
+	 * O(1) - We just decode the last record and shrink the count in the header
+	 */
+	@Override
+	public T removeBack() {
+		checkNotEmpty();
+		T value = this.getIndex(fill-1);
+		setFill(fill-1);
+		return value;
+	}
+
+	/**
+	 * O(n) - After removing the indexed record, the bytes of everything after it
+	 * move back 1 record
+	 */
+	@Override
+	public T removeIndex(int index) {
+		checkNotEmpty();
+		T removed = this.getIndex(index);
+		moveRecords(index+1, index, fill-1-index);
+		setFill(fill-1);
+		return removed;
+	}
+
+	/**
+	 * O(n) - In order to add to the front, everything has to shift down one record.
+	 */
+	@Override
+	public void addFront(T item) {
+		addIndex(item, 0);
+	}
+
+	/**
+	 * O(1) - When the file has room, we just write one record at the end
+	 * O(n) - If the file is full, it has to be made bigger and mapped again
+	 */
+	@Override
+	public void addBack(T item) {
+		growIfFull();
+		codec.write(item, buffer, offsetOf(fill));
+		setFill(fill+1);
+	}
+
+	/**
+	 * O(n) - The bytes of everything after the index shift down one record to make room
+	 */
+	@Override
+	public void addIndex(T item, int index) {
+		if (index < 0 || index > fill) {
+			throw new BadIndexError();
+		}
+		growIfFull();
+		moveRecords(index, index+1, fill-index);
+		codec.write(item, buffer, offsetOf(index));
+		setFill(fill+1);
+	}
+
+	/**
+	 * O(1) - Records are all the same width, so we can compute where the first one is
+	 */
+	@Override
+	public T getFront() {
+		checkNotEmpty();
+		return this.getIndex(0);
+	}
+
+	/**
+	 * O(1) - Records are all the same width, so we can compute where the last one is
+	 */
+	@Override
+	public T getBack() {
+		checkNotEmpty();
+		return this.getIndex(fill-1);
+	}
+
+	/**
+	 * O(1) - Records are all the same width, so we read straight out of the mapping
+	 */
+	@Override
+	public T getIndex(int index) {
+		if (index < 0 || index >= fill) {
+			throw new BadIndexError();
+		}
+		return codec.read(buffer, offsetOf(index));
+	}
+
+	/**
+	 * O(1) - We've been keeping track of fill the whole time
+	 */
+	@Override
+	public int size() {
+		return fill;
+	}
+
+	/**
+	 * O(1) - Again, it is super easy to see the value of fill
+	 */
+	@Override
+	public boolean isEmpty() {
+		return fill == 0;
+	}
+
+	/**
+	 * O(1)
+	 * @return how many items fit before the file has to grow.
+	 */
+	public int capacity() {
+		return capacity;
+	}
+
+	/**
+	 * Ask the operating system to write any changed pages out to the file now.
+	 */
+	public void flush() {
+		buffer.force();
+	}
+
+	/**
+	 * Write everything out and close the file. Don't use the list after this.
+	 */
+	@Override
+	public void close() throws IOException {
+		flush();
+		channel.close();
+	}
+
+	/**
+	 * O(1) - Helper method to find where a record starts in the file.
+	 */
+	private int offsetOf(int index) {
+		return HEADER_SIZE + index * recordSize;
+	}
+
+	/**
+	 * O(1) - Helper method to update fill, and the copy of it in the header.
+	 */
+	private void setFill(int newFill) {
+		this.fill = newFill;
+		buffer.putInt(FILL_AT, newFill);
+	}
+
+	/**
+	 * O(n) - Helper method to move {@code count} records starting at record
+	 * {@code from} so they start at record {@code to} instead.
+	 */
+	private void moveRecords(int from, int to, int count) {
+		RecordBuffers.move(buffer, offsetOf(from), offsetOf(to), count * recordSize, scratch);
+	}
+
+	/**
+	 * O(n) - Helper method to make the file bigger and map it again once it is full.
+	 */
+	private void growIfFull() {
+		if (fill >= capacity) {
+			long wanted = (long) Math.max(fill + 1, fill * GrowableList.DEFAULT_GROWTH_FACTOR);
+			int most = (Integer.MAX_VALUE - HEADER_SIZE) / recordSize;
+			if (fill >= most) {
+				throw new IllegalStateException("A MappedGrowableList can't hold more than " + most + " records.");
+			}
+			try {
+				map((int) Math.min(wanted, most));
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}
+	}
+
+	/**
+	 * Helper method to map (or re-map) the file with room for some records.
+	 * Mapping past the end of the file makes the file bigger.
+	 * @param records - how many records we want room for.
+	 */
+	private void map(int records) throws IOException {
+		this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, offsetOf(records));
+		this.capacity = records;
+	}
+
+	/**
+	 * Helper method to throw the right error for an empty state.
+	 */
+	private void checkNotEmpty() {
+		if (this.isEmpty()) {
+			throw new EmptyListError();
+		}
+	}
+}
@@ -0,0 +1,189 @@
+package edu.smith.cs.csc212.p6;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import edu.smith.cs.csc212.p6.errors.BadIndexError;
+import edu.smith.cs.csc212.p6.errors.EmptyListError;
+import edu.smith.cs.csc212.p6.errors.RanOutOfSpaceError;
+
+/**
+ * A {@link FixedSizeList} whose items live in a direct {@link ByteBuffer},
+ * outside of the Java heap. Each item is stored as a fixed-width record by a
+ * {@link RecordCodec}, so the garbage collector never has to look at them; the
+ * only heap objects are the list itself and whatever {@link #getIndex} hands back.
+ * 
+ * Everything else works like FixedSizeList: it holds at most
+ * {@code maximumSize} items and throws {@link RanOutOfSpaceError} after that.
+ * The memory is given back when the list itself is garbage collected.
+ * 
+ * @param <T> the type of item stored in the list.
+ */
+public class OffHeapFixedSizeList<T> implements P6List<T> {
+	private final RecordCodec<T> codec;
+	private final int recordSize;
+	private final int maximumSize;
+	private final ByteBuffer buffer;
+	/**
+	 * Scratch space for shifting records, since ByteBuffer has no memmove.
+	 */
+	private final byte[] scratch;
+	private int fill;
+	
+	/**
+	 * @param maximumSize - how many items fit.
+	 * @param codec - how to turn an item into bytes and back.
+	 */
+	public OffHeapFixedSizeList(int maximumSize, RecordCodec<T> codec) {
+		this.codec = codec;
+		this.recordSize = codec.recordSize();
+		if (maximumSize < 0 || recordSize <= 0 || (long) maximumSize * recordSize > Integer.MAX_VALUE) {
+			throw new IllegalArgumentException("Can't fit " + maximumSize + " records of " + recordSize + " bytes in one buffer.");
+		}
+		this.maximumSize = maximumSize;
+		this.buffer = ByteBuffer.allocateDirect(maximumSize * recordSize).order(ByteOrder.nativeOrder());
+		this.scratch = new byte[Math.min(RecordBuffers.COPY_BLOCK, Math.max(recordSize, maximumSize * recordSize))];
+		this.fill = 0;
+	}
+	
+	/**
+	 * O(n) - After removing the first record, everything has to move back 1 place
+	 */
+	@Override
+	public T removeFront() {
+		return removeIndex(0);
+	}
+
+	/**
+	 * O(1) - We just decode the last record and forget about it
+	 */
+	@Override
+	public T removeBack() {
+		checkNotEmpty();
+		T value = this.getIndex(fill-1);
+		fill--;
+		return value;
+	}
+
+	/**
+	 * O(n) - After removing the indexed record, the bytes of everything after it
+	 * move back 1 record
+	 */
+	@Override
+	public T removeIndex(int index) {
+		checkNotEmpty();
+		T removed = this.getIndex(index);
+		fill--;
+		moveRecords(index+1, index, fill-index);
+		return removed;
+	}
+
+	/**
+	 * O(n) - In order to add to the front, everything has to shift down one record.
+	 */
+	@Override
+	public void addFront(T item) {
+		addIndex(item, 0);
+	}
+
+	/**
+	 * O(1) - Nothing has to move to add to the back
+	 */
+	@Override
+	public void addBack(T item) {
+		if (fill >= maximumSize) {
+			throw new RanOutOfSpaceError();
+		}
+		codec.write(item, buffer, fill * recordSize);
+		fill++;
+	}
+
+	/**
+	 * O(n) - The bytes of everything after the index shift down one record to make room
+	 */
+	@Override
+	public void addIndex(T item, int index) {
+		if (fill >= maximumSize) {
+			throw new RanOutOfSpaceError();
+		}
+		if (index < 0 || index > fill) {
+			throw new BadIndexError();
+		}
+		moveRecords(index, index+1, fill-index);
+		codec.write(item, buffer, index * recordSize);
+		fill++;
+	}
+
+	/**
+	 * O(1) - Records are all the same width, so we can compute where the first one is
+	 */
+	@Override
+	public T getFront() {
+		checkNotEmpty();
+		return this.getIndex(0);
+	}
+
+	/**
+	 * O(1) - Records are all the same width, so we can compute where the last one is
+	 */
+	@Override
+	public T getBack() {
+		checkNotEmpty();
+		return this.getIndex(fill-1);
+	}
+
+	/**
+	 * O(1) - Records are all the same width, so item #index starts at index * recordSize
+	 */
+	@Override
+	public T getIndex(int index) {
+		if (index < 0 || index >= fill) {
+			throw new BadIndexError();
+		}
+		return codec.read(buffer, index * recordSize);
+	}
+
+	/**
+	 * O(1) - We've been keeping track of fill the whole time
+	 */
+	@Override
+	public int size() {
+		return fill;
+	}
+
+	/**
+	 * O(1) - Again, it is super easy to see the value of fill
+	 */
+	@Override
+	public boolean isEmpty() {
+		return fill == 0;
+	}
+	
+	/**
+	 * O(1)
+	 * @return how many items fit in this list.
+	 */
+	public int capacity() {
+		return maximumSize;
+	}
+	
+	/**
+	 * O(n) - Helper method to move {@code count} records starting at record
+	 * {@code from} so they start at record {@code to} instead.
+	 * @param from - the first record to move.
+	 * @param to - where it should end up.
+	 * @param count - how many records to move.
+	 */
+	private void moveRecords(int from, int to, int count) {
+		RecordBuffers.move(buffer, from * recordSize, to * recordSize, count * recordSize, scratch);
+	}
+	
+	/**
+	 * Helper method to throw the right error for an empty state.
+	 */
+	private void checkNotEmpty() {
+		if (this.isEmpty()) {
+			throw new EmptyListError();
+		}
+	}
+}
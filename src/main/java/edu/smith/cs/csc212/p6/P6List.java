@@ -1,16 +1,22 @@
 package edu.smith.cs.csc212.p6;
 
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
 import edu.smith.cs.csc212.p6.errors.BadIndexError;
 import edu.smith.cs.csc212.p6.errors.EmptyListError;
 
 /**
  * This interface defines the required operations for all Lists in P6.
+ * Every list can also be used in a for loop, like {@code for (T x : list) { }}.
  * 
  * @author jfoley
  *
  * @param <T> the type of item inside the list.
  */
-public interface P6List<T> {
+public interface P6List<T> extends Iterable<T> {
 	/**
 	 * Delete the item at the front of the list.
 	 * 
@@ -99,4 +105,121 @@ public interface P6List<T> {
 	 * @return true if the list is empty.
 	 */
 	public boolean isEmpty();
+
+	/**
+	 * Add every item of an array to the back of this list, in order. The last
+	 * item should be at getIndex(size()-1) after this call.
+	 * 
+	 * The default just calls addBack once per item; lists that can do better
+	 * (like copying a whole array at once) override it.
+	 * 
+	 * @param items the data to add to the list.
+	 */
+	public default void addAllBack(T[] items) {
+		for (T item : items) {
+			addBack(item);
+		}
+	}
+
+	/**
+	 * Add every item of an array before ``index`` in this list, in order. The
+	 * first item should be at getIndex(index) after this call, and whatever was
+	 * there before is now at getIndex(index + items.length).
+	 * 
+	 * @param index the index at which to add the first item, from 0 to size
+	 *              (including size).
+	 * @param items the data to add to the list.
+	 * @throws BadIndexError if the index does not exist.
+	 */
+	public default void addAllAt(int index, T[] items) {
+		if (index < 0 || index > size()) {
+			throw new BadIndexError();
+		}
+		for (int i = 0; i < items.length; i++) {
+			addIndex(items[i], index + i);
+		}
+	}
+
+	/**
+	 * Delete the items from ``from`` up to (but not including) ``to``. Removing
+	 * an empty range is fine, even from an empty list.
+	 * 
+	 * @param from the index of the first item to delete.
+	 * @param to   the index after the last item to delete, at most size.
+	 * @throws BadIndexError if the range is not inside the list.
+	 */
+	public default void removeRange(int from, int to) {
+		if (from < 0 || to > size() || from > to) {
+			throw new BadIndexError();
+		}
+		// from the back, so array lists shift as little as possible.
+		for (int i = to - 1; i >= from; i--) {
+			removeIndex(i);
+		}
+	}
+
+	/**
+	 * Copy the items from ``from`` up to (but not including) ``to`` into the
+	 * start of an array. The list does not change.
+	 * 
+	 * @param from the index of the first item to copy.
+	 * @param to   the index after the last item to copy, at most size.
+	 * @param dest where to put them; it needs room for {@code to - from} items.
+	 * @throws BadIndexError if the range is not inside the list.
+	 */
+	public default void copyRange(int from, int to, T[] dest) {
+		if (from < 0 || to > size() || from > to) {
+			throw new BadIndexError();
+		}
+		for (int i = from; i < to; i++) {
+			dest[i - from] = getIndex(i);
+		}
+	}
+
+	/**
+	 * Make an {@link Iterator} that walks this list from front to back. If the
+	 * list is changed while we walk it (other than by the iterator's own
+	 * remove()), next() throws a
+	 * {@link java.util.ConcurrentModificationException}.
+	 * 
+	 * The default counts up through the indexes with getIndex, which is only a
+	 * good idea when getIndex is O(1); lists where it isn't override this.
+	 * 
+	 * @return an iterator over every item, from front to back.
+	 */
+	@Override
+	public default Iterator<T> iterator() {
+		return new IndexIterator<>(this);
+	}
+
+	/**
+	 * Make a {@link Spliterator} over this list, which is what Java needs to
+	 * build a {@link Stream}. It always knows exactly how many items it has left,
+	 * even after being split.
+	 * 
+	 * The default splits a range of indexes in half and uses getIndex, which is
+	 * only a good idea when getIndex is O(1); lists where it isn't override this.
+	 * 
+	 * @return a spliterator over every item, from front to back.
+	 */
+	@Override
+	public default Spliterator<T> spliterator() {
+		return new IndexSpliterator<>(this, 0, size());
+	}
+
+	/**
+	 * @return a sequential {@link Stream} of the items in this list, from front
+	 *         to back.
+	 */
+	public default Stream<T> stream() {
+		return StreamSupport.stream(spliterator(), false);
+	}
+
+	/**
+	 * @return a {@link Stream} of the items in this list that may split its work
+	 *         across threads, along the lines spliterator() draws.
+	 */
+	public default Stream<T> parallelStream() {
+		return StreamSupport.stream(spliterator(), true);
+	}
 }
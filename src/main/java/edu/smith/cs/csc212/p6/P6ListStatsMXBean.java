@@ -0,0 +1,46 @@
+package edu.smith.cs.csc212.p6;
+
+import java.util.Map;
+
+/**
+ * What an {@link InstrumentedP6List} shows through JMX (e.g. in JConsole or
+ * VisualVM) once {@link InstrumentedP6List#registerMBean(String)} is called.
+ * Every map is keyed by the name of the list method, like "getIndex", and only
+ * has the methods that have been called at least once.
+ */
+public interface P6ListStatsMXBean {
+	/**
+	 * @return how many times each method was called, counting ones that threw.
+	 */
+	public Map<String, Long> getCalls();
+
+	/**
+	 * @return how many times each method threw, keyed like "getIndex.BadIndexError".
+	 */
+	public Map<String, Long> getErrors();
+
+	/**
+	 * @return the median time of each method, in nanoseconds.
+	 */
+	public Map<String, Long> getP50Nanos();
+
+	/**
+	 * @return the 99th percentile time of each method, in nanoseconds.
+	 */
+	public Map<String, Long> getP99Nanos();
+
+	/**
+	 * @return the slowest time of each method, in nanoseconds.
+	 */
+	public Map<String, Long> getMaxNanos();
+
+	/**
+	 * @return the average time of each method, in nanoseconds.
+	 */
+	public Map<String, Double> getMeanNanos();
+
+	/**
+	 * Start counting again from zero.
+	 */
+	public void reset();
+}
@@ -0,0 +1,166 @@
+package edu.smith.cs.csc212.p6;
+
+import java.util.Iterator;
+import java.util.Spliterator;
+
+/**
+ * A {@link P6List} that keeps its items in a {@link PersistentVector}. Every
+ * change makes a new version of the vector and remembers it; the old version
+ * is still there, unchanged, for anyone who kept it.
+ *
+ * Call {@link #snapshot()} to keep the current version, for example before
+ * each edit so that you can undo it, and {@link #restore(PersistentVector)}
+ * to go back to one. Both are O(1), and the versions share almost all of
+ * their memory.
+ *
+ * The list itself is not meant for many threads, but the snapshots are: they
+ * never change, so they can be handed to any thread.
+ *
+ * @param <T> - the type of item stored in the list.
+ */
+public class PersistentList<T> implements P6List<T> {
+	/**
+	 * The newest version.
+	 */
+	private PersistentVector<T> current;
+
+	public PersistentList() {
+		this(PersistentVector.empty());
+	}
+
+	/**
+	 * Make a list that starts out as an existing version.
+	 * @param start - the version to start from; it won't be changed.
+	 */
+	public PersistentList(PersistentVector<T> start) {
+		this.current = start;
+	}
+
+	/**
+	 * O(log n) - Only the path to the first leaf is copied.
+	 */
+	@Override
+	public T removeFront() {
+		T removed = current.getFront();
+		current = current.removeFront();
+		return removed;
+	}
+
+	/**
+	 * O(log n) - Only the path to the last leaf is copied.
+	 */
+	@Override
+	public T removeBack() {
+		T removed = current.getBack();
+		current = current.removeBack();
+		return removed;
+	}
+
+	/**
+	 * O(log n) - Only the path to the item's leaf is copied.
+	 */
+	@Override
+	public T removeIndex(int index) {
+		T removed = current.getIndex(index);
+		current = current.removeIndex(index);
+		return removed;
+	}
+
+	/**
+	 * O(log n) - Only the path to the first leaf is copied.
+	 */
+	@Override
+	public void addFront(T item) {
+		current = current.addFront(item);
+	}
+
+	/**
+	 * O(log n) - Only the path to the last leaf is copied.
+	 */
+	@Override
+	public void addBack(T item) {
+		current = current.addBack(item);
+	}
+
+	/**
+	 * O(log n) - Only the path to the leaf where the item goes is copied.
+	 */
+	@Override
+	public void addIndex(T item, int index) {
+		current = current.addIndex(item, index);
+	}
+
+	/**
+	 * O(log n) - A few levels down the tree.
+	 */
+	@Override
+	public T getFront() {
+		return current.getFront();
+	}
+
+	/**
+	 * O(log n) - A few levels down the tree.
+	 */
+	@Override
+	public T getBack() {
+		return current.getBack();
+	}
+
+	/**
+	 * O(log32 n) - See {@link PersistentVector#getIndex(int)}.
+	 */
+	@Override
+	public T getIndex(int index) {
+		return current.getIndex(index);
+	}
+
+	/**
+	 * O(1) - The vector knows its size.
+	 */
+	@Override
+	public int size() {
+		return current.size();
+	}
+
+	/**
+	 * O(1) - The vector knows its size.
+	 */
+	@Override
+	public boolean isEmpty() {
+		return current.isEmpty();
+	}
+
+	/**
+	 * O(1) - Versions never change, so this one can be kept as long as you like.
+	 * @return the current version of the list.
+	 */
+	public PersistentVector<T> snapshot() {
+		return current;
+	}
+
+	/**
+	 * O(1) - Go back (or forward) to a version.
+	 * @param version - what the list should hold from now on.
+	 */
+	public void restore(PersistentVector<T> version) {
+		this.current = version;
+	}
+
+	/**
+	 * O(1) - Walks the current version. Changing the list while doing this doesn't
+	 * disturb the iterator, which keeps walking the version it started with. It
+	 * can't remove items.
+	 */
+	@Override
+	public Iterator<T> iterator() {
+		return current.iterator();
+	}
+
+	/**
+	 * O(1) - Splits the current version, which never changes.
+	 */
+	@Override
+	public Spliterator<T> spliterator() {
+		return current.spliterator();
+	}
+}
@@ -0,0 +1,630 @@
+package edu.smith.cs.csc212.p6;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import edu.smith.cs.csc212.p6.errors.BadIndexError;
+import edu.smith.cs.csc212.p6.errors.EmptyListError;
+
+/**
+ * A list that never changes. The methods that would change a {@link P6List}
+ * (addBack, removeIndex, ...) instead give back a new version of the list, and
+ * leave this one exactly as it was. So you can keep as many old versions around
+ * as you like, for undo or for history, and share them between threads without
+ * any locks.
+ *
+ * That would be very expensive if every version were a full copy, so it isn't.
+ * The items are stored in a tree (a "relaxed radix balanced" tree, like the
+ * vectors in Clojure and Scala): up to 32 items in each leaf, up to 32 children
+ * in each branch, so a list of a million items is only 4 levels deep. A new
+ * version copies the few nodes on the path from the root to the item that
+ * changed, and shares every other node with the old version. Keeping 1000
+ * versions of a 1,000,000 item list that each differ by a few items costs
+ * about one copy of the list, plus 1000 paths of 4 small nodes.
+ *
+ * In a perfectly full tree, the 5 bits of the index for each level say which
+ * child to go to (that's the "radix" part). Inserting in the middle makes some
+ * nodes less than full, so every branch also keeps a table of how many items
+ * are in its children (that's the "relaxed" part). We make the radix guess
+ * first, and then step forward in the table if the children before it weren't
+ * full. Every node other than the ones on the right edge is always at least
+ * half full, so the guess is never far off and the tree stays O(log n) deep.
+ *
+ * See {@link PersistentList} for a {@link P6List} made of these versions.
+ *
+ * @param <T> - the type of item stored in the list.
+ */
+public final class PersistentVector<T> implements Iterable<T> {
+	/**
+	 * How many bits of an index each level of the tree uses up.
+	 */
+	static final int BITS = 5;
+	/**
+	 * The most items in a leaf, or children in a branch.
+	 */
+	static final int WIDTH = 1 << BITS;
+	/**
+	 * The fewest items in a leaf, or children in a branch, unless it is on the
+	 * right edge of the tree.
+	 */
+	static final int MIN_WIDTH = WIDTH / 2;
+	private static final PersistentVector<?> EMPTY = new PersistentVector<>(new Object[0], 0, 0);
+
+	/**
+	 * The top of the tree: an Object[] of items when height is 0, a
+	 * {@link Branch} otherwise.
+	 */
+	private final Object root;
+	/**
+	 * How many levels of branches are above the leaves.
+	 */
+	private final int height;
+	private final int size;
+
+	private PersistentVector(Object root, int height, int size) {
+		this.root = root;
+		this.height = height;
+		this.size = size;
+	}
+
+	/**
+	 * O(1) - There is only ever one empty vector.
+	 * @return a vector with nothing in it.
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> PersistentVector<T> empty() {
+		return (PersistentVector<T>) EMPTY;
+	}
+
+	/**
+	 * O(n) - Build the tree from the bottom up: cut the items into full leaves,
+	 * then group every 32 nodes under a branch until only one is left. This is
+	 * much faster than adding the items one at a time.
+	 *
+	 * @param items - what goes in the vector, in order.
+	 * @return a vector holding those items.
+	 */
+	@SafeVarargs
+	public static <T> PersistentVector<T> of(T... items) {
+		if (items.length == 0) {
+			return empty();
+		}
+		Object[] level = new Object[(items.length + WIDTH - 1) / WIDTH];
+		for (int i = 0; i < level.length; i++) {
+			int from = i * WIDTH;
+			Object[] leaf = new Object[Math.min(items.length - from, WIDTH)];
+			for (int j = 0; j < leaf.length; j++) {
+				leaf[j] = items[from + j];
+			}
+			level[i] = leaf;
+		}
+		int height = 0;
+		while (level.length > 1) {
+			height++;
+			Object[] up = new Object[(level.length + WIDTH - 1) / WIDTH];
+			for (int i = 0; i < up.length; i++) {
+				up[i] = new Branch(Arrays.copyOfRange(level, i * WIDTH, Math.min(level.length, (i + 1) * WIDTH)), height);
+			}
+			level = up;
+		}
+		return new PersistentVector<>(level[0], height, items.length);
+	}
+
+	/**
+	 * O(log n) - Copy the path to the first leaf.
+	 * @return a new version without the first item.
+	 */
+	public PersistentVector<T> removeFront() {
+		checkNotEmpty();
+		return removeIndex(0);
+	}
+
+	/**
+	 * O(log n) - Copy the path to the last leaf.
+	 * @return a new version without the last item.
+	 */
+	public PersistentVector<T> removeBack() {
+		checkNotEmpty();
+		return removeIndex(size - 1);
+	}
+
+	/**
+	 * O(log n) - Copy the path to the leaf with the item, leaving it out. If that
+	 * leaves a node less than half full, it is merged with (or evened out with) a
+	 * neighbor, the way a B-tree does it.
+	 *
+	 * @param index - which item to leave out.
+	 * @return a new version without that item.
+	 */
+	public PersistentVector<T> removeIndex(int index) {
+		checkIndex(index);
+		if (size == 1) {
+			return empty();
+		}
+		Object top = remove(root, height, index);
+		int newHeight = height;
+		while (newHeight > 0 && ((Branch) top).children.length == 1) {
+			// the root only has one child; it can be the root itself.
+			top = ((Branch) top).children[0];
+			newHeight--;
+		}
+		return new PersistentVector<>(top, newHeight, size - 1);
+	}
+
+	/**
+	 * O(log n) - Same as addIndex at 0.
+	 * @param item - the new first item.
+	 * @return a new version with the item at the front.
+	 */
+	public PersistentVector<T> addFront(T item) {
+		return addIndex(item, 0);
+	}
+
+	/**
+	 * O(log n) - Same as addIndex at the end.
+	 * @param item - the new last item.
+	 * @return a new version with the item at the back.
+	 */
+	public PersistentVector<T> addBack(T item) {
+		return addIndex(item, size);
+	}
+
+	/**
+	 * O(log n) - Copy the path to the leaf where the item goes, putting it in. If
+	 * that leaf is already full, it splits into two half-full leaves, which may
+	 * make its parent split, and so on; if the root splits, the tree gets one
+	 * level taller. Except at the very end: there the full leaf stays full and
+	 * the new item starts a leaf of its own, so a vector built with addBack is
+	 * as full (and as shallow) as one built with of().
+	 *
+	 * @param item  - the new item.
+	 * @param index - where it goes, from 0 to size() (including size()).
+	 * @return a new version with the item at that index.
+	 */
+	public PersistentVector<T> addIndex(T item, int index) {
+		if (index < 0 || index > size) {
+			throw new BadIndexError();
+		}
+		Object[] parts = insert(root, height, index, item, index == size);
+		if (parts.length == 1) {
+			return new PersistentVector<>(parts[0], height, size + 1);
+		}
+		return new PersistentVector<>(new Branch(parts, height + 1), height + 1, size + 1);
+	}
+
+	/**
+	 * O(log n) - Copy the path to the leaf with the item, replacing it.
+	 *
+	 * @param index - which item to replace.
+	 * @param item  - what to replace it with.
+	 * @return a new version with that item replaced.
+	 */
+	public PersistentVector<T> setIndex(int index, T item) {
+		checkIndex(index);
+		return new PersistentVector<>(set(root, height, index, item), height, size);
+	}
+
+	/**
+	 * O(log n) - The first leaf is at most a few levels down.
+	 * @return the first item.
+	 */
+	public T getFront() {
+		checkNotEmpty();
+		return getIndex(0);
+	}
+
+	/**
+	 * O(log n) - The last leaf is at most a few levels down.
+	 * @return the last item.
+	 */
+	public T getBack() {
+		checkNotEmpty();
+		return getIndex(size - 1);
+	}
+
+	/**
+	 * O(log32 n) - At each branch, guess the child from 5 bits of the index, then
+	 * step forward past any children that had fewer items than the guess assumed.
+	 *
+	 * @param index - which item.
+	 * @return the item at that index.
+	 */
+	@SuppressWarnings("unchecked")
+	public T getIndex(int index) {
+		checkIndex(index);
+		Object node = root;
+		for (int h = height; h > 0; h--) {
+			Branch branch = (Branch) node;
+			int slot = branch.slotFor(index, h);
+			index -= branch.before(slot);
+			node = branch.children[slot];
+		}
+		return (T) ((Object[]) node)[index];
+	}
+
+	/**
+	 * O(1)
+	 * @return how many items there are.
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * O(1)
+	 * @return true if there are no items.
+	 */
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * O(1) - The iterator walks down to each leaf in turn. Since this version
+	 * never changes, neither does what the iterator sees. It can't remove items.
+	 */
+	@Override
+	public Iterator<T> iterator() {
+		return new Iter();
+	}
+
+	/**
+	 * O(1) - Splits by copying batches of items into arrays; we know the size, and
+	 * that it will never change.
+	 */
+	@Override
+	public Spliterator<T> spliterator() {
+		return Spliterators.spliterator(iterator(), size, Spliterator.ORDERED | Spliterator.IMMUTABLE);
+	}
+
+	/**
+	 * O(1)
+	 * @return a stream over every item, from front to back.
+	 */
+	public Stream<T> stream() {
+		return StreamSupport.stream(spliterator(), false);
+	}
+
+	/**
+	 * O(1) - For tests.
+	 * @return how many levels of branches are above the leaves.
+	 */
+	int height() {
+		return height;
+	}
+
+	/**
+	 * O(n / 32) - For tests: count the leaves, to see how full they are.
+	 * @return how many leaves the tree has.
+	 */
+	int leafCount() {
+		return leafCount(root, height);
+	}
+
+	/**
+	 * O(n / 32) - Helper method to count the leaves in a subtree.
+	 */
+	private static int leafCount(Object node, int height) {
+		if (height == 0) {
+			return 1;
+		}
+		int count = 0;
+		for (Object child : ((Branch) node).children) {
+			count += leafCount(child, height - 1);
+		}
+		return count;
+	}
+
+	/**
+	 * O(log n) - Helper method to put an item into a subtree.
+	 * @param node   - the top of the subtree.
+	 * @param height - how far above the leaves it is.
+	 * @param index  - where the item goes in this subtree.
+	 * @param item   - the new item.
+	 * @param atEnd  - true if the item goes after everything in the whole vector.
+	 * @return the new version of node, or two nodes if it had to split.
+	 */
+	private static Object[] insert(Object node, int height, int index, Object item, boolean atEnd) {
+		if (height == 0) {
+			Object[] leaf = (Object[]) node;
+			Object[] bigger = new Object[leaf.length + 1];
+			System.arraycopy(leaf, 0, bigger, 0, index);
+			bigger[index] = item;
+			System.arraycopy(leaf, index, bigger, index + 1, leaf.length - index);
+			return split(bigger, 0, atEnd);
+		}
+		Branch branch = (Branch) node;
+		int slot = branch.slotFor(index, height);
+		Object[] parts = insert(branch.children[slot], height - 1, index - branch.before(slot), item, atEnd);
+		return split(replace(branch.children, slot, 1, parts), height, atEnd);
+	}
+
+	/**
+	 * O(log n) - Helper method to take an item out of a subtree. Children that
+	 * end up empty are dropped, and children that end up less than half full are
+	 * merged with a neighbor.
+	 *
+	 * @param node   - the top of the subtree.
+	 * @param height - how far above the leaves it is.
+	 * @param index  - which item in this subtree to take out.
+	 * @return the new version of node.
+	 */
+	private static Object remove(Object node, int height, int index) {
+		if (height == 0) {
+			Object[] leaf = (Object[]) node;
+			Object[] smaller = new Object[leaf.length - 1];
+			System.arraycopy(leaf, 0, smaller, 0, index);
+			System.arraycopy(leaf, index + 1, smaller, index, smaller.length - index);
+			return smaller;
+		}
+		Branch branch = (Branch) node;
+		int slot = branch.slotFor(index, height);
+		Object child = remove(branch.children[slot], height - 1, index - branch.before(slot));
+		Object[] children;
+		int width = entries(child, height - 1).length;
+		if (width == 0) {
+			children = replace(branch.children, slot, 1, new Object[0]);
+		} else if (width < MIN_WIDTH && branch.children.length > 1) {
+			// merge with the next child, or with the one before if this is the last.
+			int left = (slot + 1 < branch.children.length) ? slot : slot - 1;
+			Object[] pair = { branch.children[left], branch.children[left + 1] };
+			pair[slot - left] = child;
+			Object[] joined = concat(entries(pair[0], height - 1), entries(pair[1], height - 1));
+			children = replace(branch.children, left, 2, split(joined, height - 1, false));
+		} else {
+			children = branch.children.clone();
+			children[slot] = child;
+		}
+		return new Branch(children, height);
+	}
+
+	/**
+	 * O(log n) - Helper method to replace an item in a subtree. The sizes of the
+	 * branches don't change, so the copies share their size tables.
+	 */
+	private static Object set(Object node, int height, int index, Object item) {
+		if (height == 0) {
+			Object[] leaf = ((Object[]) node).clone();
+			leaf[index] = item;
+			return leaf;
+		}
+		Branch branch = (Branch) node;
+		int slot = branch.slotFor(index, height);
+		Object[] children = branch.children.clone();
+		children[slot] = set(children[slot], height - 1, index - branch.before(slot), item);
+		return new Branch(children, branch.sizes);
+	}
+
+	/**
+	 * O(1) - Helper method to make a node (or two, if there are too many) out of
+	 * some items or children.
+	 * @param entries - items, if height is 0; otherwise, child nodes.
+	 * @param height - how far above the leaves the new nodes are.
+	 * @param atEnd - true if the extra entry went on the right edge of the whole
+	 * vector; then the first node stays full and the second one only gets the
+	 * extra. Anywhere else, that would leave a nearly empty node in the middle,
+	 * so both get half.
+	 * @return one or two nodes holding all of the entries.
+	 */
+	private static Object[] split(Object[] entries, int height, boolean atEnd) {
+		if (entries.length <= WIDTH) {
+			return new Object[] { makeNode(entries, height) };
+		}
+		int cut = atEnd ? WIDTH : entries.length / 2;
+		return new Object[] {
+				makeNode(Arrays.copyOfRange(entries, 0, cut), height),
+				makeNode(Arrays.copyOfRange(entries, cut, entries.length), height) };
+	}
+
+	/**
+	 * O(1) - Helper method to make a leaf or a branch.
+	 */
+	private static Object makeNode(Object[] entries, int height) {
+		if (height == 0) {
+			return entries;
+		}
+		return new Branch(entries, height);
+	}
+
+	/**
+	 * O(1) - Helper method to get at the items of a leaf or the children of a branch.
+	 */
+	private static Object[] entries(Object node, int height) {
+		if (height == 0) {
+			return (Object[]) node;
+		}
+		return ((Branch) node).children;
+	}
+
+	/**
+	 * O(1) - Helper method to count the items in a subtree.
+	 */
+	private static int sizeOf(Object node, int height) {
+		if (height == 0) {
+			return ((Object[]) node).length;
+		}
+		return ((Branch) node).size();
+	}
+
+	/**
+	 * O(WIDTH) - Helper method to copy an array with some of it replaced.
+	 * @param array - what to copy.
+	 * @param at - the first entry to replace.
+	 * @param count - how many entries to replace.
+	 * @param with - what to put in their place; may be longer or shorter.
+	 */
+	private static Object[] replace(Object[] array, int at, int count, Object[] with) {
+		Object[] out = new Object[array.length - count + with.length];
+		System.arraycopy(array, 0, out, 0, at);
+		System.arraycopy(with, 0, out, at, with.length);
+		System.arraycopy(array, at + count, out, at + with.length, array.length - at - count);
+		return out;
+	}
+
+	/**
+	 * O(WIDTH) - Helper method to put two arrays together.
+	 */
+	private static Object[] concat(Object[] first, Object[] second) {
+		Object[] out = Arrays.copyOf(first, first.length + second.length);
+		System.arraycopy(second, 0, out, first.length, second.length);
+		return out;
+	}
+
+	/**
+	 * Helper method to throw the right error for an index that isn't in the list.
+	 */
+	private void checkIndex(int index) {
+		if (index < 0 || index >= size) {
+			if (size == 0) {
+				throw new EmptyListError();
+			}
+			throw new BadIndexError();
+		}
+	}
+
+	/**
+	 * Helper method to throw the right error for an empty state.
+	 */
+	private void checkNotEmpty() {
+		if (size == 0) {
+			throw new EmptyListError();
+		}
+	}
+
+	/**
+	 * A node above the leaves. Like the leaves, it never changes once it is made,
+	 * so any number of versions can share it.
+	 */
+	private static class Branch {
+		/**
+		 * The nodes below this one: leaves (Object[]) or more branches.
+		 */
+		final Object[] children;
+		/**
+		 * sizes[i] is how many items are in children 0 through i, together.
+		 */
+		final int[] sizes;
+
+		/**
+		 * Make a branch, adding up how many items are under each child.
+		 * @param children - the nodes below it.
+		 * @param height - how far above the leaves this branch is.
+		 */
+		public Branch(Object[] children, int height) {
+			this.children = children;
+			this.sizes = new int[children.length];
+			int total = 0;
+			for (int i = 0; i < children.length; i++) {
+				total += sizeOf(children[i], height - 1);
+				sizes[i] = total;
+			}
+		}
+
+		public Branch(Object[] children, int[] sizes) {
+			this.children = children;
+			this.sizes = sizes;
+		}
+
+		/**
+		 * O(1)
+		 * @return how many items are under this branch.
+		 */
+		int size() {
+			return sizes.length == 0 ? 0 : sizes[sizes.length - 1];
+		}
+
+		/**
+		 * O(1)
+		 * @return how many items are under the children before slot.
+		 */
+		int before(int slot) {
+			return slot == 0 ? 0 : sizes[slot - 1];
+		}
+
+		/**
+		 * O(1) usually - Which child an index is under. Each child holds at most
+		 * 32^height items, so the radix guess is never past the right child; we
+		 * only ever have to step forward from it.
+		 *
+		 * @param index - an index within this branch, from 0 to size() (including
+		 * size(), which goes to the last child).
+		 * @param height - how far above the leaves this branch is.
+		 */
+		int slotFor(int index, int height) {
+			int slot = Math.min(index >>> (height * BITS), children.length - 1);
+			while (slot < children.length - 1 && sizes[slot] <= index) {
+				slot++;
+			}
+			return slot;
+		}
+	}
+
+	/**
+	 * Walks the leaves from left to right, keeping the path down to the current
+	 * one so that moving to the next leaf doesn't start over at the root.
+	 */
+	private class Iter implements Iterator<T> {
+		/**
+		 * path[h] is the entries of the node we're inside at height h; path[0] is
+		 * the items of the current leaf.
+		 */
+		private final Object[][] path;
+		/**
+		 * at[h] is the next entry of path[h] to visit.
+		 */
+		private final int[] at;
+		/**
+		 * How many items next() has left to give back.
+		 */
+		private int remaining;
+
+		public Iter() {
+			this.path = new Object[height + 1][];
+			this.at = new int[height + 1];
+			this.remaining = size;
+			descend(height, root);
+		}
+
+		@Override
+		public boolean hasNext() {
+			return remaining > 0;
+		}
+
+		@SuppressWarnings("unchecked")
+		@Override
+		public T next() {
+			if (remaining == 0) {
+				throw new NoSuchElementException();
+			}
+			while (at[0] == path[0].length) {
+				// this leaf is done; climb to the first node with children left.
+				int h = 1;
+				while (at[h] == path[h].length) {
+					h++;
+				}
+				descend(h - 1, path[h][at[h]++]);
+			}
+			remaining--;
+			return (T) path[0][at[0]++];
+		}
+
+		/**
+		 * Helper method to fill in the path from a node down its left edge.
+		 */
+		private void descend(int h, Object node) {
+			while (true) {
+				path[h] = entries(node, h);
+				at[h] = 0;
+				if (h == 0 || path[h].length == 0) {
+					return;
+				}
+				node = path[h][at[h]++];
+				h--;
+			}
+		}
+	}
+}
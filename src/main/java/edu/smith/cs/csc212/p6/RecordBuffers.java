@@ -0,0 +1,47 @@
+package edu.smith.cs.csc212.p6;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Helpers for lists that keep fixed-width records in a {@link ByteBuffer}.
+ */
+class RecordBuffers {
+	/**
+	 * How many bytes we move at a time when shifting records.
+	 */
+	static final int COPY_BLOCK = 8192;
+
+	/**
+	 * O(n) - Move {@code length} bytes inside a buffer from {@code src} to
+	 * {@code dst}; the two ranges may overlap. ByteBuffer has no memmove, so we
+	 * copy through {@code scratch} in blocks, starting from whichever end keeps us
+	 * from overwriting bytes we haven't copied yet.
+	 * 
+	 * @param buffer  - the buffer to move bytes around in.
+	 * @param src     - where the bytes are now.
+	 * @param dst     - where they should end up.
+	 * @param length  - how many bytes to move.
+	 * @param scratch - temporary space; any size is fine.
+	 */
+	static void move(ByteBuffer buffer, int src, int dst, int length, byte[] scratch) {
+		ByteBuffer view = buffer.duplicate();
+		if (src > dst) {
+			for (int done = 0; done < length; done += scratch.length) {
+				int run = Math.min(scratch.length, length - done);
+				view.position(src + done);
+				view.get(scratch, 0, run);
+				view.position(dst + done);
+				view.put(scratch, 0, run);
+			}
+		} else {
+			for (int done = 0; done < length; done += scratch.length) {
+				int run = Math.min(scratch.length, length - done);
+				int back = length - done - run;
+				view.position(src + back);
+				view.get(scratch, 0, run);
+				view.position(dst + back);
+				view.put(scratch, 0, run);
+			}
+		}
+	}
+}
@@ -0,0 +1,98 @@
+package edu.smith.cs.csc212.p6;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Turns one item into a fixed number of bytes and back again, so lists like
+ * {@link OffHeapFixedSizeList} can store items outside of the Java heap.
+ * 
+ * Every item must take exactly {@link #recordSize()} bytes. Codecs use the
+ * absolute (index-taking) get and put methods of {@link ByteBuffer}, so they
+ * never move the buffer's position.
+ * 
+ * @param <T> the type of item this codec knows how to store.
+ */
+public interface RecordCodec<T> {
+	/**
+	 * @return how many bytes every item takes.
+	 */
+	public int recordSize();
+
+	/**
+	 * Write an item into the buffer.
+	 * 
+	 * @param item   the item to store.
+	 * @param buffer where to store it.
+	 * @param offset the byte position to start writing at.
+	 */
+	public void write(T item, ByteBuffer buffer, int offset);
+
+	/**
+	 * Read back an item that {@link #write} stored.
+	 * 
+	 * @param buffer where the item is stored.
+	 * @param offset the byte position it starts at.
+	 * @return a new item equal to the one that was written.
+	 */
+	public T read(ByteBuffer buffer, int offset);
+
+	/**
+	 * Stores an Integer in 4 bytes.
+	 */
+	public static final RecordCodec<Integer> INT = new RecordCodec<Integer>() {
+		@Override
+		public int recordSize() {
+			return Integer.BYTES;
+		}
+
+		@Override
+		public void write(Integer item, ByteBuffer buffer, int offset) {
+			buffer.putInt(offset, item);
+		}
+
+		@Override
+		public Integer read(ByteBuffer buffer, int offset) {
+			return buffer.getInt(offset);
+		}
+	};
+
+	/**
+	 * Stores a Long in 8 bytes.
+	 */
+	public static final RecordCodec<Long> LONG = new RecordCodec<Long>() {
+		@Override
+		public int recordSize() {
+			return Long.BYTES;
+		}
+
+		@Override
+		public void write(Long item, ByteBuffer buffer, int offset) {
+			buffer.putLong(offset, item);
+		}
+
+		@Override
+		public Long read(ByteBuffer buffer, int offset) {
+			return buffer.getLong(offset);
+		}
+	};
+
+	/**
+	 * Stores a Double in 8 bytes.
+	 */
+	public static final RecordCodec<Double> DOUBLE = new RecordCodec<Double>() {
+		@Override
+		public int recordSize() {
+			return Double.BYTES;
+		}
+
+		@Override
+		public void write(Double item, ByteBuffer buffer, int offset) {
+			buffer.putDouble(offset, item);
+		}
+
+		@Override
+		public Double read(ByteBuffer buffer, int offset) {
+			return buffer.getDouble(offset);
+		}
+	};
+}
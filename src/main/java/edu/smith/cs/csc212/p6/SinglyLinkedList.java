@@ -1,15 +1,33 @@
 package edu.smith.cs.csc212.p6;
 
+import java.util.ConcurrentModificationException;
 import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
 
+import edu.smith.cs.csc212.p6.WorkCounters.Counter;
+import edu.smith.cs.csc212.p6.errors.BadIndexError;
 import edu.smith.cs.csc212.p6.errors.EmptyListError;
-import edu.smith.cs.csc212.p6.errors.P6NotImplemented;
 
-public class SinglyLinkedList<T> implements P6List<T>, Iterable<T> {
+public class SinglyLinkedList<T> implements P6List<T> {
 	/**
 	 * The start of this list. Node is defined at the bottom of this file.
 	 */
 	Node<T> start;
+	/**
+	 * The last node of this list, so we never have to walk to find it.
+	 */
+	Node<T> end;
+	/**
+	 * How many items are in this list; every add and remove keeps it up to date.
+	 */
+	int count;
+	/**
+	 * How many times this list has been changed. Iterators check it to notice
+	 * when the list is changed out from under them.
+	 */
+	int modCount;
 
 	/**
 	 * O(1) - It is easy to take off the front, since we just update our start
@@ -19,68 +37,53 @@ public class SinglyLinkedList<T> implements P6List<T>, Iterable<T> {
 		checkNotEmpty();
 		T before = start.value;
 		start = start.next;
+		if (start == null) {
+			end = null;
+		}
+		count--;
+		modCount++;
 		return before;
 	}
 
 	/**
-	 * O(n) - It is less easy to remove from the back, since the pointers must be fixed
-	 * through a for loop
+	 * O(n) - It is less easy to remove from the back, since the node before the end
+	 * has no pointer to it and must be found through a for loop
 	 */
 	@Override
 	public T removeBack() {
 		checkNotEmpty();
-		T last = null;
-		Node<T> nextToLast = null;
-		
-		if ( start.next == null ) {
-			last = start.value;
-			start = null;
-			return last;
+		if (start == end) {
+			return removeFront();
 		}
-		
-		for (Node<T> current = start; current.next != null; current = current.next) {
-			
-			if ( current.next.next == null ) {
-				last = current.next.value;
-				current.next = null;
-				return last;
-			}
-		}
-		
+		Node<T> nextToLast = nodeAt(count - 2);
+		T last = end.value;
+		nextToLast.next = null;
+		end = nextToLast;
+		count--;
+		modCount++;
 		return last;
 	}
 
 	/**
-	 * O(n) - This is difficult and annoying, since multiple pointers must be fixed with a loop. 
+	 * O(n) - This is difficult and annoying, since we have to loop to the node before
+	 * the index to fix its pointer. 
 	 */
 	@Override
 	public T removeIndex(int index) {
 		checkNotEmpty();
-		int at = 0;
-		T value = null;
-		
-		if ( this.size() == 1 ) {
-			value = start.value;
-			start = null;
-			return value;
+		checkIndex(index, count - 1);
+		if (index == 0) {
+			return removeFront();
 		}
-		
-		for (Node<T> current = start; current.next != null; current = current.next) {
-			if ( at + 1 == index ) {
-				value = current.next.value;
-				
-				if ( current.next.next != null ) {
-					current.next = current.next.next;
-				} else {
-					current.next = null;
-				}
-				break;
-			}
-			else {
-				at++;
-			}
+		Node<T> before = nodeAt(index - 1);
+		Node<T> removed = before.next;
+		before.next = removed.next;
+		if (removed == end) {
+			end = before;
 		}
-		return value;
+		count--;
+		modCount++;
+		return removed.value;
 	}
 	
 	/**
@@ -89,42 +92,46 @@ public class SinglyLinkedList<T> implements P6List<T>, Iterable<T> {
 	@Override
 	public void addFront(T item) {
 		this.start = new Node<T>(item, start);
+		if (end == null) {
+			end = start;
+		}
+		count++;
+		modCount++;
 	}
 
 	/**
-	 * O(n) - More difficult, since the last value's next pointer will have to be changed
-	 * and we cannot find this without looping through everything
+	 * O(1) - Easy, since we've been keeping track of the last node 
+	 * and only its next pointer has to change
 	 */
 	@Override
 	public void addBack(T item) {
-		Node<T> last = null;
-		for (Node<T> current = start; current != null; current = current.next) {
-			last = current;
-		}
-		if (last != null) {
-			last.next = new Node<T>(item,null);
+		Node<T> added = new Node<T>(item, null);
+		if (end != null) {
+			end.next = added;
 		} else {
-			start = new Node<T>(item,null);
+			start = added;
 		}
+		end = added;
+		count++;
+		modCount++;
 	}
 
 	/**
-	 * O(n) - We have to loop through the entire list to find our indexed value,
+	 * O(n) - We have to loop through the list to find the node before our index,
 	 * then fix pointers as well
 	 */
 	@Override
 	public void addIndex(T item, int index) {
-		int at = 0;
-		
-		for (Node<T> current = start; current.next != null; current = current.next) {
-			if ( at + 1 == index ) {
-				Node<T> newNext = current.next;
-				current.next = new Node<T>(item, newNext);
-				break;
-			}
-			else {
-				at++;
-			}
+		checkIndex(index, count);
+		if (index == 0) {
+			addFront(item);
+		} else if (index == count) {
+			addBack(item);
+		} else {
+			Node<T> before = nodeAt(index - 1);
+			before.next = new Node<T>(item, before.next);
+			count++;
+			modCount++;
 		}
 	}
 
@@ -133,20 +140,17 @@ public class SinglyLinkedList<T> implements P6List<T>, Iterable<T> {
 	 */
 	@Override
 	public T getFront() {
+		checkNotEmpty();
 		return start.value;
 	}
 
 	/**
-	 * O(n) - We have to loop through everything to find the last item in the list
+	 * O(1) - Easy since we've been keeping track of what the back is
 	 */
 	@Override
 	public T getBack() {
-		T back = null;
-		
-		back = this.getIndex(this.size()-1);
-		
-		return back;
-		//throw new P6NotImplemented();
+		checkNotEmpty();
+		return end.value;
 	}
 
 	/**
@@ -154,30 +158,16 @@ public class SinglyLinkedList<T> implements P6List<T>, Iterable<T> {
 	 */
 	@Override
 	public T getIndex(int index) {
-		int at = 0;
-		T value = null;
-		for (Node<T> current = start; current != null; current = current.next) {
-			if (at == index) {
-				value = current.value;
-				return value;
-			}
-			else {
-				at++;
-			}
-		}
-		return value;
-		//throw new IndexOutOfBoundsException();
+		checkNotEmpty();
+		checkIndex(index, count - 1);
+		return nodeAt(index).value;
 	}
 
 	/**
-	 * O(n) - We have to loop through the whole list in order to count up the items 
+	 * O(1) - We've been keeping track of the count the whole time 
 	 */
 	@Override
 	public int size() {
-		int count = 0;
-		for (Node<T> n = this.start; n != null; n = n.next) {
-			count++;
-		}
 		return count;
 	}
 
@@ -189,6 +179,130 @@ public class SinglyLinkedList<T> implements P6List<T>, Iterable<T> {
 		return start == null;
 	}
 
+	/**
+	 * O(k) - The new items are linked into a chain of their own first, 
+	 * then the whole chain is hooked onto the end in one step
+	 */
+	@Override
+	public void addAllBack(T[] items) {
+		addAllAt(count, items);
+	}
+
+	/**
+	 * O(n + k) - We loop to the node before the index once (not once per item),
+	 * then splice the whole chain of new nodes in after it
+	 */
+	@Override
+	public void addAllAt(int index, T[] items) {
+		checkIndex(index, count);
+		if (items.length == 0) {
+			return;
+		}
+		Node<T> first = new Node<T>(items[0], null);
+		Node<T> last = first;
+		for (int i = 1; i < items.length; i++) {
+			last.next = new Node<T>(items[i], null);
+			last = last.next;
+		}
+		if (index == 0) {
+			last.next = start;
+			start = first;
+		} else {
+			Node<T> before = (index == count) ? end : nodeAt(index - 1);
+			last.next = before.next;
+			before.next = first;
+		}
+		if (last.next == null) {
+			end = last;
+		}
+		count += items.length;
+		modCount++;
+	}
+
+	/**
+	 * O(n) - We loop to the node before the range, walk past the range,
+	 * and then one pointer skips over all of it
+	 */
+	@Override
+	public void removeRange(int from, int to) {
+		checkIndex(from, count);
+		checkIndex(to, count);
+		if (from > to) {
+			throw new BadIndexError();
+		}
+		if (from == to) {
+			return;
+		}
+		Node<T> before = (from == 0) ? null : nodeAt(from - 1);
+		Node<T> after = (before == null) ? start : before.next;
+		if (WorkCounters.ENABLED) {
+			WorkCounters.add(Counter.NODE_HOPS, to - from);
+		}
+		for (int i = from; i < to; i++) {
+			after = after.next;
+		}
+		if (before == null) {
+			start = after;
+		} else {
+			before.next = after;
+		}
+		if (after == null) {
+			end = before;
+		}
+		count -= to - from;
+		modCount++;
+	}
+
+	/**
+	 * O(n) - We loop to the first node once, then keep walking as we copy
+	 */
+	@Override
+	public void copyRange(int from, int to, T[] dest) {
+		checkIndex(from, count);
+		checkIndex(to, count);
+		if (from > to) {
+			throw new BadIndexError();
+		}
+		if (from == to) {
+			return;
+		}
+		Node<T> current = nodeAt(from);
+		if (WorkCounters.ENABLED) {
+			WorkCounters.add(Counter.NODE_HOPS, to - from);
+		}
+		for (int i = 0; i < to - from; i++) {
+			dest[i] = current.value;
+			current = current.next;
+		}
+	}
+
+	/**
+	 * O(n) - Helper method to walk from the start to a node.
+	 * @param index - which node, from 0 to size (excluding size).
+	 * @return the node at that index.
+	 */
+	private Node<T> nodeAt(int index) {
+		Node<T> current = start;
+		if (WorkCounters.ENABLED) {
+			WorkCounters.add(Counter.NODE_HOPS, index);
+		}
+		for (int at = 0; at < index; at++) {
+			current = current.next;
+		}
+		return current;
+	}
+
+	/**
+	 * Helper method to throw the right error for an index that isn't in the list.
+	 * @param index - the index to check.
+	 * @param max - the largest index that is allowed.
+	 */
+	private void checkIndex(int index, int max) {
+		if (index < 0 || index > max) {
+			throw new BadIndexError();
+		}
+	}
+
 	/**
 	 * Helper method to throw the right error for an empty state.
 	 */
@@ -236,16 +350,37 @@ public class SinglyLinkedList<T> implements P6List<T>, Iterable<T> {
 	 */
 	private static class Iter<T> implements Iterator<T> {
 		/**
-		 * This is the value that walks through the list.
+		 * The list we are walking, so remove() can fix its pointers.
+		 */
+		SinglyLinkedList<T> list;
+		/**
+		 * This is the value that walks through the list; next() gives back its value.
 		 */
 		Node<T> current;
+		/**
+		 * The node next() gave back last time, or null if remove() can't be called.
+		 */
+		Node<T> lastReturned;
+		/**
+		 * The node in the list right before {@code lastReturned} (or before
+		 * {@code current}, once that one is removed). Null at the start.
+		 */
+		Node<T> previous;
+		/**
+		 * If the list's modCount isn't this, someone else changed it.
+		 */
+		int expectedModCount;
 
 		/**
 		 * This constructor details where to start, given a list.
 		 * @param list - the SinglyLinkedList to iterate or loop over.
 		 */
 		public Iter(SinglyLinkedList<T> list) {
+			this.list = list;
 			this.current = list.start;
+			this.lastReturned = null;
+			this.previous = null;
+			this.expectedModCount = list.modCount;
 		}
 
 		@Override
@@ -255,17 +390,66 @@ public class SinglyLinkedList<T> implements P6List<T>, Iterable<T> {
 
 		@Override
 		public T next() {
-			T found = current.value;
+			if (list.modCount != expectedModCount) {
+				throw new ConcurrentModificationException();
+			}
+			if (current == null) {
+				throw new NoSuchElementException();
+			}
+			if (lastReturned != null) {
+				previous = lastReturned;
+			}
+			lastReturned = current;
 			current = current.next;
-			return found;
+			return lastReturned.value;
+		}
+
+		/**
+		 * O(1) - We kept track of the node before the one we're removing, so we 
+		 * just point it past that one. No loop like in removeIndex!
+		 */
+		@Override
+		public void remove() {
+			if (lastReturned == null) {
+				throw new IllegalStateException();
+			}
+			if (list.modCount != expectedModCount) {
+				throw new ConcurrentModificationException();
+			}
+			if (previous == null) {
+				list.start = current;
+			} else {
+				previous.next = current;
+			}
+			if (list.end == lastReturned) {
+				list.end = previous;
+			}
+			list.count--;
+			list.modCount++;
+			lastReturned = null;
+			expectedModCount = list.modCount;
 		}
 	}
 	
 	/**
 	 * Implement iterator() so that {@code SinglyLinkedList} can be used in a for loop.
+	 * Its remove() is O(1), and changing the list any other way during the loop
+	 * makes next() throw a ConcurrentModificationException.
 	 * @return an object that understands "next()" and "hasNext()".
 	 */
+	@Override
 	public Iterator<T> iterator() {
 		return new Iter<>(this);
 	}
+	
+	/**
+	 * O(1) - A linked list can't jump to its middle, so this splits by walking
+	 * the iterator and copying a batch of items into an array for each piece.
+	 * We do know the size, so Java can still plan the work.
+	 * @return a spliterator over every item, from front to back.
+	 */
+	@Override
+	public Spliterator<T> spliterator() {
+		return Spliterators.spliterator(iterator(), count, Spliterator.ORDERED);
+	}
 }
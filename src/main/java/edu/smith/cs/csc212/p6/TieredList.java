@@ -0,0 +1,320 @@
+package edu.smith.cs.csc212.p6;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import edu.smith.cs.csc212.p6.errors.BadIndexError;
+import edu.smith.cs.csc212.p6.errors.EmptyListError;
+
+/**
+ * A "tiered vector": a list cut into blocks of about √n items each, so that
+ * getIndex is O(1) like {@link GrowableList} but addIndex and removeIndex only
+ * cost O(√n) instead of O(n).
+ *
+ * Every block is full except the last one, and every block holds the same
+ * number of items (a power of two), so which block an index is in, and where
+ * in that block, is just a shift and a mask; no walking like
+ * {@link ChunkyLinkedList}.
+ *
+ * Each block is a ring (a {@link GrowableList} that never grows), so adding or
+ * removing at either end of a block is O(1). To add in the middle, we make room
+ * in the block the index is in by moving one item from the back of each block
+ * to the front of the next one, starting from the end, and then shift at most
+ * half of that one block. Removing is the same, backwards. That's O(√n) blocks
+ * plus O(√n) items in one block.
+ *
+ * When the list gets much bigger or smaller, the blocks are rebuilt with a new
+ * size, to keep it close to √n. Like growing an array, that's O(n) but rare, so
+ * it is O(1) per add or remove on average.
+ */
+public class TieredList<T> implements P6List<T> {
+	/**
+	 * Blocks never get smaller than 2^MIN_SHIFT = 16 items.
+	 */
+	public static final int MIN_SHIFT = 4;
+	/**
+	 * The blocks, in order. All of them are full except the last.
+	 */
+	private GrowableList<GrowableList<T>> blocks;
+	/**
+	 * Every block holds 2^shift items.
+	 */
+	private int shift;
+	private int fill;
+	/**
+	 * How many times this list has been changed. Iterators check it to notice
+	 * when the list is changed out from under them.
+	 */
+	private int modCount;
+
+	public TieredList() {
+		this.shift = MIN_SHIFT;
+		this.blocks = new GrowableList<>();
+		this.fill = 0;
+	}
+
+	/**
+	 * O(√n) - One item moves forward out of every block
+	 */
+	@Override
+	public T removeFront() {
+		checkNotEmpty();
+		return removeIndex(0);
+	}
+
+	/**
+	 * O(1) - The last item is at the back of the last block
+	 */
+	@Override
+	public T removeBack() {
+		checkNotEmpty();
+		return removeIndex(fill-1);
+	}
+
+	/**
+	 * O(√n) - Remove it from its block (shifting at most half a block), then refill
+	 * that block, and each one after it, with the first item of the next block
+	 */
+	@Override
+	public T removeIndex(int index) {
+		checkNotEmpty();
+		checkIndex(index);
+		int b = index >>> shift;
+		T removed = blocks.getIndex(b).removeIndex(index & mask());
+		int last = blocks.size() - 1;
+		for (int j = b + 1; j <= last; j++) {
+			blocks.getIndex(j-1).addBack(blocks.getIndex(j).removeFront());
+		}
+		if (blocks.getBack().isEmpty()) {
+			blocks.removeBack();
+		}
+		fill--;
+		modCount++;
+		rebuildIfSmall();
+		return removed;
+	}
+
+	/**
+	 * O(√n) - One item moves back into the next block from every block
+	 */
+	@Override
+	public void addFront(T item) {
+		addIndex(item, 0);
+	}
+
+	/**
+	 * O(1) - Add to the last block, or start a new block if it's full
+	 */
+	@Override
+	public void addBack(T item) {
+		addIndex(item, fill);
+	}
+
+	/**
+	 * O(√n) - Make room in the index's block by moving the last item of each
+	 * block, from the end back to this one, to the front of the next block; then
+	 * shift at most half of this block to put the item in
+	 */
+	@Override
+	public void addIndex(T item, int index) {
+		if (index < 0 || index > fill) {
+			throw new BadIndexError();
+		}
+		if (blocks.isEmpty() || blocks.getBack().size() == blockSize()) {
+			blocks.addBack(new GrowableList<T>(blockSize()));
+		}
+		int b = index >>> shift;
+		for (int j = blocks.size() - 1; j > b; j--) {
+			blocks.getIndex(j).addFront(blocks.getIndex(j-1).removeBack());
+		}
+		blocks.getIndex(b).addIndex(item, index & mask());
+		fill++;
+		modCount++;
+		rebuildIfBig();
+	}
+
+	/**
+	 * O(1) - The first item is at the front of the first block
+	 */
+	@Override
+	public T getFront() {
+		checkNotEmpty();
+		return this.getIndex(0);
+	}
+
+	/**
+	 * O(1) - The last item is at the back of the last block
+	 */
+	@Override
+	public T getBack() {
+		checkNotEmpty();
+		return this.getIndex(fill-1);
+	}
+
+	/**
+	 * O(1) - The high bits of the index say which block, the low bits say where in it
+	 */
+	@Override
+	public T getIndex(int index) {
+		checkIndex(index);
+		return blocks.getIndex(index >>> shift).getIndex(index & mask());
+	}
+
+	/**
+	 * O(1) - We've been keeping track of fill the whole time
+	 */
+	@Override
+	public int size() {
+		return fill;
+	}
+
+	/**
+	 * O(1) - Again, it is super easy to see the value of fill
+	 */
+	@Override
+	public boolean isEmpty() {
+		return fill == 0;
+	}
+
+	/**
+	 * O(1) - Walk the items from front to back. Changing the list while doing this
+	 * (except with the iterator's remove) makes next() throw a ConcurrentModificationException.
+	 */
+	@Override
+	public Iterator<T> iterator() {
+		return new Iter();
+	}
+
+	/**
+	 * O(1)
+	 * @return how many items each block holds; about √n.
+	 */
+	public int blockSize() {
+		return 1 << shift;
+	}
+
+	/**
+	 * O(1) - Helper method for the low bits of an index.
+	 */
+	private int mask() {
+		return blockSize() - 1;
+	}
+
+	/**
+	 * O(n) - Helper method to double the block size once there are more than
+	 * twice as many blocks as items in a block.
+	 */
+	private void rebuildIfBig() {
+		if (blocks.size() > 2 * blockSize()) {
+			rebuild(shift + 1);
+		}
+	}
+
+	/**
+	 * O(n) - Helper method to halve the block size once there are fewer than an
+	 * eighth as many blocks as items in a block. The gap between this and
+	 * rebuildIfBig means a list that hovers around one size doesn't keep
+	 * rebuilding back and forth.
+	 */
+	private void rebuildIfSmall() {
+		if (shift > MIN_SHIFT && blocks.size() < blockSize() / 8) {
+			rebuild(shift - 1);
+		}
+	}
+
+	/**
+	 * O(n) - Helper method to copy every item into new blocks of a new size.
+	 * @param newShift - the new blocks hold 2^newShift items.
+	 */
+	private void rebuild(int newShift) {
+		int newBlockSize = 1 << newShift;
+		GrowableList<GrowableList<T>> rebuilt = new GrowableList<>();
+		for (GrowableList<T> block : blocks) {
+			for (T item : block) {
+				if (rebuilt.isEmpty() || rebuilt.getBack().size() == newBlockSize) {
+					rebuilt.addBack(new GrowableList<T>(newBlockSize));
+				}
+				rebuilt.getBack().addBack(item);
+			}
+		}
+		this.blocks = rebuilt;
+		this.shift = newShift;
+	}
+
+	/**
+	 * Helper method to throw the right error for an index that isn't in the list.
+	 */
+	private void checkIndex(int index) {
+		if (index < 0 || index >= fill) {
+			throw new BadIndexError();
+		}
+	}
+
+	/**
+	 * Helper method to throw the right error for an empty state.
+	 */
+	private void checkNotEmpty() {
+		if (this.isEmpty()) {
+			throw new EmptyListError();
+		}
+	}
+
+	/**
+	 * Walks through the indexes in order. It checks modCount on every step, so
+	 * changing the list some other way while we walk it is an error instead of a
+	 * mystery.
+	 */
+	private class Iter implements Iterator<T> {
+		/**
+		 * The index next() gives back.
+		 */
+		private int cursor;
+		/**
+		 * The index next() gave back last time, or -1 if remove() can't be called.
+		 */
+		private int lastReturned;
+		private int expectedModCount;
+
+		public Iter() {
+			this.cursor = 0;
+			this.lastReturned = -1;
+			this.expectedModCount = modCount;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return cursor < fill;
+		}
+
+		@Override
+		public T next() {
+			if (modCount != expectedModCount) {
+				throw new ConcurrentModificationException();
+			}
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			lastReturned = cursor;
+			cursor++;
+			return getIndex(lastReturned);
+		}
+
+		/**
+		 * O(√n) - Same as removeIndex.
+		 */
+		@Override
+		public void remove() {
+			if (lastReturned < 0) {
+				throw new IllegalStateException();
+			}
+			if (modCount != expectedModCount) {
+				throw new ConcurrentModificationException();
+			}
+			removeIndex(lastReturned);
+			cursor = lastReturned;
+			lastReturned = -1;
+			expectedModCount = modCount;
+		}
+	}
+}
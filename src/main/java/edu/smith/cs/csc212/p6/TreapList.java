@@ -0,0 +1,537 @@
+package edu.smith.cs.csc212.p6;
+
+import java.util.ArrayDeque;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.SplittableRandom;
+import java.util.Spliterator;
+import java.util.Spliterators;
+
+import edu.smith.cs.csc212.p6.errors.BadIndexError;
+import edu.smith.cs.csc212.p6.errors.EmptyListError;
+
+/**
+ * A list stored in a balanced binary tree, so that getIndex, addIndex and
+ * removeIndex are all O(log n), anywhere in the list.
+ *
+ * The tree is an "implicit treap". The items are in order from left to right
+ * (an in-order walk of the tree gives the list), and instead of keys, every
+ * node knows how many nodes are in its subtree. To find index i, we look at
+ * the size of the left subtree: if i is smaller, go left; if it is equal,
+ * this is the node; otherwise go right, looking for i minus everything we
+ * skipped.
+ *
+ * To stay balanced, every node also gets a random priority when it is made,
+ * and a parent always has a higher priority than its children (like a heap).
+ * That makes the tree look like one built from the items in a random order,
+ * which is O(log n) deep on average, no matter what order we actually add
+ * and remove them in.
+ *
+ * Everything below uses two helpers: split cuts a tree into the first k items
+ * and the rest, and merge glues two trees back together, both in O(log n).
+ *
+ * @param <T> - the type of item stored in the list.
+ */
+public class TreapList<T> implements P6List<T> {
+	private Node<T> root;
+	/**
+	 * How many times this list has been changed. Iterators check it to notice
+	 * when the list is changed out from under them.
+	 */
+	private int modCount;
+	/**
+	 * Where the priorities come from.
+	 */
+	private final SplittableRandom priorities;
+	/**
+	 * The two halves from the last call to split. Java can't return two things,
+	 * so split leaves them here; callers pick them up and clear them right away.
+	 */
+	private Node<T> splitLeft;
+	private Node<T> splitRight;
+
+	public TreapList() {
+		this.root = null;
+		this.modCount = 0;
+		this.priorities = new SplittableRandom();
+	}
+
+	/**
+	 * O(log n) - Same as removeIndex at 0
+	 */
+	@Override
+	public T removeFront() {
+		checkNotEmpty();
+		return removeIndex(0);
+	}
+
+	/**
+	 * O(log n) - Same as removeIndex at the end
+	 */
+	@Override
+	public T removeBack() {
+		checkNotEmpty();
+		return removeIndex(size()-1);
+	}
+
+	/**
+	 * O(log n) - Walk down to the node, counting sizes on the way, then merge its
+	 * two children together in its place
+	 */
+	@Override
+	public T removeIndex(int index) {
+		checkNotEmpty();
+		checkIndex(index);
+		Node<T> parent = null;
+		Node<T> at = root;
+		while (true) {
+			// everything on the way down loses one item.
+			at.size--;
+			int left = sizeOf(at.left);
+			if (index == left) {
+				break;
+			}
+			parent = at;
+			if (index < left) {
+				at = at.left;
+			} else {
+				index -= left + 1;
+				at = at.right;
+			}
+		}
+		Node<T> joined = merge(at.left, at.right);
+		if (parent == null) {
+			root = joined;
+		} else if (parent.left == at) {
+			parent.left = joined;
+		} else {
+			parent.right = joined;
+		}
+		modCount++;
+		return at.value;
+	}
+
+	/**
+	 * O(log n) - Same as addIndex at 0
+	 */
+	@Override
+	public void addFront(T item) {
+		addIndex(item, 0);
+	}
+
+	/**
+	 * O(log n) - Same as addIndex at the end
+	 */
+	@Override
+	public void addBack(T item) {
+		addIndex(item, size());
+	}
+
+	/**
+	 * O(log n) - Walk down until the new node's random priority beats the one we
+	 * are on; then split that subtree at the index and hang the halves under the
+	 * new node
+	 */
+	@Override
+	public void addIndex(T item, int index) {
+		if (index < 0 || index > size()) {
+			throw new BadIndexError();
+		}
+		Node<T> added = new Node<T>(item, priorities.nextInt());
+		Node<T> parent = null;
+		boolean wentLeft = false;
+		Node<T> at = root;
+		while (at != null && at.priority >= added.priority) {
+			at.size++;
+			parent = at;
+			int left = sizeOf(at.left);
+			wentLeft = index <= left;
+			if (wentLeft) {
+				at = at.left;
+			} else {
+				index -= left + 1;
+				at = at.right;
+			}
+		}
+		split(at, index);
+		added.left = splitLeft;
+		added.right = splitRight;
+		splitLeft = splitRight = null;
+		added.update();
+		if (parent == null) {
+			root = added;
+		} else if (wentLeft) {
+			parent.left = added;
+		} else {
+			parent.right = added;
+		}
+		modCount++;
+	}
+
+	/**
+	 * O(log n) - Go left until we can't
+	 */
+	@Override
+	public T getFront() {
+		checkNotEmpty();
+		return this.getIndex(0);
+	}
+
+	/**
+	 * O(log n) - Go right until we can't
+	 */
+	@Override
+	public T getBack() {
+		checkNotEmpty();
+		return this.getIndex(size()-1);
+	}
+
+	/**
+	 * O(log n) - Walk down, going left or right by comparing the index to the size
+	 * of the left subtree
+	 */
+	@Override
+	public T getIndex(int index) {
+		checkIndex(index);
+		Node<T> at = root;
+		while (true) {
+			int left = sizeOf(at.left);
+			if (index == left) {
+				return at.value;
+			} else if (index < left) {
+				at = at.left;
+			} else {
+				index -= left + 1;
+				at = at.right;
+			}
+		}
+	}
+
+	/**
+	 * O(1) - The root knows how big the whole tree is
+	 */
+	@Override
+	public int size() {
+		return sizeOf(root);
+	}
+
+	/**
+	 * O(1) - The tree is empty when there is no root
+	 */
+	@Override
+	public boolean isEmpty() {
+		return root == null;
+	}
+
+	/**
+	 * O(k + log n) - Build a treap of the new items in one pass, then split the
+	 * list at the index and merge the three pieces
+	 */
+	@Override
+	public void addAllAt(int index, T[] items) {
+		if (index < 0 || index > size()) {
+			throw new BadIndexError();
+		}
+		if (items.length == 0) {
+			return;
+		}
+		Node<T> middle = build(items);
+		split(root, index);
+		Node<T> before = splitLeft;
+		Node<T> after = splitRight;
+		splitLeft = splitRight = null;
+		root = merge(merge(before, middle), after);
+		modCount++;
+	}
+
+	/**
+	 * O(k + log n) - Same as addAllAt the end
+	 */
+	@Override
+	public void addAllBack(T[] items) {
+		addAllAt(size(), items);
+	}
+
+	/**
+	 * O(log n) - Split off the range, and merge what was on either side of it;
+	 * the range itself is just dropped
+	 */
+	@Override
+	public void removeRange(int from, int to) {
+		checkRange(from, to);
+		if (from == to) {
+			return;
+		}
+		split(root, to);
+		Node<T> after = splitRight;
+		split(splitLeft, from);
+		Node<T> before = splitLeft;
+		splitLeft = splitRight = null;
+		root = merge(before, after);
+		modCount++;
+	}
+
+	/**
+	 * O(k + log n) - Walk down to the first item, then in order from there
+	 */
+	@Override
+	public void copyRange(int from, int to, T[] dest) {
+		checkRange(from, to);
+		Iter it = new Iter(from);
+		for (int i = 0; i < to - from; i++) {
+			dest[i] = it.next();
+		}
+	}
+
+	/**
+	 * O(log n) - The iterator keeps the path down to the next node, so each step
+	 * is O(1) on average. Changing the list while doing this (except with the
+	 * iterator's remove) makes next() throw a ConcurrentModificationException.
+	 */
+	@Override
+	public Iterator<T> iterator() {
+		return new Iter(0);
+	}
+
+	/**
+	 * O(log n) - Splits by copying batches of items into arrays; we know the size.
+	 */
+	@Override
+	public Spliterator<T> spliterator() {
+		return Spliterators.spliterator(iterator(), size(), Spliterator.ORDERED);
+	}
+
+	/**
+	 * O(log n) - Helper method to cut a tree into its first {@code count} items
+	 * (left in splitLeft) and the rest (left in splitRight). The nodes keep their
+	 * priorities, so both halves are still treaps.
+	 * @param node - the top of the tree to cut; it is used up.
+	 * @param count - how many items go in the left half.
+	 */
+	private void split(Node<T> node, int count) {
+		if (node == null) {
+			splitLeft = splitRight = null;
+			return;
+		}
+		int left = sizeOf(node.left);
+		if (count <= left) {
+			// node and its right side go right; cut its left side.
+			split(node.left, count);
+			node.left = splitRight;
+			node.update();
+			splitRight = node;
+		} else {
+			// node and its left side go left; cut its right side.
+			split(node.right, count - left - 1);
+			node.right = splitLeft;
+			node.update();
+			splitLeft = node;
+		}
+	}
+
+	/**
+	 * O(log n) - Helper method to glue two trees together, all of first's items
+	 * before all of second's. Whichever root has the higher priority stays on
+	 * top, and the other tree merges into its inside edge.
+	 * @return the top of the combined tree.
+	 */
+	private static <T> Node<T> merge(Node<T> first, Node<T> second) {
+		if (first == null) {
+			return second;
+		}
+		if (second == null) {
+			return first;
+		}
+		if (first.priority > second.priority) {
+			first.right = merge(first.right, second);
+			first.update();
+			return first;
+		} else {
+			second.left = merge(first, second.left);
+			second.update();
+			return second;
+		}
+	}
+
+	/**
+	 * O(k) - Helper method to build a treap of some items in order, giving each a
+	 * random priority. This is how you build a Cartesian tree: keep the right
+	 * edge of the tree in a stack; each new node goes at the bottom of it, after
+	 * popping off (and adopting as its left child) anything with a lower priority.
+	 * @param items - what goes in the tree, in order.
+	 * @return the top of the new tree.
+	 */
+	private Node<T> build(T[] items) {
+		ArrayDeque<Node<T>> rightEdge = new ArrayDeque<>();
+		for (T item : items) {
+			Node<T> added = new Node<T>(item, priorities.nextInt());
+			Node<T> adopted = null;
+			while (!rightEdge.isEmpty() && rightEdge.peek().priority < added.priority) {
+				adopted = rightEdge.pop();
+				adopted.update();
+			}
+			added.left = adopted;
+			if (!rightEdge.isEmpty()) {
+				rightEdge.peek().right = added;
+			}
+			rightEdge.push(added);
+		}
+		// the sizes on the right edge are only right once everything below is done.
+		Node<T> top = null;
+		while (!rightEdge.isEmpty()) {
+			top = rightEdge.pop();
+			top.update();
+		}
+		return top;
+	}
+
+	/**
+	 * O(1) - Helper method so that an empty subtree has size 0.
+	 */
+	private static int sizeOf(Node<?> node) {
+		return node == null ? 0 : node.size;
+	}
+
+	/**
+	 * Helper method to throw the right error for an index that isn't in the list.
+	 */
+	private void checkIndex(int index) {
+		if (index < 0 || index >= size()) {
+			throw new BadIndexError();
+		}
+	}
+
+	/**
+	 * Helper method to throw the right error for a range that isn't in the list.
+	 */
+	private void checkRange(int from, int to) {
+		if (from < 0 || to > size() || from > to) {
+			throw new BadIndexError();
+		}
+	}
+
+	/**
+	 * Helper method to throw the right error for an empty state.
+	 */
+	private void checkNotEmpty() {
+		if (this.isEmpty()) {
+			throw new EmptyListError();
+		}
+	}
+
+	/**
+	 * One item of the list, and the subtree of items around it.
+	 *
+	 * @param <T> the type of the values stored.
+	 */
+	private static class Node<T> {
+		final T value;
+		/**
+		 * A random number; a node's is always at least as big as its children's.
+		 */
+		final int priority;
+		/**
+		 * How many nodes are in this subtree, counting this one.
+		 */
+		int size;
+		Node<T> left;
+		Node<T> right;
+
+		public Node(T value, int priority) {
+			this.value = value;
+			this.priority = priority;
+			this.size = 1;
+		}
+
+		/**
+		 * O(1) - Recount size after the children change.
+		 */
+		void update() {
+			this.size = 1 + sizeOf(left) + sizeOf(right);
+		}
+	}
+
+	/**
+	 * Walks the tree in order. The stack holds the nodes above the next one whose
+	 * left sides are done but which haven't been given back yet; the next node is
+	 * always on top.
+	 */
+	private class Iter implements Iterator<T> {
+		private final ArrayDeque<Node<T>> stack;
+		/**
+		 * The index next() gives back.
+		 */
+		private int cursor;
+		/**
+		 * The index next() gave back last time, or -1 if remove() can't be called.
+		 */
+		private int lastReturned;
+		private int expectedModCount;
+
+		public Iter(int start) {
+			this.stack = new ArrayDeque<>();
+			this.lastReturned = -1;
+			this.expectedModCount = modCount;
+			seek(start);
+		}
+
+		@Override
+		public boolean hasNext() {
+			return !stack.isEmpty();
+		}
+
+		@Override
+		public T next() {
+			if (modCount != expectedModCount) {
+				throw new ConcurrentModificationException();
+			}
+			if (stack.isEmpty()) {
+				throw new NoSuchElementException();
+			}
+			Node<T> at = stack.pop();
+			for (Node<T> down = at.right; down != null; down = down.left) {
+				stack.push(down);
+			}
+			lastReturned = cursor++;
+			return at.value;
+		}
+
+		/**
+		 * O(log n) - Same as removeIndex; then find our place in the new tree.
+		 */
+		@Override
+		public void remove() {
+			if (lastReturned < 0) {
+				throw new IllegalStateException();
+			}
+			if (modCount != expectedModCount) {
+				throw new ConcurrentModificationException();
+			}
+			removeIndex(lastReturned);
+			seek(lastReturned);
+			lastReturned = -1;
+			expectedModCount = modCount;
+		}
+
+		/**
+		 * O(log n) - Helper method to fill the stack so that index is next.
+		 */
+		private void seek(int index) {
+			stack.clear();
+			cursor = index;
+			Node<T> at = root;
+			while (at != null) {
+				int left = sizeOf(at.left);
+				if (index <= left) {
+					// at comes after index, so it's still to come.
+					stack.push(at);
+					at = at.left;
+				} else {
+					index -= left + 1;
+					at = at.right;
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,106 @@
+package edu.smith.cs.csc212.p6;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts the work the lists do on the inside, so we can check that their
+ * big-O comments are true: how many nodes were walked past, how many items got
+ * shifted over in an array, and so on. A timer (like {@link InstrumentedP6List})
+ * can tell you ChunkyLinkedList.getIndex is slow; these tell you why.
+ *
+ * They are off unless the JVM is started with {@code -Dp6.counters=true}.
+ * Every place that counts looks like {@code if (WorkCounters.ENABLED) {...}},
+ * and since ENABLED is static final, the JIT treats it as a constant and throws
+ * the whole thing away when it is false. So leaving them in costs nothing.
+ *
+ * The counts are shared by every list in the JVM (including lists used inside
+ * other lists, like the chunks of a ChunkyLinkedList), so to measure one thing:
+ * reset(), do it, then look.
+ */
+public final class WorkCounters {
+	/**
+	 * Whether anything gets counted. Decided once, when the JVM starts.
+	 */
+	public static final boolean ENABLED = Boolean.getBoolean("p6.counters");
+
+	/**
+	 * The kinds of work we count.
+	 */
+	public enum Counter {
+		/**
+		 * Following a next or before pointer to get to a node.
+		 */
+		NODE_HOPS,
+		/**
+		 * Looking at a chunk (or a step down ChunkDirectory's tree) to find which
+		 * one holds an index.
+		 */
+		CHUNKS_SCANNED,
+		/**
+		 * Moving an item to a different slot of the same array, to make or close
+		 * a hole.
+		 */
+		ELEMENT_SHIFTS,
+		/**
+		 * Making a new chunk for a ChunkyLinkedList.
+		 */
+		CHUNK_ALLOCATIONS,
+		/**
+		 * Copying everything into a new, bigger or smaller, array.
+		 */
+		RESIZES
+	}
+
+	private static final LongAdder[] COUNTS = new LongAdder[Counter.values().length];
+	static {
+		for (int i = 0; i < COUNTS.length; i++) {
+			COUNTS[i] = new LongAdder();
+		}
+	}
+
+	private WorkCounters() {
+		// only static methods.
+	}
+
+	/**
+	 * O(1) - Count some work. Callers check ENABLED first.
+	 * @param counter - what kind of work.
+	 * @param amount - how much of it.
+	 */
+	static void add(Counter counter, long amount) {
+		COUNTS[counter.ordinal()].add(amount);
+	}
+
+	/**
+	 * O(1)
+	 * @param counter - what kind of work.
+	 * @return how much of it was done since the last reset().
+	 */
+	public static long get(Counter counter) {
+		return COUNTS[counter.ordinal()].sum();
+	}
+
+	/**
+	 * O(1)
+	 * @return every count, since the last reset().
+	 */
+	public static Map<Counter, Long> snapshot() {
+		Map<Counter, Long> output = new EnumMap<>(Counter.class);
+		for (Counter c : Counter.values()) {
+			output.put(c, get(c));
+		}
+		return Collections.unmodifiableMap(output);
+	}
+
+	/**
+	 * Start counting again from zero.
+	 */
+	public static void reset() {
+		for (LongAdder count : COUNTS) {
+			count.reset();
+		}
+	}
+}
@@ -1,9 +1,31 @@
 package edu.smith.cs.csc212.p6;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+
 import org.junit.Assert;
 import org.junit.Test;
 
-public class ChunkyLinkedListTest {
+import edu.smith.cs.csc212.p6.errors.BadIndexError;
+
+public class ChunkyLinkedListTest extends P6ListContractTest<Integer> {
+	
+	@Override
+	protected P6List<Integer> makeList() {
+		return new ChunkyLinkedList<Integer>(4);
+	}
+	
+	@Override
+	protected Integer item(int n) {
+		return n;
+	}
 
 	/**
 	 * Helper method to make a full list.
@@ -119,5 +141,223 @@ public class ChunkyLinkedListTest {
 		Assert.assertEquals("0", data.getIndex(2));
 		Assert.assertEquals("1", data.getIndex(3));
 	}
+	
+	@Test
+	public void testManyChunks() {
+		P6List<Integer> data = new ChunkyLinkedList<Integer>(4);
+		for (int i = 0; i < 100; i++) {
+			data.addBack(i);
+		}
+		Assert.assertEquals(100, data.size());
+		for (int i = 0; i < 100; i++) {
+			Assert.assertEquals((Integer) i, data.getIndex(i));
+		}
+		// empty out a chunk in the middle; later indices should slide down.
+		for (int i = 0; i < 4; i++) {
+			Assert.assertEquals((Integer) (40 + i), data.removeIndex(40));
+		}
+		Assert.assertEquals(96, data.size());
+		Assert.assertEquals((Integer) 39, data.getIndex(39));
+		Assert.assertEquals((Integer) 44, data.getIndex(40));
+		Assert.assertEquals((Integer) 99, data.getBack());
+	}
+	
+	@Test( expected = BadIndexError.class )
+	public void testGetIndexHigh() {
+		P6List<String> data = makeFullList();
+		data.getIndex(4);
+	}
+	
+	@Test
+	public void testAddIndexSplits() {
+		P6List<Integer> data = new ChunkyLinkedList<Integer>(4);
+		List<Integer> expected = new ArrayList<>();
+		Random rand = new Random(13);
+		for (int i = 0; i < 200; i++) {
+			int where = rand.nextInt(expected.size() + 1);
+			data.addIndex(i, where);
+			expected.add(where, i);
+		}
+		Assert.assertEquals(expected.size(), data.size());
+		for (int i = 0; i < expected.size(); i++) {
+			Assert.assertEquals(expected.get(i), data.getIndex(i));
+		}
+		while (!expected.isEmpty()) {
+			int where = rand.nextInt(expected.size());
+			Assert.assertEquals(expected.remove(where), data.removeIndex(where));
+			Assert.assertEquals(expected.size(), data.size());
+		}
+		Assert.assertTrue(data.isEmpty());
+	}
+	
+	@Test( expected = BadIndexError.class )
+	public void testAddIndexHigh() {
+		P6List<String> data = makeFullList();
+		data.addIndex("x", 5);
+	}
+	
+	@Test
+	public void testBackAcrossChunks() {
+		P6List<Integer> data = new ChunkyLinkedList<Integer>(3);
+		for (int i = 0; i < 10; i++) {
+			data.addBack(i);
+			Assert.assertEquals((Integer) i, data.getBack());
+			Assert.assertEquals((Integer) 0, data.getFront());
+		}
+		for (int i = 9; i >= 0; i--) {
+			Assert.assertEquals((Integer) i, data.getBack());
+			Assert.assertEquals((Integer) i, data.removeBack());
+			Assert.assertEquals(i, data.size());
+		}
+		Assert.assertTrue(data.isEmpty());
+		data.addBack(7);
+		Assert.assertEquals((Integer) 7, data.getFront());
+		Assert.assertEquals((Integer) 7, data.getBack());
+	}
+
+	@Test
+	public void testAddAllAndRemoveRange() {
+		P6List<String> data = new ChunkyLinkedList<String>(4);
+		data.addAllBack(new String[] {"a", "b", "f"});
+		data.addAllAt(2, new String[] {"c", "d", "e"});
+		data.addAllAt(0, new String[] {});
+		Assert.assertEquals(6, data.size());
+		String[] copy = new String[6];
+		data.copyRange(0, 6, copy);
+		Assert.assertArrayEquals(new String[] {"a", "b", "c", "d", "e", "f"}, copy);
+		data.removeRange(1, 4);
+		Assert.assertEquals(3, data.size());
+		Assert.assertEquals("a", data.getFront());
+		Assert.assertEquals("e", data.getIndex(1));
+		Assert.assertEquals("f", data.getBack());
+		data.removeRange(0, 3);
+		Assert.assertTrue(data.isEmpty());
+		data.removeRange(0, 0);
+	}
+	
+	@Test( expected = BadIndexError.class )
+	public void testRemoveRangeBackwards() {
+		P6List<String> data = new ChunkyLinkedList<String>(4);
+		data.addAllBack(new String[] {"a", "b", "c"});
+		data.removeRange(2, 1);
+	}
+	
+	@Test( expected = BadIndexError.class )
+	public void testAddAllAtHigh() {
+		P6List<String> data = new ChunkyLinkedList<String>(4);
+		data.addAllBack(new String[] {"a", "b", "c"});
+		data.addAllAt(4, new String[] {"d"});
+	}
+
+	@Test
+	public void testStreams() {
+		P6List<Integer> data = new ChunkyLinkedList<Integer>(8);
+		List<Integer> expected = new ArrayList<>();
+		for (int i = 0; i < 1000; i++) {
+			data.addIndex(i, i / 2);
+			expected.add(i / 2, i);
+		}
+		Assert.assertEquals(expected, data.stream().collect(Collectors.toList()));
+		Assert.assertEquals(expected, data.parallelStream().collect(Collectors.toList()));
+		long sum = expected.stream().mapToLong(x -> x).sum();
+		Assert.assertEquals(sum, data.parallelStream().mapToLong(x -> x).sum());
+		Spliterator<Integer> items = data.spliterator();
+		Assert.assertTrue(items.hasCharacteristics(Spliterator.SIZED));
+		Assert.assertEquals(1000, items.getExactSizeIfKnown());
+	}
+	
+	@Test
+	public void testSplitsAtChunks() {
+		P6List<Integer> data = new ChunkyLinkedList<Integer>(100);
+		for (int i = 0; i < 1000; i++) {
+			data.addBack(i);
+		}
+		// 10 full chunks: the first split should hand over exactly 5 of them.
+		Spliterator<Integer> back = data.spliterator();
+		Spliterator<Integer> front = back.trySplit();
+		Assert.assertEquals(500, front.getExactSizeIfKnown());
+		Assert.assertEquals(500, back.getExactSizeIfKnown());
+		Assert.assertTrue(back.tryAdvance(x -> Assert.assertEquals((Integer) 500, x)));
+		Assert.assertEquals(499, back.getExactSizeIfKnown());
+		// chunks 0-1, then chunk 0 by itself...
+		Spliterator<Integer> first = front.trySplit().trySplit();
+		Assert.assertEquals(100, first.getExactSizeIfKnown());
+		// ...and once it is down to one chunk, it splits inside the chunk instead.
+		Assert.assertEquals(50, first.trySplit().getExactSizeIfKnown());
+		Assert.assertEquals(50, first.getExactSizeIfKnown());
+	}
+
+	@Test
+	public void testIteratorRemove() {
+		P6List<String> data = new ChunkyLinkedList<String>(2);
+		data.addAllBack(new String[] {"a", "b", "c", "d", "e", "f", "g"});
+		List<String> seen = new ArrayList<>();
+		for (String x : data) {
+			seen.add(x);
+		}
+		Assert.assertEquals(Arrays.asList("a", "b", "c", "d", "e", "f", "g"), seen);
+		// take out every other one, including both ends.
+		Iterator<String> it = data.iterator();
+		for (int i = 0; it.hasNext(); i++) {
+			it.next();
+			if (i % 2 == 0) {
+				it.remove();
+			}
+		}
+		Assert.assertEquals(3, data.size());
+		Assert.assertEquals("b", data.getFront());
+		Assert.assertEquals("d", data.getIndex(1));
+		Assert.assertEquals("f", data.getBack());
+		data.addBack("h");
+		Assert.assertEquals("h", data.getIndex(3));
+	}
+	
+	@Test( expected = ConcurrentModificationException.class )
+	public void testIteratorFailsFast() {
+		P6List<String> data = new ChunkyLinkedList<String>(2);
+		data.addAllBack(new String[] {"a", "b", "c"});
+		for (String x : data) {
+			if (x.equals("a")) {
+				data.removeBack();
+			}
+		}
+	}
+	
+	@Test( expected = IllegalStateException.class )
+	public void testIteratorRemoveTwice() {
+		P6List<String> data = new ChunkyLinkedList<String>(2);
+		data.addAllBack(new String[] {"a", "b", "c"});
+		Iterator<String> it = data.iterator();
+		it.next();
+		it.remove();
+		it.remove();
+	}
+	
+	@Test( expected = NoSuchElementException.class )
+	public void testIteratorPastEnd() {
+		P6List<String> data = new ChunkyLinkedList<String>(2);
+		data.addBack("a");
+		Iterator<String> it = data.iterator();
+		it.next();
+		it.next();
+	}
 
+	@Test
+	public void testReverseIterator() {
+		ChunkyLinkedList<String> data = new ChunkyLinkedList<String>(2);
+		data.addAllBack(new String[] {"a", "b", "c", "d", "e"});
+		List<String> seen = new ArrayList<>();
+		Iterator<String> it = data.reverseIterator();
+		while (it.hasNext()) {
+			String x = it.next();
+			seen.add(x);
+			if (x.equals("e") || x.equals("c") || x.equals("a")) {
+				it.remove();
+			}
+		}
+		Assert.assertEquals(Arrays.asList("e", "d", "c", "b", "a"), seen);
+		Assert.assertEquals(2, data.size());
+		Assert.assertEquals("b", data.getFront());
+		Assert.assertEquals("d", data.getBack());
+	}
 }
@@ -0,0 +1,284 @@
+package edu.smith.cs.csc212.p6;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import edu.smith.cs.csc212.p6.errors.BadIndexError;
+import edu.smith.cs.csc212.p6.errors.EmptyListError;
+
+public class ConcurrentChunkyLinkedListTest extends P6ListContractTest<Integer> {
+
+	@Override
+	protected P6List<Integer> makeList() {
+		return new ConcurrentChunkyLinkedList<Integer>(4);
+	}
+
+	@Override
+	protected Integer item(int n) {
+		return n;
+	}
+
+	/**
+	 * Helper method to make a full list.
+	 * @return
+	 */
+	public P6List<String> makeFullList() {
+		P6List<String> data = new ConcurrentChunkyLinkedList<String>(3);
+		data.addBack("a");
+		data.addBack("b");
+		data.addBack("c");
+		data.addBack("d");
+		return data;
+	}
+
+	@Test
+	public void testQueue() {
+		P6List<String> data = makeFullList();
+		Assert.assertEquals(4, data.size());
+		Assert.assertEquals("a", data.getFront());
+		Assert.assertEquals("d", data.getBack());
+		Assert.assertEquals("a", data.removeFront());
+		Assert.assertEquals("b", data.removeFront());
+		data.addBack("e");
+		Assert.assertEquals("c", data.removeFront());
+		Assert.assertEquals("d", data.removeFront());
+		Assert.assertEquals("e", data.removeFront());
+		Assert.assertTrue(data.isEmpty());
+		Assert.assertEquals(0, data.size());
+	}
+
+	@Test
+	public void testPositional() {
+		P6List<String> data = makeFullList();
+		data.addFront("_");
+		data.addIndex("x", 3);
+		Assert.assertEquals(Arrays.asList("_", "a", "b", "x", "c", "d"), data.stream().collect(Collectors.toList()));
+		Assert.assertEquals("x", data.removeIndex(3));
+		Assert.assertEquals("d", data.removeBack());
+		Assert.assertEquals("c", data.getBack());
+		data.addBack("e");
+		Assert.assertEquals("e", data.getIndex(4));
+	}
+
+	@Test( expected = EmptyListError.class )
+	public void testRemoveFrontEmpty() {
+		P6List<String> data = new ConcurrentChunkyLinkedList<String>(3);
+		data.removeFront();
+	}
+
+	@Test( expected = EmptyListError.class )
+	public void testRemoveBackEmpty() {
+		P6List<String> data = makeFullList();
+		for (int i = 0; i < 4; i++) {
+			data.removeBack();
+		}
+		data.removeBack();
+	}
+
+	@Test( expected = EmptyListError.class )
+	public void testGetIndexEmpty() {
+		P6List<String> data = new ConcurrentChunkyLinkedList<String>(3);
+		data.getIndex(0);
+	}
+
+	@Test( expected = BadIndexError.class )
+	public void testGetIndexHigh() {
+		P6List<String> data = makeFullList();
+		data.getIndex(4);
+	}
+
+	@Test( expected = BadIndexError.class )
+	public void testAddIndexHigh() {
+		P6List<String> data = makeFullList();
+		data.addIndex("e", 5);
+	}
+
+	@Test( expected = UnsupportedOperationException.class )
+	public void testIteratorRemove() {
+		P6List<String> data = makeFullList();
+		Iterator<String> it = data.iterator();
+		it.next();
+		it.remove();
+	}
+
+	@Test
+	public void testIteratorNoMore() {
+		P6List<String> data = makeFullList();
+		Iterator<String> it = data.iterator();
+		for (int i = 0; i < 4; i++) {
+			Assert.assertTrue(it.hasNext());
+			it.next();
+		}
+		Assert.assertFalse(it.hasNext());
+		try {
+			it.next();
+			Assert.fail();
+		} catch (NoSuchElementException expected) {
+		}
+	}
+
+	@Test
+	public void testStreamWhileRemovingFront() throws Exception {
+		final ConcurrentChunkyLinkedList<Integer> data = new ConcurrentChunkyLinkedList<Integer>(16);
+		for (int i = 0; i < 100000; i++) {
+			data.addBack(i);
+		}
+		ExecutorService pool = Executors.newSingleThreadExecutor();
+		Future<?> remover = pool.submit(() -> {
+			for (int i = 0; i < 50000; i++) {
+				data.removeFront();
+			}
+		});
+		List<Integer> seen = data.stream().collect(Collectors.toList());
+		remover.get(60, TimeUnit.SECONDS);
+		pool.shutdown();
+		// some of the removed ones may be seen, but never twice or out of order,
+		// and every one that was never removed is there.
+		for (int i = 1; i < seen.size(); i++) {
+			Assert.assertTrue(seen.get(i - 1) < seen.get(i));
+		}
+		Assert.assertTrue(seen.size() >= 50000);
+		Assert.assertEquals(Integer.valueOf(99999), seen.get(seen.size() - 1));
+		Assert.assertEquals(Integer.valueOf(50000), seen.get(seen.size() - 50000));
+	}
+
+	@Test
+	public void testIterateWhileSplittingAndMerging() throws Exception {
+		final ConcurrentChunkyLinkedList<Integer> data = new ConcurrentChunkyLinkedList<Integer>(8);
+		for (int i = 0; i < 2000; i++) {
+			data.addBack(i);
+		}
+		ExecutorService pool = Executors.newSingleThreadExecutor();
+		final AtomicBoolean stop = new AtomicBoolean(false);
+		// adds and removes negative numbers all over, which splits and merges chunks.
+		Future<?> churn = pool.submit(() -> {
+			Random rand = new Random(5);
+			while (!stop.get()) {
+				int index = rand.nextInt(data.size());
+				if (data.getIndex(index) < 0) {
+					data.removeIndex(index);
+				} else {
+					data.addIndex(-1, index);
+				}
+			}
+		});
+		for (int pass = 0; pass < 50; pass++) {
+			int expected = 0;
+			for (int x : data) {
+				if (x >= 0) {
+					Assert.assertEquals(expected, x);
+					expected++;
+				}
+			}
+			Assert.assertEquals(2000, expected);
+		}
+		stop.set(true);
+		churn.get(60, TimeUnit.SECONDS);
+		pool.shutdown();
+	}
+
+	@Test
+	public void testConcurrentAddBack() throws Exception {
+		final ConcurrentChunkyLinkedList<Integer> data = new ConcurrentChunkyLinkedList<Integer>(8);
+		final int threads = 4;
+		final int perThread = 20000;
+		ExecutorService pool = Executors.newFixedThreadPool(threads);
+		List<Future<?>> producers = new ArrayList<>();
+		for (int p = 0; p < threads; p++) {
+			final int producer = p;
+			producers.add(pool.submit(() -> {
+				for (int i = 0; i < perThread; i++) {
+					data.addBack(producer * perThread + i);
+				}
+			}));
+		}
+		for (Future<?> producer : producers) {
+			producer.get(60, TimeUnit.SECONDS);
+		}
+		pool.shutdown();
+		Assert.assertEquals(threads * perThread, data.size());
+		Set<Integer> seen = new HashSet<>();
+		int[] lastFrom = new int[threads];
+		Arrays.fill(lastFrom, -1);
+		for (int x : data) {
+			Assert.assertTrue(seen.add(x));
+			// each producer's items are in the order it put them in.
+			Assert.assertTrue(x > lastFrom[x / perThread]);
+			lastFrom[x / perThread] = x;
+		}
+		Assert.assertEquals(threads * perThread, seen.size());
+	}
+
+	@Test
+	public void testConcurrentReadersAndWriters() throws Exception {
+		final ConcurrentChunkyLinkedList<Integer> data = new ConcurrentChunkyLinkedList<Integer>(16);
+		for (int i = 0; i < 1000; i++) {
+			data.addBack(i);
+		}
+		ExecutorService pool = Executors.newFixedThreadPool(6);
+		List<Future<Integer>> workers = new ArrayList<>();
+		for (int t = 0; t < 6; t++) {
+			final int seed = t;
+			final boolean reader = t >= 4;
+			workers.add(pool.submit(() -> {
+				// adds minus removes, for this thread.
+				int change = 0;
+				Random rand = new Random(seed);
+				for (int step = 0; step < 20000; step++) {
+					try {
+						if (reader) {
+							Assert.assertNotNull(data.getIndex(rand.nextInt(1000)));
+							continue;
+						}
+						switch (rand.nextInt(5)) {
+						case 0:
+							data.addBack(step);
+							change++;
+							break;
+						case 1:
+							data.addIndex(step, rand.nextInt(1000));
+							change++;
+							break;
+						case 2:
+							data.removeBack();
+							change--;
+							break;
+						case 3:
+							data.removeFront();
+							change--;
+							break;
+						default:
+							data.removeIndex(rand.nextInt(1000));
+							change--;
+						}
+					} catch (BadIndexError | EmptyListError tooShort) {
+						// another thread made the list shorter than we expected.
+					}
+				}
+				return change;
+			}));
+		}
+		int expected = 1000;
+		for (Future<Integer> worker : workers) {
+			expected += worker.get(60, TimeUnit.SECONDS);
+		}
+		pool.shutdown();
+		Assert.assertEquals(expected, data.size());
+		Assert.assertEquals(expected, data.stream().count());
+	}
+}
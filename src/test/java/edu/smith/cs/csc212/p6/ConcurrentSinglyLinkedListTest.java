@@ -0,0 +1,212 @@
+package edu.smith.cs.csc212.p6;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import edu.smith.cs.csc212.p6.errors.BadIndexError;
+import edu.smith.cs.csc212.p6.errors.EmptyListError;
+
+public class ConcurrentSinglyLinkedListTest extends P6ListContractTest<Integer> {
+
+	@Override
+	protected P6List<Integer> makeList() {
+		return new ConcurrentSinglyLinkedList<Integer>();
+	}
+
+	@Override
+	protected Integer item(int n) {
+		return n;
+	}
+
+	/**
+	 * Helper method to make a full list.
+	 * @return
+	 */
+	public P6List<String> makeFullList() {
+		P6List<String> data = new ConcurrentSinglyLinkedList<String>();
+		data.addBack("a");
+		data.addBack("b");
+		data.addBack("c");
+		data.addBack("d");
+		return data;
+	}
+
+	@Test
+	public void testQueue() {
+		P6List<String> data = makeFullList();
+		Assert.assertEquals(4, data.size());
+		Assert.assertEquals("a", data.getFront());
+		Assert.assertEquals("d", data.getBack());
+		Assert.assertEquals("a", data.removeFront());
+		Assert.assertEquals("b", data.removeFront());
+		data.addBack("e");
+		Assert.assertEquals("c", data.removeFront());
+		Assert.assertEquals("d", data.removeFront());
+		Assert.assertEquals("e", data.removeFront());
+		Assert.assertTrue(data.isEmpty());
+		Assert.assertEquals(0, data.size());
+	}
+
+	@Test
+	public void testPositional() {
+		P6List<String> data = makeFullList();
+		data.addFront("_");
+		data.addIndex("x", 3);
+		Assert.assertEquals(Arrays.asList("_", "a", "b", "x", "c", "d"), data.stream().collect(Collectors.toList()));
+		Assert.assertEquals("x", data.removeIndex(3));
+		Assert.assertEquals("d", data.removeBack());
+		Assert.assertEquals("c", data.getBack());
+		data.addBack("e");
+		Assert.assertEquals("e", data.getIndex(4));
+	}
+
+	@Test( expected = EmptyListError.class )
+	public void testRemoveFrontEmpty() {
+		P6List<String> data = new ConcurrentSinglyLinkedList<String>();
+		data.removeFront();
+	}
+
+	@Test( expected = EmptyListError.class )
+	public void testRemoveBackEmpty() {
+		P6List<String> data = makeFullList();
+		for (int i = 0; i < 4; i++) {
+			data.removeBack();
+		}
+		data.removeBack();
+	}
+
+	@Test( expected = BadIndexError.class )
+	public void testGetIndexHigh() {
+		P6List<String> data = makeFullList();
+		data.getIndex(4);
+	}
+
+	@Test( expected = BadIndexError.class )
+	public void testAddIndexHigh() {
+		P6List<String> data = makeFullList();
+		data.addIndex("e", 5);
+	}
+
+	@Test
+	public void testIteratorRemove() {
+		P6List<String> data = makeFullList();
+		Iterator<String> it = data.iterator();
+		while (it.hasNext()) {
+			if (!it.next().equals("c")) {
+				it.remove();
+			}
+		}
+		Assert.assertEquals(1, data.size());
+		Assert.assertEquals("c", data.getFront());
+		Assert.assertEquals("c", data.getBack());
+		data.addBack("e");
+		Assert.assertEquals("e", data.getIndex(1));
+	}
+
+	@Test
+	public void testProducersAndConsumers() throws Exception {
+		final ConcurrentSinglyLinkedList<Integer> data = new ConcurrentSinglyLinkedList<Integer>();
+		final int threads = 4;
+		final int perThread = 20000;
+		ExecutorService pool = Executors.newFixedThreadPool(threads * 2);
+		List<Future<List<Integer>>> consumers = new ArrayList<>();
+		for (int p = 0; p < threads; p++) {
+			final int producer = p;
+			pool.submit(() -> {
+				for (int i = 0; i < perThread; i++) {
+					data.addBack(producer * perThread + i);
+				}
+			});
+		}
+		for (int c = 0; c < threads; c++) {
+			consumers.add(pool.submit(() -> {
+				List<Integer> got = new ArrayList<>();
+				while (got.size() < perThread) {
+					try {
+						got.add(data.removeFront());
+					} catch (EmptyListError notYet) {
+						Thread.yield();
+					}
+				}
+				return got;
+			}));
+		}
+		boolean[] seen = new boolean[threads * perThread];
+		for (Future<List<Integer>> consumer : consumers) {
+			int[] lastFrom = new int[threads];
+			Arrays.fill(lastFrom, -1);
+			for (int x : consumer.get(60, TimeUnit.SECONDS)) {
+				Assert.assertFalse(seen[x]);
+				seen[x] = true;
+				// each producer's items come out in the order it put them in.
+				Assert.assertTrue(x > lastFrom[x / perThread]);
+				lastFrom[x / perThread] = x;
+			}
+		}
+		pool.shutdown();
+		for (boolean got : seen) {
+			Assert.assertTrue(got);
+		}
+		Assert.assertTrue(data.isEmpty());
+	}
+
+	@Test
+	public void testConcurrentEndsAndMiddle() throws Exception {
+		final ConcurrentSinglyLinkedList<Integer> data = new ConcurrentSinglyLinkedList<Integer>();
+		for (int i = 0; i < 1000; i++) {
+			data.addBack(i);
+		}
+		ExecutorService pool = Executors.newFixedThreadPool(4);
+		List<Future<Integer>> workers = new ArrayList<>();
+		for (int t = 0; t < 4; t++) {
+			final int seed = t;
+			workers.add(pool.submit(() -> {
+				// adds minus removes, for this thread.
+				int change = 0;
+				Random rand = new Random(seed);
+				for (int step = 0; step < 5000; step++) {
+					try {
+						switch (rand.nextInt(4)) {
+						case 0:
+							data.addBack(step);
+							change++;
+							break;
+						case 1:
+							data.addIndex(step, rand.nextInt(100));
+							change++;
+							break;
+						case 2:
+							data.removeBack();
+							change--;
+							break;
+						default:
+							data.removeIndex(rand.nextInt(100));
+							change--;
+						}
+					} catch (BadIndexError | EmptyListError tooShort) {
+						// another thread made the list shorter than we expected.
+					}
+				}
+				return change;
+			}));
+		}
+		int expected = 1000;
+		for (Future<Integer> worker : workers) {
+			expected += worker.get(60, TimeUnit.SECONDS);
+		}
+		pool.shutdown();
+		Assert.assertEquals(expected, data.size());
+		Assert.assertEquals(expected, data.stream().count());
+	}
+}
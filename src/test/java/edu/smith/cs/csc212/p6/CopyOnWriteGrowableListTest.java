@@ -0,0 +1,258 @@
+package edu.smith.cs.csc212.p6;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import edu.smith.cs.csc212.p6.errors.BadIndexError;
+import edu.smith.cs.csc212.p6.errors.EmptyListError;
+
+public class CopyOnWriteGrowableListTest extends P6ListContractTest<Integer> {
+
+	@Override
+	protected P6List<Integer> makeList() {
+		return new CopyOnWriteGrowableList<Integer>();
+	}
+
+	@Override
+	protected Integer item(int n) {
+		return n;
+	}
+
+	/**
+	 * Helper method to make a full list.
+	 * @return
+	 */
+	public CopyOnWriteGrowableList<String> makeFullList() {
+		CopyOnWriteGrowableList<String> data = new CopyOnWriteGrowableList<String>();
+		data.addBack("a");
+		data.addBack("b");
+		data.addBack("c");
+		data.addBack("d");
+		return data;
+	}
+
+	@Test
+	public void testQueue() {
+		P6List<String> data = makeFullList();
+		Assert.assertEquals(4, data.size());
+		Assert.assertEquals("a", data.getFront());
+		Assert.assertEquals("d", data.getBack());
+		Assert.assertEquals("a", data.removeFront());
+		Assert.assertEquals("b", data.removeFront());
+		data.addBack("e");
+		Assert.assertEquals("c", data.removeFront());
+		Assert.assertEquals("d", data.removeFront());
+		Assert.assertEquals("e", data.removeFront());
+		Assert.assertTrue(data.isEmpty());
+		Assert.assertEquals(0, data.size());
+	}
+
+	@Test
+	public void testPositional() {
+		P6List<String> data = makeFullList();
+		data.addFront("_");
+		data.addIndex("x", 3);
+		Assert.assertEquals(Arrays.asList("_", "a", "b", "x", "c", "d"), data.stream().collect(Collectors.toList()));
+		Assert.assertEquals("x", data.removeIndex(3));
+		Assert.assertEquals("d", data.removeBack());
+		Assert.assertEquals("c", data.getBack());
+		data.addBack("e");
+		Assert.assertEquals("e", data.getIndex(4));
+	}
+
+	@Test( expected = EmptyListError.class )
+	public void testRemoveFrontEmpty() {
+		P6List<String> data = new CopyOnWriteGrowableList<String>();
+		data.removeFront();
+	}
+
+	@Test( expected = EmptyListError.class )
+	public void testRemoveBackEmpty() {
+		P6List<String> data = makeFullList();
+		for (int i = 0; i < 4; i++) {
+			data.removeBack();
+		}
+		data.removeBack();
+	}
+
+	@Test( expected = BadIndexError.class )
+	public void testGetIndexHigh() {
+		P6List<String> data = makeFullList();
+		data.getIndex(4);
+	}
+
+	@Test( expected = BadIndexError.class )
+	public void testAddIndexHigh() {
+		P6List<String> data = makeFullList();
+		data.addIndex("e", 5);
+	}
+
+	@Test
+	public void testIteratorIsSnapshot() {
+		P6List<String> data = makeFullList();
+		Iterator<String> it = data.iterator();
+		data.removeFront();
+		data.addBack("e");
+		List<String> seen = new ArrayList<>();
+		it.forEachRemaining(seen::add);
+		Assert.assertEquals(Arrays.asList("a", "b", "c", "d"), seen);
+	}
+
+	@Test( expected = UnsupportedOperationException.class )
+	public void testIteratorRemove() {
+		P6List<String> data = makeFullList();
+		Iterator<String> it = data.iterator();
+		it.next();
+		it.remove();
+	}
+
+	@Test
+	public void testParallelStreamAndToArray() {
+		CopyOnWriteGrowableList<Integer> data = new CopyOnWriteGrowableList<Integer>();
+		List<Integer> expected = new ArrayList<>();
+		for (int i = 0; i < 1000; i++) {
+			data.addIndex(i, i / 2);
+			expected.add(i / 2, i);
+		}
+		Assert.assertEquals(expected, data.parallelStream().collect(Collectors.toList()));
+		Assert.assertEquals(expected, Arrays.asList(data.toArray()));
+	}
+
+	@Test
+	public void testBatch() {
+		CopyOnWriteGrowableList<String> data = makeFullList();
+		data.batch(list -> {
+			for (int i = 0; i < 100; i++) {
+				list.addBack("x" + i);
+			}
+			list.removeFront();
+			list.addFront("_");
+			list.removeRange(5, 104);
+		});
+		Assert.assertEquals(Arrays.asList("_", "b", "c", "d", "x0"), data.stream().collect(Collectors.toList()));
+	}
+
+	@Test
+	public void testBatchFailsWholly() {
+		CopyOnWriteGrowableList<String> data = makeFullList();
+		try {
+			data.batch(list -> {
+				list.addBack("e");
+				list.removeIndex(10);
+			});
+			Assert.fail();
+		} catch (BadIndexError expected) {
+			// none of the batch should have happened.
+		}
+		Assert.assertEquals(Arrays.asList("a", "b", "c", "d"), data.stream().collect(Collectors.toList()));
+	}
+
+	@Test
+	public void testReadersSeeWholeBatches() throws Exception {
+		final CopyOnWriteGrowableList<Integer> data = new CopyOnWriteGrowableList<Integer>();
+		final int batches = 500;
+		ExecutorService pool = Executors.newFixedThreadPool(4);
+		List<Future<?>> readers = new ArrayList<>();
+		Future<?> writer = pool.submit(() -> {
+			for (int b = 1; b <= batches; b++) {
+				final int round = b;
+				// every batch leaves the list holding 10 copies of the same number.
+				data.batch(list -> {
+					list.removeRange(0, list.size());
+					for (int i = 0; i < 10; i++) {
+						list.addBack(round);
+					}
+				});
+			}
+		});
+		for (int r = 0; r < 3; r++) {
+			readers.add(pool.submit(() -> {
+				while (!writer.isDone()) {
+					List<Integer> seen = data.stream().collect(Collectors.toList());
+					if (!seen.isEmpty()) {
+						Assert.assertEquals(10, seen.size());
+						Assert.assertEquals(seen.get(0), seen.get(9));
+					}
+				}
+			}));
+		}
+		writer.get(60, TimeUnit.SECONDS);
+		for (Future<?> reader : readers) {
+			reader.get(60, TimeUnit.SECONDS);
+		}
+		pool.shutdown();
+		Assert.assertEquals(10, data.size());
+		Assert.assertEquals(Integer.valueOf(batches), data.getFront());
+	}
+
+	@Test
+	public void testConcurrentWritersLoseNothing() throws Exception {
+		final CopyOnWriteGrowableList<Integer> data = new CopyOnWriteGrowableList<Integer>();
+		final int threads = 4;
+		final int perThread = 500;
+		ExecutorService pool = Executors.newFixedThreadPool(threads);
+		List<Future<?>> writers = new ArrayList<>();
+		for (int t = 0; t < threads; t++) {
+			writers.add(pool.submit(() -> {
+				for (int i = 0; i < perThread; i++) {
+					if (i % 2 == 0) {
+						data.addBack(i);
+					} else {
+						data.batch(list -> list.addFront(-1));
+					}
+				}
+			}));
+		}
+		for (Future<?> writer : writers) {
+			writer.get(60, TimeUnit.SECONDS);
+		}
+		pool.shutdown();
+		Assert.assertEquals(threads * perThread, data.size());
+	}
+
+	@Test
+	public void testAddAllBackWhileEndMoves() throws Exception {
+		final CopyOnWriteGrowableList<Integer> data = new CopyOnWriteGrowableList<Integer>();
+		final int appends = 200000;
+		ExecutorService pool = Executors.newFixedThreadPool(2);
+		Future<?> appender = pool.submit(() -> {
+			for (int i = 0; i < appends; i++) {
+				data.addAllBack(new Integer[] { i });
+			}
+		});
+		// keep moving the end around, and keep the list short.
+		Future<?> churn = pool.submit(() -> {
+			while (!appender.isDone()) {
+				data.addBack(-1);
+				for (int i = 0; i < 2; i++) {
+					try {
+						data.removeBack();
+					} catch (EmptyListError e) {
+						// the appender is behind; fine.
+					}
+				}
+			}
+		});
+		appender.get(60, TimeUnit.SECONDS);
+		churn.get(60, TimeUnit.SECONDS);
+		pool.shutdown();
+		// whatever is left of the appended items is still in order.
+		int last = -1;
+		for (int x : data) {
+			if (x >= 0) {
+				Assert.assertTrue(x > last);
+				last = x;
+			}
+		}
+	}
+}
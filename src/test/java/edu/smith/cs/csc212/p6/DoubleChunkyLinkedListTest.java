@@ -0,0 +1,80 @@
+package edu.smith.cs.csc212.p6;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import edu.smith.cs.csc212.p6.errors.BadIndexError;
+import edu.smith.cs.csc212.p6.errors.EmptyListError;
+
+public class DoubleChunkyLinkedListTest extends P6ListContractTest<Double> {
+	
+	@Override
+	protected P6List<Double> makeList() {
+		return new DoubleChunkyLinkedList(4);
+	}
+	
+	@Override
+	protected Double item(int n) {
+		return (double) n;
+	}
+	
+	public DoubleChunkyLinkedList makeFullList() {
+		DoubleChunkyLinkedList data = new DoubleChunkyLinkedList(4);
+		data.addBackDouble(1);
+		data.addBackDouble(2);
+		data.addBackDouble(3);
+		data.addBackDouble(4);
+		return data;
+	}
+	
+	@Test
+	public void testUnboxedEnds() {
+		DoubleChunkyLinkedList data = makeFullList();
+		Assert.assertEquals(1, data.getFrontDouble(), 0.0);
+		Assert.assertEquals(4, data.getBackDouble(), 0.0);
+		data.addFrontDouble(0);
+		Assert.assertEquals(0, data.getDouble(0), 0.0);
+		Assert.assertEquals(5, data.size());
+		Assert.assertEquals(0, data.removeFrontDouble(), 0.0);
+		Assert.assertEquals(4, data.removeBackDouble(), 0.0);
+		Assert.assertEquals(3, data.size());
+	}
+	
+	@Test
+	public void testBoxedView() {
+		P6List<Double> data = makeFullList();
+		data.addIndex(7.0, 2);
+		Assert.assertEquals((Double) 7.0, data.getIndex(2));
+		Assert.assertEquals((Double) 3.0, data.getIndex(3));
+		Assert.assertEquals((Double) 7.0, data.removeIndex(2));
+		Assert.assertEquals((Double) 4.0, data.getBack());
+	}
+	
+	@Test( expected = EmptyListError.class )
+	public void testRemoveEmpty() {
+		DoubleChunkyLinkedList data = new DoubleChunkyLinkedList(4);
+		data.removeBackDouble();
+	}
+	
+	@Test( expected = BadIndexError.class )
+	public void testGetIndexHigh() {
+		DoubleChunkyLinkedList data = makeFullList();
+		data.getDouble(4);
+	}
+	
+	@Test
+	public void testManyChunks() {
+		DoubleChunkyLinkedList data = new DoubleChunkyLinkedList(3);
+		for (int i = 0; i < 100; i++) {
+			data.addFrontDouble(i);
+		}
+		for (int i = 0; i < 100; i++) {
+			Assert.assertEquals(99 - i, data.getDouble(i), 0.0);
+		}
+		for (int i = 99; i >= 0; i--) {
+			Assert.assertEquals(i, data.removeFrontDouble(), 0.0);
+		}
+		Assert.assertTrue(data.isEmpty());
+	}
+
+}
@@ -0,0 +1,74 @@
+package edu.smith.cs.csc212.p6;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import edu.smith.cs.csc212.p6.errors.BadIndexError;
+import edu.smith.cs.csc212.p6.errors.EmptyListError;
+import edu.smith.cs.csc212.p6.errors.RanOutOfSpaceError;
+
+public class DoubleFixedSizeListTest extends P6ListContractTest<Double> {
+	
+	@Override
+	protected P6List<Double> makeList() {
+		return new DoubleFixedSizeList(MAX_SIZE);
+	}
+	
+	@Override
+	protected Double item(int n) {
+		return (double) n;
+	}
+	
+	public DoubleFixedSizeList makeFullList() {
+		DoubleFixedSizeList data = new DoubleFixedSizeList(8);
+		data.addBackDouble(1);
+		data.addBackDouble(2);
+		data.addBackDouble(3);
+		data.addBackDouble(4);
+		return data;
+	}
+	
+	@Test
+	public void testUnboxedEnds() {
+		DoubleFixedSizeList data = makeFullList();
+		Assert.assertEquals(1, data.getFrontDouble(), 0.0);
+		Assert.assertEquals(4, data.getBackDouble(), 0.0);
+		data.addFrontDouble(0);
+		Assert.assertEquals(0, data.getDouble(0), 0.0);
+		Assert.assertEquals(5, data.size());
+		Assert.assertEquals(0, data.removeFrontDouble(), 0.0);
+		Assert.assertEquals(4, data.removeBackDouble(), 0.0);
+		Assert.assertEquals(3, data.size());
+	}
+	
+	@Test
+	public void testBoxedView() {
+		P6List<Double> data = makeFullList();
+		data.addIndex(7.0, 2);
+		Assert.assertEquals((Double) 7.0, data.getIndex(2));
+		Assert.assertEquals((Double) 3.0, data.getIndex(3));
+		Assert.assertEquals((Double) 7.0, data.removeIndex(2));
+		Assert.assertEquals((Double) 4.0, data.getBack());
+	}
+	
+	@Test( expected = EmptyListError.class )
+	public void testRemoveEmpty() {
+		DoubleFixedSizeList data = new DoubleFixedSizeList(4);
+		data.removeBackDouble();
+	}
+	
+	@Test( expected = BadIndexError.class )
+	public void testGetIndexHigh() {
+		DoubleFixedSizeList data = makeFullList();
+		data.getDouble(4);
+	}
+	
+	@Test( expected = RanOutOfSpaceError.class )
+	public void testAddFull() {
+		DoubleFixedSizeList data = new DoubleFixedSizeList(2);
+		data.addBackDouble(1);
+		data.addFrontDouble(0);
+		data.addBackDouble(2);
+	}
+
+}
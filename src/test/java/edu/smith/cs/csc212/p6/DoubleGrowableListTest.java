@@ -0,0 +1,80 @@
+package edu.smith.cs.csc212.p6;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import edu.smith.cs.csc212.p6.errors.BadIndexError;
+import edu.smith.cs.csc212.p6.errors.EmptyListError;
+
+public class DoubleGrowableListTest extends P6ListContractTest<Double> {
+	
+	@Override
+	protected P6List<Double> makeList() {
+		return new DoubleGrowableList(2, 1.5);
+	}
+	
+	@Override
+	protected Double item(int n) {
+		return (double) n;
+	}
+	
+	public DoubleGrowableList makeFullList() {
+		DoubleGrowableList data = new DoubleGrowableList();
+		data.addBackDouble(1);
+		data.addBackDouble(2);
+		data.addBackDouble(3);
+		data.addBackDouble(4);
+		return data;
+	}
+	
+	@Test
+	public void testUnboxedEnds() {
+		DoubleGrowableList data = makeFullList();
+		Assert.assertEquals(1, data.getFrontDouble(), 0.0);
+		Assert.assertEquals(4, data.getBackDouble(), 0.0);
+		data.addFrontDouble(0);
+		Assert.assertEquals(0, data.getDouble(0), 0.0);
+		Assert.assertEquals(5, data.size());
+		Assert.assertEquals(0, data.removeFrontDouble(), 0.0);
+		Assert.assertEquals(4, data.removeBackDouble(), 0.0);
+		Assert.assertEquals(3, data.size());
+	}
+	
+	@Test
+	public void testBoxedView() {
+		P6List<Double> data = makeFullList();
+		data.addIndex(7.0, 2);
+		Assert.assertEquals((Double) 7.0, data.getIndex(2));
+		Assert.assertEquals((Double) 3.0, data.getIndex(3));
+		Assert.assertEquals((Double) 7.0, data.removeIndex(2));
+		Assert.assertEquals((Double) 4.0, data.getBack());
+	}
+	
+	@Test( expected = EmptyListError.class )
+	public void testRemoveEmpty() {
+		DoubleGrowableList data = new DoubleGrowableList();
+		data.removeBackDouble();
+	}
+	
+	@Test( expected = BadIndexError.class )
+	public void testGetIndexHigh() {
+		DoubleGrowableList data = makeFullList();
+		data.getDouble(4);
+	}
+	
+	@Test
+	public void testGrowAndShrink() {
+		DoubleGrowableList data = new DoubleGrowableList(4);
+		for (int i = 0; i < 1000; i++) {
+			data.addFrontDouble(i);
+		}
+		Assert.assertEquals(999, data.getDouble(0), 0.0);
+		int big = data.capacity();
+		while (data.size() > 10) {
+			data.removeBackDouble();
+		}
+		Assert.assertTrue(data.capacity() < big);
+		Assert.assertEquals(990, data.getBackDouble(), 0.0);
+	}
+
+}
@@ -1,11 +1,31 @@
 package edu.smith.cs.csc212.p6;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+
 import org.junit.Assert;
 import org.junit.Test;
 
+import edu.smith.cs.csc212.p6.errors.BadIndexError;
 import edu.smith.cs.csc212.p6.errors.EmptyListError;
 
-public class DoublyLinkedListTest {
+public class DoublyLinkedListTest extends P6ListContractTest<Integer> {
+	
+	@Override
+	protected P6List<Integer> makeList() {
+		return new DoublyLinkedList<Integer>();
+	}
+	
+	@Override
+	protected Integer item(int n) {
+		return n;
+	}
 
 	/**
 	 * Helper method to make a full list.
@@ -148,4 +168,165 @@ public class DoublyLinkedListTest {
 		Assert.assertEquals(false, data1.isEmpty());
 	}
 	
+	@Test
+	public void testBothHalves() {
+		P6List<Integer> data = new DoublyLinkedList<Integer>();
+		for (int i = 0; i < 10; i++) {
+			data.addBack(i);
+		}
+		data.addIndex(100, 8);
+		data.addIndex(200, 1);
+		Assert.assertEquals(12, data.size());
+		Assert.assertEquals((Integer) 200, data.getIndex(1));
+		Assert.assertEquals((Integer) 100, data.getIndex(9));
+		Assert.assertEquals((Integer) 9, data.getIndex(11));
+		Assert.assertEquals((Integer) 100, data.removeIndex(9));
+		Assert.assertEquals((Integer) 200, data.removeIndex(1));
+		for (int i = 0; i < 10; i++) {
+			Assert.assertEquals((Integer) i, data.getIndex(i));
+		}
+		Assert.assertEquals((Integer) 9, data.removeIndex(9));
+		Assert.assertEquals((Integer) 8, data.getBack());
+	}
+	
+	@Test
+	public void testAddFrontThenBack() {
+		P6List<String> data = new DoublyLinkedList<String>();
+		data.addFront("a");
+		Assert.assertEquals("a", data.getBack());
+		data.addBack("b");
+		Assert.assertEquals("a", data.getFront());
+		Assert.assertEquals("b", data.getBack());
+	}
+	
+	@Test( expected = BadIndexError.class )
+	public void testGetIndexHigh() {
+		P6List<String> data = makeFullList();
+		data.getIndex(4);
+	}
+
+	@Test
+	public void testAddAllAndRemoveRange() {
+		P6List<String> data = new DoublyLinkedList<String>();
+		data.addAllBack(new String[] {"a", "b", "f"});
+		data.addAllAt(2, new String[] {"c", "d", "e"});
+		data.addAllAt(0, new String[] {});
+		Assert.assertEquals(6, data.size());
+		String[] copy = new String[6];
+		data.copyRange(0, 6, copy);
+		Assert.assertArrayEquals(new String[] {"a", "b", "c", "d", "e", "f"}, copy);
+		data.removeRange(1, 4);
+		Assert.assertEquals(3, data.size());
+		Assert.assertEquals("a", data.getFront());
+		Assert.assertEquals("e", data.getIndex(1));
+		Assert.assertEquals("f", data.getBack());
+		data.removeRange(0, 3);
+		Assert.assertTrue(data.isEmpty());
+		data.removeRange(0, 0);
+	}
+	
+	@Test( expected = BadIndexError.class )
+	public void testRemoveRangeBackwards() {
+		P6List<String> data = new DoublyLinkedList<String>();
+		data.addAllBack(new String[] {"a", "b", "c"});
+		data.removeRange(2, 1);
+	}
+	
+	@Test( expected = BadIndexError.class )
+	public void testAddAllAtHigh() {
+		P6List<String> data = new DoublyLinkedList<String>();
+		data.addAllBack(new String[] {"a", "b", "c"});
+		data.addAllAt(4, new String[] {"d"});
+	}
+
+	@Test
+	public void testStreams() {
+		P6List<Integer> data = new DoublyLinkedList<Integer>();
+		List<Integer> expected = new ArrayList<>();
+		for (int i = 0; i < 3000; i++) {
+			data.addBack(i);
+			expected.add(i);
+		}
+		Assert.assertEquals(expected, data.stream().collect(Collectors.toList()));
+		Assert.assertEquals(expected, data.parallelStream().collect(Collectors.toList()));
+		long sum = expected.stream().mapToLong(x -> x).sum();
+		Assert.assertEquals(sum, data.parallelStream().mapToLong(x -> x).sum());
+		Spliterator<Integer> items = data.spliterator();
+		Assert.assertTrue(items.hasCharacteristics(Spliterator.SIZED));
+		Assert.assertEquals(3000, items.getExactSizeIfKnown());
+	}
+
+	@Test
+	public void testIteratorRemove() {
+		P6List<String> data = new DoublyLinkedList<String>();
+		data.addAllBack(new String[] {"a", "b", "c", "d", "e", "f", "g"});
+		List<String> seen = new ArrayList<>();
+		for (String x : data) {
+			seen.add(x);
+		}
+		Assert.assertEquals(Arrays.asList("a", "b", "c", "d", "e", "f", "g"), seen);
+		// take out every other one, including both ends.
+		Iterator<String> it = data.iterator();
+		for (int i = 0; it.hasNext(); i++) {
+			it.next();
+			if (i % 2 == 0) {
+				it.remove();
+			}
+		}
+		Assert.assertEquals(3, data.size());
+		Assert.assertEquals("b", data.getFront());
+		Assert.assertEquals("d", data.getIndex(1));
+		Assert.assertEquals("f", data.getBack());
+		data.addBack("h");
+		Assert.assertEquals("h", data.getIndex(3));
+	}
+	
+	@Test( expected = ConcurrentModificationException.class )
+	public void testIteratorFailsFast() {
+		P6List<String> data = new DoublyLinkedList<String>();
+		data.addAllBack(new String[] {"a", "b", "c"});
+		for (String x : data) {
+			if (x.equals("a")) {
+				data.removeBack();
+			}
+		}
+	}
+	
+	@Test( expected = IllegalStateException.class )
+	public void testIteratorRemoveTwice() {
+		P6List<String> data = new DoublyLinkedList<String>();
+		data.addAllBack(new String[] {"a", "b", "c"});
+		Iterator<String> it = data.iterator();
+		it.next();
+		it.remove();
+		it.remove();
+	}
+	
+	@Test( expected = NoSuchElementException.class )
+	public void testIteratorPastEnd() {
+		P6List<String> data = new DoublyLinkedList<String>();
+		data.addBack("a");
+		Iterator<String> it = data.iterator();
+		it.next();
+		it.next();
+	}
+
+	@Test
+	public void testReverseIterator() {
+		DoublyLinkedList<String> data = new DoublyLinkedList<String>();
+		data.addAllBack(new String[] {"a", "b", "c", "d", "e"});
+		List<String> seen = new ArrayList<>();
+		Iterator<String> it = data.reverseIterator();
+		while (it.hasNext()) {
+			String x = it.next();
+			seen.add(x);
+			if (x.equals("e") || x.equals("c") || x.equals("a")) {
+				it.remove();
+			}
+		}
+		Assert.assertEquals(Arrays.asList("e", "d", "c", "b", "a"), seen);
+		Assert.assertEquals(2, data.size());
+		Assert.assertEquals("b", data.getFront());
+		Assert.assertEquals("d", data.getBack());
+	}
 }
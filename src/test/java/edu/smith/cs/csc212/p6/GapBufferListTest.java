@@ -0,0 +1,166 @@
+package edu.smith.cs.csc212.p6;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.stream.Collectors;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import edu.smith.cs.csc212.p6.errors.BadIndexError;
+import edu.smith.cs.csc212.p6.errors.EmptyListError;
+
+public class GapBufferListTest extends P6ListContractTest<Integer> {
+
+	@Override
+	protected P6List<Integer> makeList() {
+		return new GapBufferList<Integer>(2);
+	}
+
+	@Override
+	protected Integer item(int n) {
+		return n;
+	}
+
+	/**
+	 * Helper method to make a full list.
+	 * @return
+	 */
+	public P6List<String> makeFullList() {
+		P6List<String> data = new GapBufferList<String>();
+		data.addBack("a");
+		data.addBack("b");
+		data.addBack("c");
+		data.addBack("d");
+		return data;
+	}
+
+	@Test
+	public void testQueue() {
+		P6List<String> data = makeFullList();
+		Assert.assertEquals(4, data.size());
+		Assert.assertEquals("a", data.getFront());
+		Assert.assertEquals("d", data.getBack());
+		Assert.assertEquals("a", data.removeFront());
+		Assert.assertEquals("b", data.removeFront());
+		data.addBack("e");
+		Assert.assertEquals("c", data.removeFront());
+		Assert.assertEquals("d", data.removeFront());
+		Assert.assertEquals("e", data.removeFront());
+		Assert.assertTrue(data.isEmpty());
+		Assert.assertEquals(0, data.size());
+	}
+
+	@Test
+	public void testPositional() {
+		P6List<String> data = makeFullList();
+		data.addFront("_");
+		data.addIndex("x", 3);
+		Assert.assertEquals(Arrays.asList("_", "a", "b", "x", "c", "d"), data.stream().collect(Collectors.toList()));
+		Assert.assertEquals("x", data.removeIndex(3));
+		Assert.assertEquals("d", data.removeBack());
+		Assert.assertEquals("c", data.getBack());
+		data.addBack("e");
+		Assert.assertEquals("e", data.getIndex(4));
+	}
+
+	@Test( expected = EmptyListError.class )
+	public void testRemoveFrontEmpty() {
+		P6List<String> data = new GapBufferList<String>();
+		data.removeFront();
+	}
+
+	@Test( expected = EmptyListError.class )
+	public void testRemoveBackEmpty() {
+		P6List<String> data = makeFullList();
+		for (int i = 0; i < 4; i++) {
+			data.removeBack();
+		}
+		data.removeBack();
+	}
+
+	@Test( expected = BadIndexError.class )
+	public void testGetIndexHigh() {
+		P6List<String> data = makeFullList();
+		data.getIndex(4);
+	}
+
+	@Test( expected = BadIndexError.class )
+	public void testAddIndexHigh() {
+		P6List<String> data = makeFullList();
+		data.addIndex("e", 5);
+	}
+
+	@Test
+	public void testGapFollowsEdits() {
+		GapBufferList<Integer> data = new GapBufferList<Integer>(0);
+		for (int i = 0; i < 100; i++) {
+			data.addBack(i);
+		}
+		// type "x y z" in the middle, then backspace over the y.
+		data.addIndex(-1, 50);
+		data.addIndex(-2, 51);
+		data.addIndex(-3, 52);
+		Assert.assertEquals(53, data.gapPosition());
+		Assert.assertEquals(Integer.valueOf(-3), data.removeIndex(52));
+		Assert.assertEquals(Integer.valueOf(-2), data.removeIndex(51));
+		Assert.assertEquals(51, data.gapPosition());
+		Assert.assertEquals(101, data.size());
+		Assert.assertEquals(Integer.valueOf(49), data.getIndex(49));
+		Assert.assertEquals(Integer.valueOf(-1), data.getIndex(50));
+		Assert.assertEquals(Integer.valueOf(50), data.getIndex(51));
+		Assert.assertEquals(Integer.valueOf(99), data.getBack());
+		data.trimToSize();
+		Assert.assertEquals(101, data.capacity());
+		Assert.assertEquals(Integer.valueOf(50), data.getIndex(51));
+	}
+
+	@Test
+	public void testAddAllAndRemoveRange() {
+		P6List<String> data = new GapBufferList<String>(1);
+		data.addAllBack(new String[] {"a", "b", "f"});
+		data.addAllAt(2, new String[] {"c", "d", "e"});
+		data.addAllAt(0, new String[] {});
+		Assert.assertEquals(6, data.size());
+		String[] copy = new String[6];
+		data.copyRange(0, 6, copy);
+		Assert.assertArrayEquals(new String[] {"a", "b", "c", "d", "e", "f"}, copy);
+		data.removeRange(1, 4);
+		Assert.assertEquals(3, data.size());
+		Assert.assertEquals("a", data.getFront());
+		Assert.assertEquals("e", data.getIndex(1));
+		Assert.assertEquals("f", data.getBack());
+		data.removeRange(0, 3);
+		Assert.assertTrue(data.isEmpty());
+		data.removeRange(0, 0);
+	}
+
+	@Test
+	public void testIteratorRemove() {
+		P6List<String> data = new GapBufferList<String>();
+		data.addAllBack(new String[] {"a", "b", "c", "d", "e", "f", "g"});
+		// take out every other one, including both ends.
+		Iterator<String> it = data.iterator();
+		for (int i = 0; it.hasNext(); i++) {
+			it.next();
+			if (i % 2 == 0) {
+				it.remove();
+			}
+		}
+		Assert.assertEquals(Arrays.asList("b", "d", "f"), data.stream().collect(Collectors.toList()));
+		data.addBack("h");
+		Assert.assertEquals("h", data.getIndex(3));
+	}
+
+	@Test( expected = ConcurrentModificationException.class )
+	public void testIteratorFailsFast() {
+		P6List<String> data = new GapBufferList<String>();
+		data.addAllBack(new String[] {"a", "b", "c"});
+		for (String x : data) {
+			if (x.equals("a")) {
+				data.removeBack();
+			}
+		}
+	}
+}
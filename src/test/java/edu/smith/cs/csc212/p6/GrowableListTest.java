@@ -1,5 +1,14 @@
 package edu.smith.cs.csc212.p6;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+
 import org.junit.Assert;
 import org.junit.Test;
 import edu.smith.cs.csc212.p6.errors.BadIndexError;
@@ -8,7 +17,17 @@ import edu.smith.cs.csc212.p6.errors.RanOutOfSpaceError;
 
 
 
-public class GrowableListTest {
+public class GrowableListTest extends P6ListContractTest<Integer> {
+	
+	@Override
+	protected P6List<Integer> makeList() {
+		return new GrowableList<Integer>(4);
+	}
+	
+	@Override
+	protected Integer item(int n) {
+		return n;
+	}
 	
 	/**
 	 * Helper method to make a full list.
@@ -148,4 +167,239 @@ public class GrowableListTest {
 		Assert.assertEquals(false, data1.isEmpty());
 	}
 	
+	@Test
+	public void testQueueWrapsAround() {
+		GrowableList<Integer> data = new GrowableList<Integer>();
+		int next = 0;
+		for (; next < 20; next++) {
+			data.addBack(next);
+		}
+		// Each lap moves the front further around the ring.
+		for (int lap = 0; lap < 100; lap++) {
+			Assert.assertEquals((Integer) (next - 20), data.removeFront());
+			data.addBack(next++);
+			Assert.assertEquals(20, data.size());
+		}
+		for (int i = 0; i < 20; i++) {
+			Assert.assertEquals((Integer) (next - 20 + i), data.getIndex(i));
+		}
+		// and now make it grow while it is wrapped.
+		for (int i = 0; i < 40; i++) {
+			data.addFront(-i);
+		}
+		Assert.assertEquals(60, data.size());
+		Assert.assertEquals((Integer) (-39), data.getFront());
+		Assert.assertEquals((Integer) (next - 1), data.getBack());
+	}
+	
+	@Test( expected = BadIndexError.class )
+	public void testGetIndexHigh() {
+		P6List<String> data = makeFullList();
+		data.getIndex(4);
+	}
+	
+	@Test
+	public void testEnsureCapacity() {
+		GrowableList<Integer> data = new GrowableList<Integer>();
+		data.ensureCapacity(1000);
+		int capacity = data.capacity();
+		Assert.assertTrue(capacity >= 1000);
+		for (int i = 0; i < 1000; i++) {
+			data.addBack(i);
+		}
+		Assert.assertEquals(capacity, data.capacity());
+		data.trimToSize();
+		Assert.assertEquals(1000, data.capacity());
+		Assert.assertEquals((Integer) 999, data.getBack());
+	}
+	
+	@Test
+	public void testEnsureCapacityKeepsRoom() {
+		GrowableList<Integer> data = new GrowableList<Integer>();
+		data.ensureCapacity(1000);
+		int capacity = data.capacity();
+		for (int i = 0; i < 10; i++) {
+			data.addBack(i);
+		}
+		data.removeBack();
+		data.removeFront();
+		Assert.assertEquals(capacity, data.capacity());
+		// trimToSize forgets it again.
+		data.trimToSize();
+		Assert.assertEquals(8, data.capacity());
+	}
+	
+	@Test
+	public void testTrimThenDrain() {
+		GrowableList<Integer> data = new GrowableList<Integer>(4, 1.5);
+		data.ensureCapacity(10000);
+		for (int i = 0; i < 10000; i++) {
+			data.addBack(i);
+		}
+		data.trimToSize();
+		Assert.assertEquals(10000, data.capacity());
+		while (data.size() > 1) {
+			data.removeBack();
+		}
+		// back down near where it started, not stuck at the trimmed size.
+		Assert.assertTrue(data.capacity() < 16);
+		Assert.assertTrue(data.capacity() >= 4);
+		Assert.assertEquals((Integer) 0, data.getFront());
+	}
+	
+	@Test
+	public void testShrinkAfterDraining() {
+		GrowableList<Integer> data = new GrowableList<Integer>(4, 1.5);
+		for (int i = 0; i < 1000; i++) {
+			data.addBack(i);
+		}
+		int big = data.capacity();
+		for (int i = 0; i < 990; i++) {
+			Assert.assertEquals((Integer) i, data.removeFront());
+		}
+		Assert.assertTrue(data.capacity() < big / 4);
+		Assert.assertTrue(data.capacity() >= 4);
+		for (int i = 0; i < 10; i++) {
+			Assert.assertEquals((Integer) (990 + i), data.getIndex(i));
+		}
+	}
+	
+	@Test
+	public void testTrimToEmpty() {
+		GrowableList<String> data = new GrowableList<String>();
+		data.trimToSize();
+		Assert.assertEquals(0, data.capacity());
+		data.addFront("a");
+		data.addBack("b");
+		data.addIndex("c", 1);
+		Assert.assertEquals("a", data.getIndex(0));
+		Assert.assertEquals("c", data.getIndex(1));
+		Assert.assertEquals("b", data.getIndex(2));
+	}
+
+	@Test
+	public void testAddAllAndRemoveRange() {
+		P6List<String> data = new GrowableList<String>();
+		data.addAllBack(new String[] {"a", "b", "f"});
+		data.addAllAt(2, new String[] {"c", "d", "e"});
+		data.addAllAt(0, new String[] {});
+		Assert.assertEquals(6, data.size());
+		String[] copy = new String[6];
+		data.copyRange(0, 6, copy);
+		Assert.assertArrayEquals(new String[] {"a", "b", "c", "d", "e", "f"}, copy);
+		data.removeRange(1, 4);
+		Assert.assertEquals(3, data.size());
+		Assert.assertEquals("a", data.getFront());
+		Assert.assertEquals("e", data.getIndex(1));
+		Assert.assertEquals("f", data.getBack());
+		data.removeRange(0, 3);
+		Assert.assertTrue(data.isEmpty());
+		data.removeRange(0, 0);
+	}
+	
+	@Test( expected = BadIndexError.class )
+	public void testRemoveRangeBackwards() {
+		P6List<String> data = new GrowableList<String>();
+		data.addAllBack(new String[] {"a", "b", "c"});
+		data.removeRange(2, 1);
+	}
+	
+	@Test( expected = BadIndexError.class )
+	public void testAddAllAtHigh() {
+		P6List<String> data = new GrowableList<String>();
+		data.addAllBack(new String[] {"a", "b", "c"});
+		data.addAllAt(4, new String[] {"d"});
+	}
+
+	@Test
+	public void testStreams() {
+		P6List<Integer> data = new GrowableList<Integer>();
+		List<Integer> expected = new ArrayList<>();
+		for (int i = 0; i < 1000; i++) {
+			// adding to the front makes the ring wrap around the end of the array.
+			data.addFront(-i);
+			expected.add(0, -i);
+		}
+		Assert.assertEquals(expected, data.stream().collect(Collectors.toList()));
+		Assert.assertEquals(expected, data.parallelStream().collect(Collectors.toList()));
+		long sum = expected.stream().mapToLong(x -> x).sum();
+		Assert.assertEquals(sum, data.parallelStream().mapToLong(x -> x).sum());
+		Spliterator<Integer> items = data.spliterator();
+		Assert.assertTrue(items.hasCharacteristics(Spliterator.SIZED));
+		Assert.assertEquals(1000, items.getExactSizeIfKnown());
+	}
+
+	@Test
+	public void testIteratorRemove() {
+		P6List<String> data = new GrowableList<String>();
+		data.addAllBack(new String[] {"a", "b", "c", "d", "e", "f", "g"});
+		List<String> seen = new ArrayList<>();
+		for (String x : data) {
+			seen.add(x);
+		}
+		Assert.assertEquals(Arrays.asList("a", "b", "c", "d", "e", "f", "g"), seen);
+		// take out every other one, including both ends.
+		Iterator<String> it = data.iterator();
+		for (int i = 0; it.hasNext(); i++) {
+			it.next();
+			if (i % 2 == 0) {
+				it.remove();
+			}
+		}
+		Assert.assertEquals(3, data.size());
+		Assert.assertEquals("b", data.getFront());
+		Assert.assertEquals("d", data.getIndex(1));
+		Assert.assertEquals("f", data.getBack());
+		data.addBack("h");
+		Assert.assertEquals("h", data.getIndex(3));
+	}
+	
+	@Test( expected = ConcurrentModificationException.class )
+	public void testIteratorFailsFast() {
+		P6List<String> data = new GrowableList<String>();
+		data.addAllBack(new String[] {"a", "b", "c"});
+		for (String x : data) {
+			if (x.equals("a")) {
+				data.removeBack();
+			}
+		}
+	}
+	
+	@Test( expected = IllegalStateException.class )
+	public void testIteratorRemoveTwice() {
+		P6List<String> data = new GrowableList<String>();
+		data.addAllBack(new String[] {"a", "b", "c"});
+		Iterator<String> it = data.iterator();
+		it.next();
+		it.remove();
+		it.remove();
+	}
+	
+	@Test( expected = NoSuchElementException.class )
+	public void testIteratorPastEnd() {
+		P6List<String> data = new GrowableList<String>();
+		data.addBack("a");
+		Iterator<String> it = data.iterator();
+		it.next();
+		it.next();
+	}
+
+	@Test
+	public void testReverseIterator() {
+		GrowableList<String> data = new GrowableList<String>();
+		data.addAllBack(new String[] {"a", "b", "c", "d", "e"});
+		List<String> seen = new ArrayList<>();
+		Iterator<String> it = data.reverseIterator();
+		while (it.hasNext()) {
+			String x = it.next();
+			seen.add(x);
+			if (x.equals("e") || x.equals("c") || x.equals("a")) {
+				it.remove();
+			}
+		}
+		Assert.assertEquals(Arrays.asList("e", "d", "c", "b", "a"), seen);
+		Assert.assertEquals(2, data.size());
+		Assert.assertEquals("b", data.getFront());
+		Assert.assertEquals("d", data.getBack());
+	}
 }
@@ -0,0 +1,211 @@
+package edu.smith.cs.csc212.p6;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import edu.smith.cs.csc212.p6.errors.BadIndexError;
+import edu.smith.cs.csc212.p6.errors.EmptyListError;
+
+public class IndexableSkipListTest extends P6ListContractTest<Integer> {
+
+	@Override
+	protected P6List<Integer> makeList() {
+		return new IndexableSkipList<Integer>();
+	}
+
+	@Override
+	protected Integer item(int n) {
+		return n;
+	}
+
+	/**
+	 * Helper method to make a full list.
+	 * @return
+	 */
+	public P6List<String> makeFullList() {
+		P6List<String> data = new IndexableSkipList<String>();
+		data.addBack("a");
+		data.addBack("b");
+		data.addBack("c");
+		data.addBack("d");
+		return data;
+	}
+
+	@Test
+	public void testQueue() {
+		P6List<String> data = makeFullList();
+		Assert.assertEquals(4, data.size());
+		Assert.assertEquals("a", data.getFront());
+		Assert.assertEquals("d", data.getBack());
+		Assert.assertEquals("a", data.removeFront());
+		Assert.assertEquals("b", data.removeFront());
+		data.addBack("e");
+		Assert.assertEquals("c", data.removeFront());
+		Assert.assertEquals("d", data.removeFront());
+		Assert.assertEquals("e", data.removeFront());
+		Assert.assertTrue(data.isEmpty());
+		Assert.assertEquals(0, data.size());
+	}
+
+	@Test
+	public void testPositional() {
+		P6List<String> data = makeFullList();
+		data.addFront("_");
+		data.addIndex("x", 3);
+		Assert.assertEquals(Arrays.asList("_", "a", "b", "x", "c", "d"), data.stream().collect(Collectors.toList()));
+		Assert.assertEquals("x", data.removeIndex(3));
+		Assert.assertEquals("d", data.removeBack());
+		Assert.assertEquals("c", data.getBack());
+		data.addBack("e");
+		Assert.assertEquals("e", data.getIndex(4));
+	}
+
+	@Test( expected = EmptyListError.class )
+	public void testRemoveFrontEmpty() {
+		P6List<String> data = new IndexableSkipList<String>();
+		data.removeFront();
+	}
+
+	@Test( expected = EmptyListError.class )
+	public void testRemoveBackEmpty() {
+		P6List<String> data = makeFullList();
+		for (int i = 0; i < 4; i++) {
+			data.removeBack();
+		}
+		data.removeBack();
+	}
+
+	@Test( expected = BadIndexError.class )
+	public void testGetIndexHigh() {
+		P6List<String> data = makeFullList();
+		data.getIndex(4);
+	}
+
+	@Test( expected = BadIndexError.class )
+	public void testAddIndexHigh() {
+		P6List<String> data = makeFullList();
+		data.addIndex("e", 5);
+	}
+
+	@Test
+	public void testEndsAgainstArrayList() {
+		// only the O(1) end operations, which keep the lanes' widths with shifts.
+		IndexableSkipList<Integer> data = new IndexableSkipList<Integer>();
+		List<Integer> expected = new ArrayList<>();
+		Random rand = new Random(23);
+		for (int step = 0; step < 5000; step++) {
+			int choice = rand.nextInt(4);
+			if (choice == 0 || expected.isEmpty()) {
+				data.addFront(step);
+				expected.add(0, step);
+			} else if (choice == 1) {
+				data.addBack(step);
+				expected.add(step);
+			} else if (choice == 2) {
+				Assert.assertEquals(expected.remove(0), data.removeFront());
+			} else {
+				Assert.assertEquals(expected.remove(expected.size() - 1), data.removeBack());
+			}
+			if (!expected.isEmpty()) {
+				int where = rand.nextInt(expected.size());
+				Assert.assertEquals(expected.get(where), data.getIndex(where));
+			}
+		}
+		for (int i = 0; i < expected.size(); i++) {
+			Assert.assertEquals(expected.get(i), data.getIndex(i));
+		}
+	}
+
+	@Test
+	public void testReverseIterator() {
+		IndexableSkipList<String> data = new IndexableSkipList<String>();
+		data.addAllBack(new String[] {"a", "b", "c", "d", "e"});
+		List<String> seen = new ArrayList<>();
+		Iterator<String> it = data.reverseIterator();
+		while (it.hasNext()) {
+			String x = it.next();
+			seen.add(x);
+			if (x.equals("e") || x.equals("c") || x.equals("a")) {
+				it.remove();
+			}
+		}
+		Assert.assertEquals(Arrays.asList("e", "d", "c", "b", "a"), seen);
+		Assert.assertEquals(Arrays.asList("b", "d"), data.stream().collect(Collectors.toList()));
+	}
+
+	@Test
+	public void testManyRandomInserts() {
+		IndexableSkipList<Integer> data = new IndexableSkipList<Integer>();
+		Random rand = new Random(23);
+		int n = 100000;
+		for (int i = 0; i < n; i++) {
+			data.addIndex(i, rand.nextInt(data.size() + 1));
+		}
+		Assert.assertEquals(n, data.size());
+		long sum = 0;
+		for (int x : data) {
+			sum += x;
+		}
+		Assert.assertEquals((long) n * (n - 1) / 2, sum);
+		for (int i = 0; i < n; i++) {
+			data.removeIndex(rand.nextInt(data.size()));
+		}
+		Assert.assertTrue(data.isEmpty());
+	}
+
+	@Test
+	public void testAddAllAndRemoveRange() {
+		P6List<String> data = new IndexableSkipList<String>();
+		data.addAllBack(new String[] {"a", "b", "f"});
+		data.addAllAt(2, new String[] {"c", "d", "e"});
+		data.addAllAt(0, new String[] {});
+		Assert.assertEquals(6, data.size());
+		String[] copy = new String[6];
+		data.copyRange(0, 6, copy);
+		Assert.assertArrayEquals(new String[] {"a", "b", "c", "d", "e", "f"}, copy);
+		data.removeRange(1, 4);
+		Assert.assertEquals(3, data.size());
+		Assert.assertEquals("a", data.getFront());
+		Assert.assertEquals("e", data.getIndex(1));
+		Assert.assertEquals("f", data.getBack());
+		data.removeRange(0, 3);
+		Assert.assertTrue(data.isEmpty());
+		data.removeRange(0, 0);
+	}
+
+	@Test
+	public void testIteratorRemove() {
+		P6List<String> data = new IndexableSkipList<String>();
+		data.addAllBack(new String[] {"a", "b", "c", "d", "e", "f", "g"});
+		// take out every other one, including both ends.
+		Iterator<String> it = data.iterator();
+		for (int i = 0; it.hasNext(); i++) {
+			it.next();
+			if (i % 2 == 0) {
+				it.remove();
+			}
+		}
+		Assert.assertEquals(Arrays.asList("b", "d", "f"), data.stream().collect(Collectors.toList()));
+		data.addBack("h");
+		Assert.assertEquals("h", data.getIndex(3));
+	}
+
+	@Test( expected = ConcurrentModificationException.class )
+	public void testIteratorFailsFast() {
+		P6List<String> data = new IndexableSkipList<String>();
+		data.addAllBack(new String[] {"a", "b", "c"});
+		for (String x : data) {
+			if (x.equals("a")) {
+				data.removeBack();
+			}
+		}
+	}
+}
@@ -0,0 +1,214 @@
+package edu.smith.cs.csc212.p6;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.TabularData;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import edu.smith.cs.csc212.p6.InstrumentedP6List.OperationSnapshot;
+import edu.smith.cs.csc212.p6.InstrumentedP6List.Operation;
+import edu.smith.cs.csc212.p6.errors.BadIndexError;
+import edu.smith.cs.csc212.p6.errors.EmptyListError;
+import edu.smith.cs.csc212.p6.errors.RanOutOfSpaceError;
+
+public class InstrumentedP6ListTest extends P6ListContractTest<Integer> {
+
+	@Override
+	protected P6List<Integer> makeList() {
+		return new InstrumentedP6List<Integer>(new DoublyLinkedList<Integer>());
+	}
+
+	@Override
+	protected Integer item(int n) {
+		return n;
+	}
+
+	/**
+	 * Helper method to make a full list.
+	 * @return
+	 */
+	public InstrumentedP6List<String> makeFullList() {
+		InstrumentedP6List<String> data = new InstrumentedP6List<String>(new GrowableList<String>());
+		data.addBack("a");
+		data.addBack("b");
+		data.addBack("c");
+		data.addBack("d");
+		return data;
+	}
+
+	@Test
+	public void testQueue() {
+		P6List<String> data = makeFullList();
+		Assert.assertEquals(4, data.size());
+		Assert.assertEquals("a", data.getFront());
+		Assert.assertEquals("d", data.getBack());
+		Assert.assertEquals("a", data.removeFront());
+		Assert.assertEquals("b", data.removeFront());
+		data.addBack("e");
+		Assert.assertEquals("c", data.removeFront());
+		Assert.assertEquals("d", data.removeFront());
+		Assert.assertEquals("e", data.removeFront());
+		Assert.assertTrue(data.isEmpty());
+		Assert.assertEquals(0, data.size());
+	}
+
+	@Test
+	public void testCountsCalls() {
+		InstrumentedP6List<String> data = makeFullList();
+		Assert.assertEquals(4, data.snapshot(Operation.ADD_BACK).calls());
+		Assert.assertEquals(0, data.snapshot(Operation.GET_INDEX).calls());
+		for (int i = 0; i < 10; i++) {
+			data.getIndex(i % 4);
+		}
+		OperationSnapshot gets = data.snapshot(Operation.GET_INDEX);
+		Assert.assertEquals(Operation.GET_INDEX, gets.operation());
+		Assert.assertEquals(10, gets.calls());
+		Assert.assertEquals(10, gets.latency().count());
+		Assert.assertTrue(gets.latency().max() >= gets.latency().percentile(0.5));
+
+		Map<Operation, OperationSnapshot> all = data.snapshot();
+		Assert.assertEquals(Operation.values().length, all.size());
+		Assert.assertEquals(4, all.get(Operation.ADD_BACK).calls());
+		Assert.assertEquals(0, all.get(Operation.REMOVE_FRONT).calls());
+	}
+
+	@Test
+	public void testCountsErrors() {
+		InstrumentedP6List<String> data = new InstrumentedP6List<String>(new FixedSizeList<String>(2));
+		try {
+			data.removeFront();
+			Assert.fail();
+		} catch (EmptyListError expected) {
+		}
+		data.addBack("a");
+		data.addBack("b");
+		try {
+			data.addBack("c");
+			Assert.fail();
+		} catch (RanOutOfSpaceError expected) {
+		}
+		try {
+			data.getIndex(7);
+			Assert.fail();
+		} catch (BadIndexError expected) {
+		}
+
+		Assert.assertEquals(1, data.snapshot(Operation.REMOVE_FRONT).emptyListErrors());
+		Assert.assertEquals(1, data.snapshot(Operation.REMOVE_FRONT).calls());
+		Assert.assertEquals(3, data.snapshot(Operation.ADD_BACK).calls());
+		Assert.assertEquals(1, data.snapshot(Operation.ADD_BACK).ranOutOfSpaceErrors());
+		Assert.assertEquals(0, data.snapshot(Operation.ADD_BACK).badIndexErrors());
+		Assert.assertEquals(1, data.snapshot(Operation.GET_INDEX).badIndexErrors());
+		// the failed calls are still timed.
+		Assert.assertEquals(1, data.snapshot(Operation.GET_INDEX).latency().count());
+	}
+
+	@Test(expected=EmptyListError.class)
+	public void testGetFrontEmpty() {
+		P6List<String> data = new InstrumentedP6List<String>(new DoublyLinkedList<String>());
+		data.getFront();
+	}
+
+	@Test(expected=BadIndexError.class)
+	public void testRemoveRangeBad() {
+		P6List<String> data = makeFullList();
+		data.removeRange(2, 5);
+	}
+
+	@Test
+	public void testSampling() {
+		InstrumentedP6List<String> data = makeFullList();
+		Assert.assertEquals(1, data.getSampleEvery(Operation.SIZE));
+		data.setSampleEvery(Operation.SIZE, 16);
+		Assert.assertEquals(16, data.getSampleEvery(Operation.SIZE));
+		for (int i = 0; i < 16000; i++) {
+			Assert.assertEquals(4, data.size());
+		}
+		OperationSnapshot sizes = data.snapshot(Operation.SIZE);
+		// every call is counted, but only about 1000 of them are timed.
+		Assert.assertEquals(16000, sizes.calls());
+		Assert.assertTrue(sizes.latency().count() > 500);
+		Assert.assertTrue(sizes.latency().count() < 1500);
+	}
+
+	@Test(expected=IllegalArgumentException.class)
+	public void testSampleEveryZero() {
+		makeFullList().setSampleEvery(Operation.GET_INDEX, 0);
+	}
+
+	@Test
+	public void testReset() {
+		InstrumentedP6List<String> data = makeFullList();
+		data.reset();
+		Assert.assertEquals(0, data.snapshot(Operation.ADD_BACK).calls());
+		Assert.assertEquals(0, data.snapshot(Operation.ADD_BACK).latency().count());
+		Assert.assertEquals(4, data.size());
+	}
+
+	@Test
+	public void testBulkAndIteration() {
+		InstrumentedP6List<String> data = makeFullList();
+		data.addAllAt(1, new String[] { "x", "y" });
+		data.addAllBack(new String[] { "z" });
+		String[] dest = new String[3];
+		data.copyRange(0, 3, dest);
+		Assert.assertArrayEquals(new String[] { "a", "x", "y" }, dest);
+		data.removeRange(1, 3);
+
+		List<String> seen = new ArrayList<>();
+		for (String s : data) {
+			seen.add(s);
+		}
+		Assert.assertEquals("[a, b, c, d, z]", seen.toString());
+		Assert.assertEquals(5, data.stream().count());
+
+		Assert.assertEquals(1, data.snapshot(Operation.ADD_ALL_AT).calls());
+		Assert.assertEquals(1, data.snapshot(Operation.ADD_ALL_BACK).calls());
+		Assert.assertEquals(1, data.snapshot(Operation.COPY_RANGE).calls());
+		Assert.assertEquals(1, data.snapshot(Operation.REMOVE_RANGE).calls());
+		// walking the list goes straight to the wrapped list.
+		Assert.assertEquals(0, data.snapshot(Operation.GET_INDEX).calls());
+	}
+
+	@Test
+	public void testMBean() throws Exception {
+		InstrumentedP6List<String> data = makeFullList();
+		data.getIndex(0);
+		try {
+			data.getIndex(9);
+		} catch (BadIndexError expected) {
+		}
+		ObjectName name = data.registerMBean("testMBean");
+		try {
+			MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+			Assert.assertTrue(server.isRegistered(name));
+
+			TabularData calls = (TabularData) server.getAttribute(name, "Calls");
+			Assert.assertEquals(4L, calls.get(new Object[] { "addBack" }).get("value"));
+			Assert.assertEquals(2L, calls.get(new Object[] { "getIndex" }).get("value"));
+			Assert.assertNull(calls.get(new Object[] { "removeFront" }));
+
+			TabularData errors = (TabularData) server.getAttribute(name, "Errors");
+			Assert.assertEquals(1, errors.size());
+			Assert.assertEquals(1L, errors.get(new Object[] { "getIndex.BadIndexError" }).get("value"));
+
+			TabularData p99 = (TabularData) server.getAttribute(name, "P99Nanos");
+			Assert.assertEquals(2, p99.size());
+
+			server.invoke(name, "reset", new Object[0], new String[0]);
+			Assert.assertEquals(0, data.snapshot(Operation.ADD_BACK).calls());
+		} finally {
+			data.unregisterMBean();
+		}
+		Assert.assertFalse(ManagementFactory.getPlatformMBeanServer().isRegistered(name));
+		// again is fine.
+		data.unregisterMBean();
+	}
+}
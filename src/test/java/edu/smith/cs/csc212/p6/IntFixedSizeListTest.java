@@ -0,0 +1,74 @@
+package edu.smith.cs.csc212.p6;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import edu.smith.cs.csc212.p6.errors.BadIndexError;
+import edu.smith.cs.csc212.p6.errors.EmptyListError;
+import edu.smith.cs.csc212.p6.errors.RanOutOfSpaceError;
+
+public class IntFixedSizeListTest extends P6ListContractTest<Integer> {
+	
+	@Override
+	protected P6List<Integer> makeList() {
+		return new IntFixedSizeList(MAX_SIZE);
+	}
+	
+	@Override
+	protected Integer item(int n) {
+		return n;
+	}
+	
+	public IntFixedSizeList makeFullList() {
+		IntFixedSizeList data = new IntFixedSizeList(8);
+		data.addBackInt(1);
+		data.addBackInt(2);
+		data.addBackInt(3);
+		data.addBackInt(4);
+		return data;
+	}
+	
+	@Test
+	public void testUnboxedEnds() {
+		IntFixedSizeList data = makeFullList();
+		Assert.assertEquals(1, data.getFrontInt());
+		Assert.assertEquals(4, data.getBackInt());
+		data.addFrontInt(0);
+		Assert.assertEquals(0, data.getInt(0));
+		Assert.assertEquals(5, data.size());
+		Assert.assertEquals(0, data.removeFrontInt());
+		Assert.assertEquals(4, data.removeBackInt());
+		Assert.assertEquals(3, data.size());
+	}
+	
+	@Test
+	public void testBoxedView() {
+		P6List<Integer> data = makeFullList();
+		data.addIndex(7, 2);
+		Assert.assertEquals((Integer) 7, data.getIndex(2));
+		Assert.assertEquals((Integer) 3, data.getIndex(3));
+		Assert.assertEquals((Integer) 7, data.removeIndex(2));
+		Assert.assertEquals((Integer) 4, data.getBack());
+	}
+	
+	@Test( expected = EmptyListError.class )
+	public void testRemoveEmpty() {
+		IntFixedSizeList data = new IntFixedSizeList(4);
+		data.removeBackInt();
+	}
+	
+	@Test( expected = BadIndexError.class )
+	public void testGetIndexHigh() {
+		IntFixedSizeList data = makeFullList();
+		data.getInt(4);
+	}
+	
+	@Test( expected = RanOutOfSpaceError.class )
+	public void testAddFull() {
+		IntFixedSizeList data = new IntFixedSizeList(2);
+		data.addBackInt(1);
+		data.addFrontInt(0);
+		data.addBackInt(2);
+	}
+
+}
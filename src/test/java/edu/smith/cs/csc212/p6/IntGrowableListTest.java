@@ -0,0 +1,126 @@
+package edu.smith.cs.csc212.p6;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import edu.smith.cs.csc212.p6.errors.BadIndexError;
+import edu.smith.cs.csc212.p6.errors.EmptyListError;
+
+public class IntGrowableListTest extends P6ListContractTest<Integer> {
+	
+	@Override
+	protected P6List<Integer> makeList() {
+		return new IntGrowableList(2, 1.5);
+	}
+	
+	@Override
+	protected Integer item(int n) {
+		return n;
+	}
+	
+	public IntGrowableList makeFullList() {
+		IntGrowableList data = new IntGrowableList();
+		data.addBackInt(1);
+		data.addBackInt(2);
+		data.addBackInt(3);
+		data.addBackInt(4);
+		return data;
+	}
+	
+	@Test
+	public void testUnboxedEnds() {
+		IntGrowableList data = makeFullList();
+		Assert.assertEquals(1, data.getFrontInt());
+		Assert.assertEquals(4, data.getBackInt());
+		data.addFrontInt(0);
+		Assert.assertEquals(0, data.getInt(0));
+		Assert.assertEquals(5, data.size());
+		Assert.assertEquals(0, data.removeFrontInt());
+		Assert.assertEquals(4, data.removeBackInt());
+		Assert.assertEquals(3, data.size());
+	}
+	
+	@Test
+	public void testBoxedView() {
+		P6List<Integer> data = makeFullList();
+		data.addIndex(7, 2);
+		Assert.assertEquals((Integer) 7, data.getIndex(2));
+		Assert.assertEquals((Integer) 3, data.getIndex(3));
+		Assert.assertEquals((Integer) 7, data.removeIndex(2));
+		Assert.assertEquals((Integer) 4, data.getBack());
+	}
+	
+	@Test( expected = EmptyListError.class )
+	public void testRemoveEmpty() {
+		IntGrowableList data = new IntGrowableList();
+		data.removeBackInt();
+	}
+	
+	@Test( expected = BadIndexError.class )
+	public void testGetIndexHigh() {
+		IntGrowableList data = makeFullList();
+		data.getInt(4);
+	}
+	
+	@Test
+	public void testGrowAndShrink() {
+		IntGrowableList data = new IntGrowableList(4);
+		for (int i = 0; i < 1000; i++) {
+			data.addFrontInt(i);
+		}
+		Assert.assertEquals(999, data.getInt(0));
+		int big = data.capacity();
+		while (data.size() > 10) {
+			data.removeBackInt();
+		}
+		Assert.assertTrue(data.capacity() < big);
+		Assert.assertEquals(990, data.getBackInt());
+	}
+	
+	@Test
+	public void testEnsureCapacityKeepsRoom() {
+		IntGrowableList data = new IntGrowableList(4);
+		data.ensureCapacity(1000);
+		for (int i = 0; i < 10; i++) {
+			data.addBackInt(i);
+		}
+		data.removeBackInt();
+		Assert.assertEquals(1000, data.capacity());
+		// trimToSize forgets it again, so draining shrinks back down.
+		data.trimToSize();
+		while (data.size() > 1) {
+			data.removeBackInt();
+		}
+		Assert.assertEquals(4, data.capacity());
+	}
+	
+	@Test
+	public void testDefaultIterator() {
+		IntGrowableList data = makeFullList();
+		int sum = 0;
+		for (int x : data) {
+			sum += x;
+		}
+		Assert.assertEquals(10, sum);
+		Iterator<Integer> it = data.iterator();
+		while (it.hasNext()) {
+			if (it.next() % 2 == 1) {
+				it.remove();
+			}
+		}
+		Assert.assertEquals(2, data.size());
+		Assert.assertEquals(2, data.getFrontInt());
+		Assert.assertEquals(4, data.getBackInt());
+	}
+	
+	@Test( expected = ConcurrentModificationException.class )
+	public void testDefaultIteratorFailsFast() {
+		IntGrowableList data = makeFullList();
+		for (int x : data) {
+			data.addBackInt(x);
+		}
+	}
+}
@@ -0,0 +1,89 @@
+package edu.smith.cs.csc212.p6;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class LatencyHistogramTest {
+
+	@Test
+	public void testEmpty() {
+		LatencyHistogram.Snapshot s = new LatencyHistogram().snapshot();
+		Assert.assertEquals(0, s.count());
+		Assert.assertEquals(0, s.max());
+		Assert.assertEquals(0, s.percentile(0.5));
+		Assert.assertEquals(0.0, s.mean(), 0.0);
+	}
+
+	@Test
+	public void testSmallValuesExact() {
+		LatencyHistogram h = new LatencyHistogram();
+		for (int i = 0; i < 8; i++) {
+			h.record(i);
+		}
+		LatencyHistogram.Snapshot s = h.snapshot();
+		Assert.assertEquals(8, s.count());
+		Assert.assertEquals(7, s.max());
+		Assert.assertEquals(3.5, s.mean(), 0.0);
+		Assert.assertEquals(0, s.percentile(0));
+		Assert.assertEquals(3, s.percentile(0.5));
+		Assert.assertEquals(7, s.percentile(1));
+	}
+
+	@Test
+	public void testBucketsInOrder() {
+		// every bucket's top is just below the next bucket's bottom.
+		for (int b = 0; b < LatencyHistogram.BUCKETS - 1; b++) {
+			long top = LatencyHistogram.highestIn(b);
+			Assert.assertEquals(b, LatencyHistogram.bucketOf(top));
+			Assert.assertEquals(b + 1, LatencyHistogram.bucketOf(top + 1));
+		}
+		Assert.assertEquals(Long.MAX_VALUE, LatencyHistogram.highestIn(LatencyHistogram.BUCKETS - 1));
+		Assert.assertEquals(LatencyHistogram.BUCKETS - 1, LatencyHistogram.bucketOf(Long.MAX_VALUE));
+	}
+
+	@Test
+	public void testNegativeIsZero() {
+		LatencyHistogram h = new LatencyHistogram();
+		h.record(-5);
+		Assert.assertEquals(1, h.snapshot().count());
+		Assert.assertEquals(0, h.snapshot().max());
+	}
+
+	@Test(expected=IllegalArgumentException.class)
+	public void testBadQuantile() {
+		new LatencyHistogram().snapshot().percentile(1.5);
+	}
+
+	@Test
+	public void testPercentilesClose() {
+		Random rand = new Random(7);
+		LatencyHistogram h = new LatencyHistogram();
+		long[] values = new long[10000];
+		for (int i = 0; i < values.length; i++) {
+			values[i] = (long) Math.exp(rand.nextDouble() * 20);
+			h.record(values[i]);
+		}
+		Arrays.sort(values);
+		LatencyHistogram.Snapshot s = h.snapshot();
+		Assert.assertEquals(values.length, s.count());
+		Assert.assertEquals(values[values.length - 1], s.max());
+		for (double q : new double[] { 0.1, 0.5, 0.9, 0.99, 0.999 }) {
+			long exact = values[(int) Math.ceil(q * values.length) - 1];
+			long guess = s.percentile(q);
+			Assert.assertTrue(guess >= exact);
+			Assert.assertTrue(guess <= exact + exact / 8 + 1);
+		}
+	}
+
+	@Test
+	public void testReset() {
+		LatencyHistogram h = new LatencyHistogram();
+		h.record(100);
+		h.reset();
+		Assert.assertEquals(0, h.snapshot().count());
+		Assert.assertEquals(0, h.snapshot().max());
+	}
+}
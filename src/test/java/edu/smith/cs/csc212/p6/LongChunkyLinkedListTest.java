@@ -0,0 +1,80 @@
+package edu.smith.cs.csc212.p6;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import edu.smith.cs.csc212.p6.errors.BadIndexError;
+import edu.smith.cs.csc212.p6.errors.EmptyListError;
+
+public class LongChunkyLinkedListTest extends P6ListContractTest<Long> {
+	
+	@Override
+	protected P6List<Long> makeList() {
+		return new LongChunkyLinkedList(4);
+	}
+	
+	@Override
+	protected Long item(int n) {
+		return (long) n;
+	}
+	
+	public LongChunkyLinkedList makeFullList() {
+		LongChunkyLinkedList data = new LongChunkyLinkedList(4);
+		data.addBackLong(1);
+		data.addBackLong(2);
+		data.addBackLong(3);
+		data.addBackLong(4);
+		return data;
+	}
+	
+	@Test
+	public void testUnboxedEnds() {
+		LongChunkyLinkedList data = makeFullList();
+		Assert.assertEquals(1, data.getFrontLong());
+		Assert.assertEquals(4, data.getBackLong());
+		data.addFrontLong(0);
+		Assert.assertEquals(0, data.getLong(0));
+		Assert.assertEquals(5, data.size());
+		Assert.assertEquals(0, data.removeFrontLong());
+		Assert.assertEquals(4, data.removeBackLong());
+		Assert.assertEquals(3, data.size());
+	}
+	
+	@Test
+	public void testBoxedView() {
+		P6List<Long> data = makeFullList();
+		data.addIndex(7L, 2);
+		Assert.assertEquals((Long) 7L, data.getIndex(2));
+		Assert.assertEquals((Long) 3L, data.getIndex(3));
+		Assert.assertEquals((Long) 7L, data.removeIndex(2));
+		Assert.assertEquals((Long) 4L, data.getBack());
+	}
+	
+	@Test( expected = EmptyListError.class )
+	public void testRemoveEmpty() {
+		LongChunkyLinkedList data = new LongChunkyLinkedList(4);
+		data.removeBackLong();
+	}
+	
+	@Test( expected = BadIndexError.class )
+	public void testGetIndexHigh() {
+		LongChunkyLinkedList data = makeFullList();
+		data.getLong(4);
+	}
+	
+	@Test
+	public void testManyChunks() {
+		LongChunkyLinkedList data = new LongChunkyLinkedList(3);
+		for (int i = 0; i < 100; i++) {
+			data.addFrontLong(i);
+		}
+		for (int i = 0; i < 100; i++) {
+			Assert.assertEquals(99 - i, data.getLong(i));
+		}
+		for (int i = 99; i >= 0; i--) {
+			Assert.assertEquals(i, data.removeFrontLong());
+		}
+		Assert.assertTrue(data.isEmpty());
+	}
+
+}
@@ -0,0 +1,74 @@
+package edu.smith.cs.csc212.p6;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import edu.smith.cs.csc212.p6.errors.BadIndexError;
+import edu.smith.cs.csc212.p6.errors.EmptyListError;
+import edu.smith.cs.csc212.p6.errors.RanOutOfSpaceError;
+
+public class LongFixedSizeListTest extends P6ListContractTest<Long> {
+	
+	@Override
+	protected P6List<Long> makeList() {
+		return new LongFixedSizeList(MAX_SIZE);
+	}
+	
+	@Override
+	protected Long item(int n) {
+		return (long) n;
+	}
+	
+	public LongFixedSizeList makeFullList() {
+		LongFixedSizeList data = new LongFixedSizeList(8);
+		data.addBackLong(1);
+		data.addBackLong(2);
+		data.addBackLong(3);
+		data.addBackLong(4);
+		return data;
+	}
+	
+	@Test
+	public void testUnboxedEnds() {
+		LongFixedSizeList data = makeFullList();
+		Assert.assertEquals(1, data.getFrontLong());
+		Assert.assertEquals(4, data.getBackLong());
+		data.addFrontLong(0);
+		Assert.assertEquals(0, data.getLong(0));
+		Assert.assertEquals(5, data.size());
+		Assert.assertEquals(0, data.removeFrontLong());
+		Assert.assertEquals(4, data.removeBackLong());
+		Assert.assertEquals(3, data.size());
+	}
+	
+	@Test
+	public void testBoxedView() {
+		P6List<Long> data = makeFullList();
+		data.addIndex(7L, 2);
+		Assert.assertEquals((Long) 7L, data.getIndex(2));
+		Assert.assertEquals((Long) 3L, data.getIndex(3));
+		Assert.assertEquals((Long) 7L, data.removeIndex(2));
+		Assert.assertEquals((Long) 4L, data.getBack());
+	}
+	
+	@Test( expected = EmptyListError.class )
+	public void testRemoveEmpty() {
+		LongFixedSizeList data = new LongFixedSizeList(4);
+		data.removeBackLong();
+	}
+	
+	@Test( expected = BadIndexError.class )
+	public void testGetIndexHigh() {
+		LongFixedSizeList data = makeFullList();
+		data.getLong(4);
+	}
+	
+	@Test( expected = RanOutOfSpaceError.class )
+	public void testAddFull() {
+		LongFixedSizeList data = new LongFixedSizeList(2);
+		data.addBackLong(1);
+		data.addFrontLong(0);
+		data.addBackLong(2);
+	}
+
+}
@@ -0,0 +1,80 @@
+package edu.smith.cs.csc212.p6;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import edu.smith.cs.csc212.p6.errors.BadIndexError;
+import edu.smith.cs.csc212.p6.errors.EmptyListError;
+
+public class LongGrowableListTest extends P6ListContractTest<Long> {
+	
+	@Override
+	protected P6List<Long> makeList() {
+		return new LongGrowableList(2, 1.5);
+	}
+	
+	@Override
+	protected Long item(int n) {
+		return (long) n;
+	}
+	
+	public LongGrowableList makeFullList() {
+		LongGrowableList data = new LongGrowableList();
+		data.addBackLong(1);
+		data.addBackLong(2);
+		data.addBackLong(3);
+		data.addBackLong(4);
+		return data;
+	}
+	
+	@Test
+	public void testUnboxedEnds() {
+		LongGrowableList data = makeFullList();
+		Assert.assertEquals(1, data.getFrontLong());
+		Assert.assertEquals(4, data.getBackLong());
+		data.addFrontLong(0);
+		Assert.assertEquals(0, data.getLong(0));
+		Assert.assertEquals(5, data.size());
+		Assert.assertEquals(0, data.removeFrontLong());
+		Assert.assertEquals(4, data.removeBackLong());
+		Assert.assertEquals(3, data.size());
+	}
+	
+	@Test
+	public void testBoxedView() {
+		P6List<Long> data = makeFullList();
+		data.addIndex(7L, 2);
+		Assert.assertEquals((Long) 7L, data.getIndex(2));
+		Assert.assertEquals((Long) 3L, data.getIndex(3));
+		Assert.assertEquals((Long) 7L, data.removeIndex(2));
+		Assert.assertEquals((Long) 4L, data.getBack());
+	}
+	
+	@Test( expected = EmptyListError.class )
+	public void testRemoveEmpty() {
+		LongGrowableList data = new LongGrowableList();
+		data.removeBackLong();
+	}
+	
+	@Test( expected = BadIndexError.class )
+	public void testGetIndexHigh() {
+		LongGrowableList data = makeFullList();
+		data.getLong(4);
+	}
+	
+	@Test
+	public void testGrowAndShrink() {
+		LongGrowableList data = new LongGrowableList(4);
+		for (int i = 0; i < 1000; i++) {
+			data.addFrontLong(i);
+		}
+		Assert.assertEquals(999, data.getLong(0));
+		int big = data.capacity();
+		while (data.size() > 10) {
+			data.removeBackLong();
+		}
+		Assert.assertTrue(data.capacity() < big);
+		Assert.assertEquals(990, data.getBackLong());
+	}
+
+}
@@ -0,0 +1,161 @@
+package edu.smith.cs.csc212.p6;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import edu.smith.cs.csc212.p6.errors.BadIndexError;
+import edu.smith.cs.csc212.p6.errors.EmptyListError;
+
+public class MappedGrowableListTest {
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+	
+	private Path newFile() throws IOException {
+		File file = folder.newFile();
+		// TemporaryFolder makes an empty file; that counts as a new list.
+		return file.toPath();
+	}
+	
+	@Test
+	public void testAddAndGet() throws IOException {
+		try (MappedGrowableList<Long> data = new MappedGrowableList<>(newFile(), RecordCodec.LONG)) {
+			Assert.assertTrue(data.isEmpty());
+			data.addBack(2L);
+			data.addFront(0L);
+			data.addIndex(1L, 1);
+			Assert.assertEquals(3, data.size());
+			Assert.assertEquals((Long) 0L, data.getFront());
+			Assert.assertEquals((Long) 1L, data.getIndex(1));
+			Assert.assertEquals((Long) 2L, data.getBack());
+			Assert.assertEquals((Long) 1L, data.removeIndex(1));
+			Assert.assertEquals((Long) 0L, data.removeFront());
+			Assert.assertEquals((Long) 2L, data.removeBack());
+			Assert.assertTrue(data.isEmpty());
+		}
+	}
+	
+	@Test
+	public void testGrowAndReopen() throws IOException {
+		Path file = newFile();
+		try (MappedGrowableList<Integer> data = new MappedGrowableList<>(file, RecordCodec.INT)) {
+			for (int i = 0; i < 10000; i++) {
+				data.addBack(i);
+			}
+			Assert.assertTrue(data.capacity() >= 10000);
+			data.removeBack();
+		}
+		try (MappedGrowableList<Integer> data = new MappedGrowableList<>(file, RecordCodec.INT)) {
+			Assert.assertEquals(9999, data.size());
+			for (int i = 0; i < 9999; i++) {
+				Assert.assertEquals((Integer) i, data.getIndex(i));
+			}
+			data.addBack(-1);
+			Assert.assertEquals((Integer) (-1), data.getBack());
+		}
+	}
+	
+	@Test( expected = IOException.class )
+	public void testWrongRecordSize() throws IOException {
+		Path file = newFile();
+		try (MappedGrowableList<Integer> data = new MappedGrowableList<>(file, RecordCodec.INT)) {
+			data.addBack(1);
+		}
+		new MappedGrowableList<>(file, RecordCodec.LONG).close();
+	}
+	
+	@Test( expected = IOException.class )
+	public void testNotAList() throws IOException {
+		Path file = newFile();
+		Files.write(file, "this is certainly not a list".getBytes("UTF-8"));
+		new MappedGrowableList<>(file, RecordCodec.INT).close();
+	}
+	
+	/**
+	 * Helper method to make a list of 3 ints and then scribble over how many
+	 * records the header says it has.
+	 */
+	private Path withStoredFill(int fill) throws IOException {
+		Path file = newFile();
+		try (MappedGrowableList<Integer> data = new MappedGrowableList<>(file, RecordCodec.INT)) {
+			data.addBack(1);
+			data.addBack(2);
+			data.addBack(3);
+		}
+		try (RandomAccessFile raw = new RandomAccessFile(file.toFile(), "rw")) {
+			// the fill is the third int of the header.
+			raw.seek(8);
+			raw.writeInt(fill);
+		}
+		return file;
+	}
+	
+	@Test( expected = IOException.class )
+	public void testFillTooBig() throws IOException {
+		new MappedGrowableList<>(withStoredFill(1000000), RecordCodec.INT).close();
+	}
+	
+	@Test( expected = IOException.class )
+	public void testFillNegative() throws IOException {
+		new MappedGrowableList<>(withStoredFill(-1), RecordCodec.INT).close();
+	}
+	
+	@Test
+	public void testFillAtCapacity() throws IOException {
+		Path file = newFile();
+		int capacity;
+		try (MappedGrowableList<Integer> data = new MappedGrowableList<>(file, RecordCodec.INT)) {
+			capacity = data.capacity();
+		}
+		try (RandomAccessFile raw = new RandomAccessFile(file.toFile(), "rw")) {
+			raw.seek(8);
+			raw.writeInt(capacity);
+		}
+		try (MappedGrowableList<Integer> data = new MappedGrowableList<>(file, RecordCodec.INT)) {
+			Assert.assertEquals(capacity, data.size());
+		}
+	}
+	
+	@Test( expected = IllegalArgumentException.class )
+	public void testZeroRecordSize() throws IOException {
+		RecordCodec<Integer> nothing = new RecordCodec<Integer>() {
+			@Override
+			public int recordSize() {
+				return 0;
+			}
+
+			@Override
+			public void write(Integer item, ByteBuffer buffer, int offset) {
+			}
+
+			@Override
+			public Integer read(ByteBuffer buffer, int offset) {
+				return 0;
+			}
+		};
+		new MappedGrowableList<>(newFile(), nothing).close();
+	}
+	
+	@Test( expected = EmptyListError.class )
+	public void testRemoveEmpty() throws IOException {
+		try (MappedGrowableList<Integer> data = new MappedGrowableList<>(newFile(), RecordCodec.INT)) {
+			data.removeBack();
+		}
+	}
+	
+	@Test( expected = BadIndexError.class )
+	public void testGetIndexHigh() throws IOException {
+		try (MappedGrowableList<Integer> data = new MappedGrowableList<>(newFile(), RecordCodec.INT)) {
+			data.addBack(1);
+			data.getIndex(1);
+		}
+	}
+}
@@ -0,0 +1,94 @@
+package edu.smith.cs.csc212.p6;
+
+import java.nio.ByteBuffer;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import edu.smith.cs.csc212.p6.errors.BadIndexError;
+import edu.smith.cs.csc212.p6.errors.EmptyListError;
+import edu.smith.cs.csc212.p6.errors.RanOutOfSpaceError;
+
+public class OffHeapFixedSizeListTest extends P6ListContractTest<Long> {
+	
+	@Override
+	protected P6List<Long> makeList() {
+		return new OffHeapFixedSizeList<Long>(3000, RecordCodec.LONG);
+	}
+	
+	@Override
+	protected Long item(int n) {
+		return (long) n;
+	}
+	
+	/**
+	 * A small fixed-width record, to check that codecs for our own classes work.
+	 */
+	static class Point {
+		final int x;
+		final int y;
+		Point(int x, int y) {
+			this.x = x;
+			this.y = y;
+		}
+	}
+	
+	static final RecordCodec<Point> POINT = new RecordCodec<Point>() {
+		@Override
+		public int recordSize() {
+			return 8;
+		}
+		@Override
+		public void write(Point item, ByteBuffer buffer, int offset) {
+			buffer.putInt(offset, item.x);
+			buffer.putInt(offset + 4, item.y);
+		}
+		@Override
+		public Point read(ByteBuffer buffer, int offset) {
+			return new Point(buffer.getInt(offset), buffer.getInt(offset + 4));
+		}
+	};
+	
+	@Test
+	public void testPoints() {
+		OffHeapFixedSizeList<Point> data = new OffHeapFixedSizeList<Point>(3, POINT);
+		data.addBack(new Point(1, 2));
+		data.addFront(new Point(0, 0));
+		data.addIndex(new Point(5, 6), 1);
+		Assert.assertEquals(3, data.size());
+		Assert.assertEquals(5, data.getIndex(1).x);
+		Assert.assertEquals(6, data.getIndex(1).y);
+		Assert.assertEquals(2, data.getBack().y);
+		Assert.assertEquals(0, data.removeFront().x);
+		Assert.assertEquals(1, data.removeBack().x);
+		Assert.assertEquals(5, data.getFront().x);
+		Assert.assertEquals(1, data.size());
+	}
+	
+	@Test(expected=RanOutOfSpaceError.class)
+	public void testAddBackFull() {
+		OffHeapFixedSizeList<Integer> data = new OffHeapFixedSizeList<Integer>(2, RecordCodec.INT);
+		data.addBack(1);
+		data.addBack(2);
+		data.addBack(3);
+	}
+	
+	@Test(expected=RanOutOfSpaceError.class)
+	public void testAddIndexFull() {
+		OffHeapFixedSizeList<Integer> data = new OffHeapFixedSizeList<Integer>(1, RecordCodec.INT);
+		data.addBack(1);
+		data.addIndex(2, 0);
+	}
+	
+	@Test(expected=EmptyListError.class)
+	public void testRemoveFrontCrash() {
+		new OffHeapFixedSizeList<Long>(4, RecordCodec.LONG).removeFront();
+	}
+	
+	@Test(expected=BadIndexError.class)
+	public void testGetIndexHigh() {
+		OffHeapFixedSizeList<Double> data = new OffHeapFixedSizeList<Double>(4, RecordCodec.DOUBLE);
+		data.addBack(1.5);
+		data.getIndex(1);
+	}
+}
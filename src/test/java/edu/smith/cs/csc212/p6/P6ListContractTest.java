@@ -0,0 +1,142 @@
+package edu.smith.cs.csc212.p6;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * The tests every {@link P6List} should pass: lots of random changes, checked
+ * against an ArrayList doing the same thing. Each list's own test extends this
+ * and says how to make one; the tests for what only that list does stay there.
+ *
+ * @param <T> - the type of item the list holds.
+ */
+public abstract class P6ListContractTest<T> {
+	/**
+	 * The lists never get bigger than this, so fixed-size lists with this much
+	 * room can run these tests too.
+	 */
+	public static final int MAX_SIZE = 2000;
+	
+	/**
+	 * @return a new, empty list of the kind being tested.
+	 */
+	protected abstract P6List<T> makeList();
+	
+	/**
+	 * @param n - a number.
+	 * @return an item for the list that is different for every n.
+	 */
+	protected abstract T item(int n);
+	
+	@Test
+	public void testRandomAgainstArrayList() {
+		P6List<T> data = makeList();
+		List<T> expected = new ArrayList<>();
+		Random rand = new Random(17);
+		// usually the position moves a little at a time, like a cursor in an editor
+		// (that's what fingers and gaps are for); sometimes it jumps.
+		int where = 0;
+		for (int step = 0; step < 6000; step++) {
+			// grow for a while, then shrink, so lists get to grow and shrink.
+			boolean growing = step < 3000;
+			if (rand.nextInt(4) == 0) {
+				where = rand.nextInt(expected.size() + 1);
+			} else {
+				where = Math.max(0, Math.min(expected.size(), where + rand.nextInt(7) - 3));
+			}
+			int choice = rand.nextInt(3);
+			boolean add = expected.isEmpty() || (expected.size() < MAX_SIZE && rand.nextInt(3) < (growing ? 2 : 1));
+			if (add) {
+				T x = item(step);
+				if (choice == 0) {
+					data.addIndex(x, where);
+					expected.add(where, x);
+				} else if (choice == 1) {
+					data.addFront(x);
+					expected.add(0, x);
+				} else {
+					data.addBack(x);
+					expected.add(x);
+				}
+			} else if (choice == 0) {
+				int at = Math.min(where, expected.size() - 1);
+				Assert.assertEquals(expected.remove(at), data.removeIndex(at));
+			} else if (choice == 1) {
+				Assert.assertEquals(expected.remove(0), data.removeFront());
+			} else {
+				Assert.assertEquals(expected.remove(expected.size() - 1), data.removeBack());
+			}
+			Assert.assertEquals(expected.size(), data.size());
+			Assert.assertEquals(expected.isEmpty(), data.isEmpty());
+			if (!expected.isEmpty()) {
+				int check = rand.nextInt(expected.size());
+				Assert.assertEquals(expected.get(check), data.getIndex(check));
+				Assert.assertEquals(expected.get(0), data.getFront());
+				Assert.assertEquals(expected.get(expected.size() - 1), data.getBack());
+			}
+		}
+		for (int i = 0; i < expected.size(); i++) {
+			Assert.assertEquals(expected.get(i), data.getIndex(i));
+		}
+		Assert.assertEquals(expected, data.stream().collect(Collectors.toList()));
+	}
+	
+	@Test
+	public void testBulkAgainstArrayList() {
+		P6List<T> data = makeList();
+		List<T> expected = new ArrayList<>();
+		Random rand = new Random(17);
+		for (int step = 0; step < 1000; step++) {
+			T[] items = makeArray(rand.nextInt(20));
+			for (int i = 0; i < items.length; i++) {
+				items[i] = item(step * 100 + i);
+			}
+			int from = rand.nextInt(expected.size() + 1);
+			int to = from + rand.nextInt(expected.size() - from + 1);
+			int choice = rand.nextInt(4);
+			if (choice <= 1 && expected.size() + items.length > MAX_SIZE) {
+				// no room; take some out instead.
+				choice = 2;
+			}
+			if (choice == 0) {
+				data.addAllBack(items);
+				expected.addAll(Arrays.asList(items));
+			} else if (choice == 1) {
+				data.addAllAt(from, items);
+				expected.addAll(from, Arrays.asList(items));
+			} else if (choice == 2) {
+				data.removeRange(from, to);
+				expected.subList(from, to).clear();
+			} else {
+				T[] copy = makeArray(to - from);
+				data.copyRange(from, to, copy);
+				Assert.assertEquals(expected.subList(from, to), Arrays.asList(copy));
+			}
+			Assert.assertEquals(expected.size(), data.size());
+			if (!expected.isEmpty()) {
+				Assert.assertEquals(expected.get(0), data.getFront());
+				Assert.assertEquals(expected.get(expected.size() - 1), data.getBack());
+			}
+		}
+		for (int i = 0; i < expected.size(); i++) {
+			Assert.assertEquals(expected.get(i), data.getIndex(i));
+		}
+	}
+	
+	/**
+	 * Helper method to make an array for bulk methods. It has to really be an
+	 * Integer[] (or whatever the items are), not an Object[], because lists of
+	 * numbers only take arrays of their own type.
+	 */
+	@SuppressWarnings("unchecked")
+	private T[] makeArray(int length) {
+		return (T[]) Array.newInstance(item(0).getClass(), length);
+	}
+}
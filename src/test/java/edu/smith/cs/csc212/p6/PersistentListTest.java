@@ -0,0 +1,122 @@
+package edu.smith.cs.csc212.p6;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import edu.smith.cs.csc212.p6.errors.BadIndexError;
+import edu.smith.cs.csc212.p6.errors.EmptyListError;
+
+public class PersistentListTest extends P6ListContractTest<Integer> {
+
+	@Override
+	protected P6List<Integer> makeList() {
+		return new PersistentList<Integer>();
+	}
+
+	@Override
+	protected Integer item(int n) {
+		return n;
+	}
+
+	/**
+	 * Helper method to make a full list.
+	 * @return
+	 */
+	public PersistentList<String> makeFullList() {
+		PersistentList<String> data = new PersistentList<String>();
+		data.addBack("a");
+		data.addBack("b");
+		data.addBack("c");
+		data.addBack("d");
+		return data;
+	}
+
+	@Test
+	public void testQueue() {
+		P6List<String> data = makeFullList();
+		Assert.assertEquals(4, data.size());
+		Assert.assertEquals("a", data.getFront());
+		Assert.assertEquals("d", data.getBack());
+		Assert.assertEquals("a", data.removeFront());
+		Assert.assertEquals("b", data.removeFront());
+		data.addBack("e");
+		Assert.assertEquals("c", data.removeFront());
+		Assert.assertEquals("d", data.removeFront());
+		Assert.assertEquals("e", data.removeFront());
+		Assert.assertTrue(data.isEmpty());
+		Assert.assertEquals(0, data.size());
+	}
+
+	@Test
+	public void testPositional() {
+		P6List<String> data = makeFullList();
+		data.addFront("_");
+		data.addIndex("x", 3);
+		Assert.assertEquals(Arrays.asList("_", "a", "b", "x", "c", "d"), data.stream().collect(Collectors.toList()));
+		Assert.assertEquals("x", data.removeIndex(3));
+		Assert.assertEquals("d", data.removeBack());
+		Assert.assertEquals("c", data.getBack());
+		data.addBack("e");
+		Assert.assertEquals("e", data.getIndex(4));
+	}
+
+	@Test( expected = EmptyListError.class )
+	public void testRemoveFrontEmpty() {
+		P6List<String> data = new PersistentList<String>();
+		data.removeFront();
+	}
+
+	@Test( expected = BadIndexError.class )
+	public void testRemoveIndexHigh() {
+		P6List<String> data = makeFullList();
+		data.removeIndex(4);
+	}
+
+	@Test
+	public void testUndo() {
+		PersistentList<String> data = makeFullList();
+		List<PersistentVector<String>> history = new ArrayList<>();
+		for (int i = 0; i < 100; i++) {
+			history.add(data.snapshot());
+			data.addIndex("x" + i, i % data.size());
+			data.removeBack();
+		}
+		Assert.assertEquals(4, data.size());
+		// undo everything, one step at a time.
+		for (int i = 99; i >= 0; i--) {
+			data.restore(history.get(i));
+		}
+		Assert.assertEquals(Arrays.asList("a", "b", "c", "d"), data.stream().collect(Collectors.toList()));
+	}
+
+	@Test
+	public void testIteratorIsSnapshot() {
+		P6List<String> data = makeFullList();
+		Iterator<String> it = data.iterator();
+		data.removeFront();
+		data.addBack("e");
+		List<String> seen = new ArrayList<>();
+		it.forEachRemaining(seen::add);
+		Assert.assertEquals(Arrays.asList("a", "b", "c", "d"), seen);
+	}
+
+	@Test
+	public void testBulkDefaults() {
+		P6List<Integer> data = new PersistentList<Integer>();
+		Integer[] items = new Integer[1000];
+		for (int i = 0; i < items.length; i++) {
+			items[i] = i;
+		}
+		data.addAllBack(items);
+		data.removeRange(10, 990);
+		Assert.assertEquals(20, data.size());
+		Assert.assertEquals(Integer.valueOf(9), data.getIndex(9));
+		Assert.assertEquals(Integer.valueOf(990), data.getIndex(10));
+	}
+}
@@ -0,0 +1,175 @@
+package edu.smith.cs.csc212.p6;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import edu.smith.cs.csc212.p6.errors.BadIndexError;
+import edu.smith.cs.csc212.p6.errors.EmptyListError;
+
+public class PersistentVectorTest {
+
+	/**
+	 * Helper method to make a vector of 0 to n-1.
+	 */
+	public PersistentVector<Integer> makeCounting(int n) {
+		Integer[] items = new Integer[n];
+		for (int i = 0; i < n; i++) {
+			items[i] = i;
+		}
+		return PersistentVector.of(items);
+	}
+
+	@Test
+	public void testOldVersionsDontChange() {
+		PersistentVector<String> empty = PersistentVector.empty();
+		PersistentVector<String> ab = empty.addBack("a").addBack("b");
+		PersistentVector<String> xab = ab.addFront("x");
+		PersistentVector<String> xb = xab.removeIndex(1);
+		PersistentVector<String> yb = xb.setIndex(0, "y");
+		Assert.assertTrue(empty.isEmpty());
+		Assert.assertEquals(Arrays.asList("a", "b"), ab.stream().collect(Collectors.toList()));
+		Assert.assertEquals(Arrays.asList("x", "a", "b"), xab.stream().collect(Collectors.toList()));
+		Assert.assertEquals(Arrays.asList("x", "b"), xb.stream().collect(Collectors.toList()));
+		Assert.assertEquals(Arrays.asList("y", "b"), yb.stream().collect(Collectors.toList()));
+		Assert.assertEquals("y", yb.getFront());
+		Assert.assertEquals("b", yb.getBack());
+	}
+
+	@Test
+	public void testOf() {
+		for (int n : new int[] { 0, 1, 31, 32, 33, 1024, 1025, 40000 }) {
+			PersistentVector<Integer> data = makeCounting(n);
+			Assert.assertEquals(n, data.size());
+			for (int i = 0; i < n; i++) {
+				Assert.assertEquals(Integer.valueOf(i), data.getIndex(i));
+			}
+			int expected = 0;
+			for (int x : data) {
+				Assert.assertEquals(expected++, x);
+			}
+			Assert.assertEquals(n, expected);
+		}
+	}
+
+	@Test
+	public void testAddBackFillsNodes() {
+		int size = 32 * 32 * 4 + 5;
+		PersistentVector<Integer> data = PersistentVector.empty();
+		Integer[] items = new Integer[size];
+		for (int i = 0; i < size; i++) {
+			data = data.addBack(i);
+			items[i] = i;
+		}
+		PersistentVector<Integer> built = PersistentVector.of(items);
+		// every leaf but the last is full, same as of() makes.
+		Assert.assertEquals((size + 31) / 32, data.leafCount());
+		Assert.assertEquals(built.leafCount(), data.leafCount());
+		Assert.assertEquals(built.height(), data.height());
+		for (int i = 0; i < size; i++) {
+			Assert.assertEquals((Integer) i, data.getIndex(i));
+		}
+	}
+	
+	@Test
+	public void testAddIndexMiddleSplitsInHalf() {
+		PersistentVector<Integer> data = PersistentVector.empty();
+		for (int i = 0; i < 32; i++) {
+			data = data.addBack(i);
+		}
+		data = data.addIndex(-1, 31);
+		Assert.assertEquals(2, data.leafCount());
+		Assert.assertEquals((Integer) (-1), data.getIndex(31));
+		Assert.assertEquals((Integer) 31, data.getBack());
+		// an addBack into a half-full last leaf doesn't make another one.
+		data = data.addBack(32);
+		Assert.assertEquals(2, data.leafCount());
+	}
+	
+	@Test( expected = EmptyListError.class )
+	public void testRemoveBackEmpty() {
+		PersistentVector.empty().removeBack();
+	}
+
+	@Test( expected = EmptyListError.class )
+	public void testGetIndexEmpty() {
+		PersistentVector.empty().getIndex(0);
+	}
+
+	@Test( expected = BadIndexError.class )
+	public void testGetIndexHigh() {
+		makeCounting(100).getIndex(100);
+	}
+
+	@Test( expected = BadIndexError.class )
+	public void testAddIndexHigh() {
+		makeCounting(100).addIndex(0, 101);
+	}
+
+	@Test
+	public void testDrainBothEnds() {
+		PersistentVector<Integer> data = makeCounting(5000);
+		for (int i = 0; i < 2500; i++) {
+			Assert.assertEquals(Integer.valueOf(i), data.getFront());
+			Assert.assertEquals(Integer.valueOf(4999 - i), data.getBack());
+			data = data.removeFront().removeBack();
+		}
+		Assert.assertTrue(data.isEmpty());
+	}
+
+	@Test
+	public void testRandomAgainstArrayList() {
+		PersistentVector<Integer> data = PersistentVector.empty();
+		List<Integer> expected = new ArrayList<>();
+		Random rand = new Random(19);
+		for (int step = 0; step < 20000; step++) {
+			// grow for a while, then shrink, so the tree goes up and comes back down.
+			boolean growing = step < 12000;
+			int choice = rand.nextInt(4);
+			if (expected.isEmpty() || (growing && choice < 3) || (!growing && choice == 0)) {
+				int where = rand.nextInt(expected.size() + 1);
+				data = data.addIndex(step, where);
+				expected.add(where, step);
+			} else if (choice == 1) {
+				int where = rand.nextInt(expected.size());
+				data = data.setIndex(where, -step);
+				expected.set(where, -step);
+			} else {
+				int where = rand.nextInt(expected.size());
+				Assert.assertEquals(expected.get(where), data.getIndex(where));
+				data = data.removeIndex(where);
+				expected.remove(where);
+			}
+			Assert.assertEquals(expected.size(), data.size());
+		}
+		for (int i = 0; i < expected.size(); i++) {
+			Assert.assertEquals(expected.get(i), data.getIndex(i));
+		}
+		Assert.assertEquals(expected, data.stream().collect(Collectors.toList()));
+	}
+
+	@Test
+	public void testManyVersions() {
+		PersistentVector<Integer> start = makeCounting(100000);
+		List<PersistentVector<Integer>> versions = new ArrayList<>();
+		PersistentVector<Integer> data = start;
+		for (int v = 0; v < 1000; v++) {
+			data = data.setIndex(v * 100, -v);
+			versions.add(data);
+		}
+		for (int v = 0; v < 1000; v++) {
+			PersistentVector<Integer> version = versions.get(v);
+			// version v has every change up to and including v, and none after.
+			Assert.assertEquals(Integer.valueOf(-v), version.getIndex(v * 100));
+			if (v + 1 < 1000) {
+				Assert.assertEquals(Integer.valueOf((v + 1) * 100), version.getIndex((v + 1) * 100));
+			}
+			Assert.assertEquals(Integer.valueOf(v * 100), start.getIndex(v * 100));
+		}
+	}
+}
@@ -0,0 +1,67 @@
+package edu.smith.cs.csc212.p6;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Writes the Int, Long and Double versions of GrowableList, FixedSizeList and
+ * ChunkyLinkedList from the templates in src/main/templates. Each template uses
+ * {@code ${Name}} (Int), {@code ${type}} (int) and {@code ${Boxed}} (Integer)
+ * wherever the kind of number matters.
+ *
+ * After changing a template, run this from the project directory:
+ * {@code mvn test-compile && java -cp target/test-classes edu.smith.cs.csc212.p6.PrimitiveListGenerator}
+ * {@link PrimitiveListGeneratorTest} fails if anyone forgets.
+ */
+public class PrimitiveListGenerator {
+	static final Path TEMPLATES = Paths.get("src", "main", "templates");
+	static final Path SOURCES = Paths.get("src", "main", "java", "edu", "smith", "cs", "csc212", "p6");
+
+	/**
+	 * Which lists have a template.
+	 */
+	private static final String[] KINDS = { "GrowableList", "FixedSizeList", "ChunkyLinkedList" };
+	/**
+	 * What to put in for ${Name}, ${type} and ${Boxed}.
+	 */
+	private static final String[][] NUMBERS = {
+			{ "Int", "int", "Integer" },
+			{ "Long", "long", "Long" },
+			{ "Double", "double", "Double" },
+	};
+
+	/**
+	 * Fill in every template for every kind of number.
+	 * @return what each generated file should hold, by where it goes.
+	 * @throws IOException if a template can't be read.
+	 */
+	public static Map<Path, String> generate() throws IOException {
+		Map<Path, String> output = new LinkedHashMap<>();
+		for (String kind : KINDS) {
+			String templateName = "Primitive" + kind + ".java.template";
+			String template = new String(Files.readAllBytes(TEMPLATES.resolve(templateName)), StandardCharsets.UTF_8);
+			for (String[] number : NUMBERS) {
+				String header = "// Generated from src/main/templates/" + templateName + " by\n"
+						+ "// PrimitiveListGenerator (in src/test). Don't edit it here: change the\n"
+						+ "// template and run the generator again.\n";
+				String body = template.replace("${Name}", number[0])
+						.replace("${type}", number[1])
+						.replace("${Boxed}", number[2]);
+				output.put(SOURCES.resolve(number[0] + kind + ".java"), header + body);
+			}
+		}
+		return output;
+	}
+
+	public static void main(String[] args) throws IOException {
+		for (Map.Entry<Path, String> file : generate().entrySet()) {
+			Files.write(file.getKey(), file.getValue().getBytes(StandardCharsets.UTF_8));
+			System.out.println("wrote " + file.getKey());
+		}
+	}
+}
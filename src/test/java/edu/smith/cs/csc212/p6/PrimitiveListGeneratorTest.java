@@ -0,0 +1,24 @@
+package edu.smith.cs.csc212.p6;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class PrimitiveListGeneratorTest {
+
+	@Test
+	public void testSourcesMatchTemplates() throws IOException {
+		Map<Path, String> expected = PrimitiveListGenerator.generate();
+		Assert.assertEquals(9, expected.size());
+		for (Map.Entry<Path, String> file : expected.entrySet()) {
+			String actual = new String(Files.readAllBytes(file.getKey()), StandardCharsets.UTF_8);
+			Assert.assertEquals(file.getKey() + " was changed without changing its template; run PrimitiveListGenerator.",
+					file.getValue(), actual);
+		}
+	}
+}
@@ -1,11 +1,31 @@
 package edu.smith.cs.csc212.p6;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+
 import org.junit.Assert;
 import org.junit.Test;
 
+import edu.smith.cs.csc212.p6.errors.BadIndexError;
 import edu.smith.cs.csc212.p6.errors.EmptyListError;
 
-public class SinglyLinkedListTest {
+public class SinglyLinkedListTest extends P6ListContractTest<Integer> {
+	
+	@Override
+	protected P6List<Integer> makeList() {
+		return new SinglyLinkedList<Integer>();
+	}
+	
+	@Override
+	protected Integer item(int n) {
+		return n;
+	}
 	
 	/**
 	 * Helper method to make a full list.
@@ -145,4 +165,137 @@ public class SinglyLinkedListTest {
 		P6List<String>data = makeFullList();
 		Assert.assertEquals(4, data.size());
 	}
+	
+	@Test
+	public void testBackAfterRemoves() {
+		P6List<String> data = makeFullList();
+		Assert.assertEquals("a", data.removeIndex(0));
+		Assert.assertEquals("d", data.removeIndex(2));
+		Assert.assertEquals("c", data.getBack());
+		data.addBack("e");
+		data.addIndex("f", 3);
+		Assert.assertEquals(4, data.size());
+		Assert.assertEquals("f", data.getBack());
+		Assert.assertEquals("e", data.removeIndex(2));
+		Assert.assertEquals("f", data.removeBack());
+		Assert.assertEquals("c", data.getBack());
+		Assert.assertEquals("c", data.removeBack());
+		Assert.assertEquals("b", data.removeBack());
+		Assert.assertTrue(data.isEmpty());
+		data.addBack("g");
+		Assert.assertEquals("g", data.getFront());
+		Assert.assertEquals("g", data.getBack());
+	}
+	
+	@Test( expected = BadIndexError.class )
+	public void testGetIndexHigh() {
+		P6List<String> data = makeFullList();
+		data.getIndex(4);
+	}
+
+	@Test
+	public void testAddAllAndRemoveRange() {
+		P6List<String> data = new SinglyLinkedList<String>();
+		data.addAllBack(new String[] {"a", "b", "f"});
+		data.addAllAt(2, new String[] {"c", "d", "e"});
+		data.addAllAt(0, new String[] {});
+		Assert.assertEquals(6, data.size());
+		String[] copy = new String[6];
+		data.copyRange(0, 6, copy);
+		Assert.assertArrayEquals(new String[] {"a", "b", "c", "d", "e", "f"}, copy);
+		data.removeRange(1, 4);
+		Assert.assertEquals(3, data.size());
+		Assert.assertEquals("a", data.getFront());
+		Assert.assertEquals("e", data.getIndex(1));
+		Assert.assertEquals("f", data.getBack());
+		data.removeRange(0, 3);
+		Assert.assertTrue(data.isEmpty());
+		data.removeRange(0, 0);
+	}
+	
+	@Test( expected = BadIndexError.class )
+	public void testRemoveRangeBackwards() {
+		P6List<String> data = new SinglyLinkedList<String>();
+		data.addAllBack(new String[] {"a", "b", "c"});
+		data.removeRange(2, 1);
+	}
+	
+	@Test( expected = BadIndexError.class )
+	public void testAddAllAtHigh() {
+		P6List<String> data = new SinglyLinkedList<String>();
+		data.addAllBack(new String[] {"a", "b", "c"});
+		data.addAllAt(4, new String[] {"d"});
+	}
+
+	@Test
+	public void testStreams() {
+		P6List<Integer> data = new SinglyLinkedList<Integer>();
+		List<Integer> expected = new ArrayList<>();
+		for (int i = 0; i < 3000; i++) {
+			data.addBack(i);
+			expected.add(i);
+		}
+		Assert.assertEquals(expected, data.stream().collect(Collectors.toList()));
+		Assert.assertEquals(expected, data.parallelStream().collect(Collectors.toList()));
+		long sum = expected.stream().mapToLong(x -> x).sum();
+		Assert.assertEquals(sum, data.parallelStream().mapToLong(x -> x).sum());
+		Spliterator<Integer> items = data.spliterator();
+		Assert.assertTrue(items.hasCharacteristics(Spliterator.SIZED));
+		Assert.assertEquals(3000, items.getExactSizeIfKnown());
+	}
+
+	@Test
+	public void testIteratorRemove() {
+		P6List<String> data = new SinglyLinkedList<String>();
+		data.addAllBack(new String[] {"a", "b", "c", "d", "e", "f", "g"});
+		List<String> seen = new ArrayList<>();
+		for (String x : data) {
+			seen.add(x);
+		}
+		Assert.assertEquals(Arrays.asList("a", "b", "c", "d", "e", "f", "g"), seen);
+		// take out every other one, including both ends.
+		Iterator<String> it = data.iterator();
+		for (int i = 0; it.hasNext(); i++) {
+			it.next();
+			if (i % 2 == 0) {
+				it.remove();
+			}
+		}
+		Assert.assertEquals(3, data.size());
+		Assert.assertEquals("b", data.getFront());
+		Assert.assertEquals("d", data.getIndex(1));
+		Assert.assertEquals("f", data.getBack());
+		data.addBack("h");
+		Assert.assertEquals("h", data.getIndex(3));
+	}
+	
+	@Test( expected = ConcurrentModificationException.class )
+	public void testIteratorFailsFast() {
+		P6List<String> data = new SinglyLinkedList<String>();
+		data.addAllBack(new String[] {"a", "b", "c"});
+		for (String x : data) {
+			if (x.equals("a")) {
+				data.removeBack();
+			}
+		}
+	}
+	
+	@Test( expected = IllegalStateException.class )
+	public void testIteratorRemoveTwice() {
+		P6List<String> data = new SinglyLinkedList<String>();
+		data.addAllBack(new String[] {"a", "b", "c"});
+		Iterator<String> it = data.iterator();
+		it.next();
+		it.remove();
+		it.remove();
+	}
+	
+	@Test( expected = NoSuchElementException.class )
+	public void testIteratorPastEnd() {
+		P6List<String> data = new SinglyLinkedList<String>();
+		data.addBack("a");
+		Iterator<String> it = data.iterator();
+		it.next();
+		it.next();
+	}
 }
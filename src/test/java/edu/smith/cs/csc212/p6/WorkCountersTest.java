@@ -0,0 +1,140 @@
+package edu.smith.cs.csc212.p6;
+
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+
+import edu.smith.cs.csc212.p6.WorkCounters.Counter;
+
+/**
+ * These check that the counts match the big-O comments. They only run when the
+ * counters are on; the pom runs just this class in its own JVM with
+ * -Dp6.counters=true, so the rest of the tests run with them off.
+ */
+public class WorkCountersTest {
+
+	@Before
+	public void setUp() {
+		Assume.assumeTrue(WorkCounters.ENABLED);
+		WorkCounters.reset();
+	}
+
+	/**
+	 * Helper method to make a list of 0 to size-1 and then forget the work it took.
+	 */
+	private <L extends P6List<Integer>> L fill(L list, int size) {
+		for (int i = 0; i < size; i++) {
+			list.addBack(i);
+		}
+		WorkCounters.reset();
+		return list;
+	}
+
+	@Test
+	public void testReset() {
+		fill(new SinglyLinkedList<Integer>(), 10).getIndex(5);
+		Assert.assertTrue(WorkCounters.get(Counter.NODE_HOPS) > 0);
+		WorkCounters.reset();
+		Map<Counter, Long> counts = WorkCounters.snapshot();
+		Assert.assertEquals(Counter.values().length, counts.size());
+		for (long count : counts.values()) {
+			Assert.assertEquals(0, count);
+		}
+	}
+
+	@Test
+	public void testSinglyLinkedListHops() {
+		SinglyLinkedList<Integer> data = fill(new SinglyLinkedList<Integer>(), 100);
+		Assert.assertEquals(70, (int) data.getIndex(70));
+		Assert.assertEquals(70, WorkCounters.get(Counter.NODE_HOPS));
+		// the end is kept track of, so no walking.
+		data.getBack();
+		data.addBack(100);
+		Assert.assertEquals(70, WorkCounters.get(Counter.NODE_HOPS));
+		// removeBack has to find the node before the end.
+		data.removeBack();
+		Assert.assertEquals(70 + 99, WorkCounters.get(Counter.NODE_HOPS));
+	}
+
+	@Test
+	public void testDoublyLinkedListHops() {
+		DoublyLinkedList<Integer> data = fill(new DoublyLinkedList<Integer>(), 100);
+		// closer to the end than the start.
+		data.getIndex(90);
+		Assert.assertEquals(9, WorkCounters.get(Counter.NODE_HOPS));
+		// walking forwards is one hop each from the finger; except 0 and 99,
+		// which are start and end.
+		WorkCounters.reset();
+		for (int i = 0; i < 100; i++) {
+			data.getIndex(i);
+		}
+		Assert.assertEquals(98, WorkCounters.get(Counter.NODE_HOPS));
+	}
+
+	@Test
+	public void testGrowableListShiftsAndResizes() {
+		GrowableList<Integer> data = new GrowableList<Integer>(4);
+		for (int i = 0; i < 64; i++) {
+			data.addBack(i);
+		}
+		// 4 -> 8 -> 16 -> 32 -> 64.
+		Assert.assertEquals(4, WorkCounters.get(Counter.RESIZES));
+		Assert.assertEquals(0, WorkCounters.get(Counter.ELEMENT_SHIFTS));
+
+		WorkCounters.reset();
+		// the shorter side shifts over: 10 items in front, 54 behind.
+		data.addIndex(-1, 10);
+		Assert.assertEquals(10, WorkCounters.get(Counter.ELEMENT_SHIFTS));
+		WorkCounters.reset();
+		data.removeIndex(60);
+		Assert.assertEquals(4, WorkCounters.get(Counter.ELEMENT_SHIFTS));
+		// both ends are O(1) in a ring.
+		WorkCounters.reset();
+		data.addFront(-2);
+		data.removeBack();
+		Assert.assertEquals(0, WorkCounters.get(Counter.ELEMENT_SHIFTS));
+	}
+
+	@Test
+	public void testFixedSizeListShifts() {
+		FixedSizeList<Integer> data = fill(new FixedSizeList<Integer>(100), 50);
+		data.addFront(-1);
+		Assert.assertEquals(50, WorkCounters.get(Counter.ELEMENT_SHIFTS));
+		data.removeIndex(40);
+		Assert.assertEquals(50 + 10, WorkCounters.get(Counter.ELEMENT_SHIFTS));
+		data.addBack(99);
+		data.removeBack();
+		Assert.assertEquals(50 + 10, WorkCounters.get(Counter.ELEMENT_SHIFTS));
+		data.removeRange(0, 10);
+		Assert.assertEquals(50 + 10 + 40, WorkCounters.get(Counter.ELEMENT_SHIFTS));
+		Assert.assertEquals(0, WorkCounters.get(Counter.RESIZES));
+	}
+
+	@Test
+	public void testChunkyLinkedListChunks() {
+		ChunkyLinkedList<Integer> data = new ChunkyLinkedList<Integer>(16);
+		for (int i = 0; i < 160; i++) {
+			data.addBack(i);
+		}
+		Assert.assertEquals(10, WorkCounters.get(Counter.CHUNK_ALLOCATIONS));
+		Assert.assertEquals(0, WorkCounters.get(Counter.ELEMENT_SHIFTS));
+		// the directory starts with room for 8 chunks, and doubles once.
+		Assert.assertEquals(1, WorkCounters.get(Counter.RESIZES));
+
+		WorkCounters.reset();
+		Assert.assertEquals(77, (int) data.getIndex(77));
+		// 10 chunks is 4 steps down the directory, not 10 chunks one by one, and
+		// then 1 step to add up the chunks before chunk #4.
+		Assert.assertEquals(4 + 1, WorkCounters.get(Counter.CHUNKS_SCANNED));
+		Assert.assertEquals(0, WorkCounters.get(Counter.NODE_HOPS));
+
+		WorkCounters.reset();
+		// every chunk is full, so this one gets split first.
+		data.addIndex(-1, 8);
+		Assert.assertEquals(1, WorkCounters.get(Counter.CHUNK_ALLOCATIONS));
+		Assert.assertTrue(WorkCounters.get(Counter.ELEMENT_SHIFTS) <= 8);
+	}
+}